@@ -37,6 +37,7 @@ import com.magmaguy.elitemobs.events.ActionEvent;
 import com.magmaguy.elitemobs.events.TimedEvent;
 import com.magmaguy.elitemobs.explosionregen.Explosion;
 import com.magmaguy.elitemobs.instanced.MatchInstance;
+import com.magmaguy.elitemobs.instanced.InstanceWorldPool;
 import com.magmaguy.elitemobs.instanced.WorldOperationQueue;
 import com.magmaguy.elitemobs.instanced.arena.ArenaInstance;
 import com.magmaguy.elitemobs.instanced.dungeons.DungeonInstance;
@@ -47,11 +48,13 @@ import com.magmaguy.elitemobs.items.LootTables;
 import com.magmaguy.elitemobs.items.customenchantments.*;
 import com.magmaguy.elitemobs.items.customitems.CustomItem;
 import com.magmaguy.elitemobs.items.customloottable.SharedLootTable;
+import com.magmaguy.elitemobs.items.potioneffects.ContinuousPotionEffectEngine;
 import com.magmaguy.elitemobs.items.potioneffects.custom.Harm;
 import com.magmaguy.elitemobs.items.potioneffects.custom.Heal;
 import com.magmaguy.elitemobs.items.potioneffects.custom.Saturation;
 import com.magmaguy.elitemobs.menus.*;
 import com.magmaguy.elitemobs.mobconstructor.PersistentObjectHandler;
+import com.magmaguy.elitemobs.mobconstructor.SpawnLocationFinder;
 import com.magmaguy.elitemobs.mobconstructor.custombosses.CustomBossEntity;
 import com.magmaguy.elitemobs.mobconstructor.custombosses.CustomMusic;
 import com.magmaguy.elitemobs.mobconstructor.custombosses.InstancedBossEntity;
@@ -89,6 +92,11 @@ import com.magmaguy.elitemobs.thirdparty.worldguard.WorldGuardCompatibility;
 import com.magmaguy.elitemobs.treasurechest.TreasureChest;
 import com.magmaguy.elitemobs.utils.BossBarUtil;
 import com.magmaguy.elitemobs.utils.ConfigurationLocation;
+import com.magmaguy.elitemobs.utils.PlayerScanner;
+import com.magmaguy.elitemobs.utils.ProximityService;
+import com.magmaguy.elitemobs.utils.VisualEffectBudget;
+import com.magmaguy.elitemobs.utils.WorldInstantiator;
+import com.magmaguy.elitemobs.utils.shapes.ShapeGeometryCache;
 import com.magmaguy.elitemobs.versionnotifier.VersionChecker;
 import com.magmaguy.elitemobs.wormhole.Wormhole;
 import com.magmaguy.elitemobs.wormhole.WormholeManager;
@@ -151,7 +159,7 @@ public class EliteMobs extends JavaPlugin {
 
     public static void worldScanner() {
         for (World world : Bukkit.getWorlds())
-            if (ValidWorldsConfig.getInstance().getFileConfiguration().getBoolean("Valid worlds." + world.getName())) {
+            if (ValidWorldsConfig.isValidWorld(world)) {
                 validWorldList.add(world);
             }
 
@@ -160,7 +168,7 @@ public class EliteMobs extends JavaPlugin {
     @Override
     public void onEnable() {
         // Initialize FoliaLib scheduler
-        this.taskScheduler = new TaskScheduler(this);
+        this.taskScheduler = TaskScheduler.get(this);
         
         Bukkit.getLogger().info(" _____ _     _____ _____ ________  ______________  _____");
         Bukkit.getLogger().info("|  ___| |   |_   _|_   _|  ___|  \\/  |  _  | ___ \\/  ___|");
@@ -226,6 +234,9 @@ public class EliteMobs extends JavaPlugin {
         //Get world list
         worldScanner();
 
+        //Put back blocks from explosions that were still regenerating when the server went down
+        Explosion.initialize();
+
         //Start the repeating tasks such as scanners
         launchRunnables();
 
@@ -235,6 +246,7 @@ public class EliteMobs extends JavaPlugin {
         //launch events
         ActionEvent.initializeBlueprintEvents();
         TimedEvent.initializeBlueprintEvents();
+        SpawnLocationFinder.start();
 
         /*
         Initialize mob values
@@ -357,6 +369,7 @@ public class EliteMobs extends JavaPlugin {
         PersistentObjectHandler.shutdown();
         EntityTracker.wipeShutdown();
         TimedEvent.shutdown();
+        SpawnLocationFinder.shutdown();
         ActionEvent.shutdown();
         validWorldList.clear();
         CustomBossesConfigFields.getRegionalElites().clear();
@@ -375,6 +388,8 @@ public class EliteMobs extends JavaPlugin {
         HandlerList.unregisterAll(MetadataHandler.PLUGIN);
         TreasureChest.shutdown();
         WorldOperationQueue.shutdown();
+        InstanceWorldPool.shutdown();
+        WorldInstantiator.shutdown();
         MatchInstance.shutdown();
         CustomProjectileData.shutdown();
         DynamicQuest.shutdown();
@@ -383,6 +398,10 @@ public class EliteMobs extends JavaPlugin {
         Navigation.shutdown();
         BossBarUtil.shutdown();
         ScriptAction.shutdown();
+        ShapeGeometryCache.clear();
+        PlayerScanner.shutdown();
+        VisualEffectBudget.shutdown();
+        ProximityService.shutdown();
         CustomMusic.shutdown();
         CustomBossEntity.shutdown();
         com.magmaguy.elitemobs.combatsystem.displays.BossHealthDisplay.shutdown();
@@ -411,6 +430,7 @@ public class EliteMobs extends JavaPlugin {
         Saturation.shutdown();
         Heal.shutdown();
         Harm.shutdown();
+        ContinuousPotionEffectEngine.shutdown();
         ScriptListener.shutdown();
         CombatEnterScanPower.shutdown();
         QuestTracking.shutdown();
@@ -458,6 +478,7 @@ public class EliteMobs extends JavaPlugin {
         EliteMobProperties.shutdown();
         Logger.info("Saving EliteMobs databases...");
         PlayerData.closeConnection();
+        TaskScheduler.release(this);
         MagmaCore.shutdown();
         Logger.info("All done! Good night.");
     }
@@ -65,6 +65,7 @@ import com.magmaguy.elitemobs.thirdparty.worldguard.WorldGuardEliteMobOnlySpawnF
 import com.magmaguy.elitemobs.thirdparty.worldguard.WorldGuardExplosionBlockDamageFlag;
 import com.magmaguy.elitemobs.thirdparty.worldguard.WorldGuardSpawnEventBypasser;
 import com.magmaguy.elitemobs.treasurechest.TreasureChest;
+import com.magmaguy.elitemobs.utils.PlayerScanner;
 import com.magmaguy.elitemobs.versionnotifier.VersionChecker;
 import org.bukkit.Bukkit;
 import org.bukkit.event.Listener;
@@ -233,6 +234,7 @@ public class EventsRegistrer {
 
         //Natural Mob Metadata Assigner
         register(new NaturalMobSpawnEventHandler());
+        register(new PlayerScanner());
 
         //Visual effects
         register(new EffectEventHandlers());
@@ -22,6 +22,7 @@ public class GuildRank {
     public static void setGuildPrestigeRank(Player player, int prestigeRank) {
         PlayerData.setGuildPrestigeLevel(player.getUniqueId(), prestigeRank);
         ElitePlayerInventory.playerInventories.get(player.getUniqueId()).getFullPlayerTier(true);
+        ElitePlayerInventory.playerInventories.get(player.getUniqueId()).invalidateCombatStats();
     }
 
     public static int getGuildPrestigeRank(Player player) {
@@ -51,6 +52,8 @@ public class GuildRank {
     public static void setActiveGuildRank(Player player, int activeGuildRank) {
         PlayerData.setActiveGuildLevel(player.getUniqueId(), activeGuildRank);
         setMaxHealth(player, activeGuildRank, getGuildPrestigeRank(player));
+        ElitePlayerInventory elitePlayerInventory = ElitePlayerInventory.getPlayer(player);
+        if (elitePlayerInventory != null) elitePlayerInventory.invalidateCombatStats();
     }
 
     public static int getActiveGuildRank(Player player) {
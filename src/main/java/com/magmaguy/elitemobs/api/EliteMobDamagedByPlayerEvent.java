@@ -2,7 +2,6 @@ package com.magmaguy.elitemobs.api;
 
 import com.magmaguy.elitemobs.EliteMobs;
 import com.magmaguy.elitemobs.MetadataHandler;
-import com.magmaguy.elitemobs.adventurersguild.GuildRank;
 import com.magmaguy.elitemobs.api.utils.EliteItemManager;
 import com.magmaguy.elitemobs.config.ItemSettingsConfig;
 import com.magmaguy.elitemobs.config.MobCombatSettingsConfig;
@@ -11,6 +10,7 @@ import com.magmaguy.elitemobs.entitytracker.CustomProjectileData;
 import com.magmaguy.elitemobs.entitytracker.EntityTracker;
 import com.magmaguy.elitemobs.mobconstructor.EliteEntity;
 import com.magmaguy.elitemobs.mobconstructor.custombosses.CustomBossEntity;
+import com.magmaguy.elitemobs.playerdata.CombatStatSnapshot;
 import com.magmaguy.elitemobs.playerdata.ElitePlayerInventory;
 import com.magmaguy.elitemobs.thirdparty.worldguard.WorldGuardCompatibility;
 import com.magmaguy.elitemobs.thirdparty.worldguard.WorldGuardFlagChecker;
@@ -20,7 +20,6 @@ import com.magmaguy.magmacore.util.Round;
 import lombok.Getter;
 import org.bukkit.Bukkit;
 import org.bukkit.Material;
-import org.bukkit.enchantments.Enchantment;
 import org.bukkit.entity.*;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.HandlerList;
@@ -88,32 +87,23 @@ public class EliteMobDamagedByPlayerEvent extends EliteDamageEvent {
     public static class EliteMobDamagedByPlayerEventFilter implements Listener {
         public static boolean bypass = false;
 
-        private static double getThornsDamage(Player player) {
+        private static double getThornsDamage(CombatStatSnapshot combatStats) {
             if (!ItemSettingsConfig.isUseEliteEnchantments()) return 0D;
-            ElitePlayerInventory elitePlayerInventory = ElitePlayerInventory.getPlayer(player);
-            int thornsLevel = 0;
-            if (elitePlayerInventory.helmet.thornsLevel > Enchantment.THORNS.getMaxLevel())
-                thornsLevel += elitePlayerInventory.helmet.thornsLevel - Enchantment.THORNS.getMaxLevel();
-            if (elitePlayerInventory.chestplate.thornsLevel > Enchantment.THORNS.getMaxLevel())
-                thornsLevel += elitePlayerInventory.chestplate.thornsLevel - Enchantment.THORNS.getMaxLevel();
-            if (elitePlayerInventory.leggings.thornsLevel > Enchantment.THORNS.getMaxLevel())
-                thornsLevel += elitePlayerInventory.helmet.thornsLevel - Enchantment.THORNS.getMaxLevel();
-            if (elitePlayerInventory.boots.thornsLevel > Enchantment.THORNS.getMaxLevel())
-                thornsLevel += elitePlayerInventory.boots.thornsLevel - Enchantment.THORNS.getMaxLevel();
-            return thornsLevel * 2.5D;
+            return combatStats.getThornsDamage();
         }
 
         /**
          * Gets the amount of damage dealt by EliteMobs-specific features
          *
-         * @param player Damager
+         * @param player      Damager
+         * @param combatStats Combat stats of the damager
          * @return Bonus damage applied
          */
-        private static double getEliteMeleeDamage(Player player, LivingEntity livingEntity) {
-            if (player.getInventory().getItemInMainHand().getType().equals(Material.BOW) || player.getInventory().getItemInMainHand().getType().equals(Material.CROSSBOW))
+        private static double getEliteMeleeDamage(Player player, CombatStatSnapshot combatStats, LivingEntity livingEntity) {
+            if (combatStats.isRangedWeapon())
                 return 0.0;
-            double eliteDamage = ElitePlayerInventory.getPlayer(player).getEliteDamage(true);
-            double bonusEliteDamage = secondaryEnchantmentDamageIncrease(player, livingEntity);
+            double eliteDamage = combatStats.getEliteDamage();
+            double bonusEliteDamage = secondaryEnchantmentDamageIncrease(combatStats, livingEntity);
             return (eliteDamage + bonusEliteDamage) * player.getAttackCooldown();
         }
 
@@ -131,27 +121,17 @@ public class EliteMobDamagedByPlayerEvent extends EliteDamageEvent {
             return ((CustomBossEntity) eliteEntity).getDamageModifier(itemStackType);
         }
 
-        private static double secondaryEnchantmentDamageIncrease(Player player, LivingEntity livingEntity) {
+        private static double secondaryEnchantmentDamageIncrease(CombatStatSnapshot combatStats, LivingEntity livingEntity) {
             if (ItemSettingsConfig.isUseEliteEnchantments()) return 0D;
-            if (livingEntity instanceof Spider || livingEntity instanceof Silverfish) {
-                int level = ElitePlayerInventory.playerInventories.get(player.getUniqueId()).mainhand.getDamageArthropodsLevel(player.getInventory().getItemInMainHand(), false);
-                level -= Enchantment.BANE_OF_ARTHROPODS.getMaxLevel();
-                if (level < 1) return 0D;
-                return level * 2.5D;
-            }
-            if (livingEntity instanceof Zombie || livingEntity instanceof Skeleton || livingEntity instanceof Wither || livingEntity instanceof SkeletonHorse || livingEntity instanceof ZombieHorse || livingEntity.getType().equals(EntityType.ZOMBIFIED_PIGLIN)) {
-                int level = ElitePlayerInventory.playerInventories.get(player.getUniqueId()).mainhand.getDamageUndeadLevel(player.getInventory().getItemInMainHand(), false);
-                level -= Enchantment.SMITE.getMaxLevel();
-                if (level < 1) return 0D;
-                return level * 2.5D;
-            }
+            if (livingEntity instanceof Spider || livingEntity instanceof Silverfish)
+                return combatStats.getArthropodsBonusDamage();
+            if (livingEntity instanceof Zombie || livingEntity instanceof Skeleton || livingEntity instanceof Wither || livingEntity instanceof SkeletonHorse || livingEntity instanceof ZombieHorse || livingEntity.getType().equals(EntityType.ZOMBIFIED_PIGLIN))
+                return combatStats.getUndeadBonusDamage();
             return 0;
         }
 
-        private static boolean isCriticalHit(Player player) {
-            double criticalStrike = ElitePlayerInventory.playerInventories.get(player.getUniqueId()).getCritChance(false);
-            criticalStrike += (GuildRank.critBonusValue(GuildRank.getGuildPrestigeRank(player), GuildRank.getActiveGuildRank(player)) / 100);
-            return ThreadLocalRandom.current().nextDouble() < criticalStrike;
+        private static boolean isCriticalHit(CombatStatSnapshot combatStats) {
+            return ThreadLocalRandom.current().nextDouble() < combatStats.getCritChance();
         }
 
         @EventHandler(ignoreCancelled = true)
@@ -188,13 +168,15 @@ public class EliteMobDamagedByPlayerEvent extends EliteDamageEvent {
             double damage = event.getDamage();
             double eliteDamage = 0;
             //Sometimes players are "fake" due to npc plugins
-            boolean validPlayer = !player.hasMetadata("NPC") && ElitePlayerInventory.getPlayer(player) != null;
+            ElitePlayerInventory elitePlayerInventory = player.hasMetadata("NPC") ? null : ElitePlayerInventory.getPlayer(player);
+            boolean validPlayer = elitePlayerInventory != null;
+            CombatStatSnapshot combatStats = validPlayer ? elitePlayerInventory.getCombatStatSnapshot() : null;
 
             if (validPlayer && event.getCause().equals(EntityDamageEvent.DamageCause.THORNS))
                 //Thorns are their own kind of damage
-                eliteDamage = getThornsDamage(player);
-            else if (validPlayer && (event.getCause().equals(EntityDamageEvent.DamageCause.ENTITY_ATTACK) || event.getCause().equals(EntityDamageEvent.DamageCause.ENTITY_SWEEP_ATTACK) && EliteItemManager.isEliteMobsItem(player.getInventory().getItemInMainHand())))
-                eliteDamage = getEliteMeleeDamage(player, livingEntity);
+                eliteDamage = getThornsDamage(combatStats);
+            else if (validPlayer && (event.getCause().equals(EntityDamageEvent.DamageCause.ENTITY_ATTACK) || event.getCause().equals(EntityDamageEvent.DamageCause.ENTITY_SWEEP_ATTACK) && combatStats.isEliteWeapon()))
+                eliteDamage = getEliteMeleeDamage(player, combatStats, livingEntity);
             else if (event.getCause().equals(EntityDamageEvent.DamageCause.PROJECTILE))
                 //Scan arrow for arrow damage
                 eliteDamage = getEliteRangedDamage((Projectile) event.getDamager());
@@ -215,7 +197,7 @@ public class EliteMobDamagedByPlayerEvent extends EliteDamageEvent {
             boolean criticalHit = false;
 
             if (validPlayer) {
-                criticalHit = isCriticalHit(player);
+                criticalHit = isCriticalHit(combatStats);
                 if (criticalHit) damage *= 1.5;
             }
 
@@ -53,7 +53,7 @@ public class CombatTag implements Listener {
                     TextComponent.fromLegacyText(CombatTagConfig.getCombatTagMessage()));
             player.addPotionEffect(new PotionEffect(PotionEffectType.SLOW_FALLING, 20 * 60, 0));
 
-            TaskScheduler scheduler = new TaskScheduler(MetadataHandler.PLUGIN);
+            TaskScheduler scheduler = TaskScheduler.get(MetadataHandler.PLUGIN);
             AtomicReference<TaskWrapper> taskRef = new AtomicReference<>();
             Runnable timerTask = () -> {
                 if (!player.isOnline() || player.isDead()) {
@@ -85,7 +85,7 @@ public class BossHealthDisplay implements Listener {
     public static void startMasterUpdateTask() {
         if (masterUpdateTask != null) return;
 
-        TaskScheduler scheduler = new TaskScheduler(MetadataHandler.PLUGIN);
+        TaskScheduler scheduler = TaskScheduler.get(MetadataHandler.PLUGIN);
         Runnable timerTask = () -> {
             // Update health displays
             Iterator<Map.Entry<UUID, HealthDisplayData>> iterator = activeDisplays.entrySet().iterator();
@@ -272,7 +272,7 @@ public class BossHealthDisplay implements Listener {
             });
             EntityTracker.registerVisualEffects(armorStand);
 
-            TaskScheduler scheduler = new TaskScheduler(MetadataHandler.PLUGIN);
+            TaskScheduler scheduler = TaskScheduler.get(MetadataHandler.PLUGIN);
             java.util.concurrent.atomic.AtomicInteger counter = new java.util.concurrent.atomic.AtomicInteger(0);
             java.util.concurrent.atomic.AtomicReference<TaskWrapper> taskRef = new java.util.concurrent.atomic.AtomicReference<>();
             
@@ -316,7 +316,7 @@ public class BossHealthDisplay implements Listener {
 
         if (textDisplays[0] == null || textDisplays[1] == null) return;
 
-        TaskScheduler scheduler = new TaskScheduler(MetadataHandler.PLUGIN);
+        TaskScheduler scheduler = TaskScheduler.get(MetadataHandler.PLUGIN);
         java.util.concurrent.atomic.AtomicInteger counter = new java.util.concurrent.atomic.AtomicInteger(0);
         java.util.concurrent.atomic.AtomicReference<TaskWrapper> taskRef = new java.util.concurrent.atomic.AtomicReference<>();
         
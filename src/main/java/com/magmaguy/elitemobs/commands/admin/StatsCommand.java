@@ -3,9 +3,17 @@ package com.magmaguy.elitemobs.commands.admin;
 import com.magmaguy.elitemobs.EliteMobs;
 import com.magmaguy.elitemobs.MetadataHandler;
 import com.magmaguy.elitemobs.adventurersguild.GuildRank;
+import com.magmaguy.elitemobs.config.DefaultConfig;
 import com.magmaguy.elitemobs.entitytracker.EntityTracker;
+import com.magmaguy.elitemobs.entitytracker.EntityValidityTracker;
+import com.magmaguy.elitemobs.instanced.InstanceWorldPool;
+import com.magmaguy.elitemobs.instanced.WorldOperationQueue;
 import com.magmaguy.elitemobs.mobconstructor.custombosses.RegionalBossEntity;
 import com.magmaguy.elitemobs.playerdata.ElitePlayerInventory;
+import com.magmaguy.elitemobs.powers.scripts.ScriptTimerWheel;
+import com.magmaguy.elitemobs.powers.scripts.ScriptZone;
+import com.magmaguy.elitemobs.utils.ProximityService;
+import com.magmaguy.elitemobs.utils.VisualEffectBudget;
 import com.magmaguy.magmacore.util.ChatColorConverter;
 import com.magmaguy.magmacore.util.Round;
 import org.bukkit.Bukkit;
@@ -91,6 +99,22 @@ public class StatsCommand {
                 "§5§m-----------------------------------------------------"));
         commandSender.sendMessage("Tracked boss count: " + EntityTracker.getEliteMobEntities().size());
         commandSender.sendMessage("Tracked NPC count: " + EntityTracker.getNpcEntities().size());
+        commandSender.sendMessage("Watchdog: " + EntityValidityTracker.getEventInvalidations() + " event removals, "
+                + EntityValidityTracker.getSweepInvalidations() + " sweep removals, "
+                + EntityValidityTracker.getPendingChecks() + " pending checks, "
+                + EntityValidityTracker.getSweptEntities() + " entities swept over " + EntityValidityTracker.getCompletedSweeps() + " full sweeps, last batch took "
+                + Round.twoDecimalPlaces(EntityValidityTracker.getLastSweepNanos() / 1_000_000D) + "ms (every "
+                + DefaultConfig.getEntityWatchdogSweepInterval() + " ticks, " + DefaultConfig.getEntityWatchdogSweepBatchSize() + " per batch)");
+        commandSender.sendMessage("Scheduled script tasks: " + ScriptTimerWheel.getScheduledTasks());
+        commandSender.sendMessage("Gear reads: " + ElitePlayerInventory.getGearUpdateHits() + " unchanged, "
+                + ElitePlayerInventory.getGearUpdateMisses() + " parsed");
+        commandSender.sendMessage("Script zone checks: " + ScriptZone.getZoneCandidates() + " candidates, " + ScriptZone.getZoneHits() + " hits");
+        commandSender.sendMessage("Dungeon worlds: " + WorldOperationQueue.getCompletedOperations() + " prepared, "
+                + WorldOperationQueue.getAverageWaitMillis() + "ms average wait, " + WorldOperationQueue.getLongestWaitMillis()
+                + "ms longest wait, " + Round.twoDecimalPlaces(InstanceWorldPool.getHitRate()) + "% ready copies, "
+                + WorldOperationQueue.getQueueSize() + " queued");
+        commandSender.sendMessage("Visual effects: " + VisualEffectBudget.getSummary());
+        commandSender.sendMessage("Proximity subjects: " + ProximityService.getSubjectCount());
         int loadedCounter = 0;
         for (RegionalBossEntity regionalBossEntity : RegionalBossEntity.getRegionalBossEntities())
             if (regionalBossEntity.isValid())
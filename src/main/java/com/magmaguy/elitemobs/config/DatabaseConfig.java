@@ -20,6 +20,14 @@ public class DatabaseConfig extends ConfigurationFile {
     public static String mysqlPassword;
     @Getter
     public static boolean useSSL;
+    @Getter
+    public static int writeFlushInterval;
+    @Getter
+    public static int mysqlPoolSize;
+    @Getter
+    public static int sqliteReaderConnections;
+    @Getter
+    public static int maxPendingWrites;
 
     public DatabaseConfig() {
         super("Database.yml");
@@ -34,5 +42,9 @@ public class DatabaseConfig extends ConfigurationFile {
         mysqlUsername = ConfigurationEngine.setString(List.of("The username for MySQl"), file, fileConfiguration, "mysqlUsername", "your_username_mysql_here", false);
         mysqlPassword = ConfigurationEngine.setString(List.of("The password for your MysSQL database"), file, fileConfiguration, "mysqlPassword", "your_mysql_password_here", false);
         useSSL = ConfigurationEngine.setBoolean(List.of("Whether to use SSL"), fileConfiguration, "useSSL", true);
+        mysqlPoolSize = Math.max(ConfigurationEngine.setInt(List.of("The maximum amount of MySQL connections EliteMobs will keep open at once."), fileConfiguration, "mysqlPoolSize", 6), 2);
+        sqliteReaderConnections = Math.max(ConfigurationEngine.setInt(List.of("The amount of read-only SQLite connections used for player data lookups. Writes always go through a single connection."), fileConfiguration, "sqliteReaderConnections", 2), 1);
+        writeFlushInterval = Math.max(ConfigurationEngine.setInt(List.of("How often, in ticks, player data changes get written to the database in one batch.", "Players always get saved on logout and shutdown regardless of this value."), fileConfiguration, "writeFlushInterval", 100), 1);
+        maxPendingWrites = Math.max(ConfigurationEngine.setInt(List.of("How many unsaved player data changes can pile up before EliteMobs stops waiting for the next batch and writes them right away."), fileConfiguration, "maxPendingWrites", 5000), 1);
     }
 }
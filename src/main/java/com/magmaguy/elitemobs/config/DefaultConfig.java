@@ -50,6 +50,8 @@ public class DefaultConfig extends ConfigurationFile {
     @Getter
     private static boolean doRegenerateContainers;
     @Getter
+    private static int explosionRegenBlocksPerTick;
+    @Getter
     private static int defaultTransitiveBlockLimiter;
     @Getter
     private static boolean onlyUseBedrockMenus;
@@ -91,6 +93,10 @@ public class DefaultConfig extends ConfigurationFile {
     private static String enchantmentChallengeStartMessage;
     @Getter
     private static boolean useRandomizedScalingForElites;
+    @Getter
+    private static int entityWatchdogSweepInterval;
+    @Getter
+    private static int entityWatchdogSweepBatchSize;
 
     public static boolean useResourcePackModels(){
         return DefaultConfig.useResourcePackEvenIfResourcePackManagerIsNotInstalled || Bukkit.getPluginManager().isPluginEnabled("ResourcePackManager");
@@ -186,6 +192,10 @@ public class DefaultConfig extends ConfigurationFile {
         doRegenerateContainers = ConfigurationEngine.setBoolean(
                 List.of("Sets if the explosion regen will also regenerate the contents of containers such as chests.", "Turning it to false will make elite explosions not blow up containers."),
                 fileConfiguration, "doRegenerateContainers", true);
+        explosionRegenBlocksPerTick = Math.max(ConfigurationEngine.setInt(
+                List.of("Sets how many blocks the explosion regen can put back per tick, across all explosions.",
+                        "Blocks get put back one chunk at a time, so lower values spread the work out over more ticks."),
+                fileConfiguration, "explosionRegenBlocksPerTick", 20), 1);
         defaultTransitiveBlockLimiter = ConfigurationEngine.setInt(fileConfiguration, "defaultTransitiveBlockLimiter", 500);
         onlyUseBedrockMenus = ConfigurationEngine.setBoolean(
                 List.of("Sets whether the /em menu will only use the inventory-based menu style which is compatible with bedrock.", "As a reminder, players can otherwise do the command /em alt to switch between /em menu styles"),
@@ -249,5 +259,12 @@ public class DefaultConfig extends ConfigurationFile {
                 List.of("Sets whether the scale (size) of the elites will be slightly randomized, for variety.",
                         "May mess with spawners, which may or may not be a good thing (I think it is >:] )"),
                 fileConfiguration, "useRandomizedScalingForElites", false);
+        entityWatchdogSweepInterval = Math.max(ConfigurationEngine.setInt(
+                List.of("Sets how often, in ticks, EliteMobs double checks that tracked elites and NPCs are still loaded.",
+                        "Removals are normally picked up from entity, chunk and world unload events, this is only a safety net."),
+                fileConfiguration, "entityWatchdogSweepInterval", 100), 1);
+        entityWatchdogSweepBatchSize = Math.max(ConfigurationEngine.setInt(
+                List.of("Sets how many tracked elites and NPCs get double checked per safety net sweep."),
+                fileConfiguration, "entityWatchdogSweepBatchSize", 200), 1);
     }
 }
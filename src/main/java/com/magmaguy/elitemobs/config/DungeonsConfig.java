@@ -55,6 +55,8 @@ public class DungeonsConfig extends ConfigurationFile {
     private static String dungeonLockoutSubtitle;
     @Getter
     private static String dungeonLockoutChatMessage;
+    @Getter
+    private static int instanceWorldPoolSize;
 
     public DungeonsConfig() {
         super("dungeons.yml");
@@ -115,6 +117,11 @@ public class DungeonsConfig extends ConfigurationFile {
                 List.of("Sets the damage multiplier for fire damage in dungeons",
                         "This is important for balance as by default the damage is a bit too high for the dungeons as we design them"),
                 fileConfiguration, "poisonDamageMultiplier", 0.5);
+        instanceWorldPoolSize = ConfigurationEngine.setInt(
+                List.of("Sets how many copies of each instanced dungeon world are kept ready on disk ahead of time",
+                        "Copies only get made for dungeons that have been started at least once since the server started",
+                        "Higher values make dungeons start faster when many groups queue at once, at the cost of disk space. 0 disables this"),
+                fileConfiguration, "instanceWorldPoolSize", 1);
         dynamicDungeonLevelSelectionMenuTitle = ConfigurationEngine.setString(
                 List.of("Sets the title for the dynamic dungeon level selection menu"),
                 file, fileConfiguration, "dynamicDungeonLevelSelectionMenuTitle", "&8Select Dungeon Level", true);
@@ -28,6 +28,8 @@ public class MobCombatSettingsConfig extends ConfigurationFile {
     @Getter
     private static boolean enableWarningVisualEffects;
     @Getter
+    private static boolean useDisplayEntityPowerStances;
+    @Getter
     private static boolean enableDeathMessages;
     @Getter
     private static boolean displayHealthOnHit;
@@ -103,6 +105,10 @@ public class MobCombatSettingsConfig extends ConfigurationFile {
     private static int combatDisplayTimeoutSeconds;
     @Getter
     private static boolean useFixedHealthBarSize;
+    @Getter
+    private static int visualEffectParticlesPerPlayerPerTick;
+    @Getter
+    private static int visualEffectEntitiesPerPlayerPerTick;
     private static MobCombatSettingsConfig instance;
 
     public MobCombatSettingsConfig() {
@@ -145,6 +151,10 @@ public class MobCombatSettingsConfig extends ConfigurationFile {
         disableVisualEffectsForSpawnerMobs = ConfigurationEngine.setBoolean(
                 List.of("Sets if elites spawned from spawners will do visual effects."),
                 fileConfiguration, "doSpawnerEliteMobVisualEffects", false);
+        useDisplayEntityPowerStances = ConfigurationEngine.setBoolean(
+                List.of("Sets if the items orbiting elites with powers will be display entities instead of dropped items.",
+                        "Display entities don't tick and only get their orbit offset updated every few ticks, with the client smoothing out the movement in between, which is much lighter on the server and on the network."),
+                fileConfiguration, "useDisplayEntityPowerStances", false);
         enableWarningVisualEffects = ConfigurationEngine.setBoolean(
                 List.of("Sets if some powers will do the warning phase of the power. This is very important as warning phases usually mean the power can be dodged, and the visual lets players know where to dodge to."),
                 fileConfiguration, "doPowerBuildupVisualEffects", true);
@@ -272,5 +282,13 @@ public class MobCombatSettingsConfig extends ConfigurationFile {
                         "When false (default), the health bar scales with the boss health multiplier, adding more bars and rows for tankier bosses.",
                         "When true, the health bar is always a single row of 10 bars."),
                 fileConfiguration, "useFixedHealthBarSize", false);
+        visualEffectParticlesPerPlayerPerTick = Math.max(ConfigurationEngine.setInt(
+                List.of("Sets the maximum amount of particles from elite trails and power stances each player gets sent per tick.",
+                        "Effects that go over it are skipped for that player until the next tick."),
+                fileConfiguration, "visualEffectParticlesPerPlayerPerTick", 100), 1);
+        visualEffectEntitiesPerPlayerPerTick = Math.max(ConfigurationEngine.setInt(
+                List.of("Sets the maximum amount of visual items from elite trails and power stances that get spawned or moved per tick for each nearby player.",
+                        "Effects that go over it are skipped until the next tick."),
+                fileConfiguration, "visualEffectEntitiesPerPlayerPerTick", 64), 1);
     }
 }
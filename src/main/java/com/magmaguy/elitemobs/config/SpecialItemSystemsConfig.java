@@ -1,6 +1,7 @@
 package com.magmaguy.elitemobs.config;
 
 import com.magmaguy.elitemobs.items.customitems.CustomItem;
+import com.magmaguy.elitemobs.utils.WeightedSampler;
 import com.magmaguy.magmacore.config.ConfigurationFile;
 import com.magmaguy.magmacore.util.Logger;
 import lombok.Getter;
@@ -14,6 +15,8 @@ public class SpecialItemSystemsConfig extends ConfigurationFile {
     @Getter
     private static final HashMap<CustomItem, Double> specialValues = new HashMap<>();
     @Getter
+    private static WeightedSampler<CustomItem> specialValueSampler = WeightedSampler.empty();
+    @Getter
     private static boolean dropSpecialLoot;
     @Getter
     private static double bossChanceToDrop;
@@ -124,6 +127,7 @@ public class SpecialItemSystemsConfig extends ConfigurationFile {
                 List.of("Sets the chance of a special item dropping over another special item.",
                         "The higher the value, the higher the chance of that item getting picked over other items.",
                         "Keep in mind that if values get too high, things with low values will become almost impossible to obtain."));
+        specialValueSampler = WeightedSampler.of(specialValues);
 
         luckyTicketMultiplier = ConfigurationEngine.setDouble(
                 List.of("Multiplier for the lucky ticket success chance in enchantments. 2.0 = 2x"),
@@ -7,13 +7,20 @@ import org.bukkit.World;
 import org.bukkit.configuration.ConfigurationSection;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class ValidWorldsConfig extends ConfigurationFile {
     @Getter
     private static final List<String> validWorlds = new ArrayList<>();
     @Getter
     private static ValidWorldsConfig instance;
+    //Spawn events check this constantly, so each world name gets an index and the valid ones get their bit set.
+    //The set is replaced rather than modified so it can be read from any thread.
+    private static final Map<String, Integer> worldIndices = new ConcurrentHashMap<>();
+    private static volatile BitSet validWorldBits = new BitSet();
 
     public ValidWorldsConfig() {
         super("ValidWorlds.yml");
@@ -28,10 +35,30 @@ public class ValidWorldsConfig extends ConfigurationFile {
                 instance.fileConfiguration, "Valid worlds." + worldName, true);
         ConfigurationEngine.fileSaverOnlyDefaults(instance.fileConfiguration, instance.file);
         validWorlds.add(worldName);
+        setValid(worldName);
+    }
+
+    /**
+     * Checks if elites may spawn in a world, as set in ValidWorlds.yml.
+     *
+     * @param world World to check
+     * @return Whether the world is a valid world
+     */
+    public static boolean isValidWorld(World world) {
+        if (world == null) return false;
+        Integer index = worldIndices.get(world.getName());
+        return index != null && validWorldBits.get(index);
+    }
+
+    private static synchronized void setValid(String worldName) {
+        BitSet bits = (BitSet) validWorldBits.clone();
+        bits.set(worldIndices.computeIfAbsent(worldName, key -> worldIndices.size()));
+        validWorldBits = bits;
     }
 
     @Override
     public void initializeValues() {
+        validWorldBits = new BitSet();
 
         for (World world : Bukkit.getWorlds())
             ConfigurationEngine.setBoolean(fileConfiguration, "Valid worlds." + world.getName(), true);
@@ -39,7 +66,9 @@ public class ValidWorldsConfig extends ConfigurationFile {
         ConfigurationSection validWorldsSection = fileConfiguration.getConfigurationSection("Valid worlds");
 
         for (String key : validWorldsSection.getKeys(false))
-            if (validWorldsSection.getBoolean(key))
+            if (validWorldsSection.getBoolean(key)) {
                 validWorlds.add(key);
+                setValid(key);
+            }
     }
 }
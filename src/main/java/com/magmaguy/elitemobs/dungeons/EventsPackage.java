@@ -72,7 +72,7 @@ public class EventsPackage extends EMPackage {
         CompletableFuture<Void> allFutures = CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]));
         allFutures.thenRun(() -> {
             Logger.sendMessage(player, "Reloading EliteMobs to apply events changes!");
-            TaskScheduler scheduler = new TaskScheduler(MetadataHandler.PLUGIN);
+            TaskScheduler scheduler = TaskScheduler.get(MetadataHandler.PLUGIN);
             scheduler.runAsync(() -> ReloadCommand.reload(player));
         }).join(); // This ensures the current thread waits until all futures are complete
     }
@@ -69,7 +69,7 @@ public class ItemsPackage extends EMPackage {
         CompletableFuture<Void> allFutures = CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]));
         allFutures.thenRun(() -> {
             Logger.sendMessage(player, "Reloading EliteMobs to apply item changes!");
-            TaskScheduler scheduler = new TaskScheduler(MetadataHandler.PLUGIN);
+            TaskScheduler scheduler = TaskScheduler.get(MetadataHandler.PLUGIN);
             scheduler.runAsync(() -> ReloadCommand.reload(player));
         }).join(); // This ensures the current thread waits until all futures are complete
     }
@@ -0,0 +1,188 @@
+package com.magmaguy.elitemobs.entitytracker;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Buckets tracked objects by world and chunk so that range queries only have to look at the chunks around the query
+ * instead of every entity in the world.
+ * <p>
+ * Entities move without firing any events the index could listen to, so owners push positions through
+ * {@link #update(Object, Location)} on a clock, from whichever thread is allowed to read the location. Queries pad the
+ * scanned chunk area by one chunk and then run an exact check against the live location, so anything that moved less
+ * than a chunk since the last update is still found. Boxes include their minimum and exclude their maximum, like
+ * chunks do. Writes are synchronized, reads are lock-free.
+ *
+ * @param <T> Tracked object type, compared by identity
+ */
+public class ChunkSpatialIndex<T> {
+
+    private final Function<T, Location> locationFunction;
+    private final Map<UUID, Map<Long, Set<T>>> buckets = new ConcurrentHashMap<>();
+    private final Map<T, Cell> cells = new ConcurrentHashMap<>();
+
+    public ChunkSpatialIndex(Function<T, Location> locationFunction) {
+        this.locationFunction = locationFunction;
+    }
+
+    public static long chunkKey(int chunkX, int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Adds the value to the index or moves it to the bucket of its current location. Values without a location are
+     * removed from the index.
+     *
+     * @param value Value to index
+     */
+    public void update(T value) {
+        update(value, locationFunction.apply(value));
+    }
+
+    public synchronized void update(T value, Location location) {
+        if (value == null) return;
+        if (location == null || location.getWorld() == null) {
+            remove(value);
+            return;
+        }
+        Cell cell = new Cell(location.getWorld().getUID(), chunkKey(location.getBlockX() >> 4, location.getBlockZ() >> 4));
+        Cell previousCell = cells.put(value, cell);
+        if (cell.equals(previousCell)) return;
+        if (previousCell != null) removeFromBucket(value, previousCell);
+        buckets.computeIfAbsent(cell.worldUID(), key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(cell.chunkKey(), key -> ConcurrentHashMap.newKeySet())
+                .add(value);
+    }
+
+    public synchronized void remove(T value) {
+        if (value == null) return;
+        Cell cell = cells.remove(value);
+        if (cell != null) removeFromBucket(value, cell);
+    }
+
+    public synchronized void removeWorld(World world) {
+        Map<Long, Set<T>> worldBuckets = buckets.remove(world.getUID());
+        if (worldBuckets == null) return;
+        worldBuckets.values().forEach(bucket -> bucket.forEach(cells::remove));
+    }
+
+    public synchronized void clear() {
+        buckets.clear();
+        cells.clear();
+    }
+
+    public int size() {
+        return cells.size();
+    }
+
+    /**
+     * Re-buckets every indexed value based on its current location. Reads every location, so it has to run on a thread
+     * that owns all of them.
+     */
+    public void refresh() {
+        for (T value : cells.keySet())
+            update(value);
+    }
+
+    /**
+     * @return Every indexed value, read without touching any of their locations
+     */
+    public List<T> values() {
+        return new ArrayList<>(cells.keySet());
+    }
+
+    /**
+     * Returns every indexed value whose live location is inside the axis-aligned box of half-size range around the
+     * center, the same shape as {@link World#getNearbyEntities(Location, double, double, double)}.
+     *
+     * @param center Center of the query
+     * @param range  Half-size of the box, in blocks
+     * @param filter Additional filter, may be null
+     * @return Values inside the box
+     */
+    public List<T> getNearby(Location center, double range, Predicate<T> filter) {
+        return getInBox(center.getWorld(),
+                center.getX() - range, center.getY() - range, center.getZ() - range,
+                center.getX() + range, center.getY() + range, center.getZ() + range,
+                filter);
+    }
+
+    public List<T> getInBox(World world,
+                            double minX, double minY, double minZ,
+                            double maxX, double maxY, double maxZ,
+                            Predicate<T> filter) {
+        List<T> values = new ArrayList<>();
+        if (world == null) return values;
+        Map<Long, Set<T>> worldBuckets = buckets.get(world.getUID());
+        if (worldBuckets == null || worldBuckets.isEmpty()) return values;
+        //Padded by one chunk to account for movement since the last update
+        int minChunkX = ((int) Math.floor(minX) >> 4) - 1;
+        int minChunkZ = ((int) Math.floor(minZ) >> 4) - 1;
+        int maxChunkX = ((int) Math.floor(maxX) >> 4) + 1;
+        int maxChunkZ = ((int) Math.floor(maxZ) >> 4) + 1;
+        //Scanning the whole map is cheaper than probing a huge empty area
+        if ((long) (maxChunkX - minChunkX + 1) * (maxChunkZ - minChunkZ + 1) > worldBuckets.size()) {
+            for (Set<T> bucket : worldBuckets.values())
+                collect(bucket, world, minX, minY, minZ, maxX, maxY, maxZ, filter, values);
+            return values;
+        }
+        for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++)
+            for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                Set<T> bucket = worldBuckets.get(chunkKey(chunkX, chunkZ));
+                if (bucket != null)
+                    collect(bucket, world, minX, minY, minZ, maxX, maxY, maxZ, filter, values);
+            }
+        return values;
+    }
+
+    /**
+     * Returns every indexed value currently bucketed in the world, without any distance check.
+     *
+     * @param world World to look in
+     * @return Values in the world
+     */
+    public List<T> getInWorld(World world) {
+        List<T> values = new ArrayList<>();
+        if (world == null) return values;
+        Map<Long, Set<T>> worldBuckets = buckets.get(world.getUID());
+        if (worldBuckets == null) return values;
+        worldBuckets.values().forEach(values::addAll);
+        return values;
+    }
+
+    private void collect(Collection<T> bucket, World world,
+                         double minX, double minY, double minZ,
+                         double maxX, double maxY, double maxZ,
+                         Predicate<T> filter, List<T> values) {
+        for (T value : bucket) {
+            Location location = locationFunction.apply(value);
+            if (location == null || !world.equals(location.getWorld())) continue;
+            double x = location.getX(), y = location.getY(), z = location.getZ();
+            if (x < minX || x >= maxX || y < minY || y >= maxY || z < minZ || z >= maxZ) continue;
+            if (filter != null && !filter.test(value)) continue;
+            values.add(value);
+        }
+    }
+
+    private void removeFromBucket(T value, Cell cell) {
+        Map<Long, Set<T>> worldBuckets = buckets.get(cell.worldUID());
+        if (worldBuckets == null) return;
+        Set<T> bucket = worldBuckets.get(cell.chunkKey());
+        if (bucket == null) return;
+        bucket.remove(value);
+        if (bucket.isEmpty()) worldBuckets.remove(cell.chunkKey(), bucket);
+    }
+
+    private record Cell(UUID worldUID, long chunkKey) {
+    }
+}
@@ -17,6 +17,7 @@ import me.MinhTaz.FoliaLib.TaskScheduler.TaskWrapper;
 import me.MinhTaz.FoliaLib.WorldManager;
 import org.bukkit.Bukkit;
 import org.bukkit.Chunk;
+import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.World;
 import org.bukkit.block.Block;
@@ -25,9 +26,12 @@ import org.bukkit.entity.Entity;
 import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Projectile;
 import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.block.BlockBreakEvent;
 import org.bukkit.event.entity.EntityRemoveEvent;
+import org.bukkit.event.entity.EntityTeleportEvent;
+import org.bukkit.event.world.ChunkUnloadEvent;
 import org.bukkit.event.world.WorldUnloadEvent;
 
 import java.util.concurrent.atomic.AtomicReference;
@@ -35,6 +39,7 @@ import java.util.concurrent.atomic.AtomicReference;
 import javax.annotation.Nullable;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.UUID;
 
 public class EntityTracker implements Listener {
@@ -45,6 +50,19 @@ public class EntityTracker implements Listener {
     private static final HashMap<UUID, NPCEntity> npcEntities = new HashMap<>();
     @Getter
     private static final HashSet<Block> temporaryBlocks = new HashSet<>();
+    //Spatial lookups for elites and NPCs, kept in sync with the maps above
+    @Getter
+    private static final ChunkSpatialIndex<EliteEntity> eliteSpatialIndex = new ChunkSpatialIndex<>(eliteEntity ->
+            eliteEntity.getLivingEntity() == null ? null : eliteEntity.getLivingEntity().getLocation());
+    @Getter
+    private static final ChunkSpatialIndex<NPCEntity> npcSpatialIndex = new ChunkSpatialIndex<>(npcEntity ->
+            npcEntity.getVillager() == null ? null : npcEntity.getVillager().getLocation());
+    //How often indexed positions get re-bucketed. Queries pad by a chunk, so this only has to outpace mob movement
+    private static final int SPATIAL_INDEX_REFRESH_TICKS = 10;
+    private static TaskWrapper spatialIndexTask = null;
+    //Widest or tallest hitbox of any elite registered so far, so box queries against the index can pad for big mobs
+    @Getter
+    private static volatile double largestEliteHitbox = 0;
     
     // FoliaLib instances
     private static TaskScheduler taskScheduler;
@@ -54,7 +72,7 @@ public class EntityTracker implements Listener {
     // Initialize FoliaLib instances
     public static void initializeFoliaLib(org.bukkit.plugin.Plugin plugin) {
         if (taskScheduler == null) {
-            taskScheduler = new TaskScheduler(plugin);
+            taskScheduler = TaskScheduler.get(plugin);
             entityManager = new EntityManager(plugin);
             worldManager = new WorldManager(plugin);
         }
@@ -65,7 +83,10 @@ public class EntityTracker implements Listener {
         new EventCaller(eliteMobSpawnEvent);
         if (eliteMobSpawnEvent.isCancelled()) return;
         PersistentTagger.tagElite(eliteEntity.getLivingEntity(), eliteEntity.getEliteUUID());
+        PersistentTagger.cacheElite(eliteEntity.getLivingEntity(), eliteEntity);
         eliteMobEntities.put(eliteEntity.getEliteUUID(), eliteEntity);
+        eliteSpatialIndex.update(eliteEntity);
+        trackHitbox(eliteEntity.getLivingEntity());
     }
 
     public static void registerEliteMob(EliteEntity eliteEntity, LivingEntity livingEntity) {
@@ -73,7 +94,47 @@ public class EntityTracker implements Listener {
         new EventCaller(eliteMobSpawnEvent);
         if (eliteMobSpawnEvent.isCancelled()) return;
         PersistentTagger.tagElite(livingEntity, eliteEntity.getEliteUUID());
+        PersistentTagger.cacheElite(livingEntity, eliteEntity);
         eliteMobEntities.put(eliteEntity.getEliteUUID(), eliteEntity);
+        eliteSpatialIndex.update(eliteEntity, livingEntity.getLocation());
+        trackHitbox(livingEntity);
+    }
+
+    private static void trackHitbox(LivingEntity livingEntity) {
+        if (livingEntity == null) return;
+        double size = Math.max(livingEntity.getWidth(), livingEntity.getHeight());
+        if (size > largestEliteHitbox) largestEliteHitbox = size;
+    }
+
+    /**
+     * Stops tracking the elite, removing it from both the UUID map and the spatial index.
+     *
+     * @param eliteEntity Elite to stop tracking
+     */
+    public static void untrackEliteMob(EliteEntity eliteEntity) {
+        eliteMobEntities.remove(eliteEntity.getEliteUUID());
+        eliteSpatialIndex.remove(eliteEntity);
+        PersistentTagger.uncacheElite(eliteEntity);
+    }
+
+    /**
+     * Gets the tracked elites inside a box of half-size range around the location. Only looks at the chunks around the
+     * location instead of scanning the world's entity list.
+     *
+     * @param location Center of the search
+     * @param range    Half-size of the search box, in blocks
+     * @return Elites with a valid living entity in range
+     */
+    public static List<EliteEntity> getNearbyEliteMobs(Location location, double range) {
+        return eliteSpatialIndex.getNearby(location, range, null);
+    }
+
+    public static List<EliteEntity> getEliteMobsInWorld(World world) {
+        return eliteSpatialIndex.getInWorld(world);
+    }
+
+    public static List<NPCEntity> getNearbyNPCs(Location location, double range) {
+        return npcSpatialIndex.getNearby(location, range, null);
     }
 
     public static boolean isEliteMob(Entity entity) {
@@ -108,7 +169,9 @@ public class EntityTracker implements Listener {
         new EventCaller(npcEntitySpawnEvent);
         if (npcEntitySpawnEvent.isCancelled()) return;
         npcEntities.put(npc.getUuid(), npc);
+        npcSpatialIndex.update(npc);
         PersistentTagger.tagNPC(npc.getVillager(), npc.getUuid());
+        PersistentTagger.cacheNPC(npc.getVillager(), npc);
     }
 
     public static boolean isNPCEntity(Entity entity) {
@@ -159,7 +222,7 @@ public class EntityTracker implements Listener {
             }, ticks);
         } else {
              // Fallback to old method
-             new TaskScheduler(MetadataHandler.PLUGIN).runDelayedAsync(() -> {
+             TaskScheduler.get(MetadataHandler.PLUGIN).runDelayedAsync(() -> {
                  if (Bukkit.getWorld(worldUUID) == null) return;
                  temporaryBlocks.remove(block);
                  if (!block.getBlockData().equals(finalPreviousBlockData))
@@ -227,20 +290,27 @@ public class EntityTracker implements Listener {
 
 
     //Events
-//    @EventHandler(ignoreCancelled = true)
-//    public void onUnload(ChunkUnloadEvent event) {
-//        EntityTracker.wipeChunk(event.getChunk(), RemovalReason.CHUNK_UNLOAD);
-//    }
+    //Chunk unloads only flag what was in the chunk, the watchdog does the actual removal once the entities are gone
+    @EventHandler
+    public void onUnload(ChunkUnloadEvent event) {
+        EntityValidityTracker.flag(event.getChunk());
+    }
 
     public static void wipeShutdown() {
         if (ManagedEntityTask != null)
             ManagedEntityTask.cancel();
+        if (spatialIndexTask != null)
+            spatialIndexTask.cancel();
         for (EliteEntity eliteEntity : ((HashMap<UUID, EliteEntity>) eliteMobEntities.clone()).values())
             eliteEntity.remove(RemovalReason.SHUTDOWN);
         getEliteMobEntities().clear();
         for (NPCEntity npcEntity : ((HashMap<UUID, NPCEntity>) npcEntities.clone()).values())
             npcEntity.remove(RemovalReason.SHUTDOWN);
         getNpcEntities().clear();
+        eliteSpatialIndex.clear();
+        npcSpatialIndex.clear();
+        PersistentTagger.clearCache();
+        EntityValidityTracker.clear();
         for (Block block : temporaryBlocks)
             block.setType(Material.AIR);
         temporaryBlocks.clear();
@@ -255,6 +325,8 @@ public class EntityTracker implements Listener {
     @EventHandler(ignoreCancelled = true)
     public void onWorldUnload(WorldUnloadEvent event) {
         EntityTracker.wipeWorld(event.getWorld(), RemovalReason.WORLD_UNLOAD);
+        eliteSpatialIndex.removeWorld(event.getWorld());
+        npcSpatialIndex.removeWorld(event.getWorld());
         temporaryBlocks.removeIf(block -> block.getWorld().equals(event.getWorld()));
     }
 
@@ -267,48 +339,53 @@ public class EntityTracker implements Listener {
 
     //After many years of trying to make the chunk unload event work, I gave up and am now using a clock instead.
     //There's just too many bugs with how the chunk unloading works, unfortunately
+    //The clock now only checks entries flagged by removal and unload events, plus a slow batched sweep as a safety net
     public static void managedEntityWatchdog() {
-        if (taskScheduler != null) {
-            // Convert to Folia-compatible timer task
-            ManagedEntityTask = taskScheduler.runTimerAsync(() -> {
-                // Safely iterate over eliteMobEntities by cloning the values first to avoid CME
-                new HashSet<>(eliteMobEntities.values()).forEach(value -> {
-                    if (value.getLivingEntity() != null && !value.getLivingEntity().isValid()) {
-                        value.remove(RemovalReason.CHUNK_UNLOAD);
-                    }
+        ManagedEntityTask = (taskScheduler != null ? taskScheduler : TaskScheduler.get(MetadataHandler.PLUGIN))
+                .runTimerAsync(EntityValidityTracker::tick, 0, 1);
+        TaskScheduler scheduler = taskScheduler != null ? taskScheduler : TaskScheduler.get(MetadataHandler.PLUGIN);
+        //Only reads the index, the locations get read and pushed back from the threads that own the entities
+        spatialIndexTask = scheduler.runTimerAsync(() -> {
+            if (!scheduler.isFolia()) {
+                scheduler.runGlobal(() -> {
+                    eliteSpatialIndex.refresh();
+                    npcSpatialIndex.refresh();
                 });
+                return;
+            }
+            for (EliteEntity eliteEntity : eliteSpatialIndex.values()) {
+                LivingEntity livingEntity = eliteEntity.getLivingEntity();
+                if (livingEntity != null)
+                    scheduler.runEntity(livingEntity, () -> eliteSpatialIndex.update(eliteEntity, livingEntity.getLocation()));
+            }
+            for (NPCEntity npcEntity : npcSpatialIndex.values()) {
+                LivingEntity villager = npcEntity.getVillager();
+                if (villager != null)
+                    scheduler.runEntity(villager, () -> npcSpatialIndex.update(npcEntity, villager.getLocation()));
+            }
+        }, SPATIAL_INDEX_REFRESH_TICKS, SPATIAL_INDEX_REFRESH_TICKS);
+    }
 
-                // Safely iterate over npcEntities by cloning the values first to avoid CME
-                new HashSet<>(npcEntities.values()).forEach(value -> {
-                    if (value.getVillager() != null && !value.getVillager().isValid()) {
-                        value.remove(RemovalReason.CHUNK_UNLOAD);
-                    }
-                });
-            }, 0, 1);
-        } else {
-             // Fallback to old method
-             ManagedEntityTask = new TaskScheduler(MetadataHandler.PLUGIN).runTimerAsync(() -> {
-                 // Safely iterate over eliteMobEntities by cloning the values first to avoid CME
-                 new HashSet<>(eliteMobEntities.values()).forEach(value -> {
-                     if (value.getLivingEntity() != null && !value.getLivingEntity().isValid()) {
-                         value.remove(RemovalReason.CHUNK_UNLOAD);
-                     }
-                 });
-
-                 // Safely iterate over npcEntities by cloning the values first to avoid CME
-                 new HashSet<>(npcEntities.values()).forEach(value -> {
-                     if (value.getVillager() != null && !value.getVillager().isValid()) {
-                         value.remove(RemovalReason.CHUNK_UNLOAD);
-                     }
-                 });
-             }, 0, 1);
-         }
+    //Teleports can go much further than the index pads queries by, so they get picked up right away
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onTeleport(EntityTeleportEvent event) {
+        if (event.getTo() == null) return;
+        EliteEntity eliteEntity = getEliteMobEntity(event.getEntity());
+        if (eliteEntity != null) {
+            eliteSpatialIndex.update(eliteEntity, event.getTo());
+            return;
+        }
+        NPCEntity npcEntity = getNPCEntity(event.getEntity());
+        if (npcEntity != null) npcSpatialIndex.update(npcEntity, event.getTo());
     }
 
     @EventHandler(ignoreCancelled = true)
     public void onRemove(EntityRemoveEvent event) {
         if (event.getCause().equals(EntityRemoveEvent.Cause.UNLOAD))
             EntityTracker.unregister(event.getEntity(), RemovalReason.CHUNK_UNLOAD);
+        else
+            EntityValidityTracker.flag(event.getEntity());
+        PersistentTagger.uncacheEntity(event.getEntity());
     }
 
 
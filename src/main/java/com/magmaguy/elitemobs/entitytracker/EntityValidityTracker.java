@@ -0,0 +1,161 @@
+package com.magmaguy.elitemobs.entitytracker;
+
+import com.magmaguy.elitemobs.MetadataHandler;
+import com.magmaguy.elitemobs.api.internal.RemovalReason;
+import com.magmaguy.elitemobs.config.DefaultConfig;
+import com.magmaguy.elitemobs.mobconstructor.EliteEntity;
+import com.magmaguy.elitemobs.npcs.NPCEntity;
+import lombok.Getter;
+import me.MinhTaz.FoliaLib.TaskScheduler;
+import org.bukkit.Chunk;
+import org.bukkit.entity.Entity;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Figures out when tracked elites and NPCs stop being valid. Entity removal and chunk unloads flag the affected
+ * entries, which get checked on the following ticks; a slow batched sweep over everything that is tracked catches
+ * whatever the events miss.
+ */
+public class EntityValidityTracker {
+    //Chunk unloads can fire before the entities themselves get unloaded, so flagged entries get a few ticks to go invalid
+    private static final int PENDING_CHECK_TICKS = 20;
+    private static final Map<Object, Integer> pendingChecks = new ConcurrentHashMap<>();
+    private static final AtomicBoolean snapshotRequested = new AtomicBoolean(false);
+    private static final LongAdder eventInvalidations = new LongAdder();
+    private static final LongAdder sweepInvalidations = new LongAdder();
+    private static final LongAdder sweptEntities = new LongAdder();
+    private static final LongAdder completedSweeps = new LongAdder();
+    private static List<Object> sweepQueue = new ArrayList<>();
+    //The tracked entity maps are only safe to read on the main thread, so the next sweep's list gets copied there
+    private static volatile List<Object> nextSweepQueue = null;
+    private static int sweepIndex = 0;
+    private static int ticksUntilSweep = 0;
+    @Getter
+    private static volatile long lastSweepNanos = 0;
+
+    private EntityValidityTracker() {
+    }
+
+    public static long getEventInvalidations() {
+        return eventInvalidations.sum();
+    }
+
+    public static long getSweepInvalidations() {
+        return sweepInvalidations.sum();
+    }
+
+    public static long getSweptEntities() {
+        return sweptEntities.sum();
+    }
+
+    public static long getCompletedSweeps() {
+        return completedSweeps.sum();
+    }
+
+    public static int getPendingChecks() {
+        return pendingChecks.size();
+    }
+
+    public static void flag(Entity entity) {
+        EliteEntity eliteEntity = EntityTracker.getEliteMobEntity(entity);
+        if (eliteEntity != null) {
+            pendingChecks.put(eliteEntity, PENDING_CHECK_TICKS);
+            return;
+        }
+        NPCEntity npcEntity = EntityTracker.getNPCEntity(entity);
+        if (npcEntity != null) pendingChecks.put(npcEntity, PENDING_CHECK_TICKS);
+    }
+
+    public static void flag(Chunk chunk) {
+        int minX = chunk.getX() << 4;
+        int minZ = chunk.getZ() << 4;
+        EntityTracker.getEliteSpatialIndex().getInBox(chunk.getWorld(),
+                        minX, Integer.MIN_VALUE, minZ, minX + 16, Integer.MAX_VALUE, minZ + 16, null)
+                .forEach(eliteEntity -> pendingChecks.put(eliteEntity, PENDING_CHECK_TICKS));
+        EntityTracker.getNpcSpatialIndex().getInBox(chunk.getWorld(),
+                        minX, Integer.MIN_VALUE, minZ, minX + 16, Integer.MAX_VALUE, minZ + 16, null)
+                .forEach(npcEntity -> pendingChecks.put(npcEntity, PENDING_CHECK_TICKS));
+    }
+
+    public static void clear() {
+        pendingChecks.clear();
+        sweepQueue = new ArrayList<>();
+        nextSweepQueue = null;
+        sweepIndex = 0;
+    }
+
+    /**
+     * Runs every tick. Idle ticks only check whether anything is flagged and whether the sweep is due.
+     */
+    public static void tick() {
+        if (!pendingChecks.isEmpty()) processPendingChecks();
+        if (--ticksUntilSweep > 0) return;
+        ticksUntilSweep = DefaultConfig.getEntityWatchdogSweepInterval();
+        sweep(DefaultConfig.getEntityWatchdogSweepBatchSize());
+    }
+
+    private static void processPendingChecks() {
+        Iterator<Map.Entry<Object, Integer>> iterator = pendingChecks.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Object, Integer> entry = iterator.next();
+            if (removeIfInvalid(entry.getKey())) {
+                eventInvalidations.increment();
+                iterator.remove();
+            } else if (entry.getValue() <= 1) iterator.remove();
+            else entry.setValue(entry.getValue() - 1);
+        }
+    }
+
+    private static void sweep(int batchSize) {
+        long startTime = System.nanoTime();
+        if (sweepIndex >= sweepQueue.size()) {
+            List<Object> nextQueue = nextSweepQueue;
+            if (nextQueue == null) {
+                requestSnapshot();
+                return;
+            }
+            nextSweepQueue = null;
+            sweepQueue = nextQueue;
+            sweepIndex = 0;
+            completedSweeps.increment();
+        }
+        int end = Math.min(sweepIndex + batchSize, sweepQueue.size());
+        for (; sweepIndex < end; sweepIndex++) {
+            sweptEntities.increment();
+            if (removeIfInvalid(sweepQueue.get(sweepIndex))) sweepInvalidations.increment();
+        }
+        lastSweepNanos = System.nanoTime() - startTime;
+    }
+
+    private static void requestSnapshot() {
+        if (!snapshotRequested.compareAndSet(false, true)) return;
+        TaskScheduler.get(MetadataHandler.PLUGIN).runGlobal(() -> {
+            List<Object> snapshot = new ArrayList<>(EntityTracker.getEliteMobEntities().size() + EntityTracker.getNpcEntities().size());
+            snapshot.addAll(EntityTracker.getEliteMobEntities().values());
+            snapshot.addAll(EntityTracker.getNpcEntities().values());
+            nextSweepQueue = snapshot;
+            snapshotRequested.set(false);
+        });
+    }
+
+    private static boolean removeIfInvalid(Object trackedObject) {
+        if (trackedObject instanceof EliteEntity eliteEntity) {
+            if (eliteEntity.getLivingEntity() == null || eliteEntity.getLivingEntity().isValid()) return false;
+            eliteEntity.remove(RemovalReason.CHUNK_UNLOAD);
+            return true;
+        }
+        if (trackedObject instanceof NPCEntity npcEntity) {
+            if (npcEntity.getVillager() == null || npcEntity.getVillager().isValid()) return false;
+            npcEntity.remove(RemovalReason.CHUNK_UNLOAD);
+            return true;
+        }
+        return false;
+    }
+}
@@ -105,7 +105,7 @@ public class ActionEvent extends CustomEvent {
     public void startModifiers() {
         UUID playerUUID = player.getUniqueId();
         playerCooldowns.add(playerUUID);
-        TaskScheduler scheduler = new TaskScheduler(MetadataHandler.PLUGIN);
+        TaskScheduler scheduler = TaskScheduler.get(MetadataHandler.PLUGIN);
         scheduler.runDelayedAsync(() -> playerCooldowns.remove(playerUUID), 20L * 60L * EventsConfig.getActionEventMinimumCooldown());
     }
 
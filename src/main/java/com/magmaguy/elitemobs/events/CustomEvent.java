@@ -57,7 +57,7 @@ public abstract class CustomEvent {
     }
 
     public static boolean isLocationValid(Location location) {
-        if (!ValidWorldsConfig.getValidWorlds().contains(Objects.requireNonNull(location.getWorld()).getName()))
+        if (!ValidWorldsConfig.isValidWorld(Objects.requireNonNull(location.getWorld())))
             return false;
         if (EliteMobsWorld.isEliteMobsWorld(location.getWorld().getUID()))
             return false;
@@ -105,7 +105,7 @@ public abstract class CustomEvent {
         eventStartTime = System.currentTimeMillis();
         currentDay = dayCalculator();
         
-        TaskScheduler scheduler = new TaskScheduler(MetadataHandler.PLUGIN);
+        TaskScheduler scheduler = TaskScheduler.get(MetadataHandler.PLUGIN);
         Runnable timerTask = () -> {
             commonWatchdogBehavior();
             eventWatchdog();
@@ -167,7 +167,7 @@ public abstract class CustomEvent {
         if (this.endMessage != null)
             AnnouncementPriority.announce(this.endMessage, eventStartLocation.getWorld(), this.announcementPriority);
         if (this.endEventCommands != null) {
-            TaskScheduler scheduler = new TaskScheduler(MetadataHandler.PLUGIN);
+            TaskScheduler scheduler = TaskScheduler.get(MetadataHandler.PLUGIN);
             scheduler.runAsync(() -> CommandRunner.runCommandFromList(this.endEventCommands, new ArrayList<>()));
         }
         endModifiers();
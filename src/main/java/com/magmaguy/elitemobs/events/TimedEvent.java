@@ -67,7 +67,7 @@ public class TimedEvent extends CustomEvent implements Listener {
     }
 
     private static void startEventPicker() {
-        TaskScheduler scheduler = new TaskScheduler(MetadataHandler.PLUGIN);
+        TaskScheduler scheduler = TaskScheduler.get(MetadataHandler.PLUGIN);
         Runnable timerTask = () -> {
             if (Bukkit.getServer().getOnlinePlayers().isEmpty()) return;
             boolean validPlayer = false;
@@ -164,7 +164,7 @@ public class TimedEvent extends CustomEvent implements Listener {
                     silentRetry = true;
                 }
 
-                TaskScheduler scheduler = new TaskScheduler(MetadataHandler.PLUGIN);
+                TaskScheduler scheduler = TaskScheduler.get(MetadataHandler.PLUGIN);
                 scheduler.runDelayedAsync(() -> {
                     customSpawn.setSpawnLocation(null);
                     customSpawn.queueSpawn();
@@ -0,0 +1,66 @@
+package com.magmaguy.elitemobs.explosionregen;
+
+import org.bukkit.block.Block;
+
+/**
+ * Set of block positions packed into longs, for scans that go over a lot of blocks and only need to know which ones
+ * they have already seen. Positions are stored in a plain long array with open addressing so nothing gets boxed.
+ */
+class BlockPositionSet {
+    //0 marks empty slots, so the position that packs to 0 is tracked on its own
+    private boolean containsZero = false;
+    private long[] positions;
+    private int size = 0;
+
+    BlockPositionSet(int expectedSize) {
+        int capacity = 16;
+        while (capacity < expectedSize * 2) capacity <<= 1;
+        positions = new long[capacity];
+    }
+
+    static long pack(Block block) {
+        return pack(block.getX(), block.getY(), block.getZ());
+    }
+
+    //Same layout as Minecraft's block positions, 26 bits for x and z and 12 bits for y
+    static long pack(int x, int y, int z) {
+        return ((long) x & 0x3FFFFFF) << 38 | ((long) z & 0x3FFFFFF) << 12 | (y & 0xFFF);
+    }
+
+    /**
+     * @return Whether the position wasn't in the set yet
+     */
+    boolean add(long position) {
+        if (position == 0) {
+            if (containsZero) return false;
+            containsZero = true;
+            return true;
+        }
+        if (!insert(positions, position)) return false;
+        if (++size * 2 > positions.length) grow();
+        return true;
+    }
+
+    private static boolean insert(long[] positions, long position) {
+        int mask = positions.length - 1;
+        int index = hash(position) & mask;
+        while (positions[index] != 0) {
+            if (positions[index] == position) return false;
+            index = (index + 1) & mask;
+        }
+        positions[index] = position;
+        return true;
+    }
+
+    private static int hash(long position) {
+        long hash = position * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32));
+    }
+
+    private void grow() {
+        long[] grown = new long[positions.length * 2];
+        for (long position : positions)
+            if (position != 0) insert(grown, position);
+        positions = grown;
+    }
+}
@@ -0,0 +1,126 @@
+package com.magmaguy.elitemobs.explosionregen;
+
+import com.magmaguy.elitemobs.MetadataHandler;
+import com.magmaguy.elitemobs.config.DefaultConfig;
+import me.MinhTaz.FoliaLib.TaskScheduler;
+import me.MinhTaz.FoliaLib.TaskScheduler.TaskWrapper;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Puts blown up blocks back for every explosion from a single repeating task.
+ * <p>
+ * Every tick it hands out up to {@link DefaultConfig#getExplosionRegenBlocksPerTick()} blocks, oldest explosion first.
+ * Explosions keep their blocks ordered bottom to top and by chunk within each layer, so the blocks handed out can be
+ * split into batches of blocks from the same chunk, and each batch gets put back by one task on the thread that owns
+ * that chunk.
+ * <p>
+ * Explosions in worlds that aren't loaded get set aside until the world loads again.
+ */
+class BlockRegenEngine {
+    //Explosions that still have blocks that haven't been handed out, in the order they are due
+    private static final Queue<Explosion> queue = new ConcurrentLinkedQueue<>();
+    //Explosions waiting on their world to load again, by world
+    private static final Map<UUID, Set<Explosion>> waitingForWorld = new ConcurrentHashMap<>();
+    private static TaskWrapper task = null;
+
+    private BlockRegenEngine() {
+    }
+
+    static void queue(Explosion explosion) {
+        queue.add(explosion);
+        start();
+    }
+
+    private static synchronized void start() {
+        if (task != null) return;
+        task = TaskScheduler.get(MetadataHandler.PLUGIN).runTimerAsync(BlockRegenEngine::tick, 1, 1);
+    }
+
+    static synchronized void shutdown() {
+        if (task != null) task.cancel();
+        task = null;
+        queue.clear();
+        waitingForWorld.clear();
+    }
+
+    static void waitForWorld(Explosion explosion) {
+        waitingForWorld.computeIfAbsent(explosion.getWorldUUID(), key -> ConcurrentHashMap.newKeySet()).add(explosion);
+    }
+
+    /**
+     * Queues the explosions that were waiting on the world again. They are long overdue, so they go out as soon as
+     * whatever is ahead of them in the queue is.
+     */
+    static void worldLoaded(World world) {
+        Set<Explosion> explosions = waitingForWorld.remove(world.getUID());
+        if (explosions == null) return;
+        for (Explosion explosion : explosions) {
+            //Batches handed out while the world was unloading didn't get put back, so it starts over from the first
+            explosion.setCursor(explosion.firstUnrestored());
+            if (!queue.contains(explosion)) queue(explosion);
+        }
+    }
+
+    static void forgetWorld(UUID worldUUID) {
+        waitingForWorld.remove(worldUUID);
+        queue.removeIf(explosion -> explosion.getWorldUUID().equals(worldUUID));
+    }
+
+    private static void tick() {
+        long now = System.currentTimeMillis();
+        int budget = DefaultConfig.getExplosionRegenBlocksPerTick();
+        Iterator<Explosion> iterator = queue.iterator();
+        while (budget > 0 && iterator.hasNext()) {
+            Explosion explosion = iterator.next();
+            //Every explosion waits the same amount of time, so none of the ones after this one are due either
+            if (explosion.getRegenAt() > now) break;
+            World world = Bukkit.getWorld(explosion.getWorldUUID());
+            if (world == null) {
+                iterator.remove();
+                waitForWorld(explosion);
+                continue;
+            }
+            budget -= dispatch(explosion, world, budget);
+            if (explosion.getCursor() >= explosion.size()) iterator.remove();
+        }
+        if (queue.isEmpty()) stopIfIdle();
+    }
+
+    private static synchronized void stopIfIdle() {
+        //An explosion could have come in between the check and getting the lock
+        if (!queue.isEmpty()) return;
+        if (task != null) task.cancel();
+        task = null;
+    }
+
+    /**
+     * Hands out the explosion's next blocks as batches of blocks from the same chunk.
+     *
+     * @return Amount of blocks handed out
+     */
+    private static int dispatch(Explosion explosion, World world, int budget) {
+        int dispatched = 0;
+        while (dispatched < budget && explosion.getCursor() < explosion.size()) {
+            int from = explosion.getCursor();
+            long chunkKey = explosion.chunkKey(from);
+            int to = from + 1;
+            while (to < explosion.size() && to - from < budget - dispatched && explosion.chunkKey(to) == chunkKey) to++;
+            explosion.setCursor(to);
+            dispatched += to - from;
+            TaskScheduler.get(MetadataHandler.PLUGIN).runRegion(
+                    new Location(world, explosion.getX(from), explosion.getY(from), explosion.getZ(from)),
+                    () -> explosion.restoreBatch(from, to));
+        }
+        return dispatched;
+    }
+}
@@ -8,15 +8,17 @@ import com.magmaguy.elitemobs.config.DefaultConfig;
 import com.magmaguy.elitemobs.config.powers.PowersConfig;
 import com.magmaguy.elitemobs.config.powers.PowersConfigFields;
 import com.magmaguy.elitemobs.entitytracker.EntityTracker;
+import com.magmaguy.elitemobs.instanced.dungeons.DungeonInstance;
 import com.magmaguy.elitemobs.mobconstructor.EliteEntity;
 import com.magmaguy.elitemobs.thirdparty.worldguard.WorldGuardFlagChecker;
 import com.magmaguy.elitemobs.utils.EntityFinder;
-import me.MinhTaz.FoliaLib.TaskScheduler;
-import me.MinhTaz.FoliaLib.TaskScheduler.TaskWrapper;
+import com.magmaguy.magmacore.util.Logger;
+import lombok.Getter;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.NamespacedKey;
+import org.bukkit.World;
 import org.bukkit.block.*;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.LivingEntity;
@@ -25,41 +27,92 @@ import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.entity.EntityExplodeEvent;
+import org.bukkit.event.world.WorldLoadEvent;
 import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.persistence.PersistentDataType;
 import org.bukkit.util.BoundingBox;
-import org.bukkit.util.Vector;
 
+import java.io.IOException;
 import java.util.*;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class Explosion {
 
-    private static final HashSet<Explosion> explosions = new HashSet<>();
+    //Explosions that haven't been fully regenerated yet
+    private static final Set<Explosion> explosions = ConcurrentHashMap.newKeySet();
+    private static final AtomicLong nextId = new AtomicLong();
+    private static final int delayBeforeRegen = 2;
     public final List<BlockState> detonatedBlocks = new ArrayList<>();
-    private final int delayBeforeRegen = 2;
+    //Blocks read back from the journal after a restart, which only have their block data and container contents
+    private final List<RegenJournal.Entry> journaledBlocks = new ArrayList<>();
+    private final BitSet restoredBlocks = new BitSet();
+    private int restoredCount = 0;
+    private long id;
+    //Instanced dungeon worlds get deleted once the instance is over, so there is nothing to put back after a restart
+    private boolean journaled = true;
+    @Getter
     private UUID worldUUID;
+    @Getter
+    private long regenAt;
+    //Index of the next block to hand out for regeneration, only used by the regen engine
+    @Getter
+    private volatile int cursor = 0;
 
     public Explosion(List<BlockState> detonatedBlocks) {
         if (detonatedBlocks == null || detonatedBlocks.isEmpty()) return;
-        //sort blocks bottom to top
-        HashMap<BlockState, Integer> unsortedBlocks = new HashMap<>();
-        for (BlockState blockState : detonatedBlocks)
-            unsortedBlocks.put(blockState, blockState.getY());
-
-        unsortedBlocks.entrySet().stream().sorted(Map.Entry.comparingByValue())
-                .forEachOrdered(x -> this.detonatedBlocks.add(x.getKey()));
-
-        worldUUID = detonatedBlocks.get(0).getWorld().getUID();
+        //sort blocks bottom to top, and by chunk within each layer so they can be put back one chunk at a time
+        this.detonatedBlocks.addAll(detonatedBlocks);
+        this.detonatedBlocks.sort(Comparator.comparingInt(BlockState::getY)
+                .thenComparingLong(blockState -> chunkKey(blockState.getX(), blockState.getZ())));
+
+        id = nextId.getAndIncrement();
+        World world = detonatedBlocks.get(0).getWorld();
+        worldUUID = world.getUID();
+        regenAt = System.currentTimeMillis() + delayBeforeRegen * 60 * 1000L;
+        journaled = !DungeonInstance.isInstanceWorld(world);
+
+        List<RegenJournal.Entry> entries = new ArrayList<>(journaled ? this.detonatedBlocks.size() : 0);
+        if (journaled)
+            for (BlockState blockState : this.detonatedBlocks)
+                entries.add(RegenJournal.Entry.of(blockState));
+        synchronized (Explosion.class) {
+            explosions.add(this);
+            if (journaled) RegenJournal.appendExplosion(id, worldUUID, entries);
+        }
+        regenerate();
+    }
 
+    private Explosion(RegenJournal.PendingExplosion pendingExplosion) {
+        id = pendingExplosion.id();
+        worldUUID = pendingExplosion.worldUUID();
+        journaledBlocks.addAll(pendingExplosion.entries());
+        //The regen delay already went by, or at least started, before the restart
+        regenAt = System.currentTimeMillis();
+        //Already in the journal
         explosions.add(this);
         regenerate();
     }
 
+    /**
+     * Picks back up the explosions that hadn't finished regenerating when the server last went down.
+     */
+    public static void initialize() {
+        List<RegenJournal.PendingExplosion> pendingExplosions = RegenJournal.replay();
+        for (RegenJournal.PendingExplosion pendingExplosion : pendingExplosions)
+            nextId.accumulateAndGet(pendingExplosion.id() + 1, Math::max);
+        for (RegenJournal.PendingExplosion pendingExplosion : pendingExplosions)
+            new Explosion(pendingExplosion);
+        if (!pendingExplosions.isEmpty())
+            Logger.info("Regenerating " + pendingExplosions.size() + " explosions from before the last shutdown.");
+    }
+
     public static void shutdown() {
+        BlockRegenEngine.shutdown();
         regenerateAllPendingBlocks();
         explosions.clear();
+        RegenJournal.close();
     }
 
     public static void regenerateAllPendingBlocks() {
@@ -67,6 +120,19 @@ public class Explosion {
             explosion.resetAllBlocks();
     }
 
+    /**
+     * Drops every explosion in a world that is about to be deleted, such as an instanced dungeon world, since their
+     * blocks can never be put back.
+     *
+     * @param world World that is going away for good
+     */
+    public static void discardWorld(World world) {
+        UUID worldUUID = world.getUID();
+        BlockRegenEngine.forgetWorld(worldUUID);
+        for (Explosion explosion : explosions)
+            if (explosion.worldUUID.equals(worldUUID)) explosion.discard();
+    }
+
     public static void generateFakeExplosion(List<Block> blockList, Entity entity, PowersConfigFields powersConfigFields, Location explosionSourceLocation) {
         generateExplosion(blockList, entity, powersConfigFields, explosionSourceLocation);
     }
@@ -87,15 +153,7 @@ public class Explosion {
             return;
 
         ArrayList<BlockState> blockStates = new ArrayList<>();
-
-        for (Block block : blockList) {
-            if (block.getType().isAir() ||
-                    block.getType().equals(Material.FIRE) ||
-                    block.isLiquid() ||
-                    EntityTracker.isTemporaryBlock(block))
-                continue;
-            nearbyBlockScan(blockStates, block.getState());
-        }
+        nearbyBlockScan(blockStates, blockList);
 
         Entity shooter = EntityFinder.filterRangedDamagers(entity);
         EliteEntity eliteEntity = null;
@@ -135,28 +193,43 @@ public class Explosion {
     }
 
     /**
-     * This scans the blocks adjacent to the block getting blown up. This is because certain blocks like ladders will break
-     * when lacking the support of the source block
+     * Queues the blocks getting blown up along with the blocks around them that depend on them. This is because certain
+     * blocks like ladders will break when lacking the support of the source block, and the blocks they support can in
+     * turn hold up more blocks.
      *
-     * @param blockState
+     * @param blockStates Where the blocks to blow up get queued
+     * @param blockList   Blocks caught in the explosion
      */
-    private static void nearbyBlockScan(ArrayList<BlockState> blockStates, BlockState blockState) {
-        queueBlock(blockStates, blockState);
-        for (int x = -1; x < 2; x++)
-            for (int y = -1; y < 2; y++)
-                for (int z = -1; z < 2; z++) {
-                    Location blockLocation = blockState.getLocation().clone().add(new Vector(x, y, z));
-                    BlockState iteratedBlockState = blockLocation.getBlock().getState();
-                    if (blockStates.contains(iteratedBlockState)) continue;
-                    if (!isCodependentBlock(iteratedBlockState, y)) continue;
-                    nearbyBlockScan(blockStates, iteratedBlockState);
-                }
+    private static void nearbyBlockScan(ArrayList<BlockState> blockStates, List<Block> blockList) {
+        BlockPositionSet scannedBlocks = new BlockPositionSet(blockList.size() * 2);
+        ArrayDeque<Block> blocksToScan = new ArrayDeque<>();
+        for (Block block : blockList) {
+            if (block.getType().isAir() ||
+                    block.getType().equals(Material.FIRE) ||
+                    block.isLiquid() ||
+                    EntityTracker.isTemporaryBlock(block))
+                continue;
+            if (scannedBlocks.add(BlockPositionSet.pack(block))) blocksToScan.add(block);
+        }
+
+        Block block;
+        while ((block = blocksToScan.poll()) != null) {
+            queueBlock(blockStates, block);
+            for (int x = -1; x < 2; x++)
+                for (int y = -1; y < 2; y++)
+                    for (int z = -1; z < 2; z++) {
+                        Block neighbour = block.getRelative(x, y, z);
+                        //Checked before marking the block as scanned, the same block can depend on one neighbour and not on another
+                        if (!isCodependentBlock(neighbour.getType(), y)) continue;
+                        if (scannedBlocks.add(BlockPositionSet.pack(neighbour))) blocksToScan.add(neighbour);
+                    }
+        }
     }
 
-    private static boolean isCodependentBlock(BlockState blockState, int y) {
+    private static boolean isCodependentBlock(Material material, int y) {
         //Getter for blocks that will break if the block below breaks
         if (y == 1) {
-            switch (blockState.getType()) {
+            switch (material) {
                 case SUGAR_CANE:
                 case STRUCTURE_BLOCK:
                 case TALL_GRASS:
@@ -211,13 +284,13 @@ public class Explosion {
 
         //Getter for blocks that will break if the block above goes away
         if (y == -1) {
-            if (blockState.getType() == Material.VINE) {
+            if (material == Material.VINE) {
                 return true;
             }
         }
 
         //Generic getter for codependent blocks, blocks that would break if the adjacent block breaks
-        switch (blockState.getType()) {
+        switch (material) {
             case PAINTING:
             case LADDER:
             case LANTERN:
@@ -248,53 +321,123 @@ public class Explosion {
         }
     }
 
-    private static void queueBlock(ArrayList<BlockState> blockStates, BlockState blockState) {
+    private static void queueBlock(ArrayList<BlockState> blockStates, Block block) {
+        BlockState blockState = block.getState();
         if (!DefaultConfig.isDoRegenerateContainers() && blockState instanceof Container)
             return;
-        blockStates.add(blockState.getBlock().getState());
-        if (blockState instanceof Container)
-            if (blockState instanceof Chest)
-                ((Chest) blockState).getBlockInventory().setContents(new ItemStack[0]);
+        blockStates.add(blockState);
+        if (blockState instanceof Container) {
+            BlockState liveBlockState = block.getState();
+            if (liveBlockState instanceof Chest)
+                ((Chest) liveBlockState).getBlockInventory().setContents(new ItemStack[0]);
             else
-                ((Container) blockState).getInventory().setContents(new ItemStack[0]);
+                ((Container) liveBlockState).getInventory().setContents(new ItemStack[0]);
+        }
     }
 
-    public void resetAllBlocks() {
-        for (BlockState blockState : detonatedBlocks)
-            fullBlockRestore(blockState, true);
-        detonatedBlocks.clear();
+    private static long chunkKey(int x, int z) {
+        return (long) (x >> 4) << 32 | ((z >> 4) & 0xFFFFFFFFL);
+    }
+
+    public synchronized void resetAllBlocks() {
+        //Blocks in worlds that aren't loaded stay in the journal for whenever the world is back
+        if (Bukkit.getWorld(worldUUID) == null) return;
+        restoreBatch(0, size());
     }
 
     public void regenerate() {
+        BlockRegenEngine.queue(this);
+    }
 
-        Explosion explosion = this;
+    int size() {
+        return detonatedBlocks.isEmpty() ? journaledBlocks.size() : detonatedBlocks.size();
+    }
 
-        TaskScheduler scheduler = new TaskScheduler(MetadataHandler.PLUGIN);
-        AtomicReference<TaskWrapper> taskRef = new AtomicReference<>();
-        
-        Runnable timerTask = () -> {
-            if (detonatedBlocks.isEmpty()) {
-                explosions.remove(explosion);
-                if (taskRef.get() != null) taskRef.get().cancel();
-                return;
-            }
+    int getX(int index) {
+        return detonatedBlocks.isEmpty() ? journaledBlocks.get(index).x() : detonatedBlocks.get(index).getX();
+    }
 
-            BlockState firstBlock = detonatedBlocks.get(0);
-            fullBlockRestore(firstBlock, false);
-        };
-        
-        taskRef.set(scheduler.runTimerAsync(timerTask, 20 * 60 * delayBeforeRegen, 1));
+    int getY(int index) {
+        return detonatedBlocks.isEmpty() ? journaledBlocks.get(index).y() : detonatedBlocks.get(index).getY();
+    }
 
+    int getZ(int index) {
+        return detonatedBlocks.isEmpty() ? journaledBlocks.get(index).z() : detonatedBlocks.get(index).getZ();
     }
 
-    private void fullBlockRestore(BlockState blockState, boolean isShutdown) {
+    long chunkKey(int index) {
+        return chunkKey(getX(index), getZ(index));
+    }
 
-        //Things like instanced dungeons can unload in the meanwhile
-        if (Bukkit.getWorld(worldUUID) == null) return;
+    void setCursor(int cursor) {
+        this.cursor = cursor;
+    }
+
+    synchronized int firstUnrestored() {
+        return restoredBlocks.nextClearBit(0);
+    }
+
+    /**
+     * Puts back the blocks in the range that haven't been put back yet. Runs on the thread that owns their chunk.
+     *
+     * @param from First block of the range
+     * @param to   Block after the last block of the range
+     */
+    synchronized void restoreBatch(int from, int to) {
+        World world = Bukkit.getWorld(worldUUID);
+        //The world unloaded in the meanwhile, the blocks stay pending until it comes back
+        if (world == null) {
+            BlockRegenEngine.waitForWorld(this);
+            return;
+        }
+        nudgeEntities(world, from, to);
+        int restored = 0;
+        for (int i = restoredBlocks.nextClearBit(from); i < to; i = restoredBlocks.nextClearBit(i + 1)) {
+            if (detonatedBlocks.isEmpty()) journaledBlockRestore(world, journaledBlocks.get(i));
+            else fullBlockRestore(detonatedBlocks.get(i));
+            restoredBlocks.set(i);
+            restored++;
+        }
+        if (restored == 0) return;
+        restoredCount += restored;
+        if (journaled) RegenJournal.appendRestored(id, from, to);
+        if (restoredCount >= size()) complete();
+    }
+
+    private synchronized void discard() {
+        if (restoredCount >= size()) return;
+        restoredBlocks.set(0, size());
+        restoredCount = size();
+        complete();
+    }
+
+    private void complete() {
+        synchronized (Explosion.class) {
+            explosions.remove(this);
+            if (journaled) RegenJournal.appendDone(id);
+            //Nothing left to regenerate, so nothing in the journal is needed anymore
+            if (explosions.isEmpty()) RegenJournal.clear();
+        }
+    }
+
+    //Entities standing where the blocks come back get moved up, the whole batch only has to look for entities once
+    private void nudgeEntities(World world, int from, int to) {
+        BoundingBox batchBox = new BoundingBox(getX(from), getY(from), getZ(from), getX(from) + 1, getY(from) + 1, getZ(from) + 1);
+        for (int i = from + 1; i < to; i++) {
+            batchBox.union(getX(i), getY(i), getZ(i));
+            batchBox.union(getX(i) + 1, getY(i) + 1, getZ(i) + 1);
+        }
+        Collection<Entity> entities = world.getNearbyEntities(batchBox);
+        if (entities.isEmpty()) return;
+        for (int i = restoredBlocks.nextClearBit(from); i < to; i = restoredBlocks.nextClearBit(i + 1)) {
+            BoundingBox blockBox = new BoundingBox(getX(i), getY(i), getZ(i), getX(i) + 1, getY(i) + 1, getZ(i) + 1);
+            for (Entity entity : entities)
+                if (entity.getBoundingBox().overlaps(blockBox))
+                    entity.teleport(entity.getLocation().add(0, 1, 0));
+        }
+    }
 
-        for (Entity entity : blockState.getWorld().getNearbyEntities(new BoundingBox(blockState.getX(), blockState.getY(), blockState.getZ(),
-                blockState.getX() + 1, blockState.getY() + 1, blockState.getZ() + 1)))
-            entity.teleport(entity.getLocation().clone().add(new Vector(0, 1, 0)));
+    private void fullBlockRestore(BlockState blockState) {
 
         blockState.setBlockData(blockState.getBlockData());
 
@@ -321,11 +464,32 @@ public class Explosion {
         }
 
         blockState.update(true);
-        if (!isShutdown)
-            detonatedBlocks.remove(blockState);
+    }
+
+    private static void journaledBlockRestore(World world, RegenJournal.Entry entry) {
+        Block block = world.getBlockAt(entry.x(), entry.y(), entry.z());
+        try {
+            block.setBlockData(Bukkit.createBlockData(entry.blockData()), true);
+        } catch (IllegalArgumentException ex) {
+            //Block data can stop being valid across Minecraft updates
+            Logger.warn("Failed to regenerate " + entry.blockData() + " at " + entry.x() + ", " + entry.y() + ", " + entry.z() + " in " + world.getName());
+            return;
+        }
+        if (entry.contents() == null || !(block.getState() instanceof Container container)) return;
+        try {
+            container.getInventory().setContents(RegenJournal.deserializeContents(entry.contents()));
+        } catch (IOException ex) {
+            Logger.warn("Failed to regenerate the contents of the " + block.getType() + " at " + entry.x() + ", " + entry.y() + ", " + entry.z() + " in " + world.getName());
+            ex.printStackTrace();
+        }
     }
 
     public static class ExplosionEvent implements Listener {
+        @EventHandler
+        public void worldLoadEvent(WorldLoadEvent event) {
+            BlockRegenEngine.worldLoaded(event.getWorld());
+        }
+
         @EventHandler(ignoreCancelled = true, priority = EventPriority.HIGHEST)
         public void entityExplodeEvent(EntityExplodeEvent event) {
             Entity entity = event.getEntity();
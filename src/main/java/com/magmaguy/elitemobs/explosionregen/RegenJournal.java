@@ -0,0 +1,262 @@
+package com.magmaguy.elitemobs.explosionregen;
+
+import com.magmaguy.elitemobs.MetadataHandler;
+import com.magmaguy.magmacore.util.Logger;
+import org.bukkit.block.BlockState;
+import org.bukkit.block.Container;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.util.io.BukkitObjectInputStream;
+import org.bukkit.util.io.BukkitObjectOutputStream;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+
+/**
+ * Append-only file of the blocks that explosions blew up and haven't been put back yet, so that a crash doesn't lose
+ * them. The file only ever gets added to while the server runs: a record for every explosion, a record for every batch
+ * of blocks put back and a record once an explosion is done. It gets replayed and compacted on startup, and emptied
+ * whenever there is nothing left to regenerate.
+ */
+class RegenJournal {
+    private static final String FILE_NAME = "explosion_regen.journal";
+    private static final byte EXPLOSION = 1;
+    private static final byte RESTORED = 2;
+    private static final byte DONE = 3;
+    private static DataOutputStream output = null;
+
+    private RegenJournal() {
+    }
+
+    private static File getFile() {
+        return new File(MetadataHandler.PLUGIN.getDataFolder(), FILE_NAME);
+    }
+
+    /**
+     * Reads back the explosions that weren't done regenerating last time the plugin ran, and rewrites the journal so it
+     * only has those.
+     *
+     * @return Explosions with only the blocks that still need to be put back
+     */
+    static synchronized List<PendingExplosion> replay() {
+        File file = getFile();
+        if (!file.exists()) return new ArrayList<>();
+
+        Map<Long, PendingExplosion> explosions = new LinkedHashMap<>();
+        Map<Long, BitSet> restored = new HashMap<>();
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            int type;
+            while ((type = input.read()) >= 0) {
+                switch (type) {
+                    case EXPLOSION -> {
+                        PendingExplosion explosion = readExplosion(input);
+                        explosions.put(explosion.id(), explosion);
+                    }
+                    case RESTORED -> {
+                        long id = input.readLong();
+                        int from = input.readInt();
+                        int to = input.readInt();
+                        restored.computeIfAbsent(id, key -> new BitSet()).set(from, to);
+                    }
+                    case DONE -> {
+                        long id = input.readLong();
+                        explosions.remove(id);
+                        restored.remove(id);
+                    }
+                    default -> throw new IOException("Unknown record type " + type);
+                }
+            }
+        } catch (EOFException ex) {
+            //The server went down halfway through writing the last record, so whatever it was never happened
+        } catch (IOException ex) {
+            Logger.warn("Failed to read the explosion regen journal, some blown up blocks might not come back!");
+            ex.printStackTrace();
+        }
+
+        List<PendingExplosion> pendingExplosions = new ArrayList<>();
+        for (PendingExplosion explosion : explosions.values()) {
+            BitSet restoredBlocks = restored.get(explosion.id());
+            List<Entry> entries = new ArrayList<>();
+            for (int i = 0; i < explosion.entries().size(); i++)
+                if (restoredBlocks == null || !restoredBlocks.get(i)) entries.add(explosion.entries().get(i));
+            if (!entries.isEmpty())
+                pendingExplosions.add(new PendingExplosion(explosion.id(), explosion.worldUUID(), entries));
+        }
+
+        rewrite(file, pendingExplosions);
+        return pendingExplosions;
+    }
+
+    private static void rewrite(File file, List<PendingExplosion> pendingExplosions) {
+        close();
+        File compactedFile = new File(file.getParentFile(), FILE_NAME + ".tmp");
+        try {
+            try (DataOutputStream compacted = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(compactedFile)))) {
+                for (PendingExplosion explosion : pendingExplosions)
+                    compacted.write(explosionRecord(explosion.id(), explosion.worldUUID(), explosion.entries()));
+            }
+            Files.move(compactedFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException ex) {
+            Logger.warn("Failed to compact the explosion regen journal!");
+            ex.printStackTrace();
+        }
+    }
+
+    static synchronized void appendExplosion(long id, UUID worldUUID, List<Entry> entries) {
+        try {
+            //Built up front so the file only ever gets whole records, unless the server dies mid-write
+            write(explosionRecord(id, worldUUID, entries));
+        } catch (IOException ex) {
+            Logger.warn("Failed to write an explosion to the explosion regen journal!");
+            ex.printStackTrace();
+        }
+    }
+
+    static synchronized void appendRestored(long id, int from, int to) {
+        try {
+            ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream(17);
+            DataOutputStream record = new DataOutputStream(byteArrayOutputStream);
+            record.writeByte(RESTORED);
+            record.writeLong(id);
+            record.writeInt(from);
+            record.writeInt(to);
+            write(byteArrayOutputStream.toByteArray());
+        } catch (IOException ex) {
+            Logger.warn("Failed to write to the explosion regen journal!");
+            ex.printStackTrace();
+        }
+    }
+
+    static synchronized void appendDone(long id) {
+        try {
+            ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream(9);
+            DataOutputStream record = new DataOutputStream(byteArrayOutputStream);
+            record.writeByte(DONE);
+            record.writeLong(id);
+            write(byteArrayOutputStream.toByteArray());
+        } catch (IOException ex) {
+            Logger.warn("Failed to write to the explosion regen journal!");
+            ex.printStackTrace();
+        }
+    }
+
+    /**
+     * Empties the journal, for when every explosion has been regenerated.
+     */
+    static synchronized void clear() {
+        close();
+        try {
+            new FileOutputStream(getFile()).close();
+        } catch (IOException ex) {
+            Logger.warn("Failed to clear the explosion regen journal!");
+            ex.printStackTrace();
+        }
+    }
+
+    static synchronized void close() {
+        if (output == null) return;
+        try {
+            output.close();
+        } catch (IOException ex) {
+            ex.printStackTrace();
+        }
+        output = null;
+    }
+
+    private static void write(byte[] record) throws IOException {
+        if (output == null) {
+            File file = getFile();
+            file.getParentFile().mkdirs();
+            output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file, true)));
+        }
+        output.write(record);
+        output.flush();
+    }
+
+    private static byte[] explosionRecord(long id, UUID worldUUID, List<Entry> entries) throws IOException {
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream(29 + entries.size() * 48);
+        DataOutputStream record = new DataOutputStream(byteArrayOutputStream);
+        record.writeByte(EXPLOSION);
+        record.writeLong(id);
+        record.writeLong(worldUUID.getMostSignificantBits());
+        record.writeLong(worldUUID.getLeastSignificantBits());
+        record.writeInt(entries.size());
+        for (Entry entry : entries) {
+            record.writeInt(entry.x());
+            record.writeInt(entry.y());
+            record.writeInt(entry.z());
+            record.writeUTF(entry.blockData());
+            if (entry.contents() == null) {
+                record.writeInt(-1);
+            } else {
+                record.writeInt(entry.contents().length);
+                record.write(entry.contents());
+            }
+        }
+        return byteArrayOutputStream.toByteArray();
+    }
+
+    private static PendingExplosion readExplosion(DataInputStream input) throws IOException {
+        long id = input.readLong();
+        UUID worldUUID = new UUID(input.readLong(), input.readLong());
+        int size = input.readInt();
+        List<Entry> entries = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            int x = input.readInt();
+            int y = input.readInt();
+            int z = input.readInt();
+            String blockData = input.readUTF();
+            int contentsLength = input.readInt();
+            byte[] contents = null;
+            if (contentsLength >= 0) {
+                contents = new byte[contentsLength];
+                input.readFully(contents);
+            }
+            entries.add(new Entry(x, y, z, blockData, contents));
+        }
+        return new PendingExplosion(id, worldUUID, entries);
+    }
+
+    static byte[] serializeContents(ItemStack[] contents) throws IOException {
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        try (BukkitObjectOutputStream objectOutputStream = new BukkitObjectOutputStream(byteArrayOutputStream)) {
+            objectOutputStream.writeInt(contents.length);
+            for (ItemStack itemStack : contents)
+                objectOutputStream.writeObject(itemStack);
+        }
+        return byteArrayOutputStream.toByteArray();
+    }
+
+    static ItemStack[] deserializeContents(byte[] contents) throws IOException {
+        try (BukkitObjectInputStream objectInputStream = new BukkitObjectInputStream(new ByteArrayInputStream(contents))) {
+            ItemStack[] itemStacks = new ItemStack[objectInputStream.readInt()];
+            for (int i = 0; i < itemStacks.length; i++)
+                itemStacks[i] = (ItemStack) objectInputStream.readObject();
+            return itemStacks;
+        } catch (ClassNotFoundException ex) {
+            throw new IOException("Unable to decode class type.", ex);
+        }
+    }
+
+    record PendingExplosion(long id, UUID worldUUID, List<Entry> entries) {
+    }
+
+    /**
+     * A blown up block as it gets written to the journal.
+     *
+     * @param contents Serialized container contents, or null for blocks that aren't containers
+     */
+    record Entry(int x, int y, int z, String blockData, byte[] contents) {
+        static Entry of(BlockState blockState) {
+            byte[] contents = null;
+            if (blockState instanceof Container container)
+                try {
+                    contents = serializeContents(container.getSnapshotInventory().getContents());
+                } catch (IOException ex) {
+                    Logger.warn("Failed to save the contents of a blown up " + blockState.getType() + " to the explosion regen journal!");
+                }
+            return new Entry(blockState.getX(), blockState.getY(), blockState.getZ(), blockState.getBlockData().getAsString(), contents);
+        }
+    }
+}
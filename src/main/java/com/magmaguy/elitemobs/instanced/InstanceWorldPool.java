@@ -0,0 +1,110 @@
+package com.magmaguy.elitemobs.instanced;
+
+import com.magmaguy.elitemobs.MetadataHandler;
+import com.magmaguy.elitemobs.config.DungeonsConfig;
+import com.magmaguy.elitemobs.config.contentpackages.ContentPackagesConfigFields;
+import com.magmaguy.elitemobs.utils.WorldInstantiator;
+import lombok.Getter;
+import org.bukkit.Bukkit;
+
+import java.io.File;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Keeps copies of instanced dungeon worlds ready on disk so that starting a dungeon doesn't have to wait for the world
+ * to get copied.
+ * <p>
+ * Dungeons get added to the pool the first time they are started, and their copies get refilled in the background
+ * every time one gets used. Copies are only files; the world still gets loaded when the dungeon starts, since a loaded
+ * world would keep ticking and using memory while it waits.
+ */
+public class InstanceWorldPool {
+    private static final Map<String, Pool> pools = new HashMap<>();
+    @Getter
+    private static long hits = 0;
+    @Getter
+    private static long misses = 0;
+
+    private InstanceWorldPool() {
+    }
+
+    /**
+     * Takes a ready copy of the dungeon's world out of the pool.
+     *
+     * @param contentPackagesConfigFields Dungeon to get a world for
+     * @return Name of the ready world folder, or null if there wasn't one and the world needs to be copied
+     */
+    public static synchronized String claim(ContentPackagesConfigFields contentPackagesConfigFields) {
+        Pool pool = pools.computeIfAbsent(contentPackagesConfigFields.getFilename(), key -> new Pool(contentPackagesConfigFields));
+        String worldName = pool.readyWorlds.pollFirst();
+        if (worldName != null) hits++;
+        else misses++;
+        refill(pool);
+        return worldName;
+    }
+
+    /**
+     * Puts back a copy that got claimed but ended up not being used.
+     */
+    public static synchronized void release(ContentPackagesConfigFields contentPackagesConfigFields, String worldName) {
+        Pool pool = pools.get(contentPackagesConfigFields.getFilename());
+        if (pool == null || pool.readyWorlds.size() >= DungeonsConfig.getInstanceWorldPoolSize()) {
+            WorldInstantiator.queueDeletion(new File(Bukkit.getWorldContainer(), worldName));
+            return;
+        }
+        pool.readyWorlds.addFirst(worldName);
+    }
+
+    private static void refill(Pool pool) {
+        while (pool.readyWorlds.size() + pool.copying < DungeonsConfig.getInstanceWorldPoolSize()) {
+            pool.copying++;
+            String worldName = WorldInstantiator.getNewWorldName(pool.contentPackagesConfigFields.getWorldName());
+            Bukkit.getScheduler().runTaskAsynchronously(MetadataHandler.PLUGIN, () -> {
+                File world = WorldInstantiator.cloneWorld(pool.contentPackagesConfigFields.getWorldName(), worldName,
+                        pool.contentPackagesConfigFields.getDungeonConfigFolderName());
+                addReadyWorld(pool, worldName, world);
+            });
+        }
+    }
+
+    private static synchronized void addReadyWorld(Pool pool, String worldName, File world) {
+        pool.copying--;
+        //The pool got shut down while the copy was being made
+        if (pools.get(pool.contentPackagesConfigFields.getFilename()) != pool) {
+            if (world != null) WorldInstantiator.queueDeletion(world);
+            return;
+        }
+        if (world != null) pool.readyWorlds.addLast(worldName);
+    }
+
+    /**
+     * @return Percentage of dungeon starts that got a ready world
+     */
+    public static synchronized double getHitRate() {
+        if (hits + misses == 0) return 0;
+        return hits * 100D / (hits + misses);
+    }
+
+    public static synchronized void shutdown() {
+        //Runs while the plugin is disabling, so the copies get deleted right away
+        for (Pool pool : pools.values())
+            for (String worldName : pool.readyWorlds)
+                WorldInstantiator.recursivelyDelete(new File(Bukkit.getWorldContainer(), worldName));
+        pools.clear();
+        hits = 0;
+        misses = 0;
+    }
+
+    private static class Pool {
+        private final ContentPackagesConfigFields contentPackagesConfigFields;
+        private final Deque<String> readyWorlds = new ArrayDeque<>();
+        private int copying = 0;
+
+        private Pool(ContentPackagesConfigFields contentPackagesConfigFields) {
+            this.contentPackagesConfigFields = contentPackagesConfigFields;
+        }
+    }
+}
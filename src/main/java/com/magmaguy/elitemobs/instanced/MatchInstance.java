@@ -70,7 +70,7 @@ public abstract class MatchInstance {
         }
 
         // Initialize FoliaLib scheduler
-        this.taskScheduler = new TaskScheduler(MetadataHandler.PLUGIN);
+        this.taskScheduler = TaskScheduler.get(MetadataHandler.PLUGIN);
 
         this.startLocation = startLocation;
         this.exitLocation = exitLocation;
@@ -2,23 +2,38 @@ package com.magmaguy.elitemobs.instanced;
 
 import com.magmaguy.elitemobs.MetadataHandler;
 import com.magmaguy.magmacore.util.Logger;
+import lombok.Getter;
 import org.bukkit.entity.Player;
 import org.bukkit.scheduler.BukkitRunnable;
 
 import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Supplier;
 
 /**
  * Manages world operations (cloning, loading, unloading) in a queue to prevent
  * concurrent operations that can cause server crashes or performance issues.
+ * <p>
+ * The async part of operations (copying files) runs for a few operations at a time, while the sync part (loading the
+ * world) still runs one operation at a time on the main thread.
  */
 public class WorldOperationQueue {
 
+    private static final int MAX_CONCURRENT_ASYNC_OPERATIONS = 2;
     private static final Queue<WorldOperation> operationQueue = new ConcurrentLinkedQueue<>();
+    private static final Queue<WorldOperation> readyQueue = new ConcurrentLinkedQueue<>();
+    private static final Semaphore asyncSlots = new Semaphore(MAX_CONCURRENT_ASYNC_OPERATIONS);
     private static final AtomicBoolean isProcessing = new AtomicBoolean(false);
+    private static final AtomicInteger runningAsyncOperations = new AtomicInteger(0);
+    private static final AtomicLong completedOperations = new AtomicLong(0);
+    private static final AtomicLong totalWaitMillis = new AtomicLong(0);
+    @Getter
+    private static volatile long longestWaitMillis = 0;
 
     /**
      * Queues a world operation for execution.
@@ -32,81 +47,117 @@ public class WorldOperationQueue {
                                        Supplier<Boolean> asyncOperation,
                                        Runnable syncOperation,
                                        String operationName) {
-        WorldOperation operation = new WorldOperation(player, asyncOperation, syncOperation, operationName);
+        WorldOperation operation = new WorldOperation(player, asyncOperation, syncOperation, operationName, System.currentTimeMillis());
         operationQueue.add(operation);
 
-        int queuePosition = operationQueue.size();
+        int queuePosition = getQueueSize();
         if (queuePosition > 1) {
             player.sendMessage("[EliteMobs] Preparing your dungeon... (Queue position: " + queuePosition + ")");
         } else {
             player.sendMessage("[EliteMobs] Preparing your dungeon...");
         }
 
-        processNextOperation();
+        startAsyncOperations();
     }
 
-    private static void processNextOperation() {
+    /**
+     * Queues loading a world whose files are already in place, such as a world from the {@link InstanceWorldPool}. It
+     * skips the async phase, so it doesn't wait behind worlds that are still being copied.
+     *
+     * @param player        The player initiating the operation (for feedback)
+     * @param syncOperation The sync operation (e.g., world loading) - runs on main thread
+     * @param operationName Human-readable name for feedback messages
+     */
+    public static void queueLoad(Player player, Runnable syncOperation, String operationName) {
+        readyQueue.add(new WorldOperation(player, () -> true, syncOperation, operationName, System.currentTimeMillis()));
+        player.sendMessage("[EliteMobs] Preparing your dungeon...");
+        processNextSyncOperation();
+    }
+
+    private static void startAsyncOperations() {
+        while (!operationQueue.isEmpty() && asyncSlots.tryAcquire()) {
+            WorldOperation operation = operationQueue.poll();
+            if (operation == null) {
+                asyncSlots.release();
+                return;
+            }
+            runningAsyncOperations.incrementAndGet();
+
+            // Notify queued players of updated positions
+            notifyQueuePositions();
+
+            CompletableFuture.supplyAsync(() -> {
+                try {
+                    return operation.asyncOperation.get();
+                } catch (Exception e) {
+                    Logger.warn("World operation failed during async phase: " + e.getMessage());
+                    e.printStackTrace();
+                    return false;
+                }
+            }).thenAccept(success -> {
+                runningAsyncOperations.decrementAndGet();
+                asyncSlots.release();
+                if (!success) {
+                    if (operation.player.isOnline()) {
+                        operation.player.sendMessage("[EliteMobs] Failed to prepare dungeon. Please try again.");
+                    }
+                    recordWait(operation);
+                } else {
+                    readyQueue.add(operation);
+                    processNextSyncOperation();
+                }
+                startAsyncOperations();
+            });
+        }
+    }
+
+    private static void processNextSyncOperation() {
         if (!isProcessing.compareAndSet(false, true)) {
             return; // Another operation is already processing
         }
 
-        WorldOperation operation = operationQueue.poll();
+        WorldOperation operation = readyQueue.poll();
         if (operation == null) {
             isProcessing.set(false);
             return;
         }
 
-        // Notify queued players of updated positions
-        notifyQueuePositions();
-
-        // Run async operation first
-        CompletableFuture.supplyAsync(() -> {
-            try {
-                return operation.asyncOperation.get();
-            } catch (Exception e) {
-                Logger.warn("World operation failed during async phase: " + e.getMessage());
-                e.printStackTrace();
-                return false;
-            }
-        }).thenAccept(success -> {
-            if (!success) {
-                if (operation.player.isOnline()) {
-                    operation.player.sendMessage("[EliteMobs] Failed to prepare dungeon. Please try again.");
+        // Run sync operation on main thread
+        new BukkitRunnable() {
+            @Override
+            public void run() {
+                try {
+                    operation.syncOperation.run();
+                } catch (Exception e) {
+                    Logger.warn("World operation failed during sync phase: " + e.getMessage());
+                    e.printStackTrace();
+                    if (operation.player.isOnline()) {
+                        operation.player.sendMessage("[EliteMobs] Failed to load dungeon. Please try again.");
+                    }
+                } finally {
+                    recordWait(operation);
+                    isProcessing.set(false);
+                    // Process next operation after a short delay to let the server breathe
+                    new BukkitRunnable() {
+                        @Override
+                        public void run() {
+                            processNextSyncOperation();
+                        }
+                    }.runTaskLater(MetadataHandler.PLUGIN, 10L); // 0.5 second delay between operations
                 }
-                isProcessing.set(false);
-                processNextOperation();
-                return;
             }
+        }.runTask(MetadataHandler.PLUGIN);
+    }
 
-            // Run sync operation on main thread
-            new BukkitRunnable() {
-                @Override
-                public void run() {
-                    try {
-                        operation.syncOperation.run();
-                    } catch (Exception e) {
-                        Logger.warn("World operation failed during sync phase: " + e.getMessage());
-                        e.printStackTrace();
-                        if (operation.player.isOnline()) {
-                            operation.player.sendMessage("[EliteMobs] Failed to load dungeon. Please try again.");
-                        }
-                    } finally {
-                        isProcessing.set(false);
-                        // Process next operation after a short delay to let the server breathe
-                        new BukkitRunnable() {
-                            @Override
-                            public void run() {
-                                processNextOperation();
-                            }
-                        }.runTaskLater(MetadataHandler.PLUGIN, 10L); // 0.5 second delay between operations
-                    }
-                }
-            }.runTask(MetadataHandler.PLUGIN);
-        });
+    private static void recordWait(WorldOperation operation) {
+        long waitMillis = System.currentTimeMillis() - operation.queuedAt;
+        completedOperations.incrementAndGet();
+        totalWaitMillis.addAndGet(waitMillis);
+        if (waitMillis > longestWaitMillis) longestWaitMillis = waitMillis;
     }
 
     private static void notifyQueuePositions() {
-        int position = 1;
+        int position = runningAsyncOperations.get() + readyQueue.size() + 1;
         for (WorldOperation op : operationQueue) {
             if (op.player.isOnline()) {
                 op.player.sendMessage("[EliteMobs] Preparing your dungeon... (Queue position: " + position + ")");
@@ -119,7 +170,20 @@ public class WorldOperationQueue {
      * Gets the current queue size.
      */
     public static int getQueueSize() {
-        return operationQueue.size() + (isProcessing.get() ? 1 : 0);
+        return operationQueue.size() + runningAsyncOperations.get() + readyQueue.size() + (isProcessing.get() ? 1 : 0);
+    }
+
+    /**
+     * @return Average time between an operation getting queued and its world being ready, in milliseconds
+     */
+    public static long getAverageWaitMillis() {
+        long completed = completedOperations.get();
+        if (completed == 0) return 0;
+        return totalWaitMillis.get() / completed;
+    }
+
+    public static long getCompletedOperations() {
+        return completedOperations.get();
     }
 
     /**
@@ -132,12 +196,17 @@ public class WorldOperationQueue {
             }
         }
         operationQueue.clear();
+        readyQueue.clear();
+        completedOperations.set(0);
+        totalWaitMillis.set(0);
+        longestWaitMillis = 0;
     }
 
     private record WorldOperation(
             Player player,
             Supplier<Boolean> asyncOperation,
             Runnable syncOperation,
-            String operationName
+            String operationName,
+            long queuedAt
     ) {}
 }
@@ -76,7 +76,7 @@ public class ArenaInstance extends MatchInstance {
         if (cancelled) return;
         
         // Initialize FoliaLib scheduler
-        this.taskScheduler = new TaskScheduler(MetadataHandler.PLUGIN);
+        this.taskScheduler = TaskScheduler.get(MetadataHandler.PLUGIN);
         
         this.cylindricalArena = customArenasConfigFields.isCylindricalArena();
 
@@ -267,7 +267,7 @@ public class ArenaInstance extends MatchInstance {
             }, 0L, 20L);
         } else {
             // Fallback to old method using TaskScheduler
-            new TaskScheduler(MetadataHandler.PLUGIN).runTimerAsync(() -> {
+            TaskScheduler.get(MetadataHandler.PLUGIN).runTimerAsync(() -> {
                 if (arenaState != ArenaState.ACTIVE) return;
                 for (CustomBossEntity customBossEntity : (HashSet<CustomBossEntity>) customBosses.clone())
                     if (!customBossEntity.exists()) removeBoss(customBossEntity);
@@ -11,6 +11,8 @@ import com.magmaguy.elitemobs.config.contentpackages.ContentPackagesConfig;
 import com.magmaguy.elitemobs.config.contentpackages.ContentPackagesConfigFields;
 import com.magmaguy.elitemobs.dungeons.utility.DungeonUtils;
 import com.magmaguy.elitemobs.entitytracker.EntityTracker;
+import com.magmaguy.elitemobs.explosionregen.Explosion;
+import com.magmaguy.elitemobs.instanced.InstanceWorldPool;
 import com.magmaguy.elitemobs.instanced.MatchInstance;
 import com.magmaguy.elitemobs.instanced.WorldOperationQueue;
 import com.magmaguy.elitemobs.mobconstructor.custombosses.InstancedBossEntity;
@@ -39,6 +41,12 @@ public class DungeonInstance extends MatchInstance {
         dungeonInstances.clear();
     }
 
+    public static boolean isInstanceWorld(World world) {
+        for (DungeonInstance dungeonInstance : dungeonInstances)
+            if (world.equals(dungeonInstance.world)) return true;
+        return false;
+    }
+
     private final List<DungeonObjective> dungeonObjectives = new ArrayList<>();
     @Getter
     private World world;
@@ -70,7 +78,7 @@ public class DungeonInstance extends MatchInstance {
         if (cancelled) return;
         
         // Initialize FoliaLib scheduler
-        this.taskScheduler = new TaskScheduler(MetadataHandler.PLUGIN);
+        this.taskScheduler = TaskScheduler.get(MetadataHandler.PLUGIN);
         
         super.lobbyLocation = lobbyLocation;
         this.contentPackagesConfigFields = contentPackagesConfigFields;
@@ -81,7 +89,7 @@ public class DungeonInstance extends MatchInstance {
          this.difficultyName = difficultyName;
          setDifficulty(difficultyName);
          addNewPlayer(player);
-         new TaskScheduler(MetadataHandler.PLUGIN).runDelayedAsync(() -> new InitializeEntitiesTask(this, contentPackagesConfigFields, world).run(), 20 * 3L);
+         TaskScheduler.get(MetadataHandler.PLUGIN).runDelayedAsync(() -> new InitializeEntitiesTask(this, contentPackagesConfigFields, world).run(), 20 * 3L);
          dungeonInstances.add(this);
          super.permission = contentPackagesConfigFields.getPermission();
     }
@@ -99,16 +107,36 @@ public class DungeonInstance extends MatchInstance {
                 return;
             }
 
-        String instancedWorldName = WorldInstantiator.getNewWorldName(instancedDungeonsConfigFields.getWorldName());
+        String pooledWorldName = InstanceWorldPool.claim(instancedDungeonsConfigFields);
+        String instancedWorldName = pooledWorldName != null ? pooledWorldName : WorldInstantiator.getNewWorldName(instancedDungeonsConfigFields.getWorldName());
 
-        if (!launchEvent(instancedDungeonsConfigFields, instancedWorldName, player)) return;
+        if (!launchEvent(instancedDungeonsConfigFields, instancedWorldName, player)) {
+            if (pooledWorldName != null) InstanceWorldPool.release(instancedDungeonsConfigFields, pooledWorldName);
+            return;
+        }
 
-        WorldOperationQueue.queueOperation(
-                player,
-                () -> cloneWorldFiles(instancedDungeonsConfigFields, instancedWorldName, player) != null,
-                () -> initializeInstancedWorld(instancedDungeonsConfigFields, instancedWorldName, player, difficultyName),
-                instancedDungeonsConfigFields.getName()
-        );
+        queueWorldOperation(player, instancedDungeonsConfigFields, instancedWorldName, pooledWorldName != null,
+                () -> initializeInstancedWorld(instancedDungeonsConfigFields, instancedWorldName, player, difficultyName));
+    }
+
+    /**
+     * Loads the instanced world, copying it from the blueprint first unless a ready copy came from the
+     * {@link InstanceWorldPool}.
+     */
+    protected static void queueWorldOperation(Player player,
+                                              ContentPackagesConfigFields instancedDungeonsConfigFields,
+                                              String instancedWorldName,
+                                              boolean pooled,
+                                              Runnable syncOperation) {
+        if (pooled)
+            WorldOperationQueue.queueLoad(player, syncOperation, instancedDungeonsConfigFields.getName());
+        else
+            WorldOperationQueue.queueOperation(
+                    player,
+                    () -> cloneWorldFiles(instancedDungeonsConfigFields, instancedWorldName, player) != null,
+                    syncOperation,
+                    instancedDungeonsConfigFields.getName()
+            );
     }
 
     protected static boolean launchEvent(ContentPackagesConfigFields instancedDungeonsConfigFields, String instancedWordName, Player player) {
@@ -200,7 +228,7 @@ public class DungeonInstance extends MatchInstance {
              return;
          }
          announce(DungeonsConfig.getInstancedDungeonCompleteMessage());
-         new TaskScheduler(MetadataHandler.PLUGIN).runDelayedAsync(() -> new DestroyMatchTask().run(), 2 * 60 * 20L);
+         TaskScheduler.get(MetadataHandler.PLUGIN).runDelayedAsync(() -> new DestroyMatchTask().run(), 2 * 60 * 20L);
      }
 
     @Override
@@ -220,7 +248,7 @@ public class DungeonInstance extends MatchInstance {
              return;
          }
          world.getEntities().forEach(entity -> EntityTracker.unregister(entity, RemovalReason.WORLD_UNLOAD));
-         new TaskScheduler(MetadataHandler.PLUGIN).runDelayedAsync(() -> new RemoveInstanceTask(dungeonInstance).run(), 20 * 30L);
+         TaskScheduler.get(MetadataHandler.PLUGIN).runDelayedAsync(() -> new RemoveInstanceTask(dungeonInstance).run(), 20 * 30L);
      }
 
     private void setDifficulty(String difficultyName) {
@@ -366,6 +394,7 @@ public class DungeonInstance extends MatchInstance {
          public void run() {
              new EventCaller(new InstancedDungeonRemoveEvent(dungeonInstance));
              dungeonInstances.remove(dungeonInstance);
+             Explosion.discardWorld(world);
              TemporaryWorldManager.permanentlyDeleteWorld(world);
          }
      }
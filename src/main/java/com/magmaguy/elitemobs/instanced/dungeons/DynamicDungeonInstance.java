@@ -4,7 +4,7 @@ import com.magmaguy.elitemobs.MetadataHandler;
 import com.magmaguy.elitemobs.config.contentpackages.ContentPackagesConfig;
 import com.magmaguy.elitemobs.config.contentpackages.ContentPackagesConfigFields;
 import com.magmaguy.elitemobs.dungeons.utility.DungeonUtils;
-import com.magmaguy.elitemobs.instanced.WorldOperationQueue;
+import com.magmaguy.elitemobs.instanced.InstanceWorldPool;
 import com.magmaguy.elitemobs.mobconstructor.custombosses.InstancedBossEntity;
 import com.magmaguy.elitemobs.utils.ConfigurationLocation;
 import com.magmaguy.elitemobs.utils.WorldInstantiator;
@@ -47,16 +47,16 @@ public class DynamicDungeonInstance extends DungeonInstance {
                 return;
             }
 
-        String instancedWorldName = WorldInstantiator.getNewWorldName(dynamicDungeonConfigFields.getWorldName());
+        String pooledWorldName = InstanceWorldPool.claim(dynamicDungeonConfigFields);
+        String instancedWorldName = pooledWorldName != null ? pooledWorldName : WorldInstantiator.getNewWorldName(dynamicDungeonConfigFields.getWorldName());
 
-        if (!launchEvent(dynamicDungeonConfigFields, instancedWorldName, player)) return;
+        if (!launchEvent(dynamicDungeonConfigFields, instancedWorldName, player)) {
+            if (pooledWorldName != null) InstanceWorldPool.release(dynamicDungeonConfigFields, pooledWorldName);
+            return;
+        }
 
-        WorldOperationQueue.queueOperation(
-                player,
-                () -> cloneWorldFiles(dynamicDungeonConfigFields, instancedWorldName, player) != null,
-                () -> initializeDynamicWorld(dynamicDungeonConfigFields, instancedWorldName, player, difficultyName, selectedLevel),
-                dynamicDungeonConfigFields.getName()
-        );
+        queueWorldOperation(player, dynamicDungeonConfigFields, instancedWorldName, pooledWorldName != null,
+                () -> initializeDynamicWorld(dynamicDungeonConfigFields, instancedWorldName, player, difficultyName, selectedLevel));
     }
 
     protected static DynamicDungeonInstance initializeDynamicWorld(ContentPackagesConfigFields dynamicDungeonConfigFields,
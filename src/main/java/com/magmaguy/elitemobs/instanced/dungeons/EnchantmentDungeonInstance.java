@@ -4,7 +4,7 @@ import com.magmaguy.elitemobs.MetadataHandler;
 import com.magmaguy.elitemobs.config.SpecialItemSystemsConfig;
 import com.magmaguy.elitemobs.config.contentpackages.ContentPackagesConfigFields;
 import com.magmaguy.elitemobs.dungeons.WorldDungeonPackage;
-import com.magmaguy.elitemobs.instanced.WorldOperationQueue;
+import com.magmaguy.elitemobs.instanced.InstanceWorldPool;
 import com.magmaguy.elitemobs.menus.ItemEnchantmentMenu;
 import com.magmaguy.elitemobs.utils.WorldInstantiator;
 import com.magmaguy.magmacore.util.ChatColorConverter;
@@ -55,26 +55,26 @@ public class EnchantmentDungeonInstance extends DungeonInstance {
             return false;
         }
         ContentPackagesConfigFields contentPackagesConfigFields = contentPackagesConfigFieldsList.get(ThreadLocalRandom.current().nextInt(0, contentPackagesConfigFieldsList.size()));
-        String instancedWordName = WorldInstantiator.getNewWorldName(contentPackagesConfigFields.getWorldName());
+        String pooledWorldName = InstanceWorldPool.claim(contentPackagesConfigFields);
+        String instancedWordName = pooledWorldName != null ? pooledWorldName : WorldInstantiator.getNewWorldName(contentPackagesConfigFields.getWorldName());
 
-        if (!launchEvent(contentPackagesConfigFields, instancedWordName, player)) return false;
+        if (!launchEvent(contentPackagesConfigFields, instancedWordName, player)) {
+            if (pooledWorldName != null) InstanceWorldPool.release(contentPackagesConfigFields, pooledWorldName);
+            return false;
+        }
 
         // Clone items before passing to lambda to avoid modification
         ItemStack upgradedItemClone = upgradedItem.clone();
         ItemStack currentItemClone = itemFromInventory.clone();
 
-        WorldOperationQueue.queueOperation(
-                player,
-                () -> cloneWorldFiles(contentPackagesConfigFields, instancedWordName, player) != null,
+        queueWorldOperation(player, contentPackagesConfigFields, instancedWordName, pooledWorldName != null,
                 () -> {
                     DungeonInstance dungeonInstance = initializeInstancedWorld(contentPackagesConfigFields, instancedWordName, player, (String) contentPackagesConfigFields.getDifficulties().get(0).get("name"));
                     if (dungeonInstance instanceof EnchantmentDungeonInstance enchantmentDungeonInstance) {
                         enchantmentDungeonInstance.setUpgradedItem(upgradedItemClone);
                         enchantmentDungeonInstance.setCurrentItem(currentItemClone);
                     }
-                },
-                contentPackagesConfigFields.getName()
-        );
+                });
 
         return true;
     }
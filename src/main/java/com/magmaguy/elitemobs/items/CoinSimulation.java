@@ -0,0 +1,208 @@
+package com.magmaguy.elitemobs.items;
+
+import com.magmaguy.elitemobs.MetadataHandler;
+import com.magmaguy.elitemobs.entitytracker.ChunkSpatialIndex;
+import me.MinhTaz.FoliaLib.TaskScheduler;
+import me.MinhTaz.FoliaLib.TaskScheduler.TaskWrapper;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Item;
+import org.bukkit.entity.Player;
+import org.bukkit.util.Vector;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Moves currency shower coins from one repeating task per area instead of giving each coin its own tasks.
+ * <p>
+ * Coins get grouped by the area of the world they dropped in, and each area is simulated by a task running on the thread
+ * that owns that area, so the coins and the players picking them up only ever get touched from their own thread. Coins
+ * that are flying towards their player are kept in parallel arrays and get advanced together every tick. Coins that
+ * stopped flying stay on the ground until picked up or until they expire, which is tracked through a queue ordered by
+ * expiration since every coin lives for the same amount of time. Currency collected by the same player during a tick
+ * gets awarded all at once at the end of the tick.
+ */
+public class CoinSimulation {
+    private static final int HOMING_TICKS = 20 * 4;
+    private static final int LIFETIME_TICKS = 20 * 60 * 5;
+    private static final double MAX_HOMING_DISTANCE_SQUARED = 900;
+    private static final double PICKUP_DISTANCE_SQUARED = 1;
+    private static final double HOMING_SPEED = 0.2;
+    //Areas are 8 by 8 chunks, far more than a coin can fly before it lands
+    private static final int AREA_SHIFT = 3;
+    private static final Map<UUID, Map<Long, CoinSimulation>> simulations = new ConcurrentHashMap<>();
+
+    private final World world;
+    private final long areaKey;
+    //Coins get added from whatever thread dropped them and are only moved into the simulation by its own task
+    private final Queue<ItemLootShower.Coin> incomingCoins = new ConcurrentLinkedQueue<>();
+    private final ArrayDeque<ItemLootShower.Coin> expirations = new ArrayDeque<>();
+    private final Map<Player, Double> tickAwards = new HashMap<>();
+    private final Map<Player, Location> tickPlayerLocations = new HashMap<>();
+    private Item[] items = new Item[64];
+    private Player[] players = new Player[64];
+    private ItemLootShower.Coin[] coins = new ItemLootShower.Coin[64];
+    private int[] ages = new int[64];
+    private int homingCount = 0;
+    private long currentTick = 0;
+    private volatile TaskWrapper task = null;
+    //Set once the simulation got dropped, a tick that was already running finishes on its own state and stops
+    private volatile boolean stopped = false;
+
+    private CoinSimulation(World world, long areaKey) {
+        this.world = world;
+        this.areaKey = areaKey;
+    }
+
+    /**
+     * Has to be called from the thread that owns the coin's location, which is where the coin just got dropped.
+     */
+    static void add(ItemLootShower.Coin coin) {
+        Location location = coin.item.getLocation();
+        World world = location.getWorld();
+        if (world == null) return;
+        long areaKey = ChunkSpatialIndex.chunkKey(location.getBlockX() >> 4 >> AREA_SHIFT, location.getBlockZ() >> 4 >> AREA_SHIFT);
+        Map<Long, CoinSimulation> worldSimulations = simulations.computeIfAbsent(world.getUID(), key -> new ConcurrentHashMap<>());
+        //Starting and stopping an area share the map's lock for that area, so a coin can't land in a stopping simulation
+        worldSimulations.compute(areaKey, (key, simulation) -> {
+            if (simulation == null) simulation = new CoinSimulation(world, areaKey);
+            simulation.incomingCoins.add(coin);
+            simulation.start();
+            return simulation;
+        });
+    }
+
+    private void start() {
+        if (task != null) return;
+        int areaX = (int) (areaKey >> 32);
+        int areaZ = (int) areaKey;
+        Location anchor = new Location(world, ((areaX << AREA_SHIFT) << 4) + 64, 0, ((areaZ << AREA_SHIFT) << 4) + 64);
+        task = TaskScheduler.get(MetadataHandler.PLUGIN).runRegionTimer(anchor, this::tick, 1, 1);
+    }
+
+    public static void shutdown() {
+        for (Map<Long, CoinSimulation> worldSimulations : simulations.values())
+            for (CoinSimulation simulation : worldSimulations.values()) {
+                simulation.stopped = true;
+                if (simulation.task != null) simulation.task.cancel();
+            }
+        simulations.clear();
+    }
+
+    private void tick() {
+        if (stopped) return;
+        currentTick++;
+        ItemLootShower.Coin incoming;
+        while ((incoming = incomingCoins.poll()) != null) {
+            incoming.expiration = currentTick + LIFETIME_TICKS;
+            expirations.add(incoming);
+            addHoming(incoming);
+        }
+
+        int index = 0;
+        while (index < homingCount)
+            if (advance(index)) index++;
+            else removeHoming(index);
+        tickPlayerLocations.clear();
+
+        for (Map.Entry<Player, Double> entry : tickAwards.entrySet())
+            award(entry.getKey(), entry.getValue());
+        tickAwards.clear();
+
+        while (!expirations.isEmpty() && expirations.peek().expiration <= currentTick) {
+            ItemLootShower.Coin coin = expirations.poll();
+            if (ItemLootShower.coinValues.remove(coin.item.getUniqueId()) != null) coin.item.remove();
+        }
+
+        if (homingCount == 0 && expirations.isEmpty() && incomingCoins.isEmpty()) stopIfIdle();
+    }
+
+    private void stopIfIdle() {
+        Map<Long, CoinSimulation> worldSimulations = simulations.get(world.getUID());
+        if (worldSimulations == null) return;
+        worldSimulations.computeIfPresent(areaKey, (key, simulation) -> {
+            //A coin could have come in between the check and getting the lock
+            if (simulation != this || !incomingCoins.isEmpty()) return simulation;
+            stopped = true;
+            if (task != null) task.cancel();
+            return null;
+        });
+    }
+
+    //Players usually stand in the area their coins dropped in, but can walk out of it on Folia
+    private static void award(Player player, double amount) {
+        TaskScheduler taskScheduler = TaskScheduler.get(MetadataHandler.PLUGIN);
+        if (taskScheduler.isFolia()) taskScheduler.runPlayer(player, () -> ItemLootShower.creditCurrency(player, amount));
+        else ItemLootShower.creditCurrency(player, amount);
+    }
+
+    /**
+     * @return Whether the coin is still flying towards its player
+     */
+    private boolean advance(int index) {
+        Item item = items[index];
+        Player player = players[index];
+        ItemLootShower.Coin coin = coins[index];
+        if (!ItemLootShower.coinValues.containsKey(item.getUniqueId())) return false;
+        if (!item.isValid() || !player.isValid() || !player.getWorld().equals(item.getWorld()) || ages[index] > HOMING_TICKS) {
+            land(coin);
+            return false;
+        }
+        Location playerLocation = tickPlayerLocations.computeIfAbsent(player, Player::getLocation);
+        Location itemLocation = item.getLocation();
+        double distanceSquared = itemLocation.distanceSquared(playerLocation);
+        if (distanceSquared > MAX_HOMING_DISTANCE_SQUARED) {
+            land(coin);
+            return false;
+        }
+
+        item.setVelocity(new Vector(
+                playerLocation.getX() - itemLocation.getX(),
+                playerLocation.getY() - itemLocation.getY(),
+                playerLocation.getZ() - itemLocation.getZ()).normalize().multiply(HOMING_SPEED));
+
+        if (distanceSquared <= PICKUP_DISTANCE_SQUARED) {
+            item.remove();
+            ItemLootShower.coinValues.remove(item.getUniqueId());
+            tickAwards.merge(player, coin.value, Double::sum);
+            return false;
+        }
+
+        ages[index]++;
+        return true;
+    }
+
+    //Coins that stop flying fall to the ground and can be picked up normally
+    private static void land(ItemLootShower.Coin coin) {
+        coin.pickupable = true;
+        coin.item.setGravity(true);
+    }
+
+    private void addHoming(ItemLootShower.Coin coin) {
+        if (homingCount == items.length) {
+            int length = items.length * 2;
+            items = Arrays.copyOf(items, length);
+            players = Arrays.copyOf(players, length);
+            coins = Arrays.copyOf(coins, length);
+            ages = Arrays.copyOf(ages, length);
+        }
+        items[homingCount] = coin.item;
+        players[homingCount] = coin.player;
+        coins[homingCount] = coin;
+        ages[homingCount] = 0;
+        homingCount++;
+    }
+
+    private void removeHoming(int index) {
+        int last = --homingCount;
+        items[index] = items[last];
+        players[index] = players[last];
+        coins[index] = coins[last];
+        ages[index] = ages[last];
+        items[last] = null;
+        players[last] = null;
+        coins[last] = null;
+    }
+}
@@ -34,6 +34,7 @@ public class EliteScroll {
 
         // Set persistent data
         itemMeta.getPersistentDataContainer().set(eliteScrollNamespacedKey, PersistentDataType.INTEGER, scrollLevel);
+        ItemTagger.updateFingerprint(itemMeta);
 
         // Add custom model
         CustomModelAdder.addCustomModel(itemMeta, ItemSettingsConfig.getEliteItemModel());
@@ -17,7 +17,6 @@ import me.MinhTaz.FoliaLib.TaskScheduler;
 import me.MinhTaz.FoliaLib.TaskScheduler.TaskWrapper;
 import net.md_5.bungee.api.ChatMessageType;
 import net.md_5.bungee.api.chat.TextComponent;
-import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.entity.EntityType;
@@ -32,19 +31,21 @@ import org.bukkit.inventory.ItemStack;
 import org.bukkit.util.Vector;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
 public class ItemLootShower implements Listener {
 
-    private static final HashMap<UUID, Double> playerCurrencyPickup = new HashMap<>();
-    public static HashMap<UUID, Coin> coinValues = new HashMap<>();
+    private static final Map<UUID, Double> playerCurrencyPickup = new ConcurrentHashMap<>();
+    public static final Map<UUID, Coin> coinValues = new ConcurrentHashMap<>();
 
     public static void shutdown() {
+        CoinSimulation.shutdown();
         playerCurrencyPickup.clear();
         coinValues.clear();
     }
@@ -61,7 +62,7 @@ public class ItemLootShower implements Listener {
 
         if (Math.abs(mobLevel - ElitePlayerInventory.playerInventories.get(player.getUniqueId()).getFullPlayerTier(false))
                 > ItemSettingsConfig.getLootLevelDifferenceLockout()) {
-            TaskScheduler scheduler = new TaskScheduler(MetadataHandler.PLUGIN);
+            TaskScheduler scheduler = TaskScheduler.get(MetadataHandler.PLUGIN);
             AtomicInteger counter = new AtomicInteger(0);
             AtomicReference<TaskWrapper> taskRef = new AtomicReference<>();
 
@@ -95,7 +96,7 @@ public class ItemLootShower implements Listener {
         UUID playerUUID = player.getUniqueId();
         if (playerCurrencyPickup.containsKey(playerUUID)) return;
 
-        TaskScheduler scheduler = new TaskScheduler(MetadataHandler.PLUGIN);
+        TaskScheduler scheduler = TaskScheduler.get(MetadataHandler.PLUGIN);
         AtomicReference<Double> oldAmount = new AtomicReference<>(0.0);
         AtomicReference<TaskWrapper> taskRef = new AtomicReference<>();
 
@@ -134,8 +135,25 @@ public class ItemLootShower implements Listener {
                 TextComponent.fromLegacyText(ChatColorConverter.convert(EconomySettingsConfig.getAdventurersGuildNotificationMessage())));
     }
 
+    /**
+     * Awards picked up coins to a player and shows the running total of what they picked up recently.
+     */
+    static void creditCurrency(Player player, double amount) {
+        EconomyHandler.addCurrency(player.getUniqueId(), amount);
+        sendCurrencyNotification(player);
+
+        //cache for counting how much coin they're getting over a short amount of time
+        double total = playerCurrencyPickup.merge(player.getUniqueId(), amount, Double::sum);
+
+        player.spigot().sendMessage(ChatMessageType.ACTION_BAR,
+                TextComponent.fromLegacyText(
+                        ChatColorConverter.convert(EconomySettingsConfig.getActionBarCurrencyShowerMessage()
+                                .replace("$currency_name", EconomySettingsConfig.getCurrencyName())
+                                .replace("$amount", Round.twoDecimalPlaces(total) + ""))));
+    }
+
     private void addIndirectly(Location location, int currencyAmount2) {
-        TaskScheduler scheduler = new TaskScheduler(MetadataHandler.PLUGIN);
+        TaskScheduler scheduler = TaskScheduler.get(MetadataHandler.PLUGIN);
         AtomicInteger currencyAmount = new AtomicInteger(currencyAmount2);
         AtomicReference<TaskWrapper> taskRef = new AtomicReference<>();
 
@@ -365,33 +383,18 @@ public class ItemLootShower implements Listener {
         @EventHandler(priority = EventPriority.LOW, ignoreCancelled = true)
         public static void onItemPickup(EntityPickupItemEvent event) {
             //coins are soulbound so if someone can pick them up they can have it
-            if (!coinValues.containsKey(event.getItem().getUniqueId())) return;
+            Coin coin = coinValues.get(event.getItem().getUniqueId());
+            if (coin == null) return;
             event.setCancelled(true);
             if (!event.getEntity().getType().equals(EntityType.PLAYER)) return;
 
-            Coin coin = coinValues.get(event.getItem().getUniqueId());
             if (!coin.pickupable)
                 return;
 
-            coinValues.remove(event.getItem().getUniqueId());
-            double amountIncremented = coin.value;
-            Player player = (Player) event.getEntity();
+            //the coin task could have already collected or expired it
+            if (coinValues.remove(event.getItem().getUniqueId()) == null) return;
             event.getItem().remove();
-            EconomyHandler.addCurrency(player.getUniqueId(), amountIncremented);
-            sendCurrencyNotification(player);
-
-            //cache for counting how much coin they're getting over a short amount of time
-            UUID playerUUID = player.getUniqueId();
-            if (playerCurrencyPickup.containsKey(playerUUID))
-                playerCurrencyPickup.put(playerUUID, playerCurrencyPickup.get(playerUUID) + amountIncremented);
-            else
-                playerCurrencyPickup.put(playerUUID, amountIncremented);
-
-            player.spigot().sendMessage(ChatMessageType.ACTION_BAR,
-                    TextComponent.fromLegacyText(
-                            ChatColorConverter.convert(EconomySettingsConfig.getActionBarCurrencyShowerMessage()
-                                    .replace("$currency_name", EconomySettingsConfig.getCurrencyName())
-                                    .replace("$amount", Round.twoDecimalPlaces(playerCurrencyPickup.get(playerUUID)) + ""))));
+            creditCurrency((Player) event.getEntity(), coin.value);
         }
 
         @EventHandler(priority = EventPriority.LOW, ignoreCancelled = true)
@@ -401,74 +404,24 @@ public class ItemLootShower implements Listener {
         }
     }
 
-    private class Coin {
-        UUID player;
-        UUID item;
-        double value;
-        boolean pickupable;
-
-        public Coin(double value, Player player, Item item) {
-            this.player = player.getUniqueId();
+    /**
+     * Coin dropped by a currency shower. Coins fly towards their player through the {@link CoinSimulation} and can only be
+     * picked up by hand once they stop flying.
+     */
+    static class Coin {
+        final Player player;
+        final Item item;
+        final double value;
+        volatile boolean pickupable = false;
+        long expiration;
+
+        private Coin(double value, Player player, Item item) {
+            this.player = player;
             this.value = value;
-            this.item = item.getUniqueId();
+            this.item = item;
             coinValues.put(item.getUniqueId(), this);
-            pickupable = false;
             item.setGravity(false);
-            
-            TaskScheduler scheduler = new TaskScheduler(MetadataHandler.PLUGIN);
-            
-            // Task to remove coin after 5 minutes
-            scheduler.runDelayedAsync(() -> {
-                if (coinValues.containsKey(item.getUniqueId())) {
-                    if (Bukkit.getEntity(item.getUniqueId()) != null)
-                        Bukkit.getEntity(item.getUniqueId()).remove();
-                    coinValues.remove(item.getUniqueId());
-                }
-            }, 20 * 60 * 5);
-
-            // Task to move coin towards player
-            AtomicInteger counter = new AtomicInteger(0);
-            AtomicReference<TaskWrapper> taskRef = new AtomicReference<>();
-
-            Runnable timerTask = () -> {
-                if (!item.isValid() ||
-                        !player.isValid() ||
-                        !player.getWorld().equals(item.getWorld()) ||
-                        counter.get() > 20 * 4 ||
-                        item.getLocation().distanceSquared(player.getLocation()) > 900) {
-                    if (taskRef.get() != null) taskRef.get().cancel();
-                    pickupable = true;
-                    item.setGravity(true);
-                    return;
-                }
-
-                item.setVelocity(player.getLocation().clone().subtract(item.getLocation()).toVector().normalize().multiply(0.2));
-
-                if (player.getLocation().distanceSquared(item.getLocation()) <= 1) {
-                    item.remove();
-                    EconomyHandler.addCurrency(player.getUniqueId(), value);
-                    sendCurrencyNotification(player);
-
-                    UUID coinPlayerUUID = player.getUniqueId();
-                    if (playerCurrencyPickup.containsKey(coinPlayerUUID))
-                        playerCurrencyPickup.put(coinPlayerUUID, playerCurrencyPickup.get(coinPlayerUUID) + value);
-                    else
-                        playerCurrencyPickup.put(coinPlayerUUID, value);
-
-                    player.spigot().sendMessage(ChatMessageType.ACTION_BAR,
-                            TextComponent.fromLegacyText(
-                                    ChatColorConverter.convert(EconomySettingsConfig.getActionBarCurrencyShowerMessage()
-                                            .replace("$currency_name", EconomySettingsConfig.getCurrencyName())
-                                            .replace("$amount", Round.twoDecimalPlaces(playerCurrencyPickup.get(coinPlayerUUID)) + ""))));
-                    coinValues.remove(item.getUniqueId());
-                    if (taskRef.get() != null) taskRef.get().cancel();
-                    return;
-                }
-
-                counter.incrementAndGet();
-            };
-
-            taskRef.set(scheduler.runTimerAsync(timerTask, 1, 1));
+            CoinSimulation.add(this);
         }
     }
 
@@ -18,6 +18,7 @@ import org.bukkit.entity.*;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
 import org.bukkit.inventory.meta.tags.ItemTagType;
+import org.bukkit.persistence.PersistentDataContainer;
 import org.bukkit.persistence.PersistentDataType;
 
 import javax.annotation.Nullable;
@@ -38,15 +39,18 @@ public class ItemTagger {
     public static NamespacedKey continuousPotionEffectKey = new NamespacedKey(MetadataHandler.PLUGIN, "continuousPotionEffect");
     public static NamespacedKey itemSource = new NamespacedKey(MetadataHandler.PLUGIN, "itemSource");
     public static NamespacedKey enchantmentCount = new NamespacedKey(MetadataHandler.PLUGIN, "enchantmentCount");
+    public static final NamespacedKey itemFingerprint = new NamespacedKey(MetadataHandler.PLUGIN, "itemFingerprint");
 
     public static void registerEliteItem(ItemMeta itemMeta) {
         itemMeta.getPersistentDataContainer().set(eliteMobsItemNamespacedKey, PersistentDataType.BYTE, (byte) 1);
+        updateFingerprint(itemMeta);
     }
 
     public static void registerEliteItem(ItemStack itemStack) {
         if (itemStack == null || itemStack.getItemMeta() == null) return;
         ItemMeta itemMeta = itemStack.getItemMeta();
         itemMeta.getPersistentDataContainer().set(eliteMobsItemNamespacedKey, PersistentDataType.BYTE, (byte) 1);
+        updateFingerprint(itemMeta);
         itemStack.setItemMeta(itemMeta);
         new EliteItemLore(itemStack, false);
         return;
@@ -68,6 +72,7 @@ public class ItemTagger {
                 parsedLore.append("\n");
         }
         itemMeta.getPersistentDataContainer().set(customLore, PersistentDataType.STRING, parsedLore.toString());
+        updateFingerprint(itemMeta);
     }
 
     /**
@@ -114,6 +119,7 @@ public class ItemTagger {
      */
     public static void registerEnchantment(ItemMeta itemMeta, NamespacedKey enchantmentKey, int enchantmentLevel) {
         itemMeta.getPersistentDataContainer().set(enchantmentKey, PersistentDataType.INTEGER, enchantmentLevel);
+        updateFingerprint(itemMeta);
     }
 
     public static void registerCustomEnchantments(ItemMeta itemMeta, HashMap<String, Integer> customEnchantments) {
@@ -129,11 +135,72 @@ public class ItemTagger {
      * @param enchantmentLevel
      */
     public static void registerCustomEnchantment(ItemMeta itemMeta, String enchantmentKey, int enchantmentLevel) {
-        itemMeta.getPersistentDataContainer().set(new NamespacedKey(MetadataHandler.PLUGIN, enchantmentKey), PersistentDataType.INTEGER, enchantmentLevel);
+        NamespacedKey namespacedKey = new NamespacedKey(MetadataHandler.PLUGIN, enchantmentKey);
+        itemMeta.getPersistentDataContainer().set(namespacedKey, PersistentDataType.INTEGER, enchantmentLevel);
+        updateFingerprint(itemMeta);
     }
 
     public static void registerCustomEnchantment(ItemMeta itemMeta, String enchantmentKey, String uuid) {
-        itemMeta.getPersistentDataContainer().set(new NamespacedKey(MetadataHandler.PLUGIN, enchantmentKey), PersistentDataType.STRING, uuid);
+        NamespacedKey namespacedKey = new NamespacedKey(MetadataHandler.PLUGIN, enchantmentKey);
+        itemMeta.getPersistentDataContainer().set(namespacedKey, PersistentDataType.STRING, uuid);
+        updateFingerprint(itemMeta);
+    }
+
+    /**
+     * Recomputes the fingerprint of an item after its elite values changed. The fingerprint only depends on what the
+     * item's persistent data ends up holding, not on the order or number of writes it took to get there, so identical
+     * items still stack. Anything writing to the persistent data of an elite item has to call this afterwards.
+     *
+     * @param itemMeta ItemMeta that changed
+     */
+    public static void updateFingerprint(ItemMeta itemMeta) {
+        if (itemMeta == null) return;
+        PersistentDataContainer container = itemMeta.getPersistentDataContainer();
+        long fingerprint = 0;
+        //Summing mixed entries keeps the result independent of the order the keys come in
+        for (NamespacedKey key : container.getKeys()) {
+            if (key.equals(itemFingerprint)) continue;
+            fingerprint += mix(key.hashCode() * 31L + valueHash(container, key));
+        }
+        container.set(itemFingerprint, PersistentDataType.LONG, fingerprint);
+    }
+
+    private static int valueHash(PersistentDataContainer container, NamespacedKey key) {
+        if (container.has(key, PersistentDataType.STRING))
+            return Objects.hashCode(container.get(key, PersistentDataType.STRING));
+        if (container.has(key, PersistentDataType.INTEGER))
+            return Objects.hashCode(container.get(key, PersistentDataType.INTEGER));
+        if (container.has(key, PersistentDataType.DOUBLE))
+            return Objects.hashCode(container.get(key, PersistentDataType.DOUBLE));
+        if (container.has(key, PersistentDataType.BYTE))
+            return Objects.hashCode(container.get(key, PersistentDataType.BYTE));
+        if (container.has(key, PersistentDataType.LONG))
+            return Objects.hashCode(container.get(key, PersistentDataType.LONG));
+        //Not something EliteMobs writes, only whether it is there counts
+        return 0;
+    }
+
+    private static long mix(long value) {
+        value = (value ^ (value >>> 33)) * 0xFF51AFD7ED558CCDL;
+        value = (value ^ (value >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return value ^ (value >>> 33);
+    }
+
+    /**
+     * Cheap value that changes whenever the contents of an item might have changed, used to skip parsing gear that is
+     * still the same. Items with a fingerprint only need it and their vanilla enchantments checked, anything else hashes
+     * the whole meta.
+     *
+     * @param itemStack ItemStack to fingerprint
+     * @param itemMeta  ItemMeta of the ItemStack, passed in to avoid copying it again
+     * @return Fingerprint of the item
+     */
+    public static long getFingerprint(ItemStack itemStack, @Nullable ItemMeta itemMeta) {
+        long fingerprint = itemStack.getType().ordinal();
+        if (itemMeta == null) return fingerprint;
+        Long stored = itemMeta.getPersistentDataContainer().get(itemFingerprint, PersistentDataType.LONG);
+        if (stored == null) return fingerprint * 31 + itemMeta.hashCode();
+        return (fingerprint * 31 + stored) * 31 + itemMeta.getEnchants().hashCode();
     }
 
     public static int getEnchantment(ItemMeta itemMeta, String enchantmentKey) {
@@ -191,9 +258,11 @@ public class ItemTagger {
     public static void registerItemSource(EliteEntity eliteEntity, ItemMeta itemMeta) {
         if (eliteEntity == null) {
             itemMeta.getPersistentDataContainer().set(itemSource, PersistentDataType.STRING, ChatColorConverter.convert(ItemSettingsConfig.getShopItemSource()));
+            updateFingerprint(itemMeta);
             return;
         }
         itemMeta.getPersistentDataContainer().set(itemSource, PersistentDataType.STRING, ChatColorConverter.convert(ItemSettingsConfig.getMobItemSource().replace("$mob", eliteEntity.getName())));
+        updateFingerprint(itemMeta);
     }
 
     public static String getItemSource(ItemMeta itemMeta) {
@@ -244,6 +313,7 @@ public class ItemTagger {
         if (itemStack == null || itemStack.getItemMeta() == null) return;
         ItemMeta itemMeta = itemStack.getItemMeta();
         itemMeta.getPersistentDataContainer().set(ELITE_DAMAGE, PersistentDataType.DOUBLE, damageValue);
+        updateFingerprint(itemMeta);
         itemStack.setItemMeta(itemMeta);
     }
 
@@ -274,12 +344,14 @@ public class ItemTagger {
         if (itemStack == null || itemStack.getItemMeta() == null) return;
         ItemMeta itemMeta = itemStack.getItemMeta();
         itemMeta.getPersistentDataContainer().set(ELITE_DEFENSE, PersistentDataType.DOUBLE, defenseValue);
+        updateFingerprint(itemMeta);
         itemStack.setItemMeta(itemMeta);
     }
 
     public static void registerEnchantmentCount(@Nullable ItemMeta itemMeta, int count) {
         if (itemMeta == null) return;
         itemMeta.getPersistentDataContainer().set(enchantmentCount, PersistentDataType.INTEGER, count);
+        updateFingerprint(itemMeta);
     }
 
     public static int getEnchantmentCount(@Nullable ItemStack itemStack) {
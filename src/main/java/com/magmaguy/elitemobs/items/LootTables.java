@@ -14,7 +14,7 @@ import com.magmaguy.elitemobs.mobconstructor.EliteEntity;
 import com.magmaguy.elitemobs.mobconstructor.custombosses.CustomBossEntity;
 import com.magmaguy.elitemobs.mobconstructor.custombosses.RegionalBossEntity;
 import com.magmaguy.elitemobs.playerdata.database.PlayerData;
-import com.magmaguy.elitemobs.utils.WeightedProbability;
+import com.magmaguy.elitemobs.utils.WeightedSampler;
 import com.magmaguy.magmacore.util.Logger;
 import net.md_5.bungee.api.ChatMessageType;
 import net.md_5.bungee.api.chat.TextComponent;
@@ -29,8 +29,6 @@ import org.bukkit.scheduler.BukkitRunnable;
 import java.util.HashMap;
 import java.util.concurrent.ThreadLocalRandom;
 
-import static com.magmaguy.elitemobs.utils.WeightedProbability.pickWeighedProbability;
-
 /**
  * Created by MagmaGuy on 04/06/2017.
  */
@@ -42,6 +40,9 @@ public class LootTables implements Listener {
     private static boolean fixedItemsExist;
     private static boolean limitedItemsExist;
     private static boolean scalableItemsExist;
+    //Loot systems only change on reload, the only thing that varies per drop is whether fixed items exist at that tier
+    private static WeightedSampler<String> lootSystemSampler = WeightedSampler.empty();
+    private static WeightedSampler<String> lootSystemSamplerWithFixed = WeightedSampler.empty();
 
     public static void generatePlayerLoot(EliteEntity eliteEntity) {
         if (eliteEntity.isTriggeredAntiExploit()) return;
@@ -101,6 +102,27 @@ public class LootTables implements Listener {
         fixedItemsExist = CustomItem.getFixedItems() != null && !CustomItem.getFixedItems().isEmpty();
         limitedItemsExist = CustomItem.getLimitedItems() != null && !CustomItem.getLimitedItems().isEmpty();
         scalableItemsExist = CustomItem.getScalableItems() != null && !CustomItem.getScalableItems().isEmpty();
+        lootSystemSampler = buildLootSystemSampler(false);
+        lootSystemSamplerWithFixed = buildLootSystemSampler(true);
+    }
+
+    private static WeightedSampler<String> buildLootSystemSampler(boolean includeFixed) {
+        HashMap<String, Double> weightedProbability = new HashMap<>();
+        if (proceduralItemsOn) weightedProbability.put("procedural", ItemSettingsConfig.getProceduralItemWeight());
+        if (customItemsOn) {
+            if (weighedItemsExist) weightedProbability.put("weighed", ItemSettingsConfig.getWeighedItemWeight());
+            if (fixedItemsExist && includeFixed)
+                weightedProbability.put("fixed", ItemSettingsConfig.getFixedItemWeight());
+            if (limitedItemsExist) weightedProbability.put("limited", ItemSettingsConfig.getLimitedItemWeight());
+            if (scalableItemsExist) weightedProbability.put("scalable", ItemSettingsConfig.getScalableItemWeight());
+        }
+        return WeightedSampler.of(weightedProbability);
+    }
+
+    private static String pickLootSystem(int itemTier) {
+        if (fixedItemsExist && CustomItem.getFixedItems().containsKey(itemTier))
+            return lootSystemSamplerWithFixed.sample();
+        return lootSystemSampler.sample();
     }
 
     private static ItemStack generateLoot(EliteEntity eliteEntity, Player player) {
@@ -128,17 +150,7 @@ public class LootTables implements Listener {
 
         if (ThreadLocalRandom.current().nextDouble() > baseChance + dropChanceBonus) return null;
 
-        HashMap<String, Double> weightedProbability = new HashMap<>();
-        if (proceduralItemsOn) weightedProbability.put("procedural", ItemSettingsConfig.getProceduralItemWeight());
-        if (customItemsOn) {
-            if (weighedItemsExist) weightedProbability.put("weighed", ItemSettingsConfig.getWeighedItemWeight());
-            if (fixedItemsExist) if (CustomItem.getFixedItems().containsKey(itemTier))
-                weightedProbability.put("fixed", ItemSettingsConfig.getFixedItemWeight());
-            if (limitedItemsExist) weightedProbability.put("limited", ItemSettingsConfig.getLimitedItemWeight());
-            if (scalableItemsExist) weightedProbability.put("scalable", ItemSettingsConfig.getScalableItemWeight());
-        }
-
-        String selectedLootSystem = pickWeighedProbability(weightedProbability);
+        String selectedLootSystem = pickLootSystem(itemTier);
 
         if (selectedLootSystem == null) {
             Logger.info("Your EliteMobs loot configuration resulted in no loot getting dropped. This is not a bug. " + "If you want! players to be able to progress at all in the EliteMobs plugin, review your configuration settings.");
@@ -180,17 +192,7 @@ public class LootTables implements Listener {
 
         if (ThreadLocalRandom.current().nextDouble() > baseChance + dropChanceBonus) return null;
 
-        HashMap<String, Double> weightedProbability = new HashMap<>();
-        if (proceduralItemsOn) weightedProbability.put("procedural", ItemSettingsConfig.getProceduralItemWeight());
-        if (customItemsOn) {
-            if (weighedItemsExist) weightedProbability.put("weighed", ItemSettingsConfig.getWeighedItemWeight());
-            if (fixedItemsExist) if (CustomItem.getFixedItems().containsKey(itemLevel))
-                weightedProbability.put("fixed", ItemSettingsConfig.getFixedItemWeight());
-            if (limitedItemsExist) weightedProbability.put("limited", ItemSettingsConfig.getLimitedItemWeight());
-            if (scalableItemsExist) weightedProbability.put("scalable", ItemSettingsConfig.getScalableItemWeight());
-        }
-
-        String selectedLootSystem = pickWeighedProbability(weightedProbability);
+        String selectedLootSystem = pickLootSystem(itemLevel);
 
         switch (selectedLootSystem) {
             case "procedural":
@@ -211,17 +213,7 @@ public class LootTables implements Listener {
 
     public static ItemStack generateItemStack(int itemTier, Player player, EliteEntity eliteEntity) {
 
-        HashMap<String, Double> weightedProbability = new HashMap<>();
-        if (proceduralItemsOn) weightedProbability.put("procedural", ItemSettingsConfig.getProceduralItemWeight());
-        if (customItemsOn) {
-            if (weighedItemsExist) weightedProbability.put("weighed", ItemSettingsConfig.getWeighedItemWeight());
-            if (fixedItemsExist) if (CustomItem.getFixedItems().containsKey(itemTier))
-                weightedProbability.put("fixed", ItemSettingsConfig.getFixedItemWeight());
-            if (limitedItemsExist) weightedProbability.put("limited", ItemSettingsConfig.getLimitedItemWeight());
-            if (scalableItemsExist) weightedProbability.put("scalable", ItemSettingsConfig.getScalableItemWeight());
-        }
-
-        String selectedLootSystem = pickWeighedProbability(weightedProbability);
+        String selectedLootSystem = pickLootSystem(itemTier);
 
         switch (selectedLootSystem) {
             case "procedural":
@@ -280,25 +272,8 @@ public class LootTables implements Listener {
     }
 
     private static ItemStack generateWeighedFixedItemStack(Player player) {
-        double totalWeight = 0;
-
-        for (ItemStack itemStack : CustomItem.getWeighedFixedItems().keySet()) {
-            Double shouldntBeNull = CustomItem.getWeighedFixedItems().get(itemStack);
-            if (shouldntBeNull != null) totalWeight += CustomItem.getWeighedFixedItems().get(itemStack);
-            else Logger.warn("Item " + itemStack.getItemMeta().getDisplayName() + " reported a null weight!");
-        }
-
-        ItemStack generatedItemStack = null;
-        double random = Math.random() * totalWeight;
-
-        for (ItemStack itemStack : CustomItem.getWeighedFixedItems().keySet()) {
-            random -= CustomItem.getWeighedFixedItems().get(itemStack);
-            if (random <= 0) {
-                generatedItemStack = itemStack.clone();
-                break;
-            }
-        }
-
+        ItemStack generatedItemStack = CustomItem.getWeighedFixedItemSampler().sample();
+        if (generatedItemStack != null) generatedItemStack = generatedItemStack.clone();
         SoulbindEnchantment.addEnchantment(generatedItemStack, player);
         return generatedItemStack;
     }
@@ -386,7 +361,7 @@ public class LootTables implements Listener {
     }
 
     public static void generateSpecialLoot(Player player, int level, EliteEntity eliteEntity) {
-        CustomItem customItem = WeightedProbability.pickWeighedProbabilityFromCustomItems(SpecialItemSystemsConfig.getSpecialValues());
+        CustomItem customItem = SpecialItemSystemsConfig.getSpecialValueSampler().sample();
         if (customItem == null) return;
         player.getWorld().dropItem(player.getLocation(), customItem.generateItemStack(level, player, eliteEntity));
     }
@@ -7,6 +7,7 @@ import com.magmaguy.elitemobs.config.enchantments.EnchantmentsConfig;
 import com.magmaguy.elitemobs.config.enchantments.premade.SoulbindConfig;
 import com.magmaguy.elitemobs.entitytracker.EntityTracker;
 import com.magmaguy.elitemobs.items.EliteItemLore;
+import com.magmaguy.elitemobs.items.ItemTagger;
 import com.magmaguy.elitemobs.utils.VisualDisplay;
 import com.magmaguy.magmacore.util.ChatColorConverter;
 import org.bukkit.Bukkit;
@@ -46,6 +47,7 @@ public class SoulbindEnchantment extends CustomEnchantment {
         ItemMeta itemMeta = itemStack.getItemMeta();
         itemMeta.getPersistentDataContainer().set(SOULBIND_KEY, PersistentDataType.STRING, player.getUniqueId().toString());
         setPrestigeLevel(itemMeta, GuildRank.getGuildPrestigeRank(player));
+        ItemTagger.updateFingerprint(itemMeta);
         itemStack.setItemMeta(itemMeta);
         new EliteItemLore(itemStack, true);
         return itemStack;
@@ -55,6 +57,7 @@ public class SoulbindEnchantment extends CustomEnchantment {
         if (itemStack == null) return;
         ItemMeta itemMeta = itemStack.getItemMeta();
         itemMeta.getPersistentDataContainer().remove(SOULBIND_KEY);
+        ItemTagger.updateFingerprint(itemMeta);
         itemStack.setItemMeta(itemMeta);
         //update item lore display
         new EliteItemLore(itemStack, false);
@@ -1,6 +1,7 @@
 package com.magmaguy.elitemobs.items.customenchantments;
 
 import com.magmaguy.elitemobs.items.EliteItemLore;
+import com.magmaguy.elitemobs.items.ItemTagger;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
 
@@ -16,6 +17,7 @@ public class UnbindEnchantment extends CustomEnchantment {
         ItemMeta itemMeta = newItemStack.getItemMeta();
         itemMeta.getPersistentDataContainer().remove(SoulbindEnchantment.SOULBIND_KEY);
         itemMeta.getPersistentDataContainer().remove(SoulbindEnchantment.PRESTIGE_KEY);
+        ItemTagger.updateFingerprint(itemMeta);
         newItemStack.setItemMeta(itemMeta);
         new EliteItemLore(newItemStack, false);
         return newItemStack;
@@ -11,6 +11,7 @@ import com.magmaguy.elitemobs.items.customenchantments.CustomEnchantment;
 import com.magmaguy.elitemobs.items.customenchantments.SoulbindEnchantment;
 import com.magmaguy.elitemobs.items.itemconstructor.ItemConstructor;
 import com.magmaguy.elitemobs.mobconstructor.EliteEntity;
+import com.magmaguy.elitemobs.utils.WeightedSampler;
 import com.magmaguy.magmacore.util.Logger;
 import lombok.Getter;
 import org.bukkit.Location;
@@ -35,6 +36,8 @@ public class CustomItem {
     @Getter
     // Used to drop static loot using the weighed chance system
     private static final HashMap<ItemStack, Double> weighedFixedItems = new HashMap<>();
+    // Built from weighedFixedItems the first time it is needed after the items change
+    private static WeightedSampler<ItemStack> weighedFixedItemSampler = null;
     @Getter
     private static final HashMap<Integer, ArrayList<ItemStack>> tieredLoot = new HashMap<>();
     @Getter
@@ -115,6 +118,18 @@ public class CustomItem {
     private static void addWeighedFixedItems(CustomItem customItem) {
         ItemStack itemStack = customItem.generateDefaultsItemStack(null, false, null);
         weighedFixedItems.put(itemStack, customItem.getDropWeight());
+        weighedFixedItemSampler = null;
+    }
+
+    public static WeightedSampler<ItemStack> getWeighedFixedItemSampler() {
+        WeightedSampler<ItemStack> sampler = weighedFixedItemSampler;
+        if (sampler != null) return sampler;
+        for (Map.Entry<ItemStack, Double> entry : weighedFixedItems.entrySet())
+            if (entry.getValue() == null)
+                Logger.warn("Item " + entry.getKey().getItemMeta().getDisplayName() + " reported a null weight!");
+        sampler = WeightedSampler.of(weighedFixedItems);
+        weighedFixedItemSampler = sampler;
+        return sampler;
     }
 
     public static void addTieredLoot(CustomItem customItem) {
@@ -170,6 +185,7 @@ public class CustomItem {
         customItemStackShopList.clear();
         tieredLoot.clear();
         weighedFixedItems.clear();
+        weighedFixedItemSampler = null;
 
         // Regenerate all cached ItemStacks with proper skins
         for (CustomItem customItem : customItems.values()) {
@@ -43,7 +43,7 @@ public class SharedLootTable {
         sharedLootTables.put(eliteEntity, this);
         damagers.forEach(damager -> lootMenus.add(new LootMenu(damager, this, getPlayerTable(damager))));
         if (damagers.size() > 1) {
-            TaskScheduler scheduler = new TaskScheduler(MetadataHandler.PLUGIN);
+            TaskScheduler scheduler = TaskScheduler.get(MetadataHandler.PLUGIN);
             scheduler.runDelayedAsync(this::messagePlayers, 1);
         }
         endLoot();
@@ -62,7 +62,7 @@ public class SharedLootTable {
     }
 
     private void endLoot() {
-        TaskScheduler scheduler = new TaskScheduler(MetadataHandler.PLUGIN);
+        TaskScheduler scheduler = TaskScheduler.get(MetadataHandler.PLUGIN);
         if (damagers.size() < 2) {
             scheduler.runDelayedAsync(this::distribute, 1);
             return;
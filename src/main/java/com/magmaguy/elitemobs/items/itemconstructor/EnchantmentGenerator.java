@@ -262,17 +262,15 @@ public class EnchantmentGenerator {
 
         HashMap<Enchantment, Integer> validEnchantmentsClone = (HashMap<Enchantment, Integer>) validEnchantments.clone();
 
+        //Built once and kept in sync with validEnchantments, exhausted enchantments get swapped out with the last one
+        List<Enchantment> enchantmentList = new ArrayList<>(validEnchantments.keySet());
+
         while (ThreadLocalRandom.current().nextBoolean()) {
 
-            if (validEnchantments.size() < 1)
+            if (enchantmentList.isEmpty())
                 break;
 
-            int randomIndex = ThreadLocalRandom.current().nextInt(validEnchantments.size());
-
-            List<Enchantment> enchantmentList = new ArrayList();
-
-            for (Enchantment enchantment : validEnchantments.keySet())
-                enchantmentList.add(enchantment);
+            int randomIndex = ThreadLocalRandom.current().nextInt(enchantmentList.size());
 
             Enchantment enchantment = enchantmentList.get(randomIndex);
 
@@ -283,7 +281,11 @@ public class EnchantmentGenerator {
 
             int newEnchantInt = validEnchantments.get(enchantment);
 
-            if (newEnchantInt == 0) validEnchantments.remove(enchantment);
+            if (newEnchantInt == 0) {
+                validEnchantments.remove(enchantment);
+                enchantmentList.set(randomIndex, enchantmentList.get(enchantmentList.size() - 1));
+                enchantmentList.remove(enchantmentList.size() - 1);
+            }
 
             secondaryEnchantmentCount--;
 
@@ -96,6 +96,7 @@ public class ItemConstructor {
 
         //Register filename of the custom item into the persistent metadata
         Objects.requireNonNull(itemMeta).getPersistentDataContainer().set(new NamespacedKey(MetadataHandler.PLUGIN, filename), PersistentDataType.STRING, filename);
+        ItemTagger.updateFingerprint(itemMeta);
         itemStack.setItemMeta(itemMeta);
 
         return commonFeatures(itemStack, eliteEntity, player, enchantments, customEnchantments, showItemWorth, soulbound);
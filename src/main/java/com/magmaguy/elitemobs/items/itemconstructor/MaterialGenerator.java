@@ -8,6 +8,8 @@ import org.bukkit.Material;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ThreadLocalRandom;
 
 import static org.bukkit.Material.*;
@@ -15,6 +17,13 @@ import static org.bukkit.Material.*;
 public class MaterialGenerator {
 
     private static final ArrayList<Material> validProceduralMaterials = new ArrayList();
+    //Material tiers that are too high for the item tier, used as bits of the key of the cached material lists
+    private static final int NO_DIAMOND = 1;
+    private static final int NO_IRON = 1 << 1;
+    private static final int NO_STONE_CHAIN = 1 << 2;
+    private static final int NO_GOLD = 1 << 3;
+    //Materials left after removing the ones that are too high tier, built once per combination of removed tiers
+    private static final Map<Integer, List<Material>> tierBandMaterials = new ConcurrentHashMap<>();
 
     public static Material generateMaterial(Material material) {
 
@@ -24,14 +33,29 @@ public class MaterialGenerator {
 
     public static Material generateMaterial(double itemTier) {
 
-        List<Material> localValidMaterials = (List<Material>) validProceduralMaterials.clone();
-
-        if (localValidMaterials.isEmpty()) initializeValidProceduralMaterials();
+        if (validProceduralMaterials.isEmpty()) initializeValidProceduralMaterials();
 
+        int tierBand = 0;
         if (itemTier < CombatSystem.DIAMOND_TIER_LEVEL + ItemSettingsConfig.getMinimumProcedurallyGeneratedDiamondLootLevelPlusSeven())
-            localValidMaterials.remove(TRIDENT);
+            tierBand |= NO_DIAMOND;
+        if (itemTier < CombatSystem.IRON_TIER_LEVEL) tierBand |= NO_IRON;
+        if (itemTier < CombatSystem.STONE_CHAIN_TIER_LEVEL) tierBand |= NO_STONE_CHAIN;
+        if (itemTier < CombatSystem.GOLD_WOOD_LEATHER_TIER_LEVEL) tierBand |= NO_GOLD;
+
+        List<Material> localValidMaterials = tierBandMaterials.computeIfAbsent(tierBand, MaterialGenerator::buildTierBand);
+
+        if (localValidMaterials.isEmpty()) return null;
+
+        return localValidMaterials.get(ThreadLocalRandom.current().nextInt(localValidMaterials.size()));
 
-        if (itemTier < CombatSystem.DIAMOND_TIER_LEVEL + ItemSettingsConfig.getMinimumProcedurallyGeneratedDiamondLootLevelPlusSeven()) {
+    }
+
+    private static List<Material> buildTierBand(int tierBand) {
+
+        List<Material> localValidMaterials = new ArrayList<>(validProceduralMaterials);
+
+        if ((tierBand & NO_DIAMOND) != 0) {
+            localValidMaterials.remove(TRIDENT);
             localValidMaterials.remove(DIAMOND_AXE);
             localValidMaterials.remove(DIAMOND_HORSE_ARMOR);
             localValidMaterials.remove(DIAMOND_CHESTPLATE);
@@ -44,7 +68,7 @@ public class MaterialGenerator {
             localValidMaterials.remove(DIAMOND_BOOTS);
         }
 
-        if (itemTier < CombatSystem.IRON_TIER_LEVEL) {
+        if ((tierBand & NO_IRON) != 0) {
 
             localValidMaterials.remove(IRON_AXE);
             localValidMaterials.remove(IRON_HORSE_ARMOR);
@@ -61,7 +85,7 @@ public class MaterialGenerator {
             localValidMaterials.remove(TURTLE_HELMET);
         }
 
-        if (itemTier < CombatSystem.STONE_CHAIN_TIER_LEVEL) {
+        if ((tierBand & NO_STONE_CHAIN) != 0) {
 
             localValidMaterials.remove(CHAINMAIL_BOOTS);
             localValidMaterials.remove(CHAINMAIL_CHESTPLATE);
@@ -75,7 +99,7 @@ public class MaterialGenerator {
 
         }
 
-        if (itemTier < CombatSystem.GOLD_WOOD_LEATHER_TIER_LEVEL) {
+        if ((tierBand & NO_GOLD) != 0) {
             localValidMaterials.remove(GOLDEN_BOOTS);
             localValidMaterials.remove(GOLDEN_CHESTPLATE);
             localValidMaterials.remove(GOLDEN_HELMET);
@@ -87,15 +111,14 @@ public class MaterialGenerator {
             localValidMaterials.remove(GOLDEN_AXE);
         }
 
-        if (localValidMaterials.isEmpty()) return null;
-
-        return localValidMaterials.get(ThreadLocalRandom.current().nextInt(localValidMaterials.size()));
+        return List.copyOf(localValidMaterials);
 
     }
 
     public static void initializeValidProceduralMaterials() {
 
         validProceduralMaterials.clear();
+        tierBandMaterials.clear();
 
         if (ProceduralItemGenerationSettingsConfig.getValidMaterials().isEmpty()) {
             ProceduralItemGenerationSettingsConfig.getInstance().cacheMaterials();
@@ -0,0 +1,181 @@
+package com.magmaguy.elitemobs.items.potioneffects;
+
+import com.magmaguy.elitemobs.MetadataHandler;
+import com.magmaguy.elitemobs.items.potioneffects.custom.Harm;
+import com.magmaguy.elitemobs.items.potioneffects.custom.Heal;
+import com.magmaguy.elitemobs.items.potioneffects.custom.Saturation;
+import com.magmaguy.elitemobs.playerdata.ElitePlayerInventory;
+import com.magmaguy.elitemobs.playerdata.database.PlayerData;
+import com.magmaguy.magmacore.util.Logger;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.potion.PotionEffect;
+import org.bukkit.potion.PotionEffectType;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.*;
+
+/**
+ * Applies the continuous potion effects of the gear players are wearing.
+ * <p>
+ * Every player gets checked once per second, but players are spread over the ticks of that second so that large player
+ * counts don't all land on the same tick. Each player keeps the set of effects their gear should give, which only gets
+ * rebuilt when their gear changes. Effects are only applied when they are missing or about to run out, and effects the
+ * gear stops giving get removed right away.
+ */
+public class ContinuousPotionEffectEngine {
+    private static final int CYCLE_TICKS = 20;
+    //Effects get applied for at least this long, so they only need to be refreshed every few cycles
+    private static final int MINIMUM_DURATION = 5 * 20;
+    private static final int REFRESH_THRESHOLD = 2 * CYCLE_TICKS;
+    //Night vision starts flickering when it gets this close to running out
+    private static final int NIGHT_VISION_FLICKER_THRESHOLD = 10 * 20;
+    private static final List<List<PlayerEffects>> slots = new ArrayList<>();
+    private static final Map<UUID, PlayerEffects> players = new HashMap<>();
+    private static BukkitTask task = null;
+    private static int currentSlot = 0;
+
+    static {
+        for (int i = 0; i < CYCLE_TICKS; i++)
+            slots.add(new ArrayList<>());
+    }
+
+    private ContinuousPotionEffectEngine() {
+    }
+
+    public static void start() {
+        if (task != null) return;
+        for (Player player : Bukkit.getOnlinePlayers())
+            addPlayer(player);
+        task = Bukkit.getScheduler().runTaskTimer(MetadataHandler.PLUGIN, ContinuousPotionEffectEngine::tick, 1, 1);
+    }
+
+    public static void shutdown() {
+        if (task != null) task.cancel();
+        task = null;
+        players.clear();
+        slots.forEach(List::clear);
+        currentSlot = 0;
+    }
+
+    public static void addPlayer(Player player) {
+        if (players.containsKey(player.getUniqueId())) return;
+        //Goes in the emptiest slot so every tick has about the same amount of players to go over
+        int slot = 0;
+        for (int i = 1; i < CYCLE_TICKS; i++)
+            if (slots.get(i).size() < slots.get(slot).size()) slot = i;
+        PlayerEffects playerEffects = new PlayerEffects(player, slot);
+        slots.get(slot).add(playerEffects);
+        players.put(player.getUniqueId(), playerEffects);
+    }
+
+    public static void removePlayer(Player player) {
+        PlayerEffects playerEffects = players.remove(player.getUniqueId());
+        if (playerEffects != null) slots.get(playerEffects.slot).remove(playerEffects);
+    }
+
+    private static void tick() {
+        List<PlayerEffects> slot = slots.get(currentSlot);
+        currentSlot = (currentSlot + 1) % CYCLE_TICKS;
+        for (PlayerEffects playerEffects : slot)
+            try {
+                playerEffects.update();
+            } catch (Exception e) {
+                Logger.warn("Failed to apply gear potion effects to " + playerEffects.player.getName() + ": " + e.getMessage());
+                e.printStackTrace();
+            }
+    }
+
+    private static class PlayerEffects {
+        private final Player player;
+        private final int slot;
+        //Strongest effect the gear gives for each effect type
+        private final Map<PotionEffectType, ElitePotionEffect> desiredEffects = new HashMap<>();
+        //Effects this engine put on the player, used to only remove effects that came from the gear
+        private final Map<PotionEffectType, PotionEffect> appliedEffects = new HashMap<>();
+        private long gearVersion = -1;
+
+        private PlayerEffects(Player player, int slot) {
+            this.player = player;
+            this.slot = slot;
+        }
+
+        private void update() {
+            if (!player.isOnline()) return;
+            ElitePlayerInventory elitePlayerInventory = ElitePlayerInventory.getPlayer(player);
+            if (elitePlayerInventory == null || PlayerData.getPlayerData(player.getUniqueId()) == null) return;
+            elitePlayerInventory.refreshGear();
+            if (elitePlayerInventory.getGearVersion() != gearVersion) {
+                gearVersion = elitePlayerInventory.getGearVersion();
+                updateDesiredEffects(elitePlayerInventory.getContinuousPotionEffects(false));
+            }
+            for (ElitePotionEffect elitePotionEffect : desiredEffects.values())
+                apply(elitePotionEffect);
+        }
+
+        private void updateDesiredEffects(List<ElitePotionEffect> gearEffects) {
+            desiredEffects.clear();
+            for (ElitePotionEffect elitePotionEffect : gearEffects) {
+                if (elitePotionEffect.getPotionEffect() == null) continue;
+                PotionEffectType type = elitePotionEffect.getPotionEffect().getType();
+                ElitePotionEffect current = desiredEffects.get(type);
+                if (current == null || current.getPotionEffect().getAmplifier() < elitePotionEffect.getPotionEffect().getAmplifier())
+                    desiredEffects.put(type, elitePotionEffect);
+            }
+            Iterator<Map.Entry<PotionEffectType, PotionEffect>> iterator = appliedEffects.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<PotionEffectType, PotionEffect> applied = iterator.next();
+                ElitePotionEffect desired = desiredEffects.get(applied.getKey());
+                if (desired != null && desired.getPotionEffect().getAmplifier() == applied.getValue().getAmplifier())
+                    continue;
+                iterator.remove();
+                //Only take the effect off if it is still the one the gear gave, and not something like a potion
+                PotionEffect current = player.getPotionEffect(applied.getKey());
+                if (current != null && current.getAmplifier() == applied.getValue().getAmplifier() &&
+                        current.getDuration() <= applied.getValue().getDuration())
+                    player.removePotionEffect(applied.getKey());
+            }
+        }
+
+        private void apply(ElitePotionEffect elitePotionEffect) {
+            PotionEffect potionEffect = elitePotionEffect.getPotionEffect();
+            PotionEffectType type = potionEffect.getType();
+
+            //This one doesn't work
+            if (type.equals(PotionEffectType.ABSORPTION)) return;
+            if (type.equals(PotionEffectType.HEALTH_BOOST)) return;
+
+            //if the player has a higher amplifier potion effect, ignore
+            PotionEffect current = player.getPotionEffect(type);
+            if (current != null && current.getAmplifier() > potionEffect.getAmplifier())
+                return;
+
+            if (type.equals(PotionEffectType.INSTANT_HEALTH)) {
+                Heal.doHeal(player, elitePotionEffect);
+                return;
+            }
+
+            if (type.equals(PotionEffectType.SATURATION)) {
+                Saturation.doSaturation(player, elitePotionEffect);
+                return;
+            }
+
+            if (type.equals(PotionEffectType.INSTANT_DAMAGE)) {
+                Harm.doHarm(player, elitePotionEffect);
+                return;
+            }
+
+            //Same effect with enough time left, no need to touch it
+            int refreshThreshold = type.equals(PotionEffectType.NIGHT_VISION) ?
+                    NIGHT_VISION_FLICKER_THRESHOLD + CYCLE_TICKS : REFRESH_THRESHOLD;
+            if (current != null && current.getAmplifier() == potionEffect.getAmplifier() && current.getDuration() > refreshThreshold)
+                return;
+
+            PotionEffect appliedEffect = potionEffect.getDuration() >= Math.max(MINIMUM_DURATION, refreshThreshold + CYCLE_TICKS) ?
+                    potionEffect : potionEffect.withDuration(Math.max(MINIMUM_DURATION, refreshThreshold + CYCLE_TICKS));
+            if (current != null) player.removePotionEffect(type);
+            player.addPotionEffect(appliedEffect);
+            appliedEffects.put(type, appliedEffect);
+        }
+    }
+}
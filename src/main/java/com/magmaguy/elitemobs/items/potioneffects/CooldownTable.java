@@ -0,0 +1,37 @@
+package com.magmaguy.elitemobs.items.potioneffects;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Per player cooldowns stored as expiration times, so going on cooldown doesn't need a task to take the player off it.
+ */
+public class CooldownTable {
+    private static final long MILLIS_PER_TICK = 50;
+    private final Map<UUID, Long> expirations = new HashMap<>();
+
+    /**
+     * @param playerUUID Player to check
+     * @return Whether the player is still on cooldown
+     */
+    public boolean isOnCooldown(UUID playerUUID) {
+        Long expiration = expirations.get(playerUUID);
+        if (expiration == null) return false;
+        if (System.currentTimeMillis() < expiration) return true;
+        expirations.remove(playerUUID);
+        return false;
+    }
+
+    /**
+     * @param playerUUID Player to put on cooldown
+     * @param delay      Cooldown duration, in ticks
+     */
+    public void add(UUID playerUUID, long delay) {
+        expirations.put(playerUUID, System.currentTimeMillis() + delay * MILLIS_PER_TICK);
+    }
+
+    public void clear() {
+        expirations.clear();
+    }
+}
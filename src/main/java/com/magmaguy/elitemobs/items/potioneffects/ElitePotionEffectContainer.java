@@ -36,10 +36,14 @@ public class ElitePotionEffectContainer {
             }
         }
 
-        if (onHit.length() > 0)
+        if (onHit.length() > 0) {
             itemMeta.getPersistentDataContainer().set(ItemTagger.onHitPotionEffectKey, PersistentDataType.STRING, onHit.toString());
-        if (continuous.length() > 0)
+            ItemTagger.updateFingerprint(itemMeta);
+        }
+        if (continuous.length() > 0) {
             itemMeta.getPersistentDataContainer().set(ItemTagger.continuousPotionEffectKey, PersistentDataType.STRING, continuous.toString());
+            ItemTagger.updateFingerprint(itemMeta);
+        }
 
     }
 
@@ -1,15 +1,12 @@
 package com.magmaguy.elitemobs.items.potioneffects;
 
-import com.magmaguy.elitemobs.MetadataHandler;
 import com.magmaguy.elitemobs.entitytracker.EntityTracker;
 import com.magmaguy.elitemobs.items.potioneffects.custom.Harm;
 import com.magmaguy.elitemobs.items.potioneffects.custom.Heal;
 import com.magmaguy.elitemobs.items.potioneffects.custom.Saturation;
 import com.magmaguy.elitemobs.mobconstructor.EliteEntity;
 import com.magmaguy.elitemobs.playerdata.ElitePlayerInventory;
-import com.magmaguy.elitemobs.playerdata.database.PlayerData;
 import com.magmaguy.elitemobs.utils.EntityFinder;
-import org.bukkit.Bukkit;
 import org.bukkit.entity.EntityType;
 import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Player;
@@ -17,11 +14,9 @@ import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.entity.EntityDamageByEntityEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
 import org.bukkit.potion.PotionEffectType;
-import org.bukkit.scheduler.BukkitRunnable;
-
-import java.util.Set;
-import java.util.UUID;
 
 /**
  * Created by MagmaGuy on 14/03/2017.
@@ -29,60 +24,17 @@ import java.util.UUID;
 public class PlayerPotionEffects implements Listener {
 
     public PlayerPotionEffects() {
-        new BukkitRunnable() {
-            @Override
-            public void run() {
-                //scan through what players are wearing
-                for (Player player : Bukkit.getOnlinePlayers())
-                    if (ElitePlayerInventory.playerInventories.get(player.getUniqueId()) != null &&
-                            PlayerData.getPlayerData(player.getUniqueId()) != null)
-                        for (ElitePotionEffect elitePotionEffect : ElitePlayerInventory.playerInventories.get(player.getUniqueId()).getContinuousPotionEffects(true))
-                            doContinuousPotionEffect(elitePotionEffect, player);
-            }
-        }.runTaskTimer(MetadataHandler.PLUGIN, 20L, 20L);
+        ContinuousPotionEffectEngine.start();
     }
 
-    public static void addOnHitCooldown(Set<UUID> cooldownList, Player player, long delay) {
-        UUID playerUUID = player.getUniqueId();
-        cooldownList.add(playerUUID);
-        new BukkitRunnable() {
-            @Override
-            public void run() {
-                cooldownList.remove(playerUUID);
-            }
-        }.runTaskLater(MetadataHandler.PLUGIN, delay);
+    @EventHandler
+    public void onPlayerJoin(PlayerJoinEvent event) {
+        ContinuousPotionEffectEngine.addPlayer(event.getPlayer());
     }
 
-    private void doContinuousPotionEffect(ElitePotionEffect elitePotionEffect, Player player) {
-
-        //This one doesn't work
-        if (elitePotionEffect.getPotionEffect().getType().equals(PotionEffectType.ABSORPTION)) return;
-        if (elitePotionEffect.getPotionEffect().getType().equals(PotionEffectType.HEALTH_BOOST)) return;
-
-
-        //if the player has a higher amplifier potion effect, ignore. If it's the same, reapply to refresh the effect
-        if (player.hasPotionEffect(elitePotionEffect.getPotionEffect().getType()) &&
-                player.getPotionEffect(elitePotionEffect.getPotionEffect().getType()).getAmplifier() > elitePotionEffect.getPotionEffect().getAmplifier())
-            return;
-
-        if (elitePotionEffect.getPotionEffect().getType().equals(PotionEffectType.INSTANT_HEALTH)) {
-            Heal.doHeal(player, elitePotionEffect);
-            return;
-        }
-
-        if (elitePotionEffect.getPotionEffect().getType().equals(PotionEffectType.SATURATION)) {
-            Saturation.doSaturation(player, elitePotionEffect);
-            return;
-        }
-
-        if (elitePotionEffect.getPotionEffect().getType().equals(PotionEffectType.INSTANT_DAMAGE)) {
-            Harm.doHarm(player, elitePotionEffect);
-            return;
-        }
-
-        if (player.hasPotionEffect(elitePotionEffect.getPotionEffect().getType()))
-            player.removePotionEffect(elitePotionEffect.getPotionEffect().getType());
-        player.addPotionEffect(elitePotionEffect.getPotionEffect());
+    @EventHandler
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        ContinuousPotionEffectEngine.removePlayer(event.getPlayer());
     }
 
     @EventHandler(ignoreCancelled = true, priority = EventPriority.HIGHEST)
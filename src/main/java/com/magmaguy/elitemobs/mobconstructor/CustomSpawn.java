@@ -19,20 +19,20 @@ import com.magmaguy.magmacore.util.Logger;
 import lombok.Getter;
 import lombok.Setter;
 import org.bukkit.*;
-import org.bukkit.block.Block;
 import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Player;
 import org.bukkit.entity.Zombie;
 import org.bukkit.scheduler.BukkitRunnable;
-import org.bukkit.util.Vector;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
-import java.util.concurrent.ThreadLocalRandom;
 
 public class CustomSpawn {
 
+    //Tries one second apart before falling back to trying once a minute
+    private static final int FAST_RETRIES = 60;
+
     @Getter
     private final CustomSpawnConfigFields customSpawnConfigFields;
     @Getter
@@ -45,6 +45,7 @@ public class CustomSpawn {
     private World world;
     private TimedEvent timedEvent;
     private int allTries = 0;
+    private int failedTries = 0;
     @Getter
     @Setter
     private Location spawnLocation;
@@ -108,12 +109,7 @@ public class CustomSpawn {
     public void queueSpawn() {
         //Make sure a location exists
         if (spawnLocation == null)
-            new BukkitRunnable() {
-                @Override
-                public void run() {
-                    generateCustomSpawn();
-                }
-            }.runTaskAsynchronously(MetadataHandler.PLUGIN);
+            Bukkit.getScheduler().runTask(MetadataHandler.PLUGIN, this::generateCustomSpawn);
         else
             spawn();
     }
@@ -167,31 +163,21 @@ public class CustomSpawn {
         //If the global cooldown if enforced and this is a timed event wait for the cd to be over
 
         if (timedEvent != null && System.currentTimeMillis() < TimedEvent.getNextEventStartMinimum()) {
-            Bukkit.getScheduler().scheduleAsyncDelayedTask(MetadataHandler.PLUGIN, this::generateCustomSpawn, 20 * 60L);
+            Bukkit.getScheduler().runTaskLater(MetadataHandler.PLUGIN, this::generateCustomSpawn, 20 * 60L);
             return;
         }
 
-
-        int maxTries = 100;
-        int tries = 0;
-        while (tries < maxTries && spawnLocation == null) {
-            if (!keepTrying)
-                return;
-            tries++;
-            allTries++;
-            this.spawnLocation = generateRandomSpawnLocation();
-            if (spawnLocation != null)
-                break;
-        }
+        if (!keepTrying)
+            return;
+        allTries++;
+        this.spawnLocation = generateRandomSpawnLocation();
 
         if (spawnLocation == null) {
             if (keepTrying) {
-                new BukkitRunnable() {
-                    @Override
-                    public void run() {
-                        generateCustomSpawn();
-                    }
-                }.runTaskLaterAsynchronously(MetadataHandler.PLUGIN, 20 * 60);
+                //Spots get found in the background, so retry soon at first and back off if nothing shows up
+                failedTries++;
+                Bukkit.getScheduler().runTaskLater(MetadataHandler.PLUGIN, this::generateCustomSpawn,
+                        failedTries < FAST_RETRIES ? 20L : 20 * 60L);
             } else {
                 customBossEntities.forEach((customBossEntity -> {
                     if (customBossEntity.summoningEntity != null)
@@ -199,6 +185,7 @@ public class CustomSpawn {
                 }));
             }
         } else {
+            failedTries = 0;
             spawn();
         }
     }
@@ -234,7 +221,7 @@ public class CustomSpawn {
                 if (!PlayerData.isInMemory(player.getUniqueId())) continue;
                 if (GuildRank.isAtOrAboveGuildRank(player, 0, 0)) continue;
                 Location playerLocation = player.getLocation();
-                if (!ValidWorldsConfig.getValidWorlds().contains(playerLocation.getWorld().getName()))
+                if (!ValidWorldsConfig.isValidWorld(playerLocation.getWorld()))
                     continue;
                 boolean isInMatch = false;
                 for (MatchInstance instance : MatchInstance.getInstances())
@@ -262,85 +249,12 @@ public class CustomSpawn {
         if (validPlayers.isEmpty())
             return null;
 
-        //Select a random player
-        Player selectedPlayer = validPlayers.get(ThreadLocalRandom.current().nextInt(validPlayers.size()));
-
-        //Randomize vector between 24 and 128 block away from a source location
-        Vector randomizedVector = new Vector(ThreadLocalRandom.current().nextInt(24, 128),
-                0, //this doesn't really matter, it likely gets modified later
-                ThreadLocalRandom.current().nextInt(24, 128));
-
-        //Allow negative X and Z values
-        if (ThreadLocalRandom.current().nextBoolean())
-            randomizedVector.setX(randomizedVector.getX() * -1);
-        if (ThreadLocalRandom.current().nextBoolean())
-            randomizedVector.setZ(randomizedVector.getZ() * -1);
-
-        //Temp location - do not run checks on it yet
-        Location location = selectedPlayer.getLocation().clone().add(randomizedVector);
-        //This doesn't matter too much since it will be parsed later, also these values are already tweaked for 1.18.
-        location.setY(ThreadLocalRandom.current().nextInt(-0, 256));
-        World world = location.getWorld();
-
-        if (!customSpawnConfigFields.getValidBiomesStrings().isEmpty() && !customSpawnConfigFields.getValidBiomesStrings().contains(location.getBlock().getBiome()))
-            return null;
-
-        //Set Y level - Location isn't final yet
-        if (customSpawnConfigFields.isSurfaceSpawn())
-            //this won't work for Nether environments, but who wants surface spawns on the Nether?
-            location = Objects.requireNonNull(location.getWorld()).getHighestBlockAt(location).getLocation().add(new Vector(0.5, 1, 0.5));
-        else if (customSpawnConfigFields.isUndergroundSpawn()) {
-            int highestBlockYAt = Objects.requireNonNull(location.getWorld()).getHighestBlockYAt(location);
-            //Let's hope there's caves
-            if (location.getY() > highestBlockYAt ||
-                    location.getY() > highestBlockYAt / 2D) {
-                for (int y = (int) location.getY(); y > -64; y--) {
-                    Location tempLocation = location.clone();
-                    tempLocation.setY(y);
-                    if (location.getBlock().getType().equals(Material.VOID_AIR)) return null;
-                    if (y < customSpawnConfigFields.getLowestYLevel()) return null;
-                    Block groundBlock = location.clone().subtract(new Vector(0, 1, 0)).getBlock();
-                    if (!groundBlock.getType().isSolid()) continue;
-                    //Check temp location block
-                    if (!tempLocation.getBlock().getType().isAir()) continue;
-                    //Check block above temp location
-                    if (!tempLocation.add(new Vector(0, 1, 0)).getBlock().getType().isAir()) continue;
-                    location = tempLocation;
-                    break;
-                }
-            } else {
-                for (int y = (int) location.getY(); y < highestBlockYAt; y++) {
-                    Location tempLocation = location.clone();
-                    tempLocation.setY(y);
-                    if (location.getBlock().getType().equals(Material.VOID_AIR)) return null;
-                    if (y < customSpawnConfigFields.getLowestYLevel()) return null;
-                    Block groundBlock = location.clone().subtract(new Vector(0, 1, 0)).getBlock();
-                    if (!groundBlock.getType().isSolid()) continue;
-                    //Check temp location block
-                    if (!tempLocation.getBlock().getType().isAir()) continue;
-                    //Check block above temp location
-                    if (!tempLocation.add(new Vector(0, 1, 0)).getBlock().getType().isAir()) continue;
-                    location = tempLocation;
-                    break;
-                }
-            }
-        } else
-            //Straight upwards check
-            location.setY(getHighestValidBlock(location, getHighestValidBlock(location, customSpawnConfigFields.getHighestYLevel())));
-
-        //Prevent spawning right on top of players
-        assert world != null;
-        for (Player player : world.getPlayers())
-            if (player.getLocation().distanceSquared(location) < Math.pow(24, 2))
-                return null;
-
-        //Nether ceiling check
-        if (location.getY() > 127 && world.getEnvironment().equals(World.Environment.NETHER))
-            return null;
-
-        //Custom height check
-        if (location.getY() == -100 || location.getY() > customSpawnConfigFields.getHighestYLevel() || location.getY() < customSpawnConfigFields.getLowestYLevel())
+        Location location = SpawnLocationFinder.find(customSpawnConfigFields, validPlayers);
+        if (location == null) {
+            //Nothing fits yet, look around these players specifically so the next try has something to work with
+            SpawnLocationFinder.scanAround(validPlayers);
             return null;
+        }
 
         //Check WorldGuard flags
         if (EliteMobs.worldGuardIsEnabled) {
@@ -354,11 +268,6 @@ public class CustomSpawn {
                 return null;
         }
 
-        //Light level check - following 1.18 rules
-        if (!customSpawnConfigFields.isCanSpawnInLight())
-            if (location.getBlock().getLightLevel() > 8)
-                return null;
-
         return location;
     }
 
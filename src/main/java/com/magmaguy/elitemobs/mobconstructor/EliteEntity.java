@@ -17,6 +17,8 @@ import com.magmaguy.elitemobs.mobconstructor.custombosses.RegionalBossEntity;
 import com.magmaguy.elitemobs.mobconstructor.mobdata.aggressivemobs.EliteMobProperties;
 import com.magmaguy.elitemobs.playerdata.ElitePlayerInventory;
 import com.magmaguy.elitemobs.powers.meta.ElitePower;
+import com.magmaguy.elitemobs.powers.scripts.EliteScript;
+import com.magmaguy.elitemobs.powers.scripts.ScriptTimerWheel;
 import com.magmaguy.elitemobs.powerstances.MajorPowerPowerStance;
 import com.magmaguy.elitemobs.powerstances.MinorPowerPowerStance;
 import com.magmaguy.elitemobs.tagger.PersistentTagger;
@@ -31,6 +33,7 @@ import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.NamespacedKey;
 import org.bukkit.entity.*;
+import org.bukkit.event.Event;
 import org.bukkit.event.entity.CreatureSpawnEvent;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
@@ -52,6 +55,11 @@ public class EliteEntity {
      */
     @Getter
     protected HashSet<ElitePower> elitePowers = new HashSet<>();
+    private static final EliteScript[] NO_SCRIPTS = new EliteScript[0];
+    //Scripts by the event classes that trigger them, rebuilt whenever the powers change
+    private Map<Class<?>, EliteScript[]> scriptDispatchTable = null;
+    private Set<ElitePower> scriptDispatchSource = null;
+    private int scriptDispatchSize = -1;
     //coming soon - decoupling aggro from damage to allow for tanking mechanics
     protected HashMap<Player, Double> aggro = new HashMap<>();
     /*
@@ -548,6 +556,33 @@ public class EliteEntity {
         powersConfigFields.forEach(field -> ElitePower.addPower(this, field));
     }
 
+    /**
+     * Gets the scripts triggered by an event without going over the elite's other powers.
+     *
+     * @param eventClass Class of the event that happened
+     * @return Scripts to check for the event, empty if none listen to it
+     */
+    public EliteScript[] getScripts(Class<? extends Event> eventClass) {
+        //Powers get assigned by replacing the set or adding to it, both of which this catches
+        if (scriptDispatchTable == null || scriptDispatchSource != elitePowers || scriptDispatchSize != elitePowers.size())
+            buildScriptDispatchTable();
+        return scriptDispatchTable.getOrDefault(eventClass, NO_SCRIPTS);
+    }
+
+    private void buildScriptDispatchTable() {
+        Map<Class<?>, List<EliteScript>> scriptsByEvent = new HashMap<>();
+        for (ElitePower elitePower : elitePowers)
+            if (elitePower instanceof EliteScript eliteScript)
+                for (Class<?> eventClass : eliteScript.getTargetEvents())
+                    scriptsByEvent.computeIfAbsent(eventClass, key -> new ArrayList<>()).add(eliteScript);
+        Map<Class<?>, EliteScript[]> table = new HashMap<>();
+        for (Map.Entry<Class<?>, List<EliteScript>> entry : scriptsByEvent.entrySet())
+            table.put(entry.getKey(), entry.getValue().toArray(NO_SCRIPTS));
+        scriptDispatchTable = table;
+        scriptDispatchSource = elitePowers;
+        scriptDispatchSize = elitePowers.size();
+    }
+
     public boolean hasPower(ElitePower mobPower) {
         for (ElitePower elitePower : elitePowers)
             if (elitePower.getPowersConfigFields().equals(mobPower.getPowersConfigFields()))
@@ -599,13 +634,13 @@ public class EliteEntity {
 
     public void doCooldown() {
         setInCooldown(true);
-        TaskScheduler scheduler = new TaskScheduler(MetadataHandler.PLUGIN);
+        TaskScheduler scheduler = TaskScheduler.get(MetadataHandler.PLUGIN);
         scheduler.runDelayedAsync(() -> setInCooldown(false), 20 * 15);
     }
 
     public void doGlobalPowerCooldown(int ticks) {
         setInCooldown(true);
-        TaskScheduler scheduler = new TaskScheduler(MetadataHandler.PLUGIN);
+        TaskScheduler scheduler = TaskScheduler.get(MetadataHandler.PLUGIN);
         scheduler.runDelayedAsync(() -> setInCooldown(false), ticks);
     }
 
@@ -631,13 +666,13 @@ public class EliteEntity {
 
     public void setInAntiExploitCooldown() {
         this.inAntiExploitCooldown = true;
-        TaskScheduler scheduler = new TaskScheduler(MetadataHandler.PLUGIN);
+        TaskScheduler scheduler = TaskScheduler.get(MetadataHandler.PLUGIN);
         scheduler.runDelayedAsync(() -> inAntiExploitCooldown = false, 20);
     }
 
     public void setCombatGracePeriod(int delayInTicks) {
         this.inCombatGracePeriod = true;
-        TaskScheduler scheduler = new TaskScheduler(MetadataHandler.PLUGIN);
+        TaskScheduler scheduler = TaskScheduler.get(MetadataHandler.PLUGIN);
         scheduler.runDelayedAsync(() -> inCombatGracePeriod = false, delayInTicks);
     }
 
@@ -678,7 +713,7 @@ public class EliteEntity {
         //This prevents the entity tracker from running this code twice when removing due to specific reasons
         //Custom bosses have their own tracking removal rules
         if (livingEntity != null && (!(this instanceof CustomBossEntity)))
-            EntityTracker.getEliteMobEntities().remove(eliteUUID);
+            EntityTracker.untrackEliteMob(this);
         if (livingEntity != null && !removalReason.equals(RemovalReason.DEATH))
             livingEntity.remove();
         if (livingEntity instanceof EnderDragon enderDragon && removalReason.equals(RemovalReason.DEATH)) {
@@ -686,6 +721,7 @@ public class EliteEntity {
             if (enderDragon.getDragonBattle() != null)
                 enderDragon.getDragonBattle().generateEndPortal(false);
         }
+        ScriptTimerWheel.cancelOwner(this);
         this.livingEntity = null;
     }
 
@@ -0,0 +1,218 @@
+package com.magmaguy.elitemobs.mobconstructor;
+
+import com.magmaguy.elitemobs.MetadataHandler;
+import com.magmaguy.elitemobs.config.ValidWorldsConfig;
+import com.magmaguy.elitemobs.config.customspawns.CustomSpawnConfigFields;
+import org.bukkit.*;
+import org.bukkit.block.Biome;
+import org.bukkit.block.Block;
+import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Finds spawn locations for custom spawns without touching the world from async threads.
+ * <p>
+ * Chunks that are already loaded around players get copied into {@link ChunkSnapshot}s on the main thread, and the
+ * snapshots get searched for open spots on async threads, one task per chunk. The spots found are kept per world, biome
+ * and 16 block height band for a minute. Custom spawns pick a spot that fits their config from that pool, re-check the
+ * blocks on the main thread and can spawn right away instead of probing random locations.
+ */
+public class SpawnLocationFinder {
+    private static final int MIN_DISTANCE = 24;
+    private static final int MAX_DISTANCE = 128;
+    //Spots were found between 24 and 128 blocks away on each axis, so the farthest one is on the diagonal
+    private static final double MAX_DISTANCE_SQUARED = 2D * MAX_DISTANCE * MAX_DISTANCE;
+    private static final int HEIGHT_BAND_SHIFT = 4;
+    private static final int CANDIDATES_PER_BAND = 16;
+    private static final int COLUMNS_PER_CHUNK = 8;
+    private static final int CHUNKS_PER_SCAN = 4;
+    private static final long CANDIDATE_LIFETIME_MILLIS = 60_000;
+    private static final Map<UUID, Map<BandKey, ArrayDeque<Candidate>>> candidates = new ConcurrentHashMap<>();
+    private static BukkitTask warmupTask = null;
+
+    private SpawnLocationFinder() {
+    }
+
+    /**
+     * Keeps the pool of spots topped up around players in valid worlds.
+     */
+    public static void start() {
+        if (warmupTask != null) return;
+        warmupTask = Bukkit.getScheduler().runTaskTimer(MetadataHandler.PLUGIN, () -> {
+            List<Player> players = new ArrayList<>();
+            for (Player player : Bukkit.getOnlinePlayers())
+                if (ValidWorldsConfig.isValidWorld(player.getWorld())) players.add(player);
+            scanAround(players);
+        }, 20, 40);
+    }
+
+    public static void shutdown() {
+        if (warmupTask != null) warmupTask.cancel();
+        warmupTask = null;
+        candidates.clear();
+    }
+
+    /**
+     * Snapshots random loaded chunks around some of the players and searches them on async threads. Must run on the
+     * main thread.
+     *
+     * @param players Players to look around
+     */
+    public static void scanAround(List<Player> players) {
+        if (players.isEmpty()) return;
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < Math.min(CHUNKS_PER_SCAN, players.size() * 2); i++) {
+            Player player = players.get(random.nextInt(players.size()));
+            World world = player.getWorld();
+            Location playerLocation = player.getLocation();
+            int chunkX = (playerLocation.getBlockX() + randomOffset(random)) >> 4;
+            int chunkZ = (playerLocation.getBlockZ() + randomOffset(random)) >> 4;
+            //Only chunks that are already loaded, this should never be the reason a chunk gets loaded
+            if (!world.isChunkLoaded(chunkX, chunkZ)) continue;
+            ChunkSnapshot snapshot = world.getChunkAt(chunkX, chunkZ).getChunkSnapshot(true, true, false);
+            UUID worldUUID = world.getUID();
+            int minHeight = world.getMinHeight();
+            int maxHeight = world.getMaxHeight();
+            Bukkit.getScheduler().runTaskAsynchronously(MetadataHandler.PLUGIN, () -> scan(worldUUID, snapshot, minHeight, maxHeight));
+        }
+    }
+
+    /**
+     * Takes a spot out of the pool that fits the custom spawn, near one of the players. Must run on the main thread.
+     *
+     * @param customSpawnConfigFields Custom spawn to find a spot for
+     * @param players                 Players the spawn can happen around
+     * @return Spawn location, or null if the pool has nothing that fits yet
+     */
+    public static Location find(CustomSpawnConfigFields customSpawnConfigFields, List<Player> players) {
+        if (players.isEmpty()) return null;
+        int offset = ThreadLocalRandom.current().nextInt(players.size());
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < players.size(); i++) {
+            Player player = players.get((i + offset) % players.size());
+            World world = player.getWorld();
+            Map<BandKey, ArrayDeque<Candidate>> worldCandidates = candidates.get(world.getUID());
+            if (worldCandidates == null) continue;
+            Location playerLocation = player.getLocation();
+            for (Map.Entry<BandKey, ArrayDeque<Candidate>> entry : worldCandidates.entrySet()) {
+                if (!customSpawnConfigFields.getValidBiomes().isEmpty() &&
+                        !customSpawnConfigFields.getValidBiomes().contains(entry.getKey().biome())) continue;
+                int bandMinY = entry.getKey().band() << HEIGHT_BAND_SHIFT;
+                int bandMaxY = bandMinY + (1 << HEIGHT_BAND_SHIFT) - 1;
+                if (bandMaxY < customSpawnConfigFields.getLowestYLevel() || bandMinY > customSpawnConfigFields.getHighestYLevel())
+                    continue;
+                ArrayDeque<Candidate> band = entry.getValue();
+                synchronized (band) {
+                    Iterator<Candidate> iterator = band.iterator();
+                    while (iterator.hasNext()) {
+                        Candidate candidate = iterator.next();
+                        if (now - candidate.createdAt() > CANDIDATE_LIFETIME_MILLIS) {
+                            iterator.remove();
+                            continue;
+                        }
+                        if (!fits(candidate, customSpawnConfigFields, world, playerLocation)) continue;
+                        //Whatever happens next, this spot has been looked at and shouldn't get handed out twice
+                        iterator.remove();
+                        Location location = verify(candidate, world, customSpawnConfigFields.isCanSpawnInLight());
+                        if (location != null) return location;
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    private static boolean fits(Candidate candidate, CustomSpawnConfigFields customSpawnConfigFields, World world, Location playerLocation) {
+        if (customSpawnConfigFields.isSurfaceSpawn() && !candidate.surface()) return false;
+        if (customSpawnConfigFields.isUndergroundSpawn() && candidate.surface()) return false;
+        if (candidate.y() > customSpawnConfigFields.getHighestYLevel() || candidate.y() < customSpawnConfigFields.getLowestYLevel())
+            return false;
+        //Nether ceiling check
+        if (candidate.y() > 127 && world.getEnvironment().equals(World.Environment.NETHER)) return false;
+        //Light level check - following 1.18 rules. Sky light depends on the time of day, so only light from blocks can
+        //rule a spot out this early and the full check happens in verify
+        if (!customSpawnConfigFields.isCanSpawnInLight() && candidate.blockLight() > 8) return false;
+        double distanceX = candidate.x() + 0.5 - playerLocation.getX();
+        double distanceZ = candidate.z() + 0.5 - playerLocation.getZ();
+        if (distanceX * distanceX + distanceZ * distanceZ > MAX_DISTANCE_SQUARED) return false;
+        //Prevent spawning right on top of players
+        for (Player player : world.getPlayers()) {
+            Location location = player.getLocation();
+            double x = candidate.x() + 0.5 - location.getX();
+            double y = candidate.y() - location.getY();
+            double z = candidate.z() + 0.5 - location.getZ();
+            if (x * x + y * y + z * z < MIN_DISTANCE * MIN_DISTANCE) return false;
+        }
+        return true;
+    }
+
+    //The spot could have been built over since it was found, so it gets one last cheap look while the chunk is loaded
+    private static Location verify(Candidate candidate, World world, boolean canSpawnInLight) {
+        if (!world.isChunkLoaded(candidate.x() >> 4, candidate.z() >> 4)) return null;
+        Block block = world.getBlockAt(candidate.x(), candidate.y(), candidate.z());
+        if (!block.getType().isAir()) return null;
+        if (!block.getRelative(0, 1, 0).getType().isAir()) return null;
+        if (!block.getRelative(0, -1, 0).getType().isSolid()) return null;
+        if (!canSpawnInLight && block.getLightLevel() > 8) return null;
+        return block.getLocation().add(0.5, 0, 0.5);
+    }
+
+    private static void scan(UUID worldUUID, ChunkSnapshot snapshot, int minHeight, int maxHeight) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < COLUMNS_PER_CHUNK; i++) {
+            int localX = random.nextInt(16);
+            int localZ = random.nextInt(16);
+            int x = (snapshot.getX() << 4) + localX;
+            int z = (snapshot.getZ() << 4) + localZ;
+            int highestY = snapshot.getHighestBlockYAt(localX, localZ);
+
+            //Surface spot, right above the highest block
+            if (isOpen(snapshot, localX, highestY + 1, localZ, minHeight, maxHeight))
+                add(worldUUID, snapshot, new Candidate(x, highestY + 1, z, true, snapshot.getBlockEmittedLight(localX, highestY + 1, localZ), now));
+
+            //Spots under the surface, at most one per height band so tall caves don't crowd out the rest of the column
+            int lastBand = Integer.MIN_VALUE;
+            for (int y = minHeight + 1; y < highestY; y++) {
+                if (y >> HEIGHT_BAND_SHIFT == lastBand) continue;
+                if (!isOpen(snapshot, localX, y, localZ, minHeight, maxHeight)) continue;
+                lastBand = y >> HEIGHT_BAND_SHIFT;
+                add(worldUUID, snapshot, new Candidate(x, y, z, false, snapshot.getBlockEmittedLight(localX, y, localZ), now));
+            }
+        }
+    }
+
+    private static boolean isOpen(ChunkSnapshot snapshot, int x, int y, int z, int minHeight, int maxHeight) {
+        if (y <= minHeight || y + 1 >= maxHeight) return false;
+        if (!snapshot.getBlockType(x, y - 1, z).isSolid()) return false;
+        Material material = snapshot.getBlockType(x, y, z);
+        if (!material.isAir() || material.equals(Material.VOID_AIR)) return false;
+        return snapshot.getBlockType(x, y + 1, z).isAir();
+    }
+
+    private static void add(UUID worldUUID, ChunkSnapshot snapshot, Candidate candidate) {
+        Biome biome = snapshot.getBiome(candidate.x() & 15, candidate.y(), candidate.z() & 15);
+        ArrayDeque<Candidate> band = candidates.computeIfAbsent(worldUUID, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(new BandKey(biome, candidate.y() >> HEIGHT_BAND_SHIFT), key -> new ArrayDeque<>());
+        synchronized (band) {
+            //Oldest spots make room for new ones
+            if (band.size() >= CANDIDATES_PER_BAND) band.pollFirst();
+            band.addLast(candidate);
+        }
+    }
+
+    private static int randomOffset(ThreadLocalRandom random) {
+        int offset = random.nextInt(MIN_DISTANCE, MAX_DISTANCE);
+        return random.nextBoolean() ? offset : -offset;
+    }
+
+    private record BandKey(Biome biome, int band) {
+    }
+
+    private record Candidate(int x, int y, int z, boolean surface, int blockLight, long createdAt) {
+    }
+}
@@ -3,6 +3,7 @@ package com.magmaguy.elitemobs.mobconstructor.custombosses;
 import com.magmaguy.elitemobs.MetadataHandler;
 import com.magmaguy.elitemobs.config.DefaultConfig;
 import com.magmaguy.elitemobs.config.MobCombatSettingsConfig;
+import com.magmaguy.elitemobs.utils.ProximityService;
 import com.magmaguy.magmacore.util.ChatColorConverter;
 import com.magmaguy.magmacore.util.Logger;
 import com.magmaguy.magmacore.util.Round;
@@ -15,8 +16,6 @@ import org.bukkit.boss.BarColor;
 import org.bukkit.boss.BarFlag;
 import org.bukkit.boss.BarStyle;
 import org.bukkit.boss.BossBar;
-import org.bukkit.entity.Entity;
-import org.bukkit.entity.EntityType;
 import org.bukkit.entity.Player;
 import org.bukkit.scheduler.BukkitRunnable;
 import org.bukkit.scheduler.BukkitTask;
@@ -32,10 +31,12 @@ import java.util.Map;
  */
 public class BossTrackingBar {
 
+    private static final double NEARBY_RANGE = 30;
     private final CustomBossEntity customBossEntity;
     private final Map<Player, BossBar> bossBars = new HashMap<>();
     private final HashSet<Player> trackingPlayers = new HashSet<>();
     private BukkitTask bossBarUpdater;
+    private ProximityService.Subject nearbyPlayers = null;
     private boolean warned = false;
 
     public BossTrackingBar(CustomBossEntity customBossEntity) {
@@ -67,11 +68,14 @@ public class BossTrackingBar {
 
     public void removeTrackingPlayer(Player player) {
         trackingPlayers.remove(player);
+        //Players close to the boss keep seeing the bar either way
+        if (nearbyPlayers != null && nearbyPlayers.isNear(player)) return;
         BossBar bossBar = bossBars.remove(player);
         if (bossBar != null) bossBar.removeAll();
     }
 
     public void remove() {
+        if (nearbyPlayers != null) nearbyPlayers.remove();
         bossBars.values().forEach(BossBar::removeAll);
         bossBars.clear();
         trackingPlayers.clear();
@@ -118,6 +122,17 @@ public class BossTrackingBar {
     }
 
     public void start() {
+        nearbyPlayers = ProximityService.register(
+                () -> customBossEntity.isValid() ? customBossEntity.getLocation() : null,
+                NEARBY_RANGE,
+                player -> {
+                    if (!bossBars.containsKey(player)) createBossBar(player);
+                },
+                player -> {
+                    if (trackingPlayers.contains(player)) return;
+                    BossBar bossBar = bossBars.remove(player);
+                    if (bossBar != null) bossBar.removeAll();
+                });
         bossBarUpdater = new BukkitRunnable() {
             @Override
             public void run() {
@@ -128,29 +143,21 @@ public class BossTrackingBar {
                     return;
                 }
 
-                HashSet<Player> freshIteration = new HashSet<>();
                 for (Player player : trackingPlayers) {
-                    freshIteration.add(player);
                     if (!bossBars.containsKey(player)) createBossBar(player);
                     updateBossBar(player, bossBars.get(player));
                 }
 
-                //Remove players that have stopped
+                //Remove players that have stopped tracking and aren't nearby
                 bossBars.entrySet().removeIf(entry -> {
-                    if (!trackingPlayers.contains(entry.getKey())) {
-                        entry.getValue().removeAll();
-                        return true;
+                    if (trackingPlayers.contains(entry.getKey())) return false;
+                    if (nearbyPlayers.isNear(entry.getKey())) {
+                        updateBossBar(entry.getKey(), entry.getValue());
+                        return false;
                     }
-                    return false;
+                    entry.getValue().removeAll();
+                    return true;
                 });
-
-                //nearby player check
-                if (customBossEntity.isValid())
-                    for (Entity entity : customBossEntity.getLivingEntity().getNearbyEntities(30, 30, 30))
-                        if (entity.getType().equals(EntityType.PLAYER))
-                            if (!freshIteration.contains((Player) entity))
-                                createBossBar((Player) entity);
-
             }
         }.runTaskTimer(MetadataHandler.PLUGIN, 0, 5);
     }
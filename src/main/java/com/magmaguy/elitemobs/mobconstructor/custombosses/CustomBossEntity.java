@@ -145,7 +145,7 @@ public class CustomBossEntity extends EliteEntity implements Listener, Persisten
 
     public static void startUpdatingDynamicLevels() {
         // Convert to Folia-compatible timer task
-        TaskScheduler taskScheduler = new TaskScheduler(MetadataHandler.PLUGIN);
+        TaskScheduler taskScheduler = TaskScheduler.get(MetadataHandler.PLUGIN);
         TaskScheduler.TaskWrapper taskWrapper = taskScheduler.runTimerAsync(() -> {
             Iterator<CustomBossEntity> iterator = dynamicLevelBossEntities.iterator();
             while (iterator.hasNext()) {
@@ -545,7 +545,7 @@ public class CustomBossEntity extends EliteEntity implements Listener, Persisten
 
         if (bossInstanceEnd) {
             if (!(this instanceof RegionalBossEntity) || this instanceof InstancedBossEntity)
-                EntityTracker.getEliteMobEntities().remove(super.eliteUUID);
+                EntityTracker.untrackEliteMob(this);
             new EventCaller(new EliteMobRemoveEvent(this, removalReason));
             if (escapeMechanism != null) {
                 // Convert to Folia-compatible task cancellation
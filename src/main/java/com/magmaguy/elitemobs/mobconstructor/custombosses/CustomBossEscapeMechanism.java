@@ -13,7 +13,7 @@ public class CustomBossEscapeMechanism {
     public static Integer startEscapeTicks(int timeout, CustomBossEntity customBossEntity) {
         if (timeout < 1) return null;
         // Convert to Folia-compatible delayed task
-        TaskScheduler taskScheduler = new TaskScheduler(MetadataHandler.PLUGIN);
+        TaskScheduler taskScheduler = TaskScheduler.get(MetadataHandler.PLUGIN);
         taskScheduler.runDelayedAsync(() -> {
             doEscapeMessage(customBossEntity);
         }, timeout);
@@ -23,7 +23,7 @@ public class CustomBossEscapeMechanism {
     public static Integer startEscape(int timeout, CustomBossEntity customBossEntity) {
         if (timeout < 1) return null;
         // Convert to Folia-compatible delayed task  
-        TaskScheduler taskScheduler = new TaskScheduler(MetadataHandler.PLUGIN);
+        TaskScheduler taskScheduler = TaskScheduler.get(MetadataHandler.PLUGIN);
         taskScheduler.runDelayedAsync(() -> {
             doEscapeMessage(customBossEntity);
         }, 20L * 60L * timeout);
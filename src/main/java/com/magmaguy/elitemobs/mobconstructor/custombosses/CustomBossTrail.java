@@ -4,6 +4,7 @@ import com.magmaguy.elitemobs.MetadataHandler;
 import com.magmaguy.elitemobs.api.internal.RemovalReason;
 import com.magmaguy.elitemobs.entitytracker.EntityTracker;
 import com.magmaguy.elitemobs.powerstances.VisualItemInitializer;
+import com.magmaguy.elitemobs.utils.VisualEffectBudget;
 import com.magmaguy.magmacore.util.ItemStackGenerator;
 import org.bukkit.Location;
 import org.bukkit.Material;
@@ -53,6 +54,8 @@ public class CustomBossTrail {
         if (particle.getDataType() != Void.class)
             return;
         bukkitTasks.add(new BukkitRunnable() {
+            int frame = 0;
+
             @Override
             public void run() {
                 //In case of boss death or chunk unload, stop the effect
@@ -61,14 +64,16 @@ public class CustomBossTrail {
                     return;
                 }
                 //All conditions cleared, do the boss flair effect
-                Location entityCenter = livingEntity.getLocation().clone().add(0, livingEntity.getHeight() / 2, 0);
-                livingEntity.getWorld().spawnParticle(particle, entityCenter, 1, 0.1, 0.1, 0.1, 0.05);
+                Location entityCenter = livingEntity.getLocation().add(0, livingEntity.getHeight() / 2, 0);
+                VisualEffectBudget.spawnParticle(VisualEffectBudget.EffectType.BOSS_PARTICLE_TRAIL, entityCenter, frame++,
+                        particle, 1, 0.1, 0.1, 0.1, 0.05);
             }
         }.runTaskTimer(MetadataHandler.PLUGIN, 0, 1));
     }
 
     private void doItemTrail(Material material) {
         bukkitTasks.add(new BukkitRunnable() {
+            int frame = 0;
 
             @Override
             public void run() {
@@ -78,7 +83,10 @@ public class CustomBossTrail {
                     return;
                 }
                 //All conditions cleared, do the boss flair effect
-                Location entityCenter = livingEntity.getLocation().clone().add(0, livingEntity.getHeight() / 2, 0);
+                Location entityCenter = livingEntity.getLocation().add(0, livingEntity.getHeight() / 2, 0);
+                //Nobody close enough to see it, or the players around have already been sent enough this tick
+                if (!VisualEffectBudget.tryEntityEffect(VisualEffectBudget.EffectType.BOSS_ITEM_TRAIL, entityCenter, frame++, 1))
+                    return;
                 Item item = VisualItemInitializer.initializeItem(ItemStackGenerator.generateItemStack
                         (material, "visualItem", List.of(ThreadLocalRandom.current().nextDouble() + "")), entityCenter);
                 item.setVelocity(new Vector(
@@ -4,9 +4,9 @@ import com.magmaguy.elitemobs.MetadataHandler;
 import com.magmaguy.elitemobs.api.PlayerTeleportEvent;
 import com.magmaguy.elitemobs.config.contentpackages.ContentPackagesConfigFields;
 import com.magmaguy.elitemobs.dungeons.EliteMobsWorld;
+import com.magmaguy.elitemobs.utils.ProximityService;
 import com.magmaguy.magmacore.util.Logger;
 import lombok.Getter;
-import org.bukkit.Location;
 import org.bukkit.SoundCategory;
 import org.bukkit.World;
 import org.bukkit.entity.Player;
@@ -37,7 +37,7 @@ public class CustomMusic {
     private String name2 = null;
     @Getter
     private int durationTicks2 = -1;
-    private BukkitTask bossScannerTask = null;
+    private ProximityService.Subject nearbyPlayers = null;
     private BukkitTask songTask = null;
     private World world;
 
@@ -96,24 +96,18 @@ public class CustomMusic {
     }
 
     public void start(CustomBossEntity customBossEntity) {
-        if (bossScannerTask != null) {
-            bossScannerTask.cancel();
-        }
-        bossScannerTask = new BukkitRunnable() {
-            @Override
-            public void run() {
-                if (!customBossEntity.exists()) {
-                    stop();
-                    return;
-                }
-                play(customBossEntity.getLocation(), customBossEntity.getCustomBossesConfigFields().getFollowDistance());
-            }
-        }.runTaskTimer(MetadataHandler.PLUGIN, 0, 10);
+        if (nearbyPlayers != null) nearbyPlayers.remove();
+        nearbyPlayers = ProximityService.register(
+                () -> customBossEntity.exists() ? customBossEntity.getLocation() : null,
+                customBossEntity.getCustomBossesConfigFields().getFollowDistance(),
+                this::playNearby,
+                null);
     }
 
     public void stop() {
-        if (bossScannerTask != null) {
-            bossScannerTask.cancel();
+        if (nearbyPlayers != null) {
+            nearbyPlayers.remove();
+            nearbyPlayers = null;
         }
         for (Map.Entry<UUID, CustomMusic> entry : players.entrySet()) {
             Player player = org.bukkit.Bukkit.getPlayer(entry.getKey());
@@ -128,36 +122,27 @@ public class CustomMusic {
         players.clear();
     }
 
-    private void play(Location location, double range) {
-        // Cache the squared range for faster distance checks
-        double rangeSquared = range * range;
-
-        // Get players directly instead of all entities
-        for (Player player : location.getWorld().getPlayers()) {
-            // Fast distance check using distanceSquared
-            if (player.getLocation().distanceSquared(location) > rangeSquared)
-                continue;
-
-            UUID playerUUID = player.getUniqueId();
-            CustomMusic currentCustomMusic = playerSongSingleton.get(playerUUID);
-            if (currentCustomMusic != null && !currentCustomMusic.equals(this)) {
-                if (currentCustomMusic.songTask != null)
-                    currentCustomMusic.songTask.cancel();
-                player.stopSound(currentCustomMusic.name);
-                if (currentCustomMusic.name2 != null) {
-                    try {
-                        player.stopSound(currentCustomMusic.name2);
-                    } catch (Exception e) {
-                        Logger.warn("Error trying to stop song, key was " + name2 + " . Reporting this to the author would be appreciated. This does not break anything.");
-                    }
+    //Runs when a player comes in range of the boss
+    private void playNearby(Player player) {
+        UUID playerUUID = player.getUniqueId();
+        CustomMusic currentCustomMusic = playerSongSingleton.get(playerUUID);
+        if (currentCustomMusic != null && !currentCustomMusic.equals(this)) {
+            if (currentCustomMusic.songTask != null)
+                currentCustomMusic.songTask.cancel();
+            player.stopSound(currentCustomMusic.name);
+            if (currentCustomMusic.name2 != null) {
+                try {
+                    player.stopSound(currentCustomMusic.name2);
+                } catch (Exception e) {
+                    Logger.warn("Error trying to stop song, key was " + name2 + " . Reporting this to the author would be appreciated. This does not break anything.");
                 }
-                playerSongSingleton.remove(playerUUID);
             }
+            playerSongSingleton.remove(playerUUID);
+        }
 
-            if (!players.containsKey(playerUUID)) {
-                player.playSound(player.getLocation(), name, SoundCategory.MUSIC, 1f, 1f);
-                startLoopingTask(player, durationTicks);
-            }
+        if (!players.containsKey(playerUUID)) {
+            player.playSound(player.getLocation(), name, SoundCategory.MUSIC, 1f, 1f);
+            startLoopingTask(player, durationTicks);
         }
     }
 
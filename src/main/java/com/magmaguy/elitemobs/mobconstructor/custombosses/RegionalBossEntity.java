@@ -125,7 +125,7 @@ public class RegionalBossEntity extends CustomBossEntity implements PersistentOb
 
     public static void regionalDataSaver() {
         // Convert to Folia-compatible timer task
-        TaskScheduler taskScheduler = new TaskScheduler(MetadataHandler.PLUGIN);
+        TaskScheduler taskScheduler = TaskScheduler.get(MetadataHandler.PLUGIN);
         taskScheduler.runTimerAsync(() -> {
             save();
         }, 20L * 5, 20L * 5);
@@ -237,7 +237,7 @@ public class RegionalBossEntity extends CustomBossEntity implements PersistentOb
             }
         }
         // Convert to Folia-compatible timer task
-        TaskScheduler taskScheduler = new TaskScheduler(MetadataHandler.PLUGIN);
+        TaskScheduler taskScheduler = TaskScheduler.get(MetadataHandler.PLUGIN);
         TaskScheduler.TaskWrapper taskWrapper = taskScheduler.runTimerAsync(() -> {
             try {
                 if (!isValid()) {
@@ -318,7 +318,7 @@ public class RegionalBossEntity extends CustomBossEntity implements PersistentOb
     private void permanentlyRemove() {
         if (phaseBossEntity != null)
             phaseBossEntity.silentReset();
-        EntityTracker.getEliteMobEntities().remove(super.eliteUUID);
+        EntityTracker.untrackEliteMob(this);
         removed = true;
         getCustomBossesConfigFields().setFilesOutOfSync(true);
     }
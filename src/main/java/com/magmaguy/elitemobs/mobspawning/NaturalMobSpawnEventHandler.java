@@ -1,7 +1,6 @@
 package com.magmaguy.elitemobs.mobspawning;
 
 import com.magmaguy.elitemobs.EliteMobs;
-import com.magmaguy.elitemobs.adventurersguild.GuildRank;
 import com.magmaguy.elitemobs.config.AdventurersGuildConfig;
 import com.magmaguy.elitemobs.config.DefaultConfig;
 import com.magmaguy.elitemobs.config.MobCombatSettingsConfig;
@@ -9,11 +8,9 @@ import com.magmaguy.elitemobs.config.ValidWorldsConfig;
 import com.magmaguy.elitemobs.config.mobproperties.MobPropertiesConfig;
 import com.magmaguy.elitemobs.entitytracker.EntityTracker;
 import com.magmaguy.elitemobs.items.MobTierCalculator;
-import com.magmaguy.elitemobs.items.customenchantments.HunterEnchantment;
 import com.magmaguy.elitemobs.mobconstructor.EliteEntity;
 import com.magmaguy.elitemobs.mobconstructor.mobdata.aggressivemobs.EliteMobProperties;
 import com.magmaguy.elitemobs.playerdata.ElitePlayerInventory;
-import com.magmaguy.elitemobs.playerdata.database.PlayerData;
 import com.magmaguy.elitemobs.thirdparty.worldguard.WorldGuardCompatibility;
 import com.magmaguy.elitemobs.thirdparty.worldguard.WorldGuardFlagChecker;
 import com.magmaguy.elitemobs.thirdparty.worldguard.WorldGuardSpawnEventBypasser;
@@ -30,7 +27,6 @@ import org.bukkit.event.entity.CreatureSpawnEvent;
 
 import java.util.List;
 import java.util.concurrent.ThreadLocalRandom;
-import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.bukkit.event.entity.CreatureSpawnEvent.SpawnReason.*;
 
@@ -48,17 +44,34 @@ public class NaturalMobSpawnEventHandler implements Listener {
      */
     public static int getNaturalMobLevel(Location spawnLocation, List<Player> nearbyPlayers) {
 
-        int eliteMobLevel = 1;
-        int playerCount = 0;
+        int highestThreat = 0;
 
         for (Player player : nearbyPlayers) {
             int individualPlayerThreat = ElitePlayerInventory.playerInventories.get(player.getUniqueId()).getNaturalMobSpawnLevel(true);
-            playerCount++;
 
-            if (individualPlayerThreat > eliteMobLevel)
-                eliteMobLevel = individualPlayerThreat;
+            if (individualPlayerThreat > highestThreat)
+                highestThreat = individualPlayerThreat;
         }
 
+        return getNaturalMobLevel(spawnLocation, nearbyPlayers.size(), highestThreat);
+
+    }
+
+    /**
+     * Same as {@link #getNaturalMobLevel(Location, List)}, using the totals already gathered in a player roster.
+     *
+     * @param spawnLocation Location the elite spawns at
+     * @param nearbyPlayers Players near the spawn location
+     * @return Level the natural elite should spawn at
+     */
+    public static int getNaturalMobLevel(Location spawnLocation, PlayerScanner.NearbyPlayerRoster nearbyPlayers) {
+        return getNaturalMobLevel(spawnLocation, nearbyPlayers.getPlayers().size(), nearbyPlayers.getHighestThreat());
+    }
+
+    private static int getNaturalMobLevel(Location spawnLocation, int playerCount, int highestThreat) {
+
+        int eliteMobLevel = Math.max(1, highestThreat);
+
         /*
         Party system modifier
         Each player adds a +2 tier bonus
@@ -110,7 +123,7 @@ public class NaturalMobSpawnEventHandler implements Listener {
 
         if (!MobCombatSettingsConfig.isDoNaturalMobSpawning())
             return;
-        if (!ValidWorldsConfig.getInstance().getFileConfiguration().getBoolean("Valid worlds." + event.getEntity().getWorld().getName()))
+        if (!ValidWorldsConfig.isValidWorld(event.getEntity().getWorld()))
             return;
         if (event.getSpawnReason().equals(CreatureSpawnEvent.SpawnReason.SPAWNER) &&
                 !MobCombatSettingsConfig.isDoSpawnersSpawnEliteMobs() ||
@@ -127,19 +140,11 @@ public class NaturalMobSpawnEventHandler implements Listener {
 
         double validChance = MobCombatSettingsConfig.getAggressiveMobConversionPercentage();
 
-        List<Player> nearbyPlayers = PlayerScanner.getNearbyPlayers(livingEntity.getLocation());
-
-        double huntingGearChanceAdder = HunterEnchantment.getHuntingGearBonus(nearbyPlayers);
-        validChance += huntingGearChanceAdder;
+        PlayerScanner.NearbyPlayerRoster nearbyPlayers = PlayerScanner.getRoster(livingEntity.getLocation());
 
-        AtomicInteger peacefulModeDebuffs = new AtomicInteger();
-        nearbyPlayers.forEach(player -> {
-            //Handles situations where fake players got caught in the detection
-            if (PlayerData.getPlayerData(player.getUniqueId()) != null && GuildRank.getActiveGuildRank(player) == 0)
-                peacefulModeDebuffs.getAndIncrement();
-        });
+        validChance += nearbyPlayers.getHuntingGearBonus();
 
-        validChance -= peacefulModeDebuffs.get() * AdventurersGuildConfig.getPeacefulModeEliteChanceDecrease();
+        validChance -= nearbyPlayers.getPeacefulPlayers() * AdventurersGuildConfig.getPeacefulModeEliteChanceDecrease();
 
         if (ThreadLocalRandom.current().nextDouble() >= validChance) return;
 
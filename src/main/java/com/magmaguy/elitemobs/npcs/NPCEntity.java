@@ -16,6 +16,7 @@ import com.magmaguy.elitemobs.npcs.chatter.NPCChatBubble;
 import com.magmaguy.elitemobs.thirdparty.custommodels.CustomModel;
 import com.magmaguy.elitemobs.thirdparty.libsdisguises.DisguiseEntity;
 import com.magmaguy.elitemobs.thirdparty.worldguard.WorldGuardSpawnEventBypasser;
+import com.magmaguy.elitemobs.tagger.PersistentTagger;
 import com.magmaguy.elitemobs.utils.ConfigurationLocation;
 import com.magmaguy.elitemobs.utils.NonSolidBlockTypes;
 import com.magmaguy.magmacore.util.AttributeManager;
@@ -136,6 +137,8 @@ public class NPCEntity implements PersistentObject, PersistentMovingEntity {
         if (villager != null) {
             villager.remove();
             EntityTracker.getNpcEntities().remove(villager.getUniqueId());
+            EntityTracker.getNpcSpatialIndex().remove(this);
+            PersistentTagger.uncacheEntity(villager);
             this.villager = null;
         }
 
@@ -299,13 +302,13 @@ public class NPCEntity implements PersistentObject, PersistentMovingEntity {
      */
     public void startTalkingCooldown() {
         this.isTalking = true;
-        TaskScheduler scheduler = new TaskScheduler(MetadataHandler.PLUGIN);
+        TaskScheduler scheduler = TaskScheduler.get(MetadataHandler.PLUGIN);
         scheduler.runDelayedAsync(() -> isTalking = false, 20 * 3L);
     }
 
     public void setTimeout() {
         if (npCsConfigFields.getTimeout() <= 0) return;
-        TaskScheduler scheduler = new TaskScheduler(MetadataHandler.PLUGIN);
+        TaskScheduler scheduler = TaskScheduler.get(MetadataHandler.PLUGIN);
         scheduler.runDelayedAsync(() -> remove(RemovalReason.NPC_TIMEOUT), (long) (npCsConfigFields.getTimeout() * 20 * 60));
     }
 
@@ -37,7 +37,7 @@ public class NPCInteractions implements Listener {
         UUID playerUUID = event.getPlayer().getUniqueId();
         if (cooldowns.contains(playerUUID)) return;
         cooldowns.add(playerUUID);
-        TaskScheduler scheduler = new TaskScheduler(MetadataHandler.PLUGIN);
+        TaskScheduler scheduler = TaskScheduler.get(MetadataHandler.PLUGIN);
         scheduler.runDelayedAsync(() -> cooldowns.remove(playerUUID), 1);
         if (event.isCancelled()) return;
 
@@ -51,7 +51,7 @@ public class NPCInteractions implements Listener {
 
         event.setCancelled(true);
 
-        TaskScheduler npcScheduler = new TaskScheduler(MetadataHandler.PLUGIN);
+        TaskScheduler npcScheduler = TaskScheduler.get(MetadataHandler.PLUGIN);
         
         switch (npcEntity.getNPCsConfigFields().getInteractionType()) {
             case GUILD_GREETER:
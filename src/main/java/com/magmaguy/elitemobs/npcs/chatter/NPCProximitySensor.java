@@ -9,6 +9,7 @@ import com.magmaguy.elitemobs.playerdata.database.PlayerData;
 import com.magmaguy.elitemobs.quests.CustomQuest;
 import com.magmaguy.elitemobs.quests.DynamicQuest;
 import com.magmaguy.elitemobs.quests.Quest;
+import com.magmaguy.elitemobs.utils.ProximityService;
 import com.magmaguy.elitemobs.utils.VisualDisplay;
 import me.MinhTaz.FoliaLib.TaskScheduler;
 import me.MinhTaz.FoliaLib.TaskScheduler.TaskWrapper;
@@ -16,7 +17,6 @@ import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
 import org.bukkit.Location;
 import org.bukkit.entity.Entity;
-import org.bukkit.entity.EntityType;
 import org.bukkit.entity.Player;
 import org.bukkit.entity.TextDisplay;
 import org.bukkit.event.EventHandler;
@@ -24,45 +24,43 @@ import org.bukkit.event.Listener;
 import org.bukkit.event.inventory.InventoryCloseEvent;
 import org.bukkit.util.Vector;
 
-import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
 public class NPCProximitySensor implements Listener {
 
-    private static final Set<UUID> nearbyPlayers = new HashSet<>();
+    private static final Map<NPCEntity, NearbyPlayers> nearbyPlayers = new ConcurrentHashMap<>();
     private static TaskWrapper proximityScanTask = null;
 
     public NPCProximitySensor() {
-        TaskScheduler scheduler = new TaskScheduler(MetadataHandler.PLUGIN);
-        
+        TaskScheduler scheduler = TaskScheduler.get(MetadataHandler.PLUGIN);
+
         Runnable timerTask = () -> {
-            Set<UUID> unseenPlayerList = new HashSet<>(nearbyPlayers);
-            for (NPCEntity npcEntity : EntityTracker.getNpcEntities().values()) {
+            //NPCs come and go, so the ones that need their nearby players tracked get caught up with here
+            nearbyPlayers.entrySet().removeIf(entry -> {
+                if (entry.getKey().isValid()) return false;
+                entry.getValue().subject.remove();
+                return true;
+            });
+            for (NPCEntity npcEntity : EntityTracker.getNpcEntities().values())
+                if (npcEntity.isValid()) nearbyPlayers.computeIfAbsent(npcEntity, this::track);
+
+            for (Map.Entry<NPCEntity, NearbyPlayers> entry : nearbyPlayers.entrySet()) {
+                NPCEntity npcEntity = entry.getKey();
                 if (!npcEntity.isValid()) continue;
-                for (Entity entity : npcEntity.getVillager().getNearbyEntities(npcEntity.getNPCsConfigFields().getActivationRadius(),
-                        npcEntity.getNPCsConfigFields().getActivationRadius(), npcEntity.getNPCsConfigFields().getActivationRadius())) {
-                    if (!entity.getType().equals(EntityType.PLAYER)) continue;
-                    Player player = (Player) entity;
-                    UUID playerUUID = player.getUniqueId();
-                    Location rotatedLocation = npcEntity.getVillager().getLocation().setDirection(entity.getLocation().subtract(npcEntity.getVillager().getLocation()).toVector());
-                    npcEntity.getVillager().teleport(rotatedLocation);
-                    if (unseenPlayerList.contains(playerUUID)) {
-                        if (!npcEntity.getNPCsConfigFields().getInteractionType().equals(NPCInteractions.NPCInteractionType.CHAT))
-                            npcEntity.sayDialog(player);
-                        unseenPlayerList.remove(playerUUID);
-                    } else {
-                        npcEntity.sayGreeting(player);
-                        nearbyPlayers.add(playerUUID);
-                        startQuestIndicator(npcEntity, player);
-                    }
+                for (Player player : entry.getValue().subject.getPlayers()) {
+                    lookAt(npcEntity, player);
+                    //Players that just got greeted don't get the dialog on top of it
+                    if (entry.getValue().greetedPlayers.remove(player.getUniqueId())) continue;
+                    if (!npcEntity.getNPCsConfigFields().getInteractionType().equals(NPCInteractions.NPCInteractionType.CHAT))
+                        npcEntity.sayDialog(player);
                 }
             }
-
-            nearbyPlayers.removeAll(unseenPlayerList);
         };
 
         proximityScanTask = scheduler.runTimerAsync(timerTask, 0, 20L * 5L);
@@ -73,9 +71,30 @@ public class NPCProximitySensor implements Listener {
             proximityScanTask.cancel();
             proximityScanTask = null;
         }
+        nearbyPlayers.values().forEach(tracked -> tracked.subject.remove());
         nearbyPlayers.clear();
     }
 
+    private NearbyPlayers track(NPCEntity npcEntity) {
+        Set<UUID> greetedPlayers = ConcurrentHashMap.newKeySet();
+        ProximityService.Subject subject = ProximityService.register(
+                () -> npcEntity.isValid() ? npcEntity.getVillager().getLocation() : null,
+                npcEntity.getNPCsConfigFields().getActivationRadius(),
+                player -> {
+                    lookAt(npcEntity, player);
+                    npcEntity.sayGreeting(player);
+                    greetedPlayers.add(player.getUniqueId());
+                    startQuestIndicator(npcEntity, player);
+                },
+                player -> greetedPlayers.remove(player.getUniqueId()));
+        return new NearbyPlayers(subject, greetedPlayers);
+    }
+
+    private void lookAt(NPCEntity npcEntity, Player player) {
+        Location rotatedLocation = npcEntity.getVillager().getLocation().setDirection(player.getLocation().subtract(npcEntity.getVillager().getLocation()).toVector());
+        npcEntity.getVillager().teleport(rotatedLocation);
+    }
+
     private void startQuestIndicator(NPCEntity npcEntity, Player player) {
         if (!npcEntity.getNPCsConfigFields().getInteractionType().equals(NPCInteractions.NPCInteractionType.QUEST_GIVER) &&
                 !npcEntity.getNPCsConfigFields().getInteractionType().equals(NPCInteractions.NPCInteractionType.CUSTOM_QUEST_GIVER))
@@ -152,7 +171,7 @@ public class NPCProximitySensor implements Listener {
         TextDisplay visualArmorStand = VisualDisplay.generateTemporaryTextDisplay(newLocation, messageUp);
         AtomicInteger counter = new AtomicInteger();
         AtomicBoolean up = new AtomicBoolean(true);
-        TaskScheduler scheduler = new TaskScheduler(MetadataHandler.PLUGIN);
+        TaskScheduler scheduler = TaskScheduler.get(MetadataHandler.PLUGIN);
         AtomicReference<TaskWrapper> taskRef = new AtomicReference<>();
 
         Runnable timerTask = () -> {
@@ -190,4 +209,8 @@ public class NPCProximitySensor implements Listener {
                     EntityTracker.getNPCEntity(entity).sayFarewell((Player) event.getPlayer());
     }
 
+
+    private record NearbyPlayers(ProximityService.Subject subject, Set<UUID> greetedPlayers) {
+    }
+
 }
@@ -0,0 +1,97 @@
+package com.magmaguy.elitemobs.playerdata;
+
+import com.magmaguy.elitemobs.adventurersguild.GuildRank;
+import com.magmaguy.elitemobs.api.utils.EliteItemManager;
+import lombok.Getter;
+import org.bukkit.Material;
+import org.bukkit.enchantments.Enchantment;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+
+/**
+ * Immutable copy of the values the damage pipeline needs from a player's gear and guild rank, so that hits only read
+ * fields instead of going back to the items.
+ * <p>
+ * Snapshots are tied to the version of the gear they were built from. They get rebuilt when a gear read finds a change,
+ * when the player changes their equipment or guild rank, and by a timer about once per second so nothing stays stale for
+ * long.
+ */
+public class CombatStatSnapshot {
+    private static final long MAX_AGE_NANOS = 1_000_000_000L;
+
+    @Getter
+    private final long version;
+    private final long createdAt = System.nanoTime();
+    /**
+     * Elite damage from all equipped items.
+     */
+    @Getter
+    private final double eliteDamage;
+    /**
+     * Extra damage against arthropods from Bane of Arthropods levels over the vanilla maximum.
+     */
+    @Getter
+    private final double arthropodsBonusDamage;
+    /**
+     * Extra damage against undead from Smite levels over the vanilla maximum.
+     */
+    @Getter
+    private final double undeadBonusDamage;
+    /**
+     * Chance to crit from the weapon and the guild rank, from 0 to 1.
+     */
+    @Getter
+    private final double critChance;
+    /**
+     * Damage dealt through Thorns levels over the vanilla maximum.
+     */
+    @Getter
+    private final double thornsDamage;
+    @Getter
+    private final boolean rangedWeapon;
+    @Getter
+    private final boolean eliteWeapon;
+
+    CombatStatSnapshot(ElitePlayerInventory elitePlayerInventory, Player player, long version) {
+        this.version = version;
+        PlayerItem mainhand = elitePlayerInventory.mainhand;
+        this.eliteDamage = elitePlayerInventory.helmet.getEliteDamage(null, false) +
+                elitePlayerInventory.chestplate.getEliteDamage(null, false) +
+                elitePlayerInventory.leggings.getEliteDamage(null, false) +
+                elitePlayerInventory.boots.getEliteDamage(null, false) +
+                mainhand.getEliteDamage(null, false) +
+                elitePlayerInventory.offhand.getEliteDamage(null, false);
+        this.arthropodsBonusDamage = bonusDamage(mainhand.damageArthropodsLevel, Enchantment.BANE_OF_ARTHROPODS);
+        this.undeadBonusDamage = bonusDamage(mainhand.damageUndeadLevel, Enchantment.SMITE);
+        this.critChance = mainhand.getCritChance(null, false) +
+                GuildRank.critBonusValue(GuildRank.getGuildPrestigeRank(player), GuildRank.getActiveGuildRank(player)) / 100;
+        this.thornsDamage = thornsDamage(elitePlayerInventory);
+        ItemStack weapon = player.getInventory().getItemInMainHand();
+        this.rangedWeapon = weapon.getType().equals(Material.BOW) || weapon.getType().equals(Material.CROSSBOW);
+        this.eliteWeapon = EliteItemManager.isEliteMobsItem(weapon);
+    }
+
+    private static double bonusDamage(int level, Enchantment enchantment) {
+        level -= enchantment.getMaxLevel();
+        if (level < 1) return 0D;
+        return level * 2.5D;
+    }
+
+    private static double thornsDamage(ElitePlayerInventory elitePlayerInventory) {
+        int maxLevel = Enchantment.THORNS.getMaxLevel();
+        int thornsLevel = 0;
+        if (elitePlayerInventory.helmet.thornsLevel > maxLevel)
+            thornsLevel += elitePlayerInventory.helmet.thornsLevel - maxLevel;
+        if (elitePlayerInventory.chestplate.thornsLevel > maxLevel)
+            thornsLevel += elitePlayerInventory.chestplate.thornsLevel - maxLevel;
+        if (elitePlayerInventory.leggings.thornsLevel > maxLevel)
+            thornsLevel += elitePlayerInventory.helmet.thornsLevel - maxLevel;
+        if (elitePlayerInventory.boots.thornsLevel > maxLevel)
+            thornsLevel += elitePlayerInventory.boots.thornsLevel - maxLevel;
+        return thornsLevel * 2.5D;
+    }
+
+    boolean isExpired() {
+        return System.nanoTime() - createdAt >= MAX_AGE_NANOS;
+    }
+}
@@ -6,22 +6,37 @@ import com.magmaguy.elitemobs.items.potioneffects.ElitePotionEffect;
 import me.MinhTaz.FoliaLib.TaskScheduler;
 import org.bukkit.Bukkit;
 import org.bukkit.GameMode;
+import org.bukkit.entity.HumanEntity;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
-import org.bukkit.event.player.PlayerLoginEvent;
-import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.entity.EntityPickupItemEvent;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.event.inventory.InventoryDragEvent;
+import org.bukkit.event.player.*;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class ElitePlayerInventory {
 
-    public static HashMap<UUID, ElitePlayerInventory> playerInventories = new HashMap<>();
+    //Also read by the snapshot refresh timer
+    public static Map<UUID, ElitePlayerInventory> playerInventories = new ConcurrentHashMap<>();
+    private static final int SNAPSHOT_REFRESH_INTERVAL_TICKS = 20;
+    private static TaskScheduler.TaskWrapper snapshotRefreshTask = null;
+    //Gear reads that found the item unchanged and could skip parsing it, and the ones that had to parse it
+    private static final AtomicLong gearUpdateHits = new AtomicLong();
+    private static final AtomicLong gearUpdateMisses = new AtomicLong();
     public final PlayerItem helmet, chestplate, leggings, boots, mainhand, offhand;
     private final Player player;
     //Used by elite scripts
     private final HashSet<String> customMetadata = new HashSet<>();
-    private boolean isUpdateLock = false;
+    private volatile boolean isUpdateLock = false;
+    private volatile CombatStatSnapshot combatStatSnapshot = null;
+    private final AtomicBoolean refreshScheduled = new AtomicBoolean(false);
 
     /**
      * Object of the player's inventory for EliteMobs.
@@ -46,12 +61,35 @@ public class ElitePlayerInventory {
     }
 
     public static void shutdown() {
+        if (snapshotRefreshTask != null) snapshotRefreshTask.cancel();
+        snapshotRefreshTask = null;
         playerInventories.clear();
     }
 
+    static void countGearUpdate(boolean hit) {
+        if (hit) gearUpdateHits.incrementAndGet();
+        else gearUpdateMisses.incrementAndGet();
+    }
+
+    public static long getGearUpdateHits() {
+        return gearUpdateHits.get();
+    }
+
+    public static long getGearUpdateMisses() {
+        return gearUpdateMisses.get();
+    }
+
     public static void initialize() {
         for (Player player : Bukkit.getOnlinePlayers())
             playerInventories.put(player.getUniqueId(), new ElitePlayerInventory(player));
+        if (snapshotRefreshTask != null) snapshotRefreshTask.cancel();
+        //Only looks at how old the snapshots are, the gear itself gets read on each player's own thread
+        snapshotRefreshTask = TaskScheduler.get(MetadataHandler.PLUGIN).runTimerAsync(() -> {
+            for (ElitePlayerInventory elitePlayerInventory : playerInventories.values()) {
+                CombatStatSnapshot snapshot = elitePlayerInventory.combatStatSnapshot;
+                if (snapshot == null || snapshot.isExpired()) elitePlayerInventory.scheduleRefresh();
+            }
+        }, SNAPSHOT_REFRESH_INTERVAL_TICKS, SNAPSHOT_REFRESH_INTERVAL_TICKS);
     }
 
     public double getEliteDamage(boolean update) {
@@ -108,7 +146,7 @@ public class ElitePlayerInventory {
     private boolean updateLock() {
         isUpdateLock = true;
         // Convert to Folia-compatible delayed task
-        TaskScheduler taskScheduler = new TaskScheduler(MetadataHandler.PLUGIN);
+        TaskScheduler taskScheduler = TaskScheduler.get(MetadataHandler.PLUGIN);
         taskScheduler.runDelayedAsync(() -> isUpdateLock = false, 1);
         return true;
     }
@@ -252,6 +290,67 @@ public class ElitePlayerInventory {
         return loudStrikesBonusMultiplier;
     }
 
+    /**
+     * Values used by the damage pipeline for the player's current gear and guild rank. Never reads the gear, that only
+     * happens when the player changes equipment or guild rank and on a timer once the snapshot gets too old, so hits
+     * only ever read what was already parsed.
+     *
+     * @return Combat stats of the player
+     */
+    public CombatStatSnapshot getCombatStatSnapshot() {
+        CombatStatSnapshot snapshot = combatStatSnapshot;
+        if (snapshot != null && snapshot.getVersion() == getGearVersion()) return snapshot;
+        //Another gear read found a change, or nothing built a snapshot yet, either way the parsed values are enough
+        snapshot = new CombatStatSnapshot(this, player, getGearVersion());
+        combatStatSnapshot = snapshot;
+        return snapshot;
+    }
+
+    /**
+     * Reads the gear again and rebuilds the snapshot on the next tick, since equipment events fire before the
+     * inventory actually changes.
+     */
+    public void invalidateCombatStats() {
+        scheduleRefresh();
+    }
+
+    private void scheduleRefresh() {
+        if (!refreshScheduled.compareAndSet(false, true)) return;
+        Runnable refresh = () -> {
+            refreshScheduled.set(false);
+            if (!player.isOnline()) return;
+            refreshGear();
+            combatStatSnapshot = new CombatStatSnapshot(this, player, getGearVersion());
+        };
+        TaskScheduler taskScheduler = TaskScheduler.get(MetadataHandler.PLUGIN);
+        //Off Folia runPlayer falls back to an async task, and the inventory has to be read from the server thread
+        if (taskScheduler.isFolia()) taskScheduler.runPlayer(player, refresh);
+        else taskScheduler.runGlobal(refresh);
+    }
+
+    /**
+     * Sum of how many times each equipped item's values got recalculated, changes whenever the gear changes.
+     *
+     * @return Version of the player's gear
+     */
+    public long getGearVersion() {
+        return (long) helmet.getVersion() + chestplate.getVersion() + leggings.getVersion() +
+                boots.getVersion() + mainhand.getVersion() + offhand.getVersion();
+    }
+
+    /**
+     * Reads every equipped item again, items that didn't change keep their cached values.
+     */
+    public void refreshGear() {
+        helmet.getTier(player.getInventory().getHelmet(), true);
+        chestplate.getTier(player.getInventory().getChestplate(), true);
+        leggings.getTier(player.getInventory().getLeggings(), true);
+        boots.getTier(player.getInventory().getBoots(), true);
+        mainhand.getTier(player.getInventory().getItemInMainHand(), true);
+        offhand.getTier(player.getInventory().getItemInOffHand(), true);
+        updateLock();
+    }
+
     public boolean hasTag(String string) {
         return customMetadata.contains(string);
     }
@@ -269,6 +368,11 @@ public class ElitePlayerInventory {
     }
 
     public static class ElitePlayerInventoryEvents implements Listener {
+        private static void invalidateCombatStats(HumanEntity humanEntity) {
+            ElitePlayerInventory elitePlayerInventory = playerInventories.get(humanEntity.getUniqueId());
+            if (elitePlayerInventory != null) elitePlayerInventory.invalidateCombatStats();
+        }
+
         @EventHandler
         public void onPlayerLogin(PlayerLoginEvent event) {
             playerInventories.put(event.getPlayer().getUniqueId(), new ElitePlayerInventory(event.getPlayer()));
@@ -278,5 +382,58 @@ public class ElitePlayerInventory {
         public void onPlayerLogout(PlayerQuitEvent event) {
             playerInventories.remove(event.getPlayer().getUniqueId());
         }
+
+        //Anything that can change what the player has equipped gets the gear read again on the next tick
+        @EventHandler(priority = EventPriority.MONITOR)
+        public void onInventoryClick(InventoryClickEvent event) {
+            invalidateCombatStats(event.getWhoClicked());
+        }
+
+        @EventHandler(priority = EventPriority.MONITOR)
+        public void onInventoryDrag(InventoryDragEvent event) {
+            invalidateCombatStats(event.getWhoClicked());
+        }
+
+        @EventHandler(priority = EventPriority.MONITOR)
+        public void onItemHeld(PlayerItemHeldEvent event) {
+            invalidateCombatStats(event.getPlayer());
+        }
+
+        @EventHandler(priority = EventPriority.MONITOR)
+        public void onSwapHands(PlayerSwapHandItemsEvent event) {
+            invalidateCombatStats(event.getPlayer());
+        }
+
+        @EventHandler(priority = EventPriority.MONITOR)
+        public void onItemDrop(PlayerDropItemEvent event) {
+            invalidateCombatStats(event.getPlayer());
+        }
+
+        @EventHandler(priority = EventPriority.MONITOR)
+        public void onItemPickup(EntityPickupItemEvent event) {
+            if (event.getEntity() instanceof Player player) invalidateCombatStats(player);
+        }
+
+        @EventHandler(priority = EventPriority.MONITOR)
+        public void onItemBreak(PlayerItemBreakEvent event) {
+            invalidateCombatStats(event.getPlayer());
+        }
+
+        @EventHandler(priority = EventPriority.MONITOR)
+        public void onInteract(PlayerInteractEvent event) {
+            //Right clicking armor equips it
+            if (event.getItem() != null) invalidateCombatStats(event.getPlayer());
+        }
+
+        @EventHandler(priority = EventPriority.MONITOR)
+        public void onWorldChange(PlayerChangedWorldEvent event) {
+            //Instanced dungeons can sync item levels
+            invalidateCombatStats(event.getPlayer());
+        }
+
+        @EventHandler(priority = EventPriority.MONITOR)
+        public void onRespawn(PlayerRespawnEvent event) {
+            invalidateCombatStats(event.getPlayer());
+        }
     }
 }
@@ -1,6 +1,7 @@
 package com.magmaguy.elitemobs.playerdata;
 
 import com.magmaguy.elitemobs.MetadataHandler;
+import com.magmaguy.elitemobs.adventurersguild.GuildRank;
 import com.magmaguy.elitemobs.api.utils.EliteItemManager;
 import com.magmaguy.elitemobs.config.ItemSettingsConfig;
 import com.magmaguy.elitemobs.config.enchantments.EnchantmentsConfig;
@@ -11,12 +12,14 @@ import com.magmaguy.elitemobs.items.potioneffects.ElitePotionEffect;
 import com.magmaguy.elitemobs.playerdata.database.PlayerData;
 import com.magmaguy.elitemobs.utils.BossBarUtil;
 import com.magmaguy.magmacore.util.ChatColorConverter;
+import lombok.Getter;
 import org.bukkit.Material;
 import org.bukkit.NamespacedKey;
 import org.bukkit.enchantments.Enchantment;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.Damageable;
+import org.bukkit.inventory.meta.ItemMeta;
 
 import java.util.ArrayList;
 
@@ -43,6 +46,11 @@ public class PlayerItem {
     private double loudStrikesBonus = 0;
 
     private boolean displayingAsBroken = false;
+    //Goes up every time the cached values get recalculated, used to tell when combat stat snapshots are outdated
+    @Getter
+    private int version = 0;
+    //Fingerprint of the item and context the cached values were read from
+    private long fingerprint = 0;
 
     /**
      * Stores an instance of the custom EliteMobs values of what a player is wearing. This is used to reduce the amount
@@ -68,6 +76,12 @@ public class PlayerItem {
     }
 
     private boolean fullUpdate(ItemStack itemStack) {
+        boolean updated = readItem(itemStack);
+        if (updated) version++;
+        return updated;
+    }
+
+    private boolean readItem(ItemStack itemStack) {
 
         //case when both are null
         if (itemStack == null && this.itemStack == null)
@@ -97,18 +111,26 @@ public class PlayerItem {
             displayingAsBroken = false;
         }
 
-//        //case when it's the same item as before - best performance todo: causes issues with the prestige system
-//        if (itemStack.isSimilar(this.itemStack))
-//            return false;
-
+        ItemMeta itemMeta = itemStack.getItemMeta();
         if (EnchantmentsConfig.getEnchantment(SoulbindEnchantment.key + ".yml").isEnabled()) {
-            if (!SoulbindEnchantment.isValidSoulbindUser(itemStack.getItemMeta(), player)) {
+            if (!SoulbindEnchantment.isValidSoulbindUser(itemMeta, player)) {
                 player.getWorld().dropItem(player.getLocation(), itemStack);
                 itemStack.setAmount(0);
                 itemStack = new ItemStack(Material.AIR);
+                itemMeta = itemStack.getItemMeta();
             }
         }
 
+        //Same item in the same prestige and level sync context as last time, the cached values are still right
+        long fingerprint = getFingerprint(itemStack, itemMeta);
+        if (this.itemStack != null && fingerprint == this.fingerprint) {
+            this.itemStack = itemStack;
+            ElitePlayerInventory.countGearUpdate(true);
+            return false;
+        }
+        ElitePlayerInventory.countGearUpdate(false);
+        this.fingerprint = fingerprint;
+
         //Neither offhand nor armor contribute to baseline damage outside of the enchants, so we reset the damage before anything
         this.eliteDamage = 0;
 
@@ -131,30 +153,36 @@ public class PlayerItem {
             }
         }
 
-        this.continuousPotionEffects = ItemTagger.getPotionEffects(itemStack.getItemMeta(), ItemTagger.continuousPotionEffectKey);
-        this.onHitPotionEffects = ItemTagger.getPotionEffects(itemStack.getItemMeta(), ItemTagger.onHitPotionEffectKey);
+        this.continuousPotionEffects = ItemTagger.getPotionEffects(itemMeta, ItemTagger.continuousPotionEffectKey);
+        this.onHitPotionEffects = ItemTagger.getPotionEffects(itemMeta, ItemTagger.onHitPotionEffectKey);
 
         //Enchantments are global, any inventory slot will add to the total of any enchantment
         this.eliteDamageReduction = EliteItemManager.getEliteDefense(itemStack) + EliteItemManager.getBonusEliteDefense(itemStack);
-        this.protectionProjectile = ItemTagger.getEnchantment(itemStack.getItemMeta(), Enchantment.PROJECTILE_PROTECTION.getKey());
-        this.blastProtection = ItemTagger.getEnchantment(itemStack.getItemMeta(), Enchantment.BLAST_PROTECTION.getKey());
-        this.damageArthropodsLevel = ItemTagger.getEnchantment(itemStack.getItemMeta(), Enchantment.BANE_OF_ARTHROPODS.getKey());
-        this.damageUndeadLevel = ItemTagger.getEnchantment(itemStack.getItemMeta(), Enchantment.SMITE.getKey());
-        this.critChance = ItemTagger.getEnchantment(itemStack.getItemMeta(), new NamespacedKey(MetadataHandler.PLUGIN, CriticalStrikesEnchantment.key)) / 10D;
-        this.lightningChance = Math.pow(ItemTagger.getEnchantment(itemStack.getItemMeta(), new NamespacedKey(MetadataHandler.PLUGIN, LightningEnchantment.key)), 2) / 1000D;
-        this.plasmaBootsLevel = ItemTagger.getEnchantment(itemStack.getItemMeta(), new NamespacedKey(MetadataHandler.PLUGIN, PlasmaBootsEnchantment.key));
-        this.hunterChance = ItemTagger.getEnchantment(itemStack.getItemMeta(), new NamespacedKey(MetadataHandler.PLUGIN, HunterEnchantment.key)) * EnchantmentsConfig.getEnchantment("hunter.yml").getFileConfiguration().getDouble("hunterSpawnBonus");
-        this.earthquakeLevel = ItemTagger.getEnchantment(itemStack.getItemMeta(), new NamespacedKey(MetadataHandler.PLUGIN, EarthquakeEnchantment.key));
-        this.thornsLevel = ItemTagger.getEnchantment(itemStack.getItemMeta(), Enchantment.THORNS.getKey());
-        this.loudStrikesBonus = ItemTagger.getEnchantment(itemStack.getItemMeta(), new NamespacedKey(MetadataHandler.PLUGIN, LoudStrikesEnchantment.key)) / 3d;
+        this.protectionProjectile = ItemTagger.getEnchantment(itemMeta, Enchantment.PROJECTILE_PROTECTION.getKey());
+        this.blastProtection = ItemTagger.getEnchantment(itemMeta, Enchantment.BLAST_PROTECTION.getKey());
+        this.damageArthropodsLevel = ItemTagger.getEnchantment(itemMeta, Enchantment.BANE_OF_ARTHROPODS.getKey());
+        this.damageUndeadLevel = ItemTagger.getEnchantment(itemMeta, Enchantment.SMITE.getKey());
+        this.critChance = ItemTagger.getEnchantment(itemMeta, new NamespacedKey(MetadataHandler.PLUGIN, CriticalStrikesEnchantment.key)) / 10D;
+        this.lightningChance = Math.pow(ItemTagger.getEnchantment(itemMeta, new NamespacedKey(MetadataHandler.PLUGIN, LightningEnchantment.key)), 2) / 1000D;
+        this.plasmaBootsLevel = ItemTagger.getEnchantment(itemMeta, new NamespacedKey(MetadataHandler.PLUGIN, PlasmaBootsEnchantment.key));
+        this.hunterChance = ItemTagger.getEnchantment(itemMeta, new NamespacedKey(MetadataHandler.PLUGIN, HunterEnchantment.key)) * EnchantmentsConfig.getEnchantment("hunter.yml").getFileConfiguration().getDouble("hunterSpawnBonus");
+        this.earthquakeLevel = ItemTagger.getEnchantment(itemMeta, new NamespacedKey(MetadataHandler.PLUGIN, EarthquakeEnchantment.key));
+        this.thornsLevel = ItemTagger.getEnchantment(itemMeta, Enchantment.THORNS.getKey());
+        this.loudStrikesBonus = ItemTagger.getEnchantment(itemMeta, new NamespacedKey(MetadataHandler.PLUGIN, LoudStrikesEnchantment.key)) / 3d;
         eliteDamage += EliteItemManager.getEliteDamageFromEnchantments(itemStack);
 
         return true;
 
     }
 
+    private long getFingerprint(ItemStack itemStack, ItemMeta itemMeta) {
+        int levelSync = PlayerData.getMatchInstance(player) instanceof DungeonInstance dungeonInstance ? dungeonInstance.getLevelSync() : 0;
+        return (ItemTagger.getFingerprint(itemStack, itemMeta) * 31 + GuildRank.getGuildPrestigeRank(player)) * 31 + levelSync;
+    }
+
     private boolean fillNullItem() {
         itemStack = null;
+        fingerprint = 0;
         itemTier = 0;
         continuousPotionEffects = new ArrayList<>();
         onHitPotionEffects = new ArrayList<>();
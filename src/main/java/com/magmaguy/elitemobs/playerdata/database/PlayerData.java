@@ -9,7 +9,6 @@ import com.magmaguy.elitemobs.quests.CustomQuest;
 import com.magmaguy.elitemobs.quests.Quest;
 import com.magmaguy.elitemobs.quests.playercooldowns.PlayerQuestCooldowns;
 import com.magmaguy.elitemobs.utils.ConfigurationLocation;
-import com.magmaguy.elitemobs.utils.ObjectSerializer;
 import com.magmaguy.magmacore.util.Logger;
 import me.MinhTaz.FoliaLib.TaskScheduler;
 import lombok.Getter;
@@ -27,7 +26,6 @@ import org.bukkit.scheduler.BukkitRunnable;
 
 import javax.annotation.Nullable;
 import java.io.File;
-import java.nio.charset.StandardCharsets;
 import java.sql.*;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -102,28 +100,23 @@ public class PlayerData {
         permissionAttachment.setPermission("elitequest.*", false);
         
         // Convert to Folia-compatible async task
-        TaskScheduler taskScheduler = new TaskScheduler(MetadataHandler.PLUGIN);
+        TaskScheduler taskScheduler = TaskScheduler.get(MetadataHandler.PLUGIN);
         taskScheduler.runAsync(() -> {
-            Statement statement = null;
+            //Changes from a previous session might still be waiting to be written
+            PlayerDataWriteQueue.flush(uuid);
             try {
-                statement = getConnection().createStatement();
-                ResultSet resultSet = statement.executeQuery("SELECT * FROM " + PLAYER_DATA_TABLE_NAME + " WHERE PlayerUUID = '" + uuid + "';");
-                if (resultSet.next()) {
-                    readExistingData(statement, uuid, resultSet);
-                } else {
-                    writeNewData(statement, uuid);
-                }
-                resultSet.close();
-                statement.close();
-            } catch (Exception e) {
-                if (statement != null) {
-                    try {
-                        statement.close();
-                    } catch (SQLException throwables) {
-                        Logger.warn("Failed to close statement after failing player data creation!");
-                        throwables.printStackTrace();
+                //The reader goes back to the pool before anything gets written, readers and writers can share one pool
+                StoredRow storedRow = null;
+                try (PlayerDataConnectionPool.PooledConnection pooledConnection = PlayerDataConnectionPool.borrowReader()) {
+                    PreparedStatement statement = pooledConnection.prepare("SELECT * FROM " + PLAYER_DATA_TABLE_NAME + " WHERE PlayerUUID = ?;");
+                    statement.setString(1, uuid.toString());
+                    try (ResultSet resultSet = statement.executeQuery()) {
+                        if (resultSet.next()) storedRow = StoredRow.of(resultSet);
                     }
                 }
+                if (storedRow != null) readExistingData(uuid, storedRow);
+                else writeNewData(uuid);
+            } catch (Exception e) {
                 Logger.warn("Something went wrong while generating a new player entry. This is bad! Tell the dev.");
                 Logger.warn(e.getClass().getName() + ": " + e.getMessage());
             }
@@ -137,7 +130,7 @@ public class PlayerData {
     public static void updateQuestStatus(UUID uuid) {
         List<Quest> playerQuests = getQuests(uuid);
         try {
-            setDatabaseValue(uuid, "QuestStatus", ObjectSerializer.toString((ArrayList) playerQuests));
+            setDatabaseValue(uuid, "QuestStatus", PlayerDataCodec.encodeQuests(playerQuests));
             if (playerDataHashMap.containsKey(uuid))
                 playerDataHashMap.get(uuid).quests = playerQuests;
         } catch (Exception ex) {
@@ -255,7 +248,7 @@ public class PlayerData {
     public static List<Quest> getQuests(UUID uuid) {
         try {
             if (!isInMemory(uuid))
-                return (List<Quest>) ObjectSerializer.fromString((String) getDatabaseBlob(uuid, "QuestStatus"));
+                return PlayerDataCodec.decodeQuests(getDatabaseBlob(uuid, "QuestStatus"));
             if (playerDataHashMap.get(uuid) == null) return new ArrayList<>();
             return playerDataHashMap.get(uuid).quests == null ? new ArrayList<>() : playerDataHashMap.get(uuid).quests;
         } catch (Exception ex) {
@@ -277,7 +270,7 @@ public class PlayerData {
         List<Quest> questList = null;
         try {
             if (!isInMemory(uuid))
-                questList = (List<Quest>) ObjectSerializer.fromString((String) getDatabaseBlob(uuid, "QuestStatus"));
+                questList = PlayerDataCodec.decodeQuests(getDatabaseBlob(uuid, "QuestStatus"));
             else
                 questList = playerDataHashMap.get(uuid).quests;
         } catch (Exception ex) {
@@ -313,7 +306,7 @@ public class PlayerData {
     public static PlayerQuestCooldowns getPlayerQuestCooldowns(UUID uuid) {
         try {
             if (!isInMemory(uuid))
-                return (PlayerQuestCooldowns) ObjectSerializer.fromString((String) getDatabaseBlob(uuid, "PlayerQuestCooldowns"));
+                return PlayerDataCodec.decodeQuestCooldowns(getDatabaseBlob(uuid, "PlayerQuestCooldowns"));
             if (playerDataHashMap.get(uuid) == null) return PlayerQuestCooldowns.initializePlayer();
             return playerDataHashMap.get(uuid).playerQuestCooldowns == null ? PlayerQuestCooldowns.initializePlayer() : playerDataHashMap.get(uuid).playerQuestCooldowns;
         } catch (Exception ex) {
@@ -327,7 +320,7 @@ public class PlayerData {
 
     public static void updatePlayerQuestCooldowns(UUID uuid, PlayerQuestCooldowns playerQuestCooldowns) {
         try {
-            setDatabaseValue(uuid, "PlayerQuestCooldowns", ObjectSerializer.toString(playerQuestCooldowns));
+            setDatabaseValue(uuid, "PlayerQuestCooldowns", PlayerDataCodec.encodeQuestCooldowns(playerQuestCooldowns));
         } catch (Exception ex) {
             Logger.warn("Failed to register player quest cooldowns!");
             ex.printStackTrace();
@@ -338,7 +331,7 @@ public class PlayerData {
     public static DungeonBossLockout getDungeonBossLockout(UUID uuid) {
         try {
             if (!isInMemory(uuid))
-                return (DungeonBossLockout) ObjectSerializer.fromString((String) getDatabaseBlob(uuid, "DungeonBossLockouts"));
+                return PlayerDataCodec.decodeBossLockouts(getDatabaseBlob(uuid, "DungeonBossLockouts"));
             if (playerDataHashMap.get(uuid) == null) return new DungeonBossLockout();
             return playerDataHashMap.get(uuid).dungeonBossLockout == null ? new DungeonBossLockout() : playerDataHashMap.get(uuid).dungeonBossLockout;
         } catch (Exception ex) {
@@ -350,7 +343,7 @@ public class PlayerData {
         try {
             // Clean up expired lockouts before saving
             dungeonBossLockout.cleanupExpiredLockouts();
-            setDatabaseValue(uuid, "DungeonBossLockouts", ObjectSerializer.toString(dungeonBossLockout));
+            setDatabaseValue(uuid, "DungeonBossLockouts", PlayerDataCodec.encodeBossLockouts(dungeonBossLockout));
             if (playerDataHashMap.containsKey(uuid))
                 playerDataHashMap.get(uuid).dungeonBossLockout = dungeonBossLockout;
         } catch (Exception ex) {
@@ -360,38 +353,20 @@ public class PlayerData {
     }
 
     public static void setDatabaseValue(UUID uuid, String key, Object value) {
-        // Convert to Folia-compatible async task
-        TaskScheduler taskScheduler = new TaskScheduler(MetadataHandler.PLUGIN);
-        taskScheduler.runAsync(() -> {
-            Statement statement = null;
-            try {
-                statement = getConnection().createStatement();
-                String sql;
-                if (value instanceof String) {
-                    sql = "UPDATE " + PLAYER_DATA_TABLE_NAME + " SET " + key + " = '" + value + "' WHERE PlayerUUID = '" + uuid.toString() + "';";
-                } else if (value instanceof Boolean) {
-                    sql = "UPDATE " + PLAYER_DATA_TABLE_NAME + " SET " + key + " = " + (((Boolean) value) ? 1 : 0) + " WHERE PlayerUUID = '" + uuid.toString() + "';";
-                } else {
-                    sql = "UPDATE " + PLAYER_DATA_TABLE_NAME + " SET " + key + " = " + value + " WHERE PlayerUUID = '" + uuid.toString() + "';";
-                }
-                statement.executeUpdate(sql);
-                statement.close();
-            } catch (Exception e) {
-                Logger.warn("Failed to update database value.");
-                e.printStackTrace();
+        //Coalesced and written in batches, see PlayerDataWriteQueue
+        PlayerDataWriteQueue.queue(uuid, key, value);
+    }
+
+    private static byte[] getDatabaseBlob(UUID uuid, String value) {
+        Object pending = PlayerDataWriteQueue.getPending(uuid, value);
+        if (pending != PlayerDataWriteQueue.NOT_PENDING) return pending instanceof byte[] bytes ? bytes : null;
+        try (PlayerDataConnectionPool.PooledConnection pooledConnection = PlayerDataConnectionPool.borrowReader()) {
+            PreparedStatement statement = pooledConnection.prepare("SELECT " + value + " FROM " + PLAYER_DATA_TABLE_NAME + " WHERE PlayerUUID = ?;");
+            statement.setString(1, uuid.toString());
+            try (ResultSet resultSet = statement.executeQuery()) {
+                if (!resultSet.next()) return null;
+                return resultSet.getBytes(value);
             }
-        });
-    }
-
-    private static Object getDatabaseBlob(UUID uuid, String value) {
-        try {
-            Statement statement = getConnection().createStatement();
-            ResultSet resultSet = statement.executeQuery("SELECT * FROM " + PLAYER_DATA_TABLE_NAME + " WHERE PlayerUUID = '" + uuid.toString() + "';");
-            byte[] bytes = resultSet.getBytes(value);
-            resultSet.close();
-            statement.close();
-            if (bytes == null) return null;
-            return new String(bytes);
         } catch (Exception e) {
             Logger.warn("Failed to get blob value from database!");
             Logger.warn("UUID: " + uuid + " | Value: " + value);
@@ -511,13 +486,15 @@ public class PlayerData {
     }
 
     private static Boolean getDatabaseBoolean(UUID uuid, String value) {
-        try {
-            Statement statement = getConnection().createStatement();
-            ResultSet resultSet = statement.executeQuery("SELECT * FROM " + PLAYER_DATA_TABLE_NAME + " WHERE PlayerUUID = '" + uuid.toString() + "';");
-            boolean reply = resultSet.getBoolean(value);
-            resultSet.close();
-            statement.close();
-            return reply;
+        Object pending = PlayerDataWriteQueue.getPending(uuid, value);
+        if (pending != PlayerDataWriteQueue.NOT_PENDING) return pending instanceof Boolean booleanValue ? booleanValue : pending instanceof Number number && number.intValue() != 0;
+        try (PlayerDataConnectionPool.PooledConnection pooledConnection = PlayerDataConnectionPool.borrowReader()) {
+            PreparedStatement statement = pooledConnection.prepare("SELECT " + value + " FROM " + PLAYER_DATA_TABLE_NAME + " WHERE PlayerUUID = ?;");
+            statement.setString(1, uuid.toString());
+            try (ResultSet resultSet = statement.executeQuery()) {
+                if (!resultSet.next()) return null;
+                return resultSet.getBoolean(value);
+            }
         } catch (Exception e) {
             Logger.warn("Failed to get boolean value from database!");
             e.printStackTrace();
@@ -526,13 +503,15 @@ public class PlayerData {
     }
 
     private static String getDatabaseString(UUID uuid, String value) {
-        try {
-            Statement statement = getConnection().createStatement();
-            ResultSet resultSet = statement.executeQuery("SELECT * FROM " + PLAYER_DATA_TABLE_NAME + " WHERE PlayerUUID = '" + uuid.toString() + "';");
-            String reply = resultSet.getString(value);
-            resultSet.close();
-            statement.close();
-            return reply;
+        Object pending = PlayerDataWriteQueue.getPending(uuid, value);
+        if (pending != PlayerDataWriteQueue.NOT_PENDING) return pending == null ? null : pending.toString();
+        try (PlayerDataConnectionPool.PooledConnection pooledConnection = PlayerDataConnectionPool.borrowReader()) {
+            PreparedStatement statement = pooledConnection.prepare("SELECT " + value + " FROM " + PLAYER_DATA_TABLE_NAME + " WHERE PlayerUUID = ?;");
+            statement.setString(1, uuid.toString());
+            try (ResultSet resultSet = statement.executeQuery()) {
+                if (!resultSet.next()) return null;
+                return resultSet.getString(value);
+            }
         } catch (Exception e) {
             Logger.warn("Failed to get string value from database!");
             e.printStackTrace();
@@ -541,13 +520,15 @@ public class PlayerData {
     }
 
     private static Double getDatabaseDouble(UUID uuid, String value) {
-        try {
-            Statement statement = getConnection().createStatement();
-            ResultSet resultSet = statement.executeQuery("SELECT * FROM " + PLAYER_DATA_TABLE_NAME + " WHERE PlayerUUID = '" + uuid.toString() + "';");
-            double reply = resultSet.getDouble(value);
-            resultSet.close();
-            statement.close();
-            return reply;
+        Object pending = PlayerDataWriteQueue.getPending(uuid, value);
+        if (pending != PlayerDataWriteQueue.NOT_PENDING) return pending instanceof Number number ? number.doubleValue() : 0D;
+        try (PlayerDataConnectionPool.PooledConnection pooledConnection = PlayerDataConnectionPool.borrowReader()) {
+            PreparedStatement statement = pooledConnection.prepare("SELECT " + value + " FROM " + PLAYER_DATA_TABLE_NAME + " WHERE PlayerUUID = ?;");
+            statement.setString(1, uuid.toString());
+            try (ResultSet resultSet = statement.executeQuery()) {
+                if (!resultSet.next()) return null;
+                return resultSet.getDouble(value);
+            }
         } catch (Exception e) {
             Logger.warn("Failed to get double value from database!");
             e.printStackTrace();
@@ -556,13 +537,15 @@ public class PlayerData {
     }
 
     private static Integer getDatabaseInteger(UUID uuid, String value) {
-        try {
-            Statement statement = getConnection().createStatement();
-            ResultSet resultSet = statement.executeQuery("SELECT * FROM " + PLAYER_DATA_TABLE_NAME + " WHERE PlayerUUID = '" + uuid.toString() + "';");
-            int reply = resultSet.getInt(value);
-            resultSet.close();
-            statement.close();
-            return reply;
+        Object pending = PlayerDataWriteQueue.getPending(uuid, value);
+        if (pending != PlayerDataWriteQueue.NOT_PENDING) return pending instanceof Number number ? number.intValue() : 0;
+        try (PlayerDataConnectionPool.PooledConnection pooledConnection = PlayerDataConnectionPool.borrowReader()) {
+            PreparedStatement statement = pooledConnection.prepare("SELECT " + value + " FROM " + PLAYER_DATA_TABLE_NAME + " WHERE PlayerUUID = ?;");
+            statement.setString(1, uuid.toString());
+            try (ResultSet resultSet = statement.executeQuery()) {
+                if (!resultSet.next()) return null;
+                return resultSet.getInt(value);
+            }
         } catch (Exception e) {
             Logger.warn("Failed to get integer value from database!");
             e.printStackTrace();
@@ -570,12 +553,20 @@ public class PlayerData {
         }
     }
 
+    /**
+     * Standalone connection used for schema setup and porting old data. Regular reads and writes go through
+     * {@link PlayerDataConnectionPool}.
+     */
     public static Connection getConnection() throws Exception {
         File dataFolder = new File(MetadataHandler.PLUGIN.getDataFolder(), "data/" + DATABASE_NAME);
         if (connection == null || connection.isClosed()) {
             if (!DatabaseConfig.isUseMySQL()) {
                 Class.forName("org.sqlite.JDBC");
                 connection = DriverManager.getConnection("jdbc:sqlite:" + dataFolder);
+                //Waits on the pool's connections instead of failing right away when they hold the lock
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("PRAGMA busy_timeout=5000;");
+                }
                 connection.setAutoCommit(true);
             } else {
                 Class.forName("com.mysql.jdbc.Driver");
@@ -597,6 +588,8 @@ public class PlayerData {
         try {
             Logger.info("Opened database successfully");
             GenerateDatabase.generate();
+            PlayerDataConnectionPool.initialize();
+            PlayerDataWriteQueue.initialize();
             for (Player player : Bukkit.getOnlinePlayers())
                 new PlayerData(player.getUniqueId());
         } catch (Exception e) {
@@ -609,6 +602,8 @@ public class PlayerData {
     }
 
     public static void closeConnection() {
+        PlayerDataWriteQueue.shutdown();
+        PlayerDataConnectionPool.shutdown();
         playerDataHashMap.clear();
         try {
             if (connection == null) return;
@@ -618,22 +613,26 @@ public class PlayerData {
         }
     }
 
-    private void readExistingData(Statement statement, UUID uuid, ResultSet resultSet) throws Exception {
+    private void readExistingData(UUID uuid, StoredRow storedRow) throws Exception {
         playerDataHashMap.put(uuid, this);
-        currency = resultSet.getDouble("Currency");
-        guildPrestigeLevel = resultSet.getInt("GuildPrestigeLevel");
-        maxGuildLevel = resultSet.getInt("GuildMaxLevel");
-        activeGuildLevel = resultSet.getInt("GuildActiveLevel");
-        score = resultSet.getInt("Score");
-        kills = resultSet.getInt("Kills");
-        highestLevelKilled = resultSet.getInt("HighestLevelKilled");
-        deaths = resultSet.getInt("Deaths");
-        questsCompleted = resultSet.getInt("QuestsCompleted");
-        backTeleportLocation = ConfigurationLocation.serialize(resultSet.getString("BackTeleportLocation"));
-
-        if (resultSet.getBytes("QuestStatus") != null) {
+        currency = storedRow.currency();
+        guildPrestigeLevel = storedRow.guildPrestigeLevel();
+        maxGuildLevel = storedRow.maxGuildLevel();
+        activeGuildLevel = storedRow.activeGuildLevel();
+        score = storedRow.score();
+        kills = storedRow.kills();
+        highestLevelKilled = storedRow.highestLevelKilled();
+        deaths = storedRow.deaths();
+        questsCompleted = storedRow.questsCompleted();
+        backTeleportLocation = ConfigurationLocation.serialize(storedRow.backTeleportLocation());
+
+        byte[] questBlob = storedRow.questStatus();
+        if (questBlob != null) {
             try {
-                quests = (List<Quest>) ObjectSerializer.fromString(new String(resultSet.getBytes("QuestStatus"), StandardCharsets.UTF_8));
+                quests = PlayerDataCodec.decodeQuests(questBlob);
+                //Lazily migrates rows still in the old serialization format
+                if (PlayerDataCodec.isLegacy(questBlob))
+                    setDatabaseValue(uuid, "QuestStatus", PlayerDataCodec.encodeQuests(quests));
                 //Serializes ItemStack which require specific handling, necessary recovering the rewards
                 for (Quest quest : quests)
                     if (quest instanceof CustomQuest)
@@ -649,9 +648,12 @@ public class PlayerData {
             }
         }
 
-        if (resultSet.getBytes("PlayerQuestCooldowns") != null) {
+        byte[] questCooldownsBlob = storedRow.playerQuestCooldowns();
+        if (questCooldownsBlob != null) {
             try {
-                playerQuestCooldowns = (PlayerQuestCooldowns) ObjectSerializer.fromString(new String(resultSet.getBytes("PlayerQuestCooldowns"), StandardCharsets.UTF_8));
+                playerQuestCooldowns = PlayerDataCodec.decodeQuestCooldowns(questCooldownsBlob);
+                if (PlayerDataCodec.isLegacy(questCooldownsBlob))
+                    setDatabaseValue(uuid, "PlayerQuestCooldowns", PlayerDataCodec.encodeQuestCooldowns(playerQuestCooldowns));
                 playerQuestCooldowns.startCooldowns(uuid);
             } catch (Exception exception) {
                 Logger.warn("Failed to get player quest cooldowns!  ! This player's quest cooldowns will be wiped to prevent future errors.");
@@ -664,23 +666,26 @@ public class PlayerData {
             }
         }
 
-        if (resultSet.getObject("UseBookMenus") != null) {
-            useBookMenus = resultSet.getBoolean("UseBookMenus");
+        if (storedRow.useBookMenus() != null) {
+            useBookMenus = storedRow.useBookMenus();
         } else {
             setUseBookMenus(Bukkit.getPlayer(uuid), true);
         }
 
-        if (resultSet.getObject("DismissEMStatusScreenMessage") != null) {
-            dismissEMStatusScreenMessage = resultSet.getBoolean("DismissEMStatusScreenMessage");
+        if (storedRow.dismissEMStatusScreenMessage() != null) {
+            dismissEMStatusScreenMessage = storedRow.dismissEMStatusScreenMessage();
         } else {
             setDismissEMStatusScreenMessage(Bukkit.getPlayer(uuid), false);
         }
 
-        if (resultSet.getBytes("DungeonBossLockouts") != null) {
+        byte[] bossLockoutsBlob = storedRow.dungeonBossLockouts();
+        if (bossLockoutsBlob != null) {
             try {
-                dungeonBossLockout = (DungeonBossLockout) ObjectSerializer.fromString(new String(resultSet.getBytes("DungeonBossLockouts"), StandardCharsets.UTF_8));
+                dungeonBossLockout = PlayerDataCodec.decodeBossLockouts(bossLockoutsBlob);
                 // Clean up expired lockouts on load
                 dungeonBossLockout.cleanupExpiredLockouts();
+                if (PlayerDataCodec.isLegacy(bossLockoutsBlob))
+                    setDatabaseValue(uuid, "DungeonBossLockouts", PlayerDataCodec.encodeBossLockouts(dungeonBossLockout));
             } catch (Exception exception) {
                 Logger.warn("Failed to get dungeon boss lockouts! This player's lockouts will be reset.");
                 dungeonBossLockout = new DungeonBossLockout();
@@ -692,7 +697,34 @@ public class PlayerData {
         Logger.info("User " + uuid + " data successfully read!");
     }
 
-    private void writeNewData(Statement statement, UUID uuid) throws Exception {
+    /**
+     * Copy of a player's row, so the connection it was read with can go back to the pool before anything gets written.
+     */
+    private record StoredRow(double currency, int guildPrestigeLevel, int maxGuildLevel, int activeGuildLevel,
+                             int score, int kills, int highestLevelKilled, int deaths, int questsCompleted,
+                             String backTeleportLocation, byte[] questStatus, byte[] playerQuestCooldowns,
+                             Boolean useBookMenus, Boolean dismissEMStatusScreenMessage, byte[] dungeonBossLockouts) {
+        private static StoredRow of(ResultSet resultSet) throws SQLException {
+            return new StoredRow(
+                    resultSet.getDouble("Currency"),
+                    resultSet.getInt("GuildPrestigeLevel"),
+                    resultSet.getInt("GuildMaxLevel"),
+                    resultSet.getInt("GuildActiveLevel"),
+                    resultSet.getInt("Score"),
+                    resultSet.getInt("Kills"),
+                    resultSet.getInt("HighestLevelKilled"),
+                    resultSet.getInt("Deaths"),
+                    resultSet.getInt("QuestsCompleted"),
+                    resultSet.getString("BackTeleportLocation"),
+                    resultSet.getBytes("QuestStatus"),
+                    resultSet.getBytes("PlayerQuestCooldowns"),
+                    resultSet.getObject("UseBookMenus") != null ? resultSet.getBoolean("UseBookMenus") : null,
+                    resultSet.getObject("DismissEMStatusScreenMessage") != null ? resultSet.getBoolean("DismissEMStatusScreenMessage") : null,
+                    resultSet.getBytes("DungeonBossLockouts"));
+        }
+    }
+
+    private void writeNewData(UUID uuid) throws Exception {
         playerDataHashMap.put(uuid, this);
         currency = 0;
         guildPrestigeLevel = 0;
@@ -703,43 +735,25 @@ public class PlayerData {
         highestLevelKilled = 0;
         deaths = 0;
         questsCompleted = 0;
-        statement = getConnection().createStatement();
-        String sql = "INSERT INTO " + PLAYER_DATA_TABLE_NAME + " (" +
-                "PlayerUUID," +
-                " DisplayName," +
-                " Currency," +
-                " GuildPrestigeLevel," +
-                " GuildMaxLevel," +
-                " GuildActiveLevel," +
-                " Score," +
-                " Kills," +
-                " HighestLevelKilled," +
-                " Deaths," +
-                " QuestsCompleted) " +
-                //identifier
-                "VALUES ('" + uuid + "'," +
-                //display name
-                " '" + Bukkit.getPlayer(uuid).getName() + "'," +
-                //currency
-                " 0," +
-                //guild_prestige_level
-                " 0," +
-                //guild_max_level
-                " 1," +
-                //guild_active_level
-                " "+activeGuildLevel+"," +
-                //score
-                "0," +
-                //kills
-                "0," +
-                //highestLevelKilled
-                "0," +
-                //deaths
-                "0," +
-                //questsCompleted
-                "0);";
-        statement.executeUpdate(sql);
-        statement.close();
+        try (PlayerDataConnectionPool.PooledConnection pooledConnection = PlayerDataConnectionPool.borrowWriter()) {
+            PreparedStatement statement = pooledConnection.prepare("INSERT INTO " + PLAYER_DATA_TABLE_NAME + " (" +
+                    "PlayerUUID," +
+                    " DisplayName," +
+                    " Currency," +
+                    " GuildPrestigeLevel," +
+                    " GuildMaxLevel," +
+                    " GuildActiveLevel," +
+                    " Score," +
+                    " Kills," +
+                    " HighestLevelKilled," +
+                    " Deaths," +
+                    " QuestsCompleted) " +
+                    "VALUES (?, ?, 0, 0, 1, ?, 0, 0, 0, 0, 0);");
+            statement.setString(1, uuid.toString());
+            statement.setString(2, Bukkit.getPlayer(uuid).getName());
+            statement.setInt(3, activeGuildLevel);
+            statement.executeUpdate();
+        }
         Logger.info("No player entry detected, generating new entry!");
     }
 
@@ -747,7 +761,7 @@ public class PlayerData {
         @EventHandler(priority = EventPriority.LOWEST)
         public void onPlayerLogin(PlayerJoinEvent event) {
             // Convert to Folia-compatible delayed async task
-            TaskScheduler taskScheduler = new TaskScheduler(MetadataHandler.PLUGIN);
+            TaskScheduler taskScheduler = TaskScheduler.get(MetadataHandler.PLUGIN);
             taskScheduler.runDelayedAsync(() -> {
                 if (Bukkit.getPlayer(event.getPlayer().getUniqueId()) == null) return;
                 new PlayerData(event.getPlayer().getUniqueId());
@@ -757,10 +771,11 @@ public class PlayerData {
         @EventHandler
         public void onPlayerLogout(PlayerQuitEvent event) {
             // Convert to Folia-compatible delayed async task
-            TaskScheduler taskScheduler = new TaskScheduler(MetadataHandler.PLUGIN);
+            TaskScheduler taskScheduler = TaskScheduler.get(MetadataHandler.PLUGIN);
             taskScheduler.runDelayedAsync(() -> {
                 clearPlayerData(event.getPlayer().getUniqueId());
                 setDisplayName(event.getPlayer().getUniqueId(), event.getPlayer().getName());
+                PlayerDataWriteQueue.flush(event.getPlayer().getUniqueId());
             }, 20);
         }
     }
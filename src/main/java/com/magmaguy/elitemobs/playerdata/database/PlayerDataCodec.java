@@ -0,0 +1,196 @@
+package com.magmaguy.elitemobs.playerdata.database;
+
+import com.magmaguy.elitemobs.dungeons.DungeonBossLockout;
+import com.magmaguy.elitemobs.quests.Quest;
+import com.magmaguy.elitemobs.quests.playercooldowns.PlayerQuestCooldowns;
+import com.magmaguy.elitemobs.quests.playercooldowns.QuestCooldown;
+import com.magmaguy.elitemobs.utils.ObjectSerializer;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Binary format for the player data blobs. Every blob starts with a header of magic byte, blob type and format
+ * version, followed by the payload of that version.
+ * <p>
+ * Rows written before this format existed hold Base64 text of a Java serialized object. Base64 text never starts with
+ * the magic byte, so both formats can be read side by side; legacy blobs get rewritten in the current format the next
+ * time the player logs in. Decoders keep a case for every version ever written, encoders only write the latest one.
+ */
+public class PlayerDataCodec {
+    //Outside the ASCII range, so it can't be the first byte of a legacy Base64 blob
+    private static final byte MAGIC = (byte) 0xE7;
+    private static final byte TYPE_QUESTS = 1;
+    private static final byte TYPE_QUEST_COOLDOWNS = 2;
+    private static final byte TYPE_BOSS_LOCKOUTS = 3;
+    private static final int QUESTS_VERSION = 1;
+    private static final int QUEST_COOLDOWNS_VERSION = 1;
+    private static final int BOSS_LOCKOUTS_VERSION = 1;
+
+    private PlayerDataCodec() {
+    }
+
+    public static boolean isLegacy(byte[] blob) {
+        return blob != null && blob.length > 0 && blob[0] != MAGIC;
+    }
+
+    public static byte[] encodeQuests(List<Quest> quests) throws IOException {
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        DataOutputStream output = writeHeader(byteArrayOutputStream, TYPE_QUESTS, QUESTS_VERSION);
+        //Quests reference objectives, rewards and item stacks of many different classes, so the payload is still Java
+        //serialized. It skips the Base64 step and gets versioned with everything else.
+        output.flush();
+        try (ObjectOutputStream objectOutputStream = new ObjectOutputStream(byteArrayOutputStream)) {
+            objectOutputStream.writeObject(quests instanceof ArrayList ? quests : new ArrayList<>(quests));
+        }
+        return byteArrayOutputStream.toByteArray();
+    }
+
+    @SuppressWarnings("unchecked")
+    public static List<Quest> decodeQuests(byte[] blob) throws IOException, ClassNotFoundException {
+        if (isLegacy(blob)) return (List<Quest>) ObjectSerializer.fromString(new String(blob, StandardCharsets.UTF_8));
+        ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(blob);
+        int version = readHeader(new DataInputStream(byteArrayInputStream), TYPE_QUESTS, QUESTS_VERSION);
+        switch (version) {
+            case 1:
+                try (ObjectInputStream objectInputStream = new ObjectInputStream(byteArrayInputStream)) {
+                    return (List<Quest>) objectInputStream.readObject();
+                }
+            default:
+                throw new IOException("Unsupported quest data version " + version);
+        }
+    }
+
+    public static byte[] encodeQuestCooldowns(PlayerQuestCooldowns playerQuestCooldowns) throws IOException {
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        DataOutputStream output = writeHeader(byteArrayOutputStream, TYPE_QUEST_COOLDOWNS, QUEST_COOLDOWNS_VERSION);
+        List<QuestCooldown> questCooldowns = playerQuestCooldowns.getQuestCooldowns();
+        writeVarInt(output, questCooldowns.size());
+        for (QuestCooldown questCooldown : questCooldowns) {
+            writeString(output, questCooldown.getPermission());
+            output.writeBoolean(questCooldown.isPermanent());
+            writeVarLong(output, questCooldown.getTargetUnixTime());
+        }
+        output.flush();
+        return byteArrayOutputStream.toByteArray();
+    }
+
+    public static PlayerQuestCooldowns decodeQuestCooldowns(byte[] blob) throws IOException, ClassNotFoundException {
+        if (isLegacy(blob)) return (PlayerQuestCooldowns) ObjectSerializer.fromString(new String(blob, StandardCharsets.UTF_8));
+        DataInputStream input = new DataInputStream(new ByteArrayInputStream(blob));
+        int version = readHeader(input, TYPE_QUEST_COOLDOWNS, QUEST_COOLDOWNS_VERSION);
+        PlayerQuestCooldowns playerQuestCooldowns = new PlayerQuestCooldowns();
+        switch (version) {
+            case 1:
+                int size = readVarInt(input);
+                for (int i = 0; i < size; i++) {
+                    String permission = readString(input);
+                    boolean permanent = input.readBoolean();
+                    long targetUnixTime = readVarLong(input);
+                    playerQuestCooldowns.getQuestCooldowns().add(QuestCooldown.restore(permission, permanent, targetUnixTime));
+                }
+                return playerQuestCooldowns;
+            default:
+                throw new IOException("Unsupported quest cooldown data version " + version);
+        }
+    }
+
+    public static byte[] encodeBossLockouts(DungeonBossLockout dungeonBossLockout) throws IOException {
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        DataOutputStream output = writeHeader(byteArrayOutputStream, TYPE_BOSS_LOCKOUTS, BOSS_LOCKOUTS_VERSION);
+        Map<String, Long> lockouts = dungeonBossLockout.getLockouts();
+        writeVarInt(output, lockouts.size());
+        for (Map.Entry<String, Long> entry : lockouts.entrySet()) {
+            writeString(output, entry.getKey());
+            writeVarLong(output, entry.getValue());
+        }
+        output.flush();
+        return byteArrayOutputStream.toByteArray();
+    }
+
+    public static DungeonBossLockout decodeBossLockouts(byte[] blob) throws IOException, ClassNotFoundException {
+        if (isLegacy(blob)) return (DungeonBossLockout) ObjectSerializer.fromString(new String(blob, StandardCharsets.UTF_8));
+        DataInputStream input = new DataInputStream(new ByteArrayInputStream(blob));
+        int version = readHeader(input, TYPE_BOSS_LOCKOUTS, BOSS_LOCKOUTS_VERSION);
+        DungeonBossLockout dungeonBossLockout = new DungeonBossLockout();
+        switch (version) {
+            case 1:
+                int size = readVarInt(input);
+                for (int i = 0; i < size; i++) {
+                    String bossIdentifier = readString(input);
+                    dungeonBossLockout.getLockouts().put(bossIdentifier, readVarLong(input));
+                }
+                return dungeonBossLockout;
+            default:
+                throw new IOException("Unsupported dungeon lockout data version " + version);
+        }
+    }
+
+    private static DataOutputStream writeHeader(ByteArrayOutputStream byteArrayOutputStream, byte type, int version) throws IOException {
+        DataOutputStream output = new DataOutputStream(byteArrayOutputStream);
+        output.writeByte(MAGIC);
+        output.writeByte(type);
+        writeVarInt(output, version);
+        return output;
+    }
+
+    private static int readHeader(DataInputStream input, byte expectedType, int latestVersion) throws IOException {
+        if (input.readByte() != MAGIC) throw new IOException("Not a player data blob");
+        byte type = input.readByte();
+        if (type != expectedType) throw new IOException("Expected player data blob type " + expectedType + " but got " + type);
+        int version = readVarInt(input);
+        //Written by a newer version of the plugin, reading it would lose data
+        if (version > latestVersion) throw new IOException("Player data blob version " + version + " is newer than this plugin supports");
+        return version;
+    }
+
+    private static void writeString(DataOutputStream output, String string) throws IOException {
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(output, bytes.length);
+        output.write(bytes);
+    }
+
+    private static String readString(DataInputStream input) throws IOException {
+        byte[] bytes = new byte[readVarInt(input)];
+        input.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeVarInt(DataOutputStream output, int value) throws IOException {
+        writeVarLong(output, value & 0xFFFFFFFFL);
+    }
+
+    private static int readVarInt(DataInputStream input) throws IOException {
+        long value = readVarLong(input);
+        if (value < 0 || value > Integer.MAX_VALUE) throw new IOException("Malformed player data blob");
+        return (int) value;
+    }
+
+    //Unix millis fit in 6 bytes instead of 8, counts and versions in 1
+    private static void writeVarLong(DataOutputStream output, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            output.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        output.writeByte((int) value);
+    }
+
+    private static long readVarLong(DataInputStream input) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = input.readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return value;
+        }
+        throw new IOException("Malformed player data blob");
+    }
+}
@@ -0,0 +1,239 @@
+package com.magmaguy.elitemobs.playerdata.database;
+
+import com.magmaguy.elitemobs.MetadataHandler;
+import com.magmaguy.elitemobs.config.DatabaseConfig;
+import com.magmaguy.magmacore.util.Logger;
+import lombok.Getter;
+
+import java.io.File;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Connections used for player data. MySQL gets a bounded pool shared by reads and writes. SQLite runs in WAL mode with
+ * a single writer connection and a few read-only connections, since SQLite only ever allows one writer anyway.
+ * <p>
+ * Connections are borrowed with try-with-resources and come with their own prepared statement cache, so repeated
+ * lookups only get parsed once per connection.
+ */
+public class PlayerDataConnectionPool {
+    private static final int BORROW_TIMEOUT_SECONDS = 30;
+    private static final int STATEMENT_CACHE_SIZE = 64;
+    private static Pool readers = null;
+    private static Pool writers = null;
+
+    private PlayerDataConnectionPool() {
+    }
+
+    public static synchronized void initialize() {
+        shutdown();
+        if (DatabaseConfig.isUseMySQL()) {
+            //Reads and writes share the same connections
+            readers = new Pool(DatabaseConfig.getMysqlPoolSize(), false);
+            writers = readers;
+        } else {
+            writers = new Pool(1, false);
+            readers = new Pool(DatabaseConfig.getSqliteReaderConnections(), true);
+        }
+    }
+
+    public static synchronized void shutdown() {
+        if (readers != null) readers.close();
+        if (writers != null && writers != readers) writers.close();
+        readers = null;
+        writers = null;
+    }
+
+    //Borrowing can wait on a free connection, so only getting the pool happens under the lock. A pool that gets shut
+    //down in the meantime refuses the borrow instead.
+    public static PooledConnection borrowReader() throws SQLException {
+        return getReaders().borrow();
+    }
+
+    public static PooledConnection borrowWriter() throws SQLException {
+        return getWriters().borrow();
+    }
+
+    private static synchronized Pool getReaders() {
+        if (readers == null) initialize();
+        return readers;
+    }
+
+    private static synchronized Pool getWriters() {
+        if (writers == null) initialize();
+        return writers;
+    }
+
+    private static Connection openConnection(boolean readOnly) throws SQLException {
+        try {
+            if (!DatabaseConfig.isUseMySQL()) {
+                Class.forName("org.sqlite.JDBC");
+                File dataFolder = new File(MetadataHandler.PLUGIN.getDataFolder(), "data/" + PlayerData.getDATABASE_NAME());
+                Connection connection = DriverManager.getConnection("jdbc:sqlite:" + dataFolder);
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("PRAGMA journal_mode=WAL;");
+                    statement.execute("PRAGMA busy_timeout=5000;");
+                    if (readOnly) statement.execute("PRAGMA query_only=true;");
+                }
+                connection.setAutoCommit(true);
+                return connection;
+            } else {
+                Class.forName("com.mysql.jdbc.Driver");
+                String URL = "jdbc:mysql://" + DatabaseConfig.getMysqlHost() + ":"
+                        + DatabaseConfig.getMysqlPort() + "/" + DatabaseConfig.mysqlDatabaseName
+                        + "?useSSL=" + DatabaseConfig.useSSL
+                        + "&createDatabaseIfNotExist=true";
+                Connection connection = DriverManager.getConnection(URL, DatabaseConfig.getMysqlUsername(), DatabaseConfig.getMysqlPassword());
+                connection.setAutoCommit(true);
+                return connection;
+            }
+        } catch (ClassNotFoundException e) {
+            throw new SQLException("Database driver not found!", e);
+        }
+    }
+
+    private static class Pool {
+        private final LinkedBlockingQueue<PooledConnection> idle = new LinkedBlockingQueue<>();
+        private final List<PooledConnection> all = new ArrayList<>();
+        private final AtomicInteger created = new AtomicInteger();
+        private final int maxSize;
+        private final boolean readOnly;
+        private volatile boolean closed = false;
+
+        private Pool(int maxSize, boolean readOnly) {
+            this.maxSize = maxSize;
+            this.readOnly = readOnly;
+        }
+
+        private PooledConnection borrow() throws SQLException {
+            if (closed) throw new SQLException("The player data connection pool is closed!");
+            PooledConnection pooledConnection = idle.poll();
+            if (pooledConnection == null && created.getAndIncrement() < maxSize) {
+                try {
+                    pooledConnection = new PooledConnection(this, openConnection(readOnly));
+                } catch (SQLException e) {
+                    created.decrementAndGet();
+                    throw e;
+                }
+                synchronized (all) {
+                    all.add(pooledConnection);
+                }
+            } else if (pooledConnection == null) {
+                created.decrementAndGet();
+                try {
+                    pooledConnection = idle.poll(BORROW_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new SQLException("Interrupted while waiting for a database connection!", e);
+                }
+                if (pooledConnection == null)
+                    throw new SQLException("Timed out waiting for a database connection!");
+            }
+            pooledConnection.validate();
+            return pooledConnection;
+        }
+
+        private void release(PooledConnection pooledConnection) {
+            if (closed) {
+                pooledConnection.closeQuietly();
+                return;
+            }
+            idle.offer(pooledConnection);
+        }
+
+        private void close() {
+            closed = true;
+            synchronized (all) {
+                all.forEach(PooledConnection::closeQuietly);
+                all.clear();
+            }
+            idle.clear();
+        }
+    }
+
+    public static class PooledConnection implements AutoCloseable {
+        private final Pool pool;
+        private final Map<String, PreparedStatement> statementCache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, PreparedStatement> eldest) {
+                if (size() <= STATEMENT_CACHE_SIZE) return false;
+                try {
+                    eldest.getValue().close();
+                } catch (SQLException ignored) {
+                }
+                return true;
+            }
+        };
+        @Getter
+        private Connection connection;
+
+        private PooledConnection(Pool pool, Connection connection) {
+            this.pool = pool;
+            this.connection = connection;
+        }
+
+        /**
+         * Gets a prepared statement for the query, reusing the one from a previous borrow if there is one. Cached
+         * statements belong to the connection and must not be closed by the caller.
+         *
+         * @param sql Query
+         * @return Prepared statement with its parameters cleared
+         */
+        public PreparedStatement prepare(String sql) throws SQLException {
+            PreparedStatement preparedStatement = statementCache.get(sql);
+            if (preparedStatement == null || preparedStatement.isClosed()) {
+                preparedStatement = connection.prepareStatement(sql);
+                statementCache.put(sql, preparedStatement);
+            } else {
+                preparedStatement.clearParameters();
+            }
+            return preparedStatement;
+        }
+
+        //Reopens connections that were dropped, typically MySQL timing out idle connections
+        private void validate() throws SQLException {
+            if (!connection.isClosed() && (!DatabaseConfig.isUseMySQL() || connection.isValid(2))) return;
+            Logger.info("Reopening stale player data database connection.");
+            closeQuietly();
+            connection = openConnection(pool.readOnly);
+        }
+
+        private void closeQuietly() {
+            statementCache.values().forEach(preparedStatement -> {
+                try {
+                    preparedStatement.close();
+                } catch (SQLException ignored) {
+                }
+            });
+            statementCache.clear();
+            try {
+                connection.close();
+            } catch (SQLException ignored) {
+            }
+        }
+
+        @Override
+        public void close() {
+            try {
+                if (!connection.isClosed() && !connection.getAutoCommit()) {
+                    connection.rollback();
+                    connection.setAutoCommit(true);
+                }
+            } catch (SQLException e) {
+                Logger.warn("Failed to reset pooled database connection, it will be reopened.");
+                closeQuietly();
+            }
+            pool.release(this);
+        }
+    }
+}
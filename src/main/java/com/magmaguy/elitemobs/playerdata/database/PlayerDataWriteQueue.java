@@ -0,0 +1,204 @@
+package com.magmaguy.elitemobs.playerdata.database;
+
+import com.magmaguy.elitemobs.MetadataHandler;
+import com.magmaguy.elitemobs.config.DatabaseConfig;
+import com.magmaguy.magmacore.util.Logger;
+import lombok.Getter;
+import me.MinhTaz.FoliaLib.TaskScheduler;
+import org.bukkit.Bukkit;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Write-behind buffer for player data columns. Changes are coalesced per player and column, so only the latest value
+ * of a field ever reaches the database, and get flushed as one batched transaction per interval.
+ * <p>
+ * Players get flushed on logout and on login before their data is read, everything gets flushed on shutdown, and
+ * going over half of the pending write cap schedules an early async flush. Reaching the cap flushes right away, unless
+ * the caller is the server thread, which only ever schedules the flush.
+ * <p>
+ * Single column reads don't flush, they check {@link #getPending(UUID, String)} first, which covers values still waiting
+ * and values currently being written, so they see their own writes without waiting on the database.
+ */
+public class PlayerDataWriteQueue {
+    //ConcurrentHashMap can't hold nulls
+    private static final Object NULL_VALUE = new Object();
+    //Returned when nothing is waiting to be written for a column
+    public static final Object NOT_PENDING = new Object();
+    private static final Map<UUID, Map<String, Object>> pendingWrites = new ConcurrentHashMap<>();
+    private static final AtomicInteger pendingCount = new AtomicInteger();
+    private static final AtomicBoolean earlyFlushScheduled = new AtomicBoolean(false);
+    private static final Object flushLock = new Object();
+    //Batch being written right now, only ever replaced while holding the flush lock
+    private static volatile Map<UUID, Map<String, Object>> inFlight = Map.of();
+    private static TaskScheduler.TaskWrapper flushTask = null;
+    @Getter
+    private static long flushedBatches = 0;
+    @Getter
+    private static long flushedWrites = 0;
+
+    private PlayerDataWriteQueue() {
+    }
+
+    public static void initialize() {
+        if (flushTask != null) flushTask.cancel();
+        flushTask = TaskScheduler.get(MetadataHandler.PLUGIN).runTimerAsync(
+                PlayerDataWriteQueue::flushAll, DatabaseConfig.getWriteFlushInterval(), DatabaseConfig.getWriteFlushInterval());
+    }
+
+    public static void shutdown() {
+        if (flushTask != null) flushTask.cancel();
+        flushTask = null;
+        flushAll();
+    }
+
+    public static int getPendingCount() {
+        return pendingCount.get();
+    }
+
+    public static void queue(UUID uuid, String column, Object value) {
+        pendingWrites.compute(uuid, (key, fields) -> {
+            if (fields == null) fields = new ConcurrentHashMap<>();
+            if (fields.put(column, value == null ? NULL_VALUE : value) == null) pendingCount.incrementAndGet();
+            return fields;
+        });
+        applyBackpressure();
+    }
+
+    /**
+     * Gets the value of a column that was changed but might not have reached the database yet.
+     *
+     * @param uuid   Player to look up
+     * @param column Column to look up
+     * @return Latest value of the column, which can be null, or {@link #NOT_PENDING} if the database is up to date
+     */
+    public static Object getPending(UUID uuid, String column) {
+        //Waiting values get published as in flight before they stop being waiting, so checking in this order misses nothing
+        Object value = getPending(pendingWrites, uuid, column);
+        if (value == NOT_PENDING) value = getPending(inFlight, uuid, column);
+        return value == NULL_VALUE ? null : value;
+    }
+
+    private static Object getPending(Map<UUID, Map<String, Object>> writes, UUID uuid, String column) {
+        Map<String, Object> fields = writes.get(uuid);
+        if (fields == null) return NOT_PENDING;
+        Object value = fields.get(column);
+        return value == null ? NOT_PENDING : value;
+    }
+
+    private static void applyBackpressure() {
+        int pending = pendingCount.get();
+        if (pending < DatabaseConfig.getMaxPendingWrites() / 2) return;
+        //Only threads that aren't ticking the server get held up writing, the server thread never touches the database
+        if (pending >= DatabaseConfig.getMaxPendingWrites() && !Bukkit.isPrimaryThread()) {
+            flushAll();
+            return;
+        }
+        if (!earlyFlushScheduled.compareAndSet(false, true)) return;
+        TaskScheduler.get(MetadataHandler.PLUGIN).runAsync(() -> {
+            earlyFlushScheduled.set(false);
+            flushAll();
+        });
+    }
+
+    /**
+     * Writes the pending changes of a single player. Does nothing if the player has no pending changes.
+     *
+     * @param uuid Player to flush
+     */
+    public static void flush(UUID uuid) {
+        if (!pendingWrites.containsKey(uuid)) return;
+        synchronized (flushLock) {
+            Map<String, Object> fields = pendingWrites.get(uuid);
+            if (fields == null) return;
+            Map<UUID, Map<String, Object>> batch = new HashMap<>();
+            batch.put(uuid, fields);
+            writeInFlight(batch);
+        }
+    }
+
+    public static void flushAll() {
+        if (pendingWrites.isEmpty()) return;
+        synchronized (flushLock) {
+            Map<UUID, Map<String, Object>> batch = new HashMap<>();
+            for (UUID uuid : new ArrayList<>(pendingWrites.keySet())) {
+                Map<String, Object> fields = pendingWrites.get(uuid);
+                if (fields != null) batch.put(uuid, fields);
+            }
+            if (!batch.isEmpty()) writeInFlight(batch);
+        }
+    }
+
+    //Has to hold the flush lock
+    private static void writeInFlight(Map<UUID, Map<String, Object>> batch) {
+        inFlight = batch;
+        batch.forEach(pendingWrites::remove);
+        try {
+            write(batch);
+        } finally {
+            inFlight = Map.of();
+        }
+    }
+
+    private static void write(Map<UUID, Map<String, Object>> batch) {
+        int writeCount = 0;
+        for (Map<String, Object> fields : batch.values()) writeCount += fields.size();
+        pendingCount.addAndGet(-writeCount);
+
+        //One statement per column, one batch entry per player
+        Map<String, List<UUID>> playersByColumn = new HashMap<>();
+        batch.forEach((uuid, fields) -> fields.keySet().forEach(column ->
+                playersByColumn.computeIfAbsent(column, key -> new ArrayList<>()).add(uuid)));
+
+        try (PlayerDataConnectionPool.PooledConnection pooledConnection = PlayerDataConnectionPool.borrowWriter()) {
+            Connection connection = pooledConnection.getConnection();
+            connection.setAutoCommit(false);
+            try {
+                for (Map.Entry<String, List<UUID>> entry : playersByColumn.entrySet()) {
+                    PreparedStatement statement = pooledConnection.prepare(
+                            "UPDATE " + PlayerData.getPLAYER_DATA_TABLE_NAME() + " SET " + entry.getKey() + " = ? WHERE PlayerUUID = ?;");
+                    for (UUID uuid : entry.getValue()) {
+                        Object value = batch.get(uuid).get(entry.getKey());
+                        if (value == NULL_VALUE) statement.setObject(1, null);
+                        else if (value instanceof Boolean booleanValue) statement.setInt(1, booleanValue ? 1 : 0);
+                        else statement.setObject(1, value);
+                        statement.setString(2, uuid.toString());
+                        statement.addBatch();
+                    }
+                    statement.executeBatch();
+                }
+                connection.commit();
+            } catch (Exception e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(true);
+            }
+            flushedBatches++;
+            flushedWrites += writeCount;
+        } catch (Exception e) {
+            Logger.warn("Failed to write batched player data, the changes will be retried on the next flush.");
+            e.printStackTrace();
+            requeue(batch);
+        }
+    }
+
+    //Newer values queued in the meantime take priority over the ones that failed to write
+    private static void requeue(Map<UUID, Map<String, Object>> batch) {
+        batch.forEach((uuid, fields) -> pendingWrites.compute(uuid, (key, currentFields) -> {
+            if (currentFields == null) currentFields = new ConcurrentHashMap<>();
+            for (Map.Entry<String, Object> field : fields.entrySet())
+                if (currentFields.putIfAbsent(field.getKey(), field.getValue()) == null) pendingCount.incrementAndGet();
+            return currentFields;
+        }));
+    }
+}
@@ -54,7 +54,7 @@ public class ArrowFireworks extends MinorPower implements Listener {
             rocketArrow.setGravity(false);
             rocketArrow.setGlowing(true);
 
-            TaskScheduler scheduler = new TaskScheduler(MetadataHandler.PLUGIN);
+            TaskScheduler scheduler = TaskScheduler.get(MetadataHandler.PLUGIN);
             AtomicInteger counter = new AtomicInteger(0);
             AtomicReference<TaskWrapper> taskRef = new AtomicReference<>();
 
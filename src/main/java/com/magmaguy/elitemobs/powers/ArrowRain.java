@@ -30,7 +30,7 @@ public class ArrowRain extends MinorPower implements Listener {
          AtomicInteger counter = new AtomicInteger(0);
          AtomicReference<TaskWrapper> taskRef = new AtomicReference<>();
 
-         TaskScheduler scheduler = new TaskScheduler(MetadataHandler.PLUGIN);
+         TaskScheduler scheduler = TaskScheduler.get(MetadataHandler.PLUGIN);
          Runnable timerTask = () -> {
              if (!eliteEntity.isValid()) {
                  if (taskRef.get() != null) taskRef.get().cancel();
@@ -42,7 +42,7 @@ public class AttackArrow extends MinorPower implements Listener {
     private void repeatingArrowTask(AttackArrow attackArrow, EliteEntity eliteEntity) {
         AtomicReference<TaskWrapper> taskRef = new AtomicReference<>();
         
-        TaskWrapper task = new TaskScheduler(MetadataHandler.PLUGIN).runTimerAsync(() -> {
+        TaskWrapper task = TaskScheduler.get(MetadataHandler.PLUGIN).runTimerAsync(() -> {
             if (!eliteEntity.isValid() || ((Monster) eliteEntity.getLivingEntity()).getTarget() == null) {
                 attackArrow.setFiring(false);
                 TaskWrapper t = taskRef.get();
@@ -75,7 +75,7 @@ public class AttackFireball extends MinorPower implements Listener {
     private void repeatingFireballTask(Monster monster, AttackFireball attackFireball) {
         AtomicReference<TaskWrapper> taskRef = new AtomicReference<>();
         
-        TaskWrapper task = new TaskScheduler(MetadataHandler.PLUGIN).runTimerAsync(() -> {
+        TaskWrapper task = TaskScheduler.get(MetadataHandler.PLUGIN).runTimerAsync(() -> {
             if (!monster.isValid() || monster.getTarget() == null) {
                 attackFireball.setFiring(false);
                 TaskWrapper t = taskRef.get();
@@ -45,7 +45,7 @@ public class AttackLightning extends MinorPower implements Listener {
         AtomicInteger counter = new AtomicInteger(0);
         AtomicReference<TaskWrapper> taskRef = new AtomicReference<>();
         
-        TaskWrapper task = new TaskScheduler(MetadataHandler.PLUGIN).runTimerAsync(() -> {
+        TaskWrapper task = TaskScheduler.get(MetadataHandler.PLUGIN).runTimerAsync(() -> {
             int currentCount = counter.incrementAndGet();
             if (currentCount > 20 * 3) {
                 LightningSpawnBypass.bypass();
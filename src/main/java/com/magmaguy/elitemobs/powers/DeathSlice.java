@@ -36,7 +36,7 @@ public class DeathSlice extends BossPower implements Listener {
         AtomicInteger counter = new AtomicInteger(0);
         AtomicReference<TaskWrapper> taskRef = new AtomicReference<>();
         
-        TaskWrapper task = new TaskScheduler(MetadataHandler.PLUGIN).runTimerAsync(() -> {
+        TaskWrapper task = TaskScheduler.get(MetadataHandler.PLUGIN).runTimerAsync(() -> {
             int currentCount = counter.get();
             if (currentCount > 20 * 5 || !eliteEntity.isValid()) {
                 if (eliteEntity.getLivingEntity() != null)
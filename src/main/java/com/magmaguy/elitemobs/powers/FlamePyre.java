@@ -47,7 +47,7 @@ public class FlamePyre extends BossPower implements Listener {
         AtomicInteger counter = new AtomicInteger(0);
         AtomicReference<TaskWrapper> taskRef = new AtomicReference<>();
         
-        TaskWrapper task = new TaskScheduler(MetadataHandler.PLUGIN).runTimerAsync(() -> {
+        TaskWrapper task = TaskScheduler.get(MetadataHandler.PLUGIN).runTimerAsync(() -> {
             int currentCount = counter.incrementAndGet();
             if (!eliteEntity.isValid()) {
                 TaskWrapper t = taskRef.get();
@@ -82,7 +82,7 @@ public class FlamePyre extends BossPower implements Listener {
         AtomicInteger counter = new AtomicInteger(0);
         AtomicReference<TaskWrapper> taskRef = new AtomicReference<>();
         
-        TaskWrapper task = new TaskScheduler(MetadataHandler.PLUGIN).runTimerAsync(() -> {
+        TaskWrapper task = TaskScheduler.get(MetadataHandler.PLUGIN).runTimerAsync(() -> {
             if (!eliteEntity.isValid()) {
                 TaskWrapper t = taskRef.get();
                 if (t != null) t.cancel();
@@ -127,7 +127,7 @@ public class FlamePyre extends BossPower implements Listener {
         AtomicInteger counter = new AtomicInteger(0);
         AtomicReference<TaskWrapper> taskRef = new AtomicReference<>();
         
-        TaskWrapper task = new TaskScheduler(MetadataHandler.PLUGIN).runTimerAsync(() -> {
+        TaskWrapper task = TaskScheduler.get(MetadataHandler.PLUGIN).runTimerAsync(() -> {
             if (!eliteEntity.isValid()) {
                 TaskWrapper t = taskRef.get();
                 if (t != null) t.cancel();
@@ -157,7 +157,7 @@ public class FlamePyre extends BossPower implements Listener {
         AtomicInteger counter = new AtomicInteger(0);
         AtomicReference<TaskWrapper> taskRef = new AtomicReference<>();
         
-        TaskWrapper task = new TaskScheduler(MetadataHandler.PLUGIN).runTimerAsync(() -> {
+        TaskWrapper task = TaskScheduler.get(MetadataHandler.PLUGIN).runTimerAsync(() -> {
             if (!eliteEntity.isValid()) {
                 TaskWrapper t = taskRef.get();
                 if (t != null) t.cancel();
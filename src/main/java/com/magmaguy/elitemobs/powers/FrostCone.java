@@ -115,7 +115,7 @@ public class FrostCone extends BossPower implements Listener {
         ProjectileTagger.tagProjectileWithCustomDamage(snowball, 2);
         snowball.getPersistentDataContainer().set(frostConeSnowballKey, PersistentDataType.STRING, "true");
         // Convert to Folia-compatible delayed task
-        TaskScheduler taskScheduler = new TaskScheduler(MetadataHandler.PLUGIN);
+        TaskScheduler taskScheduler = TaskScheduler.get(MetadataHandler.PLUGIN);
         taskScheduler.runDelayedAsync(snowball::remove, 20L * 3);
         return (Snowball) snowball;
     }
@@ -144,7 +144,7 @@ public class FrostCone extends BossPower implements Listener {
         event.getPlayer().addPotionEffect(new PotionEffect(PotionEffectType.SLOWNESS, 20 * 7, frostconePlayer.get(playerUUID)));
         // Convert to Folia-compatible delayed task
         final int amount = frostconePlayer.get(playerUUID);
-        TaskScheduler taskScheduler = new TaskScheduler(MetadataHandler.PLUGIN);
+        TaskScheduler taskScheduler = TaskScheduler.get(MetadataHandler.PLUGIN);
         taskScheduler.runDelayedAsync(() -> {
             if (!frostconePlayer.containsKey(playerUUID)) return;
             if (amount != frostconePlayer.get(playerUUID)) return;
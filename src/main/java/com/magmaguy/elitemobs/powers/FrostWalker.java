@@ -17,7 +17,7 @@ public class FrostWalker extends MinorPower {
 
     @Override
     public void applyPowers(LivingEntity livingEntity) {
-        new TaskScheduler(MetadataHandler.PLUGIN).runDelayedAsync(() -> {
+        TaskScheduler.get(MetadataHandler.PLUGIN).runDelayedAsync(() -> {
             ItemStack frostWalkerBoots = new ItemStack(Material.LEATHER_BOOTS);
             frostWalkerBoots.addEnchantment(Enchantment.FROST_WALKER, 2);
             frostWalkerBoots.addEnchantment(Enchantment.DEPTH_STRIDER, 3);
@@ -45,7 +45,7 @@ public class GoldExplosion extends BossPower implements Listener {
 
         eliteEntity.getLivingEntity().setAI(false);
 
-        TaskScheduler scheduler = new TaskScheduler(MetadataHandler.PLUGIN);
+        TaskScheduler scheduler = TaskScheduler.get(MetadataHandler.PLUGIN);
         AtomicInteger counter = new AtomicInteger(0);
         AtomicReference<TaskWrapper> taskRef = new AtomicReference<>();
 
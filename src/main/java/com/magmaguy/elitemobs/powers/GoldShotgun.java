@@ -48,7 +48,7 @@ public class GoldShotgun extends BossPower implements Listener {
         AtomicInteger counter = new AtomicInteger(0);
         AtomicReference<TaskWrapper> taskRef = new AtomicReference<>();
         
-        TaskWrapper task = new TaskScheduler(MetadataHandler.PLUGIN).runTimerAsync(() -> {
+        TaskWrapper task = TaskScheduler.get(MetadataHandler.PLUGIN).runTimerAsync(() -> {
             if (!eliteEntity.isValid()) {
                 TaskWrapper t = taskRef.get();
                 if (t != null) t.cancel();
@@ -52,7 +52,7 @@ public class GroundPound extends MinorPower implements Listener {
     public void doGroundPound(EliteEntity eliteEntity) {
 
         //step 1: make boss go up
-        new TaskScheduler(MetadataHandler.PLUGIN).runDelayedAsync(() -> {
+        TaskScheduler.get(MetadataHandler.PLUGIN).runDelayedAsync(() -> {
             if (!eliteEntity.isValid()) {
                 return;
             }
@@ -64,7 +64,7 @@ public class GroundPound extends MinorPower implements Listener {
         AtomicInteger counter1 = new AtomicInteger(0);
         AtomicReference<TaskWrapper> taskRef1 = new AtomicReference<>();
         
-        TaskWrapper task1 = new TaskScheduler(MetadataHandler.PLUGIN).runTimerAsync(() -> {
+        TaskWrapper task1 = TaskScheduler.get(MetadataHandler.PLUGIN).runTimerAsync(() -> {
             if (!eliteEntity.isValid()) {
                 TaskWrapper t = taskRef1.get();
                 if (t != null) t.cancel();
@@ -79,7 +79,7 @@ public class GroundPound extends MinorPower implements Listener {
                 AtomicInteger counter2 = new AtomicInteger(0);
                 AtomicReference<TaskWrapper> taskRef2 = new AtomicReference<>();
                 
-                TaskWrapper task2 = new TaskScheduler(MetadataHandler.PLUGIN).runTimerAsync(() -> {
+                TaskWrapper task2 = TaskScheduler.get(MetadataHandler.PLUGIN).runTimerAsync(() -> {
                     int currentCount2 = counter2.get();
                     if (currentCount2 > 20 * 5 || !eliteEntity.isValid()) {
                         TaskWrapper t = taskRef2.get();
@@ -34,7 +34,7 @@ public class Implosion extends MinorPower implements Listener {
         AtomicInteger counter = new AtomicInteger(0);
         AtomicReference<TaskWrapper> taskRef = new AtomicReference<>();
         
-        TaskWrapper task = new TaskScheduler(MetadataHandler.PLUGIN).runTimerAsync(() -> {
+        TaskWrapper task = TaskScheduler.get(MetadataHandler.PLUGIN).runTimerAsync(() -> {
             int currentCount = counter.get();
             if (currentCount < 20)
                 for (int i = 0; i < 20; i++)
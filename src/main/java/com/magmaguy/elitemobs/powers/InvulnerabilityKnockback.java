@@ -26,7 +26,7 @@ public class InvulnerabilityKnockback extends MinorPower implements Listener {
                         ((CustomBossEntity) event.getEliteEntity()).getCustomBossesConfigFields().isFrozen()) {
             if (!event.getEliteEntity().isValid()) return;
             event.getEntity().setVelocity(new Vector(0, 0, 0));
-            new TaskScheduler(MetadataHandler.PLUGIN).runDelayedAsync(() -> {
+            TaskScheduler.get(MetadataHandler.PLUGIN).runDelayedAsync(() -> {
                 if (!event.getEliteEntity().isValid()) return;
                 event.getEntity().setVelocity(new Vector(0, 0, 0));
             }, 1);
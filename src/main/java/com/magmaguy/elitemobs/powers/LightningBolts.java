@@ -42,14 +42,14 @@ public class LightningBolts extends BossPower implements Listener {
                 }
             }
         }
-        new TaskScheduler(MetadataHandler.PLUGIN).runDelayedAsync(() -> {
+        TaskScheduler.get(MetadataHandler.PLUGIN).runDelayedAsync(() -> {
             if (eliteEntity != null && eliteEntity.getLivingEntity() != null)
                 eliteEntity.getLivingEntity().setAI(true);
         }, 4L * 20);
         }
 
     public static void lightningTask(Location location, int counterDelay) {
-        TaskScheduler scheduler = new TaskScheduler(MetadataHandler.PLUGIN);
+        TaskScheduler scheduler = TaskScheduler.get(MetadataHandler.PLUGIN);
         AtomicInteger counter = new AtomicInteger(0);
         AtomicReference<TaskWrapper> taskRef = new AtomicReference<>();
         
@@ -19,7 +19,7 @@ public class MovementSpeed extends MinorPower {
 
     @Override
     public void applyPowers(LivingEntity livingEntity) {
-        new TaskScheduler(MetadataHandler.PLUGIN).runDelayedAsync(() -> {
+        TaskScheduler.get(MetadataHandler.PLUGIN).runDelayedAsync(() -> {
             livingEntity.addPotionEffect(new PotionEffect(PotionEffectType.SPEED, 100000, 1));
         }, 1);
     }
@@ -201,7 +201,7 @@ public class ShieldWall extends MinorPower {
 
     private void armorStandTracker(EliteEntity eliteEntity) {
         // Convert to Folia-compatible timer task
-        TaskScheduler taskScheduler = new TaskScheduler(MetadataHandler.PLUGIN);
+        TaskScheduler taskScheduler = TaskScheduler.get(MetadataHandler.PLUGIN);
         taskScheduler.runTimerAsync(() -> {
             if (!eliteEntity.isValid() || (northHealthPool == 0 && southHealthPool == 0 && eastHealthPool == 0 && westHealthPool == 0) || !isActive) {
                 setActive(false);
@@ -49,7 +49,7 @@ public class SkeletonPillar extends MajorPower implements Listener {
         AtomicInteger timer = new AtomicInteger(1);
         AtomicReference<TaskWrapper> taskRef = new AtomicReference<>();
         
-        TaskWrapper task = new TaskScheduler(MetadataHandler.PLUGIN).runTimerAsync(() -> {
+        TaskWrapper task = TaskScheduler.get(MetadataHandler.PLUGIN).runTimerAsync(() -> {
             int currentTimer = timer.get();
             
             if (currentTimer > 20 * 7 || !event.getEliteMobEntity().isValid()) {
@@ -105,7 +105,7 @@ public class SkeletonPillar extends MajorPower implements Listener {
         AtomicInteger counter = new AtomicInteger(0);
         AtomicReference<TaskWrapper> taskRef = new AtomicReference<>();
         
-        TaskWrapper task = new TaskScheduler(MetadataHandler.PLUGIN).runTimerAsync(() -> {
+        TaskWrapper task = TaskScheduler.get(MetadataHandler.PLUGIN).runTimerAsync(() -> {
             int currentCount = counter.incrementAndGet();
             switch (currentCount) {
                     case 1:
@@ -29,7 +29,7 @@ public class SkeletonTrackingArrow extends MajorPower implements Listener {
         AtomicInteger counter = new AtomicInteger(0);
         AtomicReference<TaskWrapper> taskRef = new AtomicReference<>();
         
-        TaskWrapper task = new TaskScheduler(MetadataHandler.PLUGIN).runTimerAsync(() -> {
+        TaskWrapper task = TaskScheduler.get(MetadataHandler.PLUGIN).runTimerAsync(() -> {
             int currentCount = counter.get();
             if (player.isValid() && arrow.isValid() && arrow.getWorld().equals(player.getWorld())
                     && player.getLocation().distanceSquared(arrow.getLocation()) < 900 && !arrow.isOnGround()) {
@@ -69,7 +69,7 @@ public class SkeletonTrackingArrow extends MajorPower implements Listener {
     private void repeatingTrackingArrowTask(EliteEntity eliteEntity, SkeletonTrackingArrow skeletonTrackingArrow) {
         AtomicReference<TaskWrapper> taskRef = new AtomicReference<>();
         
-        TaskWrapper task = new TaskScheduler(MetadataHandler.PLUGIN).runTimerAsync(() -> {
+        TaskWrapper task = TaskScheduler.get(MetadataHandler.PLUGIN).runTimerAsync(() -> {
             if (!eliteEntity.isValid()) {
                 skeletonTrackingArrow.setFiring(false);
                 TaskWrapper t = taskRef.get();
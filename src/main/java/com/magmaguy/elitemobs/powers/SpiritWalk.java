@@ -45,7 +45,7 @@ public class SpiritWalk extends BossPower implements Listener {
         Vector toDestination = finalLocation.clone().subtract(entityLocation.clone()).toVector().normalize().divide(new Vector(2, 2, 2));
         eliteEntity.setCombatGracePeriod(20 * 20);
 
-        TaskScheduler taskScheduler = new TaskScheduler(MetadataHandler.PLUGIN);
+        TaskScheduler taskScheduler = TaskScheduler.get(MetadataHandler.PLUGIN);
         AtomicInteger counter = new AtomicInteger(0);
         AtomicReference<TaskWrapper> taskRef = new AtomicReference<>();
 
@@ -73,7 +73,7 @@ public class SpiritWalk extends BossPower implements Listener {
     }
 
     public static void spiritWalkRegionalBossAnimation(EliteEntity eliteEntity, Location entityLocation, Location finalLocation) {
-        TaskScheduler taskScheduler = new TaskScheduler(MetadataHandler.PLUGIN);
+        TaskScheduler taskScheduler = TaskScheduler.get(MetadataHandler.PLUGIN);
         
         if (eliteEntity.getLivingEntity() == null) return;
         eliteEntity.getLivingEntity().setAI(false);
@@ -123,7 +123,7 @@ public class SpiritWalk extends BossPower implements Listener {
                     }
 
                     vehicle.setInvulnerable(false);
-                    TaskScheduler delayedScheduler = new TaskScheduler(MetadataHandler.PLUGIN);
+                    TaskScheduler delayedScheduler = TaskScheduler.get(MetadataHandler.PLUGIN);
                     delayedScheduler.runDelayedAsync(() -> {
                         PreventMountExploit.bypass = true;
                         vehicle.addPassenger(eliteEntity.getLivingEntity());
@@ -192,7 +192,7 @@ public class SpiritWalk extends BossPower implements Listener {
     }
 
     public void initializeSpiritWalk(EliteEntity eliteEntity) {
-        TaskScheduler taskScheduler = new TaskScheduler(MetadataHandler.PLUGIN);
+        TaskScheduler taskScheduler = TaskScheduler.get(MetadataHandler.PLUGIN);
         AtomicInteger counter = new AtomicInteger(1);
         AtomicReference<TaskWrapper> taskRef = new AtomicReference<>();
 
@@ -41,7 +41,7 @@ public class SummonEmbers extends BossPower implements Listener {
         AtomicInteger counter = new AtomicInteger(0);
         AtomicReference<TaskWrapper> taskRef = new AtomicReference<>();
         
-        TaskWrapper task = new TaskScheduler(MetadataHandler.PLUGIN).runTimerAsync(() -> {
+        TaskWrapper task = TaskScheduler.get(MetadataHandler.PLUGIN).runTimerAsync(() -> {
             int currentCount = counter.incrementAndGet();
             if (!eliteEntity.isValid()) {
                 TaskWrapper t = taskRef.get();
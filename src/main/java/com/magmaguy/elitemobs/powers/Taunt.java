@@ -42,7 +42,7 @@ public class Taunt extends MinorPower implements Listener {
          int randomizedKey = ThreadLocalRandom.current().nextInt(list.size());
          String tempName = list.get(randomizedKey);
          entity.setCustomName(ChatColorConverter.convert(tempName));
-         new TaskScheduler(MetadataHandler.PLUGIN).runDelayedAsync(() -> {
+         TaskScheduler.get(MetadataHandler.PLUGIN).runDelayedAsync(() -> {
              if (!entity.isValid())
                  return;
              entity.setCustomName(eliteEntity.getName());
@@ -45,7 +45,7 @@ public class Taze extends BossPower implements Listener {
         player.sendTitle("", "Shocked!", 1, 30, 1);
         player.addPotionEffect(new PotionEffect(PotionEffectType.SLOWNESS, 30, 5));
 
-        new TaskScheduler(MetadataHandler.PLUGIN).runDelayedAsync(() -> {
+        TaskScheduler.get(MetadataHandler.PLUGIN).runDelayedAsync(() -> {
             taze(player, entityLocation, counter + 1);
         }, 5);
     }
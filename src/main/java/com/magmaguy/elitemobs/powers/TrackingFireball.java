@@ -57,7 +57,7 @@ public class TrackingFireball extends MajorPower {
             public TrackingFireballTasks(Monster monster, TrackingFireball trackingFireball) {
                 AtomicReference<TaskWrapper> taskRef = new AtomicReference<>();
                 
-                TaskWrapper task = new TaskScheduler(MetadataHandler.PLUGIN).runTimerAsync(() -> {
+                TaskWrapper task = TaskScheduler.get(MetadataHandler.PLUGIN).runTimerAsync(() -> {
                     if (!monster.isValid() || monster.getTarget() == null) {
                         trackingFireball.setFiring(false);
                         TaskWrapper t = taskRef.get();
@@ -90,7 +90,7 @@ public class TrackingFireball extends MajorPower {
                     AtomicInteger counter = new AtomicInteger(0);
                     AtomicReference<TaskWrapper> taskRef = new AtomicReference<>();
                     
-                    TaskWrapper task = new TaskScheduler(MetadataHandler.PLUGIN).runTimerAsync(() -> {
+                    TaskWrapper task = TaskScheduler.get(MetadataHandler.PLUGIN).runTimerAsync(() -> {
                         int currentCount = counter.get();
                         if (repeatingFireball == null ||
                                 !repeatingFireball.isValid() ||
@@ -45,7 +45,7 @@ public class ZombieBloat extends MajorPower implements Listener {
         AtomicInteger timer = new AtomicInteger(0);
         AtomicReference<TaskWrapper> taskRef = new AtomicReference<>();
         
-        TaskWrapper task = new TaskScheduler(MetadataHandler.PLUGIN).runTimerAsync(() -> {
+        TaskWrapper task = TaskScheduler.get(MetadataHandler.PLUGIN).runTimerAsync(() -> {
             int currentTimer = timer.get();
             
             if (currentTimer > 40) {
@@ -113,7 +113,7 @@ public class ZombieBloat extends MajorPower implements Listener {
         /*
         Effect is done, start task to remove giant
          */
-        new TaskScheduler(MetadataHandler.PLUGIN).runDelayedAsync(() -> {
+        TaskScheduler.get(MetadataHandler.PLUGIN).runDelayedAsync(() -> {
             giant.remove();
             eventZombie.setAI(true);
         }, 10);
@@ -128,7 +128,7 @@ public class ZombieBloat extends MajorPower implements Listener {
         AtomicInteger counter = new AtomicInteger(0);
         AtomicReference<TaskWrapper> taskRef = new AtomicReference<>();
         
-        TaskWrapper task = new TaskScheduler(MetadataHandler.PLUGIN).runTimerAsync(() -> {
+        TaskWrapper task = TaskScheduler.get(MetadataHandler.PLUGIN).runTimerAsync(() -> {
             int currentCount = counter.get();
             if (currentCount > 1.5 * 20) {
                 TaskWrapper t = taskRef.get();
@@ -41,7 +41,7 @@ public class ZombieFriends extends MajorPower implements Listener {
 
         AtomicReference<TaskWrapper> taskRef = new AtomicReference<>();
         
-        TaskWrapper task = new TaskScheduler(MetadataHandler.PLUGIN).runTimerAsync(() -> {
+        TaskWrapper task = TaskScheduler.get(MetadataHandler.PLUGIN).runTimerAsync(() -> {
             if (!event.getEliteMobEntity().isValid() || !reinforcement1.isValid() && !reinforcement2.isValid()) {
 
                 if (reinforcement1 != null && reinforcement1.isValid()) {
@@ -87,7 +87,7 @@ public class ZombieFriends extends MajorPower implements Listener {
     }
 
     private void nameClearer(EliteEntity eliteEntity) {
-        new TaskScheduler(MetadataHandler.PLUGIN).runDelayedAsync(() -> {
+        TaskScheduler.get(MetadataHandler.PLUGIN).runDelayedAsync(() -> {
             if (eliteEntity.isValid())
                 eliteEntity.setName(eliteEntity.getName(), true);
         }, 20 * 3);
@@ -71,7 +71,7 @@ public class ZombieNecronomicon extends MajorPower implements Listener {
         AtomicInteger counter = new AtomicInteger(0);
         AtomicReference<TaskWrapper> taskRef = new AtomicReference<>();
         
-        TaskWrapper task = new TaskScheduler(MetadataHandler.PLUGIN).runTimerAsync(() -> {
+        TaskWrapper task = TaskScheduler.get(MetadataHandler.PLUGIN).runTimerAsync(() -> {
             int currentCount = counter.get();
             
             if (!livingEntity.isValid() || livingEntity.hasAI()) {
@@ -154,7 +154,7 @@ public class ZombieNecronomicon extends MajorPower implements Listener {
         final String fullChant = convert(PowersConfig.getPower("zombie_necronomicon.yml").getFileConfiguration().getString("summoningChant"));
         AtomicReference<TaskWrapper> taskRef = new AtomicReference<>();
         
-        TaskWrapper task = new TaskScheduler(MetadataHandler.PLUGIN).runTimerAsync(() -> {
+        TaskWrapper task = TaskScheduler.get(MetadataHandler.PLUGIN).runTimerAsync(() -> {
             if (!livingEntity.isValid() || livingEntity.hasAI()) {
                 TaskWrapper t = taskRef.get();
                 if (t != null) t.cancel();
@@ -177,7 +177,7 @@ public class ZombieNecronomicon extends MajorPower implements Listener {
         LivingEntity targetter = eliteEntity.getLivingEntity();
         AtomicReference<TaskWrapper> taskRef = new AtomicReference<>();
         
-        TaskWrapper task = new TaskScheduler(MetadataHandler.PLUGIN).runTimerAsync(() -> {
+        TaskWrapper task = TaskScheduler.get(MetadataHandler.PLUGIN).runTimerAsync(() -> {
             if (!eliteEntity.isValid() || !targetted.isValid() || !targetter.isValid() || targetted.getWorld() != targetter.getWorld()
                     || targetted.getLocation().distance(targetter.getLocation()) > 30) {
 
@@ -28,7 +28,7 @@ public class ZombieParents extends MajorPower implements Listener {
     private static void startDialog(CustomBossEntity reinforcementMom, CustomBossEntity reinforcementDad, EliteEntity bossEntity) {
         AtomicReference<TaskWrapper> taskRef = new AtomicReference<>();
         
-        TaskWrapper task = new TaskScheduler(MetadataHandler.PLUGIN).runTimerAsync(() -> {
+        TaskWrapper task = TaskScheduler.get(MetadataHandler.PLUGIN).runTimerAsync(() -> {
             if (!bossEntity.isValid()) {
                 doDeathMessages(reinforcementDad, reinforcementMom);
                 TaskWrapper t = taskRef.get();
@@ -76,7 +76,7 @@ public class ZombieParents extends MajorPower implements Listener {
     }
 
     private static void nameClearer(EliteEntity eliteEntity) {
-        new TaskScheduler(MetadataHandler.PLUGIN).runDelayedAsync(() -> {
+        TaskScheduler.get(MetadataHandler.PLUGIN).runDelayedAsync(() -> {
             if (eliteEntity.isValid())
                 eliteEntity.setName(eliteEntity.getName(), true);
         }, 20L * 3);
@@ -17,6 +17,7 @@ import org.bukkit.event.Listener;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 public class EliteScript extends ElitePower implements Cloneable {
@@ -53,6 +54,13 @@ public class EliteScript extends ElitePower implements Cloneable {
         return blueprints.stream().map(eliteScriptBlueprint -> new EliteScript(eliteScriptBlueprint, powerMap, eliteEntity)).collect(Collectors.toList());
     }
 
+    /**
+     * @return Event classes that trigger this script
+     */
+    public Set<Class> getTargetEvents() {
+        return scriptEvents.getScriptEventsBlueprint().getEvents();
+    }
+
     /**
      * Used by events that call scripts
      *
@@ -15,7 +15,6 @@ import com.magmaguy.elitemobs.powers.meta.CustomSummonPower;
 import com.magmaguy.elitemobs.powers.scripts.caching.ScriptActionBlueprint;
 import com.magmaguy.elitemobs.powers.scripts.enums.ActionType;
 import com.magmaguy.magmacore.util.AttributeManager;
-import com.magmaguy.magmacore.util.ChatColorConverter;
 import com.magmaguy.magmacore.util.Logger;
 import lombok.Getter;
 import me.MinhTaz.FoliaLib.TaskScheduler;
@@ -29,12 +28,12 @@ import org.bukkit.entity.*;
 import org.bukkit.event.Event;
 import org.bukkit.inventory.meta.FireworkMeta;
 import org.bukkit.potion.PotionEffect;
-import org.bukkit.scheduler.BukkitRunnable;
 import org.bukkit.util.Vector;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.BiConsumer;
 
 /**
  * Handles the execution of script actions for EliteMobs.
@@ -77,6 +76,58 @@ public class ScriptAction {
         this.eliteScript = eliteScript;
     }
 
+    /**
+     * Binds an action type to the method that runs it. Called once per blueprint when the config loads, every action
+     * made from the blueprint then shares the result.
+     *
+     * @param actionType     Action type to bind
+     * @param scriptName     Name of the script, for warnings
+     * @param scriptFilename File of the script, for warnings
+     * @return Method that runs the action, or null if the action type is missing
+     */
+    public static BiConsumer<ScriptAction, ScriptActionData> compileHandler(ActionType actionType, String scriptName, String scriptFilename) {
+        if (actionType == null) return null;
+        return switch (actionType) {
+            case TELEPORT -> ScriptAction::runTeleport;
+            case MESSAGE -> ScriptAction::runMessage;
+            case ACTION_BAR_MESSAGE -> ScriptAction::runActionBarMessage;
+            case TITLE_MESSAGE -> ScriptAction::runTitleMessage;
+            case BOSS_BAR_MESSAGE -> ScriptAction::runBossBarMessage;
+            case POTION_EFFECT -> ScriptAction::runPotionEffect;
+            case DAMAGE -> ScriptAction::runDamage;
+            case SET_ON_FIRE -> ScriptAction::runSetOnFire;
+            case VISUAL_FREEZE -> ScriptAction::runVisualFreeze;
+            case PLACE_BLOCK -> ScriptAction::runPlaceBlock;
+            case RUN_COMMAND_AS_PLAYER -> ScriptAction::runPlayerCommand;
+            case RUN_COMMAND_AS_CONSOLE -> ScriptAction::runConsoleCommand;
+            case STRIKE_LIGHTNING -> ScriptAction::runStrikeLightning;
+            case SPAWN_PARTICLE -> ScriptAction::runSpawnParticle;
+            case SET_MOB_AI -> ScriptAction::runSetMobAI;
+            case SET_MOB_AWARE -> ScriptAction::runSetMobAware;
+            case PLAY_SOUND -> ScriptAction::runPlaySound;
+            case PUSH -> ScriptAction::runPush;
+            case SUMMON_REINFORCEMENT -> ScriptAction::runSummonReinforcement;
+            case RUN_SCRIPT -> ScriptAction::runAdditionalScripts;
+            case SPAWN_FIREWORKS -> ScriptAction::runSpawnFireworks;
+            case MAKE_INVULNERABLE -> ScriptAction::runMakeInvulnerable;
+            case TAG -> ScriptAction::runTag;
+            case UNTAG -> ScriptAction::runUntag;
+            case SET_TIME -> ScriptAction::runSetTime;
+            case SET_WEATHER -> ScriptAction::runSetWeather;
+            case PLAY_ANIMATION -> ScriptAction::runPlayAnimation;
+            case SPAWN_FALLING_BLOCK -> ScriptAction::runSpawnFallingBlock;
+            case MODIFY_DAMAGE -> ScriptAction::runModifyDamage;
+            case SUMMON_ENTITY -> ScriptAction::runSummonEntity;
+            case NAVIGATE -> ScriptAction::runNavigate;
+            case SCALE -> ScriptAction::runScale;
+            case SET_FACING -> ScriptAction::setFacing;
+            case HEAL -> ScriptAction::runHeal;
+            case REMOVE_ELITE -> ScriptAction::runRemoveElite;
+            default -> (scriptAction, scriptActionData) -> Logger.warn("Unknown action type '"
+                    + actionType + "' in script '" + scriptName + "' for file '" + scriptFilename + "'");
+        };
+    }
+
     private static final ThreadLocal<Integer> scriptDamageDepth = ThreadLocal.withInitial(() -> 0);
 
     /**
@@ -135,10 +186,10 @@ public class ScriptAction {
             finalScriptTargets.cacheTargets(scriptActionData);
         }
 
-        if (blueprint.getWait().getValue() > 0) {
+        if (blueprint.getWait().getInt() > 0) {
             // Convert to Folia-compatible delayed task
-            TaskScheduler taskScheduler = new TaskScheduler(MetadataHandler.PLUGIN);
-            taskScheduler.runDelayedAsync(() -> runScriptTask(scriptActionData), blueprint.getWait().getValue());
+            TaskScheduler taskScheduler = TaskScheduler.get(MetadataHandler.PLUGIN);
+            taskScheduler.runDelayedAsync(() -> runScriptTask(scriptActionData), blueprint.getWait().getInt());
         } else {
             runScriptTask(scriptActionData);
         }
@@ -150,33 +201,31 @@ public class ScriptAction {
      * @param scriptActionData The data for the script action.
      */
     private void runScriptTask(ScriptActionData scriptActionData) {
-        if (blueprint.getRepeatEvery().getValue() > 0) {
+        if (blueprint.getRepeatEvery().getInt() > 0) {
             // If it's a repeating task, schedule it accordingly.
-            new BukkitRunnable() {
-                int counter = 0;
-
-                @Override
-                public void run() {
-                    counter++;
-                    if (blueprint.getConditionsBlueprint() != null
-                            && !scriptConditions.meetsActionConditions(scriptActionData)) {
-                        cancel();
-                        return;
-                    }
-
-                    if (blueprint.getTimes().getValue() > 0 && counter > blueprint.getTimes().getValue()) {
-                        cancel();
-                        return;
-                    }
+            // Endless repeats only last as long as the elite, so they get cancelled along with it
+            EliteEntity owner = blueprint.getTimes().getInt() < 0 ? scriptActionData.getEliteEntity() : null;
+            int[] counter = {0};
+            ScriptTimerWheel.scheduleRepeating(owner, 1, blueprint.getRepeatEvery().getInt(), handle -> {
+                counter[0]++;
+                if (blueprint.getConditionsBlueprint() != null
+                        && !scriptConditions.meetsActionConditions(scriptActionData)) {
+                    handle.cancel();
+                    return;
+                }
 
-                    if (blueprint.getTimes().getValue() < 0 && !scriptActionData.getEliteEntity().isValid()) {
-                        cancel();
-                        return;
-                    }
+                if (blueprint.getTimes().getInt() > 0 && counter[0] > blueprint.getTimes().getInt()) {
+                    handle.cancel();
+                    return;
+                }
 
-                    runActions(scriptActionData);
+                if (blueprint.getTimes().getInt() < 0 && !scriptActionData.getEliteEntity().isValid()) {
+                    handle.cancel();
+                    return;
                 }
-            }.runTaskTimer(MetadataHandler.PLUGIN, 0, blueprint.getRepeatEvery().getValue());
+
+                runActions(scriptActionData);
+            });
         } else {
             if (blueprint.getConditionsBlueprint() != null
                     && !scriptConditions.meetsActionConditions(scriptActionData)) {
@@ -192,54 +241,16 @@ public class ScriptAction {
      * @param scriptActionData The data for the current action.
      */
     private void runActions(ScriptActionData scriptActionData) {
-        if (blueprint.getActionType() == null) {
+        BiConsumer<ScriptAction, ScriptActionData> handler = blueprint.getHandler();
+        if (handler == null) {
             Logger.warn("Failed to determine action type in script '"
                     + blueprint.getScriptName() + "' for file '" + blueprint.getScriptFilename() + "'");
             return;
         }
 
-        switch (blueprint.getActionType()) {
-            case TELEPORT -> runTeleport(scriptActionData);
-            case MESSAGE -> runMessage(scriptActionData);
-            case ACTION_BAR_MESSAGE -> runActionBarMessage(scriptActionData);
-            case TITLE_MESSAGE -> runTitleMessage(scriptActionData);
-            case BOSS_BAR_MESSAGE -> runBossBarMessage(scriptActionData);
-            case POTION_EFFECT -> runPotionEffect(scriptActionData);
-            case DAMAGE -> runDamage(scriptActionData);
-            case SET_ON_FIRE -> runSetOnFire(scriptActionData);
-            case VISUAL_FREEZE -> runVisualFreeze(scriptActionData);
-            case PLACE_BLOCK -> runPlaceBlock(scriptActionData);
-            case RUN_COMMAND_AS_PLAYER -> runPlayerCommand(scriptActionData);
-            case RUN_COMMAND_AS_CONSOLE -> runConsoleCommand(scriptActionData);
-            case STRIKE_LIGHTNING -> runStrikeLightning(scriptActionData);
-            case SPAWN_PARTICLE -> runSpawnParticle(scriptActionData);
-            case SET_MOB_AI -> runSetMobAI(scriptActionData);
-            case SET_MOB_AWARE -> runSetMobAware(scriptActionData);
-            case PLAY_SOUND -> runPlaySound(scriptActionData);
-            case PUSH -> runPush(scriptActionData);
-            case SUMMON_REINFORCEMENT -> runSummonReinforcement(scriptActionData);
-            case RUN_SCRIPT -> runAdditionalScripts(scriptActionData);
-            case SPAWN_FIREWORKS -> runSpawnFireworks(scriptActionData);
-            case MAKE_INVULNERABLE -> runMakeInvulnerable(scriptActionData);
-            case TAG -> runTag(scriptActionData);
-            case UNTAG -> runUntag(scriptActionData);
-            case SET_TIME -> runSetTime(scriptActionData);
-            case SET_WEATHER -> runSetWeather(scriptActionData);
-            case PLAY_ANIMATION -> runPlayAnimation(scriptActionData);
-            case SPAWN_FALLING_BLOCK -> runSpawnFallingBlock(scriptActionData);
-            case MODIFY_DAMAGE -> runModifyDamage(scriptActionData);
-            case SUMMON_ENTITY -> runSummonEntity(scriptActionData);
-            case NAVIGATE -> runNavigate(scriptActionData);
-            case SCALE -> runScale(scriptActionData);
-            case SET_FACING -> setFacing(scriptActionData);
-            case HEAL -> runHeal(scriptActionData);
-            case REMOVE_ELITE -> runRemoveElite(scriptActionData);
-            default -> Logger.warn("Unknown action type '"
-                    + blueprint.getActionType() + "' in script '"
-                    + blueprint.getScriptName() + "' for file '" + blueprint.getScriptFilename() + "'");
-        }
+        handler.accept(this, scriptActionData);
 
-        if (!blueprint.getActionType().equals(ActionType.RUN_SCRIPT)) {
+        if (blueprint.getActionType() != ActionType.RUN_SCRIPT) {
             runAdditionalScripts(scriptActionData);
         }
     }
@@ -252,7 +263,7 @@ public class ScriptAction {
      */
     protected Collection<LivingEntity> getTargets(ScriptActionData scriptActionData) {
         Collection<LivingEntity> livingTargets = scriptConditions.validateEntities(scriptActionData, scriptTargets.getTargetEntities(scriptActionData));
-        scriptTargets.setAnonymousTargets(new ArrayList<>(livingTargets));
+        scriptTargets.setAnonymousTargets(livingTargets);
         if (blueprint.isDebug()) {
             livingTargets.forEach(livingTarget -> Logger.showLocation(livingTarget.getLocation()));
         }
@@ -267,7 +278,7 @@ public class ScriptAction {
      */
     protected Collection<Location> getLocationTargets(ScriptActionData scriptActionData) {
         Collection<Location> locationTargets = scriptConditions.validateLocations(scriptActionData, scriptTargets.getTargetLocations(scriptActionData));
-        scriptTargets.setAnonymousTargets(new ArrayList<>(locationTargets));
+        scriptTargets.setAnonymousTargets(locationTargets);
         if (blueprint.isDebug()) {
             locationTargets.forEach(Logger::showLocation);
         }
@@ -285,7 +296,7 @@ public class ScriptAction {
             return Collections.emptyList();
         }
         Collection<Location> locationTargets = scriptConditions.validateLocations(scriptActionData, finalScriptTargets.getTargetLocations(scriptActionData));
-        finalScriptTargets.setAnonymousTargets(new ArrayList<>(locationTargets));
+        finalScriptTargets.setAnonymousTargets(locationTargets);
         if (blueprint.isDebug()) {
             locationTargets.forEach(Logger::showLocation);
         }
@@ -326,8 +337,7 @@ public class ScriptAction {
      * @param scriptActionData The data for the script action.
      */
     private void runMessage(ScriptActionData scriptActionData) {
-        String message = ChatColorConverter.convert(blueprint.getSValue());
-        getTargets(scriptActionData).forEach(target -> target.sendMessage(message));
+        getTargets(scriptActionData).forEach(target -> target.sendMessage(blueprint.getChatMessage()));
     }
 
     /**
@@ -342,7 +352,7 @@ public class ScriptAction {
         }
         getTargets(scriptActionData).forEach(target -> {
             if (target instanceof Player player) {
-                player.sendTitle(blueprint.getTitle(), blueprint.getSubtitle(), blueprint.getFadeIn().getValue(), blueprint.getDuration().getValue(), blueprint.getFadeOut().getValue());
+                player.sendTitle(blueprint.getTitle(), blueprint.getSubtitle(), blueprint.getFadeIn().getInt(), blueprint.getDuration().getInt(), blueprint.getFadeOut().getInt());
             } else {
                 Logger.warn("TITLE_MESSAGE actions must target players! Problematic script: '" + blueprint.getScriptName() + "' in file '" + blueprint.getScriptFilename() + "'");
             }
@@ -383,8 +393,8 @@ public class ScriptAction {
         getTargets(scriptActionData).forEach(target -> {
             if (target instanceof Player player) {
                 bossBar.addPlayer(player);
-                if (blueprint.getDuration().getValue() > 0) {
-                    Bukkit.getScheduler().runTaskLater(MetadataHandler.PLUGIN, bossBar::removeAll, blueprint.getDuration().getValue());
+                if (blueprint.getDuration().getInt() > 0) {
+                    ScriptTimerWheel.schedule(null, blueprint.getDuration().getInt(), bossBar::removeAll);
                 }
             } else {
                 Logger.warn("BOSS_BAR_MESSAGE actions must target players! Problematic script: '" + blueprint.getScriptName() + "' in file '" + blueprint.getScriptFilename() + "'");
@@ -398,7 +408,7 @@ public class ScriptAction {
      * @param scriptActionData The data for the script action.
      */
     private void runPotionEffect(ScriptActionData scriptActionData) {
-        PotionEffect effect = new PotionEffect(blueprint.getPotionEffectType(), blueprint.getDuration().getValue(), blueprint.getAmplifier().getValue());
+        PotionEffect effect = new PotionEffect(blueprint.getPotionEffectType(), blueprint.getDuration().getInt(), blueprint.getAmplifier().getInt());
         getTargets(scriptActionData).forEach(target -> {
             if (target.isValid()) {
                 target.addPotionEffect(effect);
@@ -450,6 +460,7 @@ public class ScriptAction {
         });
         invulnerablePlayers.clear();
         scriptDamageDepth.remove();
+        ScriptTimerWheel.shutdown();
     }
 
     /**
@@ -466,8 +477,8 @@ public class ScriptAction {
             return;
         }
 
-        double damageAmount = blueprint.getAmount().getValue();
-        double multiplier = blueprint.getMultiplier().getValue();
+        double damageAmount = blueprint.getAmount().getFloat();
+        double multiplier = blueprint.getMultiplier().getFloat();
 
         try {
             // Increment depth before processing
@@ -507,7 +518,7 @@ public class ScriptAction {
      * @param scriptActionData The data for the script action.
      */
     private void runSetOnFire(ScriptActionData scriptActionData) {
-        int duration = blueprint.getDuration().getValue();
+        int duration = blueprint.getDuration().getInt();
         getTargets(scriptActionData).forEach(target -> target.setFireTicks(duration));
     }
 
@@ -517,7 +528,7 @@ public class ScriptAction {
      * @param scriptActionData The data for the script action.
      */
     private void runVisualFreeze(ScriptActionData scriptActionData) {
-        int freezeTicks = blueprint.getAmount().getValue().intValue();
+        int freezeTicks = (int) blueprint.getAmount().getFloat();
         getTargets(scriptActionData).forEach(target -> target.setFreezeTicks(target.getFreezeTicks() + freezeTicks));
     }
 
@@ -529,8 +540,8 @@ public class ScriptAction {
     private void runPlaceBlock(ScriptActionData scriptActionData) {
         getLocationTargets(scriptActionData).forEach(location -> {
             Block block = location.getBlock();
-            if (blueprint.getDuration().getValue() > 0) {
-                EntityTracker.addTemporaryBlock(block, blueprint.getDuration().getValue(), blueprint.getMaterial());
+            if (blueprint.getDuration().getInt() > 0) {
+                EntityTracker.addTemporaryBlock(block, blueprint.getDuration().getInt(), blueprint.getMaterial());
             } else {
                 block.setType(blueprint.getMaterial());
             }
@@ -621,12 +632,12 @@ public class ScriptAction {
      */
     private void runSetMobAI(ScriptActionData scriptActionData) {
         boolean aiEnabled = blueprint.getBValue();
-        int duration = blueprint.getDuration().getValue();
+        int duration = blueprint.getDuration().getInt();
 
         getTargets(scriptActionData).forEach(target -> {
             target.setAI(aiEnabled);
             if (duration > 0) {
-                Bukkit.getScheduler().runTaskLater(MetadataHandler.PLUGIN, () -> target.setAI(!aiEnabled), duration);
+                ScriptTimerWheel.schedule(null, duration, () -> target.setAI(!aiEnabled));
             }
         });
     }
@@ -638,13 +649,13 @@ public class ScriptAction {
      */
     private void runSetMobAware(ScriptActionData scriptActionData) {
         boolean aware = blueprint.getBValue();
-        int duration = blueprint.getDuration().getValue();
+        int duration = blueprint.getDuration().getInt();
 
         getTargets(scriptActionData).forEach(target -> {
             if (target instanceof Mob mob) {
                 mob.setAware(aware);
                 if (duration > 0) {
-                    Bukkit.getScheduler().runTaskLater(MetadataHandler.PLUGIN, () -> mob.setAware(!aware), duration);
+                    ScriptTimerWheel.schedule(null, duration, () -> mob.setAware(!aware));
                 }
             } else {
                 Logger.warn("SET_MOB_AWARE action must target mobs! Problematic script: '" + blueprint.getScriptName() + "' in file '" + blueprint.getScriptFilename() + "'");
@@ -659,8 +670,8 @@ public class ScriptAction {
      */
     private void runPlaySound(ScriptActionData scriptActionData) {
         String sound = blueprint.getSValue();
-        float volume = blueprint.getVolume().getValue();
-        float pitch = blueprint.getPitch().getValue();
+        float volume = blueprint.getVolume().getFloat();
+        float pitch = blueprint.getPitch().getFloat();
         getLocationTargets(scriptActionData).forEach(location -> {
             try {
                 location.getWorld().playSound(location, sound, volume, pitch);
@@ -689,19 +700,16 @@ public class ScriptAction {
 
         // Delay the push by one tick to avoid interference with other events.
         Vector localFinalVelocity = velocity;
-        new BukkitRunnable() {
-            @Override
-            public void run() {
-                Vector finalVelocity = localFinalVelocity;
-                getTargets(scriptActionData).forEach(target -> {
-                    if (additive) {
-                        target.setVelocity(target.getVelocity().add(finalVelocity));
-                    } else {
-                        target.setVelocity(finalVelocity);
-                    }
-                });
-            }
-        }.runTaskLater(MetadataHandler.PLUGIN, 1);
+        ScriptTimerWheel.schedule(null, 1, () -> {
+            Vector finalVelocity = localFinalVelocity;
+            getTargets(scriptActionData).forEach(target -> {
+                if (additive) {
+                    target.setVelocity(target.getVelocity().add(finalVelocity));
+                } else {
+                    target.setVelocity(finalVelocity);
+                }
+            });
+        });
     }
 
     /**
@@ -721,7 +729,7 @@ public class ScriptAction {
      */
     private void runSummonReinforcement(ScriptActionData scriptActionData) {
         getLocationTargets(scriptActionData).forEach(location -> {
-            CustomBossEntity customBossEntity = CustomSummonPower.summonReinforcement(scriptActionData.getEliteEntity(), location, blueprint.getSValue(), blueprint.getDuration().getValue());
+            CustomBossEntity customBossEntity = CustomSummonPower.summonReinforcement(scriptActionData.getEliteEntity(), location, blueprint.getSValue(), blueprint.getDuration().getInt());
             if (customBossEntity != null && customBossEntity.getLivingEntity() != null) {
                 Vector velocity = blueprint.getScriptRelativeVectorBlueprint() != null
                         ? new ScriptRelativeVector(blueprint.getScriptRelativeVectorBlueprint(), eliteScript, customBossEntity.getLivingEntity().getLocation()).getVector(scriptActionData)
@@ -750,18 +758,11 @@ public class ScriptAction {
                 firework.setPersistent(false);
                 FireworkMeta fireworkMeta = firework.getFireworkMeta();
 
-                List<FireworkEffect.Type> types = blueprint.getFireworkEffectTypes();
-                List<List<Color>> colorsList = blueprint.getFireworkEffects().stream()
-                        .map(colors -> colors.stream().map(ScriptActionBlueprint.FireworkColor::getColor).toList())
-                        .toList();
-
-                if (types == null || types.isEmpty()) {
-                    types = List.of(blueprint.getFireworkEffectType());
-                }
-
-                for (int i = 0; i < types.size(); i++) {
-                    FireworkEffect.Type type = types.get(i);
-                    List<Color> colors = i < colorsList.size() ? colorsList.get(i) : colorsList.get(colorsList.size() - 1);
+                List<FireworkEffect.Type> fireworkTypes = blueprint.getFireworkTypes();
+                List<List<Color>> fireworkColors = blueprint.getFireworkColors();
+                for (int i = 0; i < fireworkTypes.size(); i++) {
+                    FireworkEffect.Type type = fireworkTypes.get(i);
+                    List<Color> colors = i < fireworkColors.size() ? fireworkColors.get(i) : fireworkColors.get(fireworkColors.size() - 1);
                     FireworkEffect effect = FireworkEffect.builder()
                             .with(type)
                             .withColor(colors)
@@ -771,7 +772,7 @@ public class ScriptAction {
                     fireworkMeta.addEffect(effect);
                 }
 
-                fireworkMeta.setPower(blueprint.getPower().getValue());
+                fireworkMeta.setPower(blueprint.getPower().getInt());
 
                 if (blueprint.getVValue() != null) {
                     firework.setVelocity(blueprint.getVValue());
@@ -792,7 +793,7 @@ public class ScriptAction {
      */
     private void runMakeInvulnerable(ScriptActionData scriptActionData) {
         boolean invulnerable = blueprint.isInvulnerable();
-        int duration = blueprint.getDuration().getValue();
+        int duration = blueprint.getDuration().getInt();
 
         getTargets(scriptActionData).forEach(target -> {
             target.setInvulnerable(invulnerable);
@@ -805,7 +806,7 @@ public class ScriptAction {
             }
             if (duration > 0) {
                 UUID targetUUID = target.getUniqueId();
-                Bukkit.getScheduler().runTaskLater(MetadataHandler.PLUGIN, () -> {
+                ScriptTimerWheel.schedule(null, duration, () -> {
                     target.setInvulnerable(!invulnerable);
                     if (target instanceof Player) {
                         if (invulnerable) {
@@ -814,7 +815,7 @@ public class ScriptAction {
                             invulnerablePlayers.add(targetUUID);
                         }
                     }
-                }, duration);
+                });
             }
         });
     }
@@ -826,7 +827,7 @@ public class ScriptAction {
      */
     private void runTag(ScriptActionData scriptActionData) {
         List<String> tags = blueprint.getTags();
-        int duration = blueprint.getDuration().getValue();
+        int duration = blueprint.getDuration().getInt();
 
         getTargets(scriptActionData).forEach(target -> {
             EliteEntity bossEntity = EntityTracker.getEliteMobEntity(target);
@@ -840,7 +841,7 @@ public class ScriptAction {
                 }
             }
             if (duration > 0) {
-                Bukkit.getScheduler().runTaskLater(MetadataHandler.PLUGIN, () -> {
+                ScriptTimerWheel.schedule(null, duration, () -> {
                     if (bossEntity != null) {
                         bossEntity.removeTags(tags);
                     }
@@ -850,7 +851,7 @@ public class ScriptAction {
                             playerInventory.removeTags(tags);
                         }
                     }
-                }, duration);
+                });
             }
         });
     }
@@ -862,7 +863,7 @@ public class ScriptAction {
      */
     private void runUntag(ScriptActionData scriptActionData) {
         List<String> tags = blueprint.getTags();
-        int duration = blueprint.getDuration().getValue();
+        int duration = blueprint.getDuration().getInt();
 
         getTargets(scriptActionData).forEach(target -> {
             EliteEntity bossEntity = EntityTracker.getEliteMobEntity(target);
@@ -876,7 +877,7 @@ public class ScriptAction {
                 }
             }
             if (duration > 0) {
-                Bukkit.getScheduler().runTaskLater(MetadataHandler.PLUGIN, () -> {
+                ScriptTimerWheel.schedule(null, duration, () -> {
                     if (bossEntity != null) {
                         bossEntity.addTags(tags);
                     }
@@ -886,7 +887,7 @@ public class ScriptAction {
                             playerInventory.addTags(tags);
                         }
                     }
-                }, duration);
+                });
             }
         });
     }
@@ -897,7 +898,7 @@ public class ScriptAction {
      * @param scriptActionData The data for the script action.
      */
     private void runSetTime(ScriptActionData scriptActionData) {
-        long time = blueprint.getTime().getValue();
+        long time = blueprint.getTime().getInt();
         getLocationTargets(scriptActionData).forEach(location -> {
             try {
                 location.getWorld().setTime(time);
@@ -913,7 +914,7 @@ public class ScriptAction {
      * @param scriptActionData The data for the script action.
      */
     private void runSetWeather(ScriptActionData scriptActionData) {
-        int duration = blueprint.getDuration().getValue();
+        int duration = blueprint.getDuration().getInt();
         getTargets(scriptActionData).forEach(target -> {
             World world = target.getWorld();
             try {
@@ -928,25 +929,17 @@ public class ScriptAction {
                         world.setThundering(false);
                         world.setWeatherDuration(duration > 0 ? duration : 6000);
                         if (duration > 0) {
-                            new BukkitRunnable() {
-                                @Override
-                                public void run() {
-                                    world.setStorm(false);
-                                }
-                            }.runTaskLater(MetadataHandler.PLUGIN, duration + 1);
+                            ScriptTimerWheel.schedule(null, duration + 1, () -> world.setStorm(false));
                         }
                     }
                     case THUNDER -> {
                         world.setStorm(true);
                         world.setThundering(true);
                         world.setThunderDuration(duration > 0 ? duration : 6000);
-                        new BukkitRunnable() {
-                            @Override
-                            public void run() {
-                                world.setStorm(false);
-                                world.setThundering(false);
-                            }
-                        }.runTaskLater(MetadataHandler.PLUGIN, duration + 1);
+                        ScriptTimerWheel.schedule(null, duration + 1, () -> {
+                            world.setStorm(false);
+                            world.setThundering(false);
+                        });
                     }
                 }
             } catch (Exception e) {
@@ -1003,7 +996,7 @@ public class ScriptAction {
      */
     private void runModifyDamage(ScriptActionData scriptActionData) {
         if (scriptActionData.getEvent() instanceof EliteDamageEvent eliteDamageEvent) {
-            double newDamage = eliteDamageEvent.getDamage() * blueprint.getMultiplier().getValue();
+            double newDamage = eliteDamageEvent.getDamage() * blueprint.getMultiplier().getFloat();
             eliteDamageEvent.setDamage(newDamage);
         }
     }
@@ -1014,13 +1007,9 @@ public class ScriptAction {
      * @param scriptActionData The data for the script action.
      */
     private void runSummonEntity(ScriptActionData scriptActionData) {
-        EntityType entityType;
-        try {
-            entityType = EntityType.valueOf(blueprint.getSValue().toUpperCase());
-        } catch (IllegalArgumentException e) {
-            Logger.warn("Invalid entity type '" + blueprint.getSValue() + "' in script '" + blueprint.getScriptName() + "' in file '" + blueprint.getScriptFilename() + "'");
-            return;
-        }
+        //Already warned about when the config loaded
+        EntityType entityType = blueprint.getSummonedEntityType();
+        if (entityType == null) return;
 
         getLocationTargets(scriptActionData).forEach(location -> {
             Vector velocity = blueprint.getScriptRelativeVectorBlueprint() != null
@@ -1042,31 +1031,24 @@ public class ScriptAction {
                     }
                 }
 
-                if (blueprint.getDuration().getValue() != null && entity != null) {
-                    new BukkitRunnable() {
-                        @Override
-                        public void run() {
-                            if (entity != null && entity.isValid())
-                                entity.remove();
-                        }
-                    }.runTaskLater(MetadataHandler.PLUGIN, blueprint.getDuration().getValue());
+                if (entity != null) {
+                    ScriptTimerWheel.schedule(null, blueprint.getDuration().getInt(), () -> {
+                        if (entity.isValid())
+                            entity.remove();
+                    });
                 }
 
                 if (!blueprint.getLandingScripts().isEmpty()) {
                     FallingEntityDataPair dataPair = new FallingEntityDataPair(this, scriptActionData);
-                    new BukkitRunnable() {
-                        final int maxTicks = 20 * 60 * 5;
-                        int counter = 0;
-
-                        @Override
-                        public void run() {
-                            if (!entity.isValid() || entity.isOnGround() || counter > maxTicks) {
-                                ScriptListener.runEvent(dataPair, entity.getLocation());
-                                cancel();
-                            }
-                            counter++;
+                    int maxTicks = 20 * 60 * 5;
+                    int[] counter = {0};
+                    ScriptTimerWheel.scheduleRepeating(null, 1, 1, handle -> {
+                        if (!entity.isValid() || entity.isOnGround() || counter[0] > maxTicks) {
+                            ScriptListener.runEvent(dataPair, entity.getLocation());
+                            handle.cancel();
                         }
-                    }.runTaskTimer(MetadataHandler.PLUGIN, 1, 1);
+                        counter[0]++;
+                    });
                 }
             } catch (Exception e) {
                 Logger.warn("Failed to summon entity at location '" + location + "' in script '" + blueprint.getScriptName() + "': " + e.getMessage());
@@ -1089,9 +1071,9 @@ public class ScriptAction {
         }
 
         Location destination = destinations.iterator().next();
-        double speed = blueprint.getVelocity().getValue();
+        double speed = blueprint.getVelocity().getFloat();
         boolean avoidObstacles = blueprint.getBValue();
-        int duration = blueprint.getDuration().getValue();
+        int duration = blueprint.getDuration().getInt();
 
         targets.forEach(target -> {
             EliteEntity eliteEntity = EntityTracker.getEliteMobEntity(target);
@@ -1107,15 +1089,15 @@ public class ScriptAction {
      * @param scriptActionData The data for the script action.
      */
     private void runScale(ScriptActionData scriptActionData) {
-        double scaleValue = blueprint.getScale().getValue();
-        int duration = blueprint.getDuration().getValue();
+        double scaleValue = blueprint.getScale().getFloat();
+        int duration = blueprint.getDuration().getInt();
 
         getTargets(scriptActionData).forEach(target -> {
             AttributeInstance attribute = AttributeManager.getAttributeInstance(target, "generic_scale");
             if (attribute != null) {
                 attribute.setBaseValue(scaleValue);
                 if (duration > 0) {
-                    Bukkit.getScheduler().runTaskLater(MetadataHandler.PLUGIN, () -> attribute.setBaseValue(1.0), duration);
+                    ScriptTimerWheel.schedule(null, duration, () -> attribute.setBaseValue(1.0));
                 }
             }
         });
@@ -1140,7 +1122,7 @@ public class ScriptAction {
 
 
     private void runHeal(ScriptActionData scriptActionData) {
-        double healAmount = blueprint.getAmount().getValue();
+        double healAmount = blueprint.getAmount().getFloat();
         getTargets(scriptActionData).forEach(target -> {
             EliteEntity eliteEntity = EntityTracker.getEliteMobEntity(target);
             if (eliteEntity != null) {
@@ -2,7 +2,6 @@ package com.magmaguy.elitemobs.powers.scripts;
 
 import com.magmaguy.elitemobs.api.*;
 import com.magmaguy.elitemobs.mobconstructor.EliteEntity;
-import com.magmaguy.elitemobs.powers.meta.ElitePower;
 import com.magmaguy.magmacore.util.Logger;
 import org.bukkit.Location;
 import org.bukkit.entity.Entity;
@@ -122,20 +121,17 @@ public class ScriptListener implements Listener {
     }
 
     private void runEvent(Event event, EliteEntity eliteEntity) {
-        for (ElitePower elitePower : eliteEntity.getElitePowers())
-            if (elitePower instanceof EliteScript eliteScript)
-                eliteScript.check(event, eliteEntity, null);
+        for (EliteScript eliteScript : eliteEntity.getScripts(event.getClass()))
+            eliteScript.check(event, eliteEntity, null);
     }
 
     private void runEventGeneric(Event event, EliteEntity eliteEntity, LivingEntity directTarget) {
-        for (ElitePower elitePower : eliteEntity.getElitePowers())
-            if (elitePower instanceof EliteScript eliteScript)
-                eliteScript.check(event, eliteEntity, directTarget);
+        for (EliteScript eliteScript : eliteEntity.getScripts(event.getClass()))
+            eliteScript.check(event, eliteEntity, directTarget);
     }
 
     private void runEvent(Event event, EliteEntity eliteEntity, Player player) {
-        for (ElitePower elitePower : eliteEntity.getElitePowers())
-            if (elitePower instanceof EliteScript eliteScript)
-                eliteScript.check(event, eliteEntity, player);
+        for (EliteScript eliteScript : eliteEntity.getScripts(event.getClass()))
+            eliteScript.check(event, eliteEntity, player);
     }
 }
@@ -3,23 +3,30 @@ package com.magmaguy.elitemobs.powers.scripts;
 import com.magmaguy.elitemobs.entitytracker.EntityTracker;
 import com.magmaguy.elitemobs.mobconstructor.EliteEntity;
 import com.magmaguy.elitemobs.powers.scripts.caching.ScriptTargetsBlueprint;
+import com.magmaguy.elitemobs.powers.scripts.enums.TargetType;
 import com.magmaguy.elitemobs.utils.ConfigurationLocation;
 import com.magmaguy.magmacore.util.Logger;
 import lombok.Getter;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
+import org.bukkit.entity.Entity;
 import org.bukkit.entity.EntityType;
 import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Player;
 
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.List;
+import java.util.*;
 import java.util.concurrent.ThreadLocalRandom;
-import java.util.stream.Collectors;
 
 public class ScriptTargets {
 
+    /**
+     * Finds the living entities an action targets.
+     */
+    @FunctionalInterface
+    public interface EntityResolver {
+        Collection<LivingEntity> resolve(ScriptTargets scriptTargets, ScriptActionData scriptActionData);
+    }
+
     @Getter
     private final ScriptTargetsBlueprint targetBlueprint;
     @Getter
@@ -48,12 +55,12 @@ public class ScriptTargets {
         }
     }
 
-    public void setAnonymousTargets(List anonymousTargets) {
+    public void setAnonymousTargets(Collection anonymousTargets) {
         //Animated zones can't be cached!
-        if (getTargetBlueprint().isTrack() || eliteScript.getScriptZone().getZoneBlueprint().getAnimationDuration().getValue() > 1)
+        if (getTargetBlueprint().isTrack() || eliteScript.getScriptZone().getZoneBlueprint().getAnimationDuration().getInt() > 1)
             return;
-        //Non-animated zones must be cached for script inheritance and such
-        this.anonymousTargets = anonymousTargets;
+        //Non-animated zones must be cached for script inheritance and such, copied so later changes to the targets don't leak in
+        this.anonymousTargets = new ArrayList<>(anonymousTargets);
     }
 
     //Parse all string-based configuration locations
@@ -105,73 +112,91 @@ public class ScriptTargets {
             return (List<LivingEntity>) anonymousTargets;
         }
 
-        //If a script zone exists, it overrides the check entirely to expose zone-based fields
-        Location eliteEntityLocation = scriptActionData.getEliteEntity().getLocation();
-
         if (targetBlueprint == null) {
             Logger.warn("An action tried to run with an invalid target! Check which on it is by reading the startup logs and fix it! No target will be acquired for now.");
             return new ArrayList<>();
         }
 
-        switch (targetBlueprint.getTargetType()) {
-            case ALL_PLAYERS:
-                return new ArrayList<>(Bukkit.getOnlinePlayers());
-            case WORLD_PLAYERS:
-                return new ArrayList<>(eliteEntityLocation.getWorld().getPlayers());
-            case NEARBY_PLAYERS:
-                return eliteEntityLocation.getWorld()
-                        .getNearbyEntities(
-                                eliteEntityLocation,
-                                targetBlueprint.getRange().getValue(),
-                                targetBlueprint.getRange().getValue(),
-                                targetBlueprint.getRange().getValue(),
-                                (entity -> entity.getType() == EntityType.PLAYER))
-                        .stream().map(Player.class::cast).collect(Collectors.toSet());
-            case NEARBY_MOBS:
-                return eliteEntityLocation.getWorld()
-                        .getNearbyEntities(
-                                eliteEntityLocation,
-                                targetBlueprint.getRange().getValue(),
-                                targetBlueprint.getRange().getValue(),
-                                targetBlueprint.getRange().getValue(),
-                                (entity -> entity.getType() != EntityType.PLAYER && entity instanceof LivingEntity &&
-                                        !entity.getUniqueId().equals(scriptActionData.getEliteEntity().getUnsyncedLivingEntity().getUniqueId())))
-                        .stream().map(LivingEntity.class::cast).collect(Collectors.toSet());
-            case NEARBY_ELITES:
-                return eliteEntityLocation.getWorld()
-                        .getNearbyEntities(
-                                eliteEntityLocation,
-                                targetBlueprint.getRange().getValue(),
-                                targetBlueprint.getRange().getValue(),
-                                targetBlueprint.getRange().getValue(),
-                                entity -> EntityTracker.isEliteMob(entity) &&
-                                        !entity.getUniqueId().equals(scriptActionData.getEliteEntity().getUnsyncedLivingEntity().getUniqueId()))
-                        .stream()
-                        .map(LivingEntity.class::cast)
-                        .collect(Collectors.toSet());
-            case DIRECT_TARGET:
-                return new ArrayList<>(List.of(scriptActionData.getDirectTarget()));
-            case SELF:
-            case SELF_SPAWN:
-                return new ArrayList<>(List.of(scriptActionData.getEliteEntity().getUnsyncedLivingEntity()));
-            case ZONE_FULL, ZONE_BORDER, INHERIT_SCRIPT_ZONE_FULL, INHERIT_SCRIPT_ZONE_BORDER:
-                return eliteScript.getScriptZone().getZoneEntities(scriptActionData, targetBlueprint);
-            case INHERIT_SCRIPT_TARGET:
-                if (scriptActionData.getInheritedScriptActionData() != null) {
-                    try {
-                        return (List<LivingEntity>) scriptActionData.getInheritedScriptActionData().getScriptTargets().getAnonymousTargets(false, scriptActionData.getInheritedScriptActionData());
-                    } catch (Exception Ex) {
-                        Logger.warn("Failed to get entity from INHERIT_SCRIPT_TARGET because the script inherits a location, not an entity");
-                    }
-                } else {
-                    Logger.warn("Failed to get INHERIT_SCRIPT_TARGET because the script is not called by another script!");
-                    return new ArrayList<>();
-                }
-
-            default:
-                Logger.warn("Could not find default target for script in " + eliteScript.getFileName());
-                return null;
+        return targetBlueprint.getEntityResolver().resolve(this, scriptActionData);
+    }
+
+    /**
+     * Binds a target type to the method that finds its living entities. Called once per target blueprint when the config
+     * loads, so running an action doesn't have to look the target type up again.
+     *
+     * @param targetType Target type to bind
+     * @return Method that finds the living entities targeted
+     */
+    public static EntityResolver compileEntityResolver(TargetType targetType) {
+        if (targetType == null) return ScriptTargets::getUnknownTargetEntities;
+        return switch (targetType) {
+            case ALL_PLAYERS -> (scriptTargets, scriptActionData) -> new ArrayList<>(Bukkit.getOnlinePlayers());
+            case WORLD_PLAYERS -> (scriptTargets, scriptActionData) ->
+                    new ArrayList<>(scriptActionData.getEliteEntity().getLocation().getWorld().getPlayers());
+            case NEARBY_PLAYERS -> ScriptTargets::getNearbyPlayers;
+            case NEARBY_MOBS -> ScriptTargets::getNearbyMobs;
+            case NEARBY_ELITES -> ScriptTargets::getNearbyElites;
+            case DIRECT_TARGET -> (scriptTargets, scriptActionData) ->
+                    new ArrayList<>(List.of(scriptActionData.getDirectTarget()));
+            case SELF, SELF_SPAWN -> (scriptTargets, scriptActionData) ->
+                    new ArrayList<>(List.of(scriptActionData.getEliteEntity().getUnsyncedLivingEntity()));
+            case ZONE_FULL, ZONE_BORDER, INHERIT_SCRIPT_ZONE_FULL, INHERIT_SCRIPT_ZONE_BORDER ->
+                    (scriptTargets, scriptActionData) ->
+                            scriptTargets.eliteScript.getScriptZone().getZoneEntities(scriptActionData, scriptTargets.targetBlueprint);
+            case INHERIT_SCRIPT_TARGET -> ScriptTargets::getInheritedTargetEntities;
+            default -> ScriptTargets::getUnknownTargetEntities;
+        };
+    }
+
+    private Collection<LivingEntity> getNearbyPlayers(ScriptActionData scriptActionData) {
+        Location eliteEntityLocation = scriptActionData.getEliteEntity().getLocation();
+        //Entities found nearby are already unique, so they go straight into a list
+        List<LivingEntity> players = new ArrayList<>();
+        for (Entity entity : eliteEntityLocation.getWorld().getNearbyEntities(eliteEntityLocation,
+                targetBlueprint.getRange().getFloat(), targetBlueprint.getRange().getFloat(), targetBlueprint.getRange().getFloat(),
+                entity -> entity.getType() == EntityType.PLAYER))
+            players.add((Player) entity);
+        return players;
+    }
+
+    private Collection<LivingEntity> getNearbyMobs(ScriptActionData scriptActionData) {
+        Location eliteEntityLocation = scriptActionData.getEliteEntity().getLocation();
+        LivingEntity self = scriptActionData.getEliteEntity().getUnsyncedLivingEntity();
+        List<LivingEntity> mobs = new ArrayList<>();
+        for (Entity entity : eliteEntityLocation.getWorld().getNearbyEntities(eliteEntityLocation,
+                targetBlueprint.getRange().getFloat(), targetBlueprint.getRange().getFloat(), targetBlueprint.getRange().getFloat(),
+                entity -> entity.getType() != EntityType.PLAYER && entity instanceof LivingEntity &&
+                        !entity.getUniqueId().equals(self.getUniqueId())))
+            mobs.add((LivingEntity) entity);
+        return mobs;
+    }
+
+    private Collection<LivingEntity> getNearbyElites(ScriptActionData scriptActionData) {
+        List<LivingEntity> elites = new ArrayList<>();
+        for (EliteEntity eliteEntity : EntityTracker.getNearbyEliteMobs(scriptActionData.getEliteEntity().getLocation(), targetBlueprint.getRange().getFloat())) {
+            if (eliteEntity == scriptActionData.getEliteEntity()) continue;
+            LivingEntity livingEntity = eliteEntity.getLivingEntity();
+            if (livingEntity != null) elites.add(livingEntity);
         }
+        return elites;
+    }
+
+    private Collection<LivingEntity> getInheritedTargetEntities(ScriptActionData scriptActionData) {
+        if (scriptActionData.getInheritedScriptActionData() == null) {
+            Logger.warn("Failed to get INHERIT_SCRIPT_TARGET because the script is not called by another script!");
+            return new ArrayList<>();
+        }
+        try {
+            return (List<LivingEntity>) scriptActionData.getInheritedScriptActionData().getScriptTargets().getAnonymousTargets(false, scriptActionData.getInheritedScriptActionData());
+        } catch (Exception Ex) {
+            Logger.warn("Failed to get entity from INHERIT_SCRIPT_TARGET because the script inherits a location, not an entity");
+        }
+        return getUnknownTargetEntities(scriptActionData);
+    }
+
+    private Collection<LivingEntity> getUnknownTargetEntities(ScriptActionData scriptActionData) {
+        Logger.warn("Could not find default target for script in " + eliteScript.getFileName());
+        return null;
     }
 
     /**
@@ -188,8 +213,13 @@ public class ScriptTargets {
         Collection<Location> newLocations = null;
 
         switch (this.getTargetBlueprint().getTargetType()) {
-            case ALL_PLAYERS, WORLD_PLAYERS, NEARBY_PLAYERS, DIRECT_TARGET, SELF, NEARBY_MOBS, NEARBY_ELITES:
-                return getTargetEntities(scriptActionData).stream().map(targetEntity -> addOffsets(targetEntity.getLocation(), scriptActionData)).collect(Collectors.toSet());
+            case ALL_PLAYERS, WORLD_PLAYERS, NEARBY_PLAYERS, DIRECT_TARGET, SELF, NEARBY_MOBS, NEARBY_ELITES: {
+                Collection<LivingEntity> targetEntities = getTargetEntities(scriptActionData);
+                Set<Location> locations = new HashSet<>();
+                for (LivingEntity targetEntity : targetEntities)
+                    locations.add(addOffsets(targetEntity.getLocation(), scriptActionData));
+                return locations;
+            }
             case SELF_SPAWN:
                 return new ArrayList<>(List.of(addOffsets(scriptActionData.getEliteEntity().getSpawnLocation(), scriptActionData)));
             case LOCATION:
@@ -215,8 +245,8 @@ public class ScriptTargets {
             }
         }
 
-        if (targetBlueprint.getCoverage().getValue() < 1)
-            newLocations.removeIf(targetLocation -> ThreadLocalRandom.current().nextDouble() > targetBlueprint.getCoverage().getValue());
+        if (targetBlueprint.getCoverage().getFloat() < 1)
+            newLocations.removeIf(targetLocation -> ThreadLocalRandom.current().nextDouble() > targetBlueprint.getCoverage().getFloat());
 
         return newLocations;
     }
@@ -231,10 +261,10 @@ public class ScriptTargets {
 
     //Parse the locations key
     private Collection<Location> getLocations(EliteEntity eliteEntity, ScriptActionData scriptActionData) {
-        return targetBlueprint.getLocations().stream().map(rawLocation -> processLocationFromString(
-                eliteEntity,
-                rawLocation,
-                scriptActionData)).collect(Collectors.toSet());
+        Set<Location> locations = new HashSet<>();
+        for (String rawLocation : targetBlueprint.getLocations())
+            locations.add(processLocationFromString(eliteEntity, rawLocation, scriptActionData));
+        return locations;
     }
 
     //Parse the location key
@@ -0,0 +1,231 @@
+package com.magmaguy.elitemobs.powers.scripts;
+
+import com.magmaguy.elitemobs.MetadataHandler;
+import com.magmaguy.elitemobs.mobconstructor.EliteEntity;
+import com.magmaguy.magmacore.util.Logger;
+import lombok.Getter;
+import org.bukkit.Bukkit;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timing wheel for the short delayed and repeating tasks scripts create, such as reverting a SET_MOB_AI
+ * or repeating an action every few ticks. All of them share a single scheduler task instead of registering one
+ * scheduler entry each.
+ * <p>
+ * The first level has one slot per tick for the next 256 ticks, every level above it has 64 slots that each cover a
+ * whole rotation of the level below. Tasks further out get moved down a level when their slot comes up, so scheduling,
+ * cancelling and firing are all constant time.
+ * <p>
+ * Tasks can belong to an elite. Removing the elite cancels all of its tasks at once through a shared owner flag, the
+ * cancelled tasks get dropped when their slot comes up.
+ */
+public class ScriptTimerWheel {
+    private static final int LEVEL_ZERO_BITS = 8;
+    private static final int LEVEL_BITS = 6;
+    private static final int LEVELS = 4;
+    private static final int LEVEL_ZERO_SIZE = 1 << LEVEL_ZERO_BITS;
+    private static final int LEVEL_SIZE = 1 << LEVEL_BITS;
+    private static final List<List<Handle>[]> wheels = new ArrayList<>();
+    //Scheduling can happen off the main thread, new tasks get picked up at the start of the next tick
+    private static final Queue<Handle> incoming = new ConcurrentLinkedQueue<>();
+    private static final Map<EliteEntity, Owner> owners = new ConcurrentHashMap<>();
+    private static volatile long currentTick = 0;
+    private static BukkitTask tickTask = null;
+    @Getter
+    private static int scheduledTasks = 0;
+
+    static {
+        wheels.add(createLevel(LEVEL_ZERO_SIZE));
+        for (int i = 1; i < LEVELS; i++)
+            wheels.add(createLevel(LEVEL_SIZE));
+    }
+
+    private ScriptTimerWheel() {
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Handle>[] createLevel(int size) {
+        List<Handle>[] slots = new List[size];
+        for (int i = 0; i < size; i++)
+            slots[i] = new ArrayList<>();
+        return slots;
+    }
+
+    /**
+     * Runs a task once after a delay, on the main thread.
+     *
+     * @param owner Elite whose removal cancels the task, may be null
+     * @param delay Delay in ticks
+     * @param task  Task to run
+     * @return Handle that can cancel the task
+     */
+    public static Handle schedule(EliteEntity owner, long delay, Runnable task) {
+        return submit(new Handle(getOwner(owner), delay, 0, handle -> task.run()));
+    }
+
+    /**
+     * Runs a task repeatedly on the main thread until it or its owner gets cancelled.
+     *
+     * @param owner  Elite whose removal cancels the task, may be null
+     * @param delay  Delay before the first run, in ticks
+     * @param period Ticks between runs
+     * @param task   Task to run, receives its own handle so it can cancel itself
+     * @return Handle that can cancel the task
+     */
+    public static Handle scheduleRepeating(EliteEntity owner, long delay, long period, Consumer<Handle> task) {
+        return submit(new Handle(getOwner(owner), delay, Math.max(1, period), task));
+    }
+
+    /**
+     * Cancels every task owned by the elite.
+     *
+     * @param eliteEntity Elite that is being removed
+     */
+    public static void cancelOwner(EliteEntity eliteEntity) {
+        if (owners.isEmpty()) return;
+        Owner owner = owners.remove(eliteEntity);
+        if (owner != null) owner.cancelled = true;
+    }
+
+    public static synchronized void shutdown() {
+        if (tickTask != null) tickTask.cancel();
+        tickTask = null;
+        incoming.clear();
+        owners.values().forEach(owner -> owner.cancelled = true);
+        owners.clear();
+        for (List<Handle>[] level : wheels)
+            for (List<Handle> slot : level)
+                slot.clear();
+        scheduledTasks = 0;
+    }
+
+    private static Owner getOwner(EliteEntity eliteEntity) {
+        if (eliteEntity == null) return null;
+        return owners.computeIfAbsent(eliteEntity, key -> new Owner());
+    }
+
+    private static Handle submit(Handle handle) {
+        incoming.add(handle);
+        if (tickTask == null) start();
+        return handle;
+    }
+
+    private static synchronized void start() {
+        if (tickTask != null) return;
+        tickTask = Bukkit.getScheduler().runTaskTimer(MetadataHandler.PLUGIN, ScriptTimerWheel::tick, 1, 1);
+    }
+
+    private static void tick() {
+        Handle handle;
+        while ((handle = incoming.poll()) != null) {
+            handle.deadline = currentTick + Math.max(1, handle.delay);
+            insert(handle);
+            scheduledTasks++;
+        }
+        if (scheduledTasks == 0) return;
+
+        currentTick++;
+        cascade();
+        List<Handle>[] levelZero = wheels.get(0);
+        int index = (int) (currentTick & (LEVEL_ZERO_SIZE - 1));
+        List<Handle> due = levelZero[index];
+        if (due.isEmpty()) return;
+        levelZero[index] = new ArrayList<>();
+        for (Handle dueHandle : due) {
+            if (dueHandle.isCancelled()) {
+                scheduledTasks--;
+                continue;
+            }
+            try {
+                dueHandle.task.accept(dueHandle);
+            } catch (Exception e) {
+                Logger.warn("Script task failed to run: " + e.getMessage());
+                e.printStackTrace();
+            }
+            if (dueHandle.period > 0 && !dueHandle.isCancelled()) {
+                dueHandle.deadline = currentTick + dueHandle.period;
+                insert(dueHandle);
+            } else {
+                scheduledTasks--;
+            }
+        }
+    }
+
+    //When a level wraps around, the current slot of the level above gets spread over the levels below. Higher levels go
+    //first so that what they hand down to a lower level lands before that level's own slot gets spread.
+    private static void cascade() {
+        int topLevel = 0;
+        int shift = LEVEL_ZERO_BITS;
+        while (topLevel + 1 < LEVELS && (currentTick & ((1L << shift) - 1)) == 0) {
+            topLevel++;
+            shift += LEVEL_BITS;
+        }
+        for (int level = topLevel; level >= 1; level--) {
+            shift = LEVEL_ZERO_BITS + (level - 1) * LEVEL_BITS;
+            List<Handle>[] slots = wheels.get(level);
+            int index = (int) ((currentTick >> shift) & (LEVEL_SIZE - 1));
+            List<Handle> slot = slots[index];
+            if (!slot.isEmpty()) {
+                slots[index] = new ArrayList<>();
+                for (Handle handle : slot) {
+                    if (handle.isCancelled()) scheduledTasks--;
+                    else insert(handle);
+                }
+            }
+        }
+    }
+
+    private static void insert(Handle handle) {
+        long remaining = handle.deadline - currentTick;
+        if (remaining < LEVEL_ZERO_SIZE) {
+            wheels.get(0)[(int) (handle.deadline & (LEVEL_ZERO_SIZE - 1))].add(handle);
+            return;
+        }
+        int shift = LEVEL_ZERO_BITS;
+        for (int level = 1; level < LEVELS; level++) {
+            if (remaining < 1L << (shift + LEVEL_BITS) || level == LEVELS - 1) {
+                //Anything past the last level waits in its furthest slot and gets placed again when that comes up
+                long deadline = Math.min(handle.deadline, currentTick + (1L << (shift + LEVEL_BITS)) - 1);
+                wheels.get(level)[(int) ((deadline >> shift) & (LEVEL_SIZE - 1))].add(handle);
+                return;
+            }
+            shift += LEVEL_BITS;
+        }
+    }
+
+    private static class Owner {
+        private volatile boolean cancelled = false;
+    }
+
+    public static class Handle {
+        private final Owner owner;
+        private final long delay;
+        private final long period;
+        private final Consumer<Handle> task;
+        private long deadline;
+        private volatile boolean cancelled = false;
+
+        private Handle(Owner owner, long delay, long period, Consumer<Handle> task) {
+            this.owner = owner;
+            this.delay = delay;
+            this.period = period;
+            this.task = task;
+        }
+
+        public void cancel() {
+            cancelled = true;
+        }
+
+        public boolean isCancelled() {
+            return cancelled || owner != null && owner.cancelled;
+        }
+    }
+}
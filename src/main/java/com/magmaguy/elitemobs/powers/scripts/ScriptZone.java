@@ -9,16 +9,21 @@ import com.magmaguy.elitemobs.powers.scripts.caching.ScriptTargetsBlueprint;
 import com.magmaguy.elitemobs.powers.scripts.caching.ScriptZoneBlueprint;
 import com.magmaguy.elitemobs.powers.scripts.enums.TargetType;
 import com.magmaguy.elitemobs.utils.EventCaller;
+import com.magmaguy.elitemobs.utils.PlayerScanner;
 import com.magmaguy.elitemobs.utils.shapes.*;
 import com.magmaguy.magmacore.util.Logger;
 import lombok.Getter;
 import lombok.Setter;
 import org.bukkit.Location;
 import org.bukkit.World;
+import org.bukkit.entity.Entity;
 import org.bukkit.entity.LivingEntity;
+import org.bukkit.entity.Player;
 import org.bukkit.scheduler.BukkitRunnable;
+import org.bukkit.util.BoundingBox;
 
 import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.stream.Collectors;
 
 /**
@@ -27,6 +32,18 @@ import java.util.stream.Collectors;
  */
 public class ScriptZone {
 
+    /** How far past a shape's bounding box entities are still considered, since some shapes check hitboxes. */
+    private static final double ENTITY_MARGIN = 2;
+
+    /** Distance from a player's feet to the far side of their hitbox, rounded up. */
+    private static final double PLAYER_MARGIN = 2;
+
+    /** Entities that went through the exact shape check, for profiling. */
+    private static final LongAdder zoneCandidates = new LongAdder();
+
+    /** Entities that passed the exact shape check, for profiling. */
+    private static final LongAdder zoneHits = new LongAdder();
+
     /** The blueprint defining this script zone. */
     @Getter
     private final ScriptZoneBlueprint zoneBlueprint;
@@ -322,6 +339,8 @@ public class ScriptZone {
 
     /**
      * Retrieves living entities within the given shapes based on the target type.
+     * <p>
+     * Candidates only come from around the shape's bounding box, the exact shape check then runs on those.
      *
      * @param shapes     The shapes defining the zone.
      * @param targetType The target type (ZONE_FULL or ZONE_BORDER).
@@ -331,72 +350,88 @@ public class ScriptZone {
         Set<LivingEntity> validatedEntities = new HashSet<>();
 
         for (Shape shape : shapes) {
+            World world = shape.getCenter() == null ? null : shape.getCenter().getWorld();
+            if (world == null) {
+                Logger.warn("World is null when getting the entities in a script zone.");
+                continue;
+            }
+            //Some shapes check the entity's hitbox or eye height rather than its location, so the box leaves some room
+            BoundingBox boundingBox = shape.getBoundingBox().expand(ENTITY_MARGIN);
             Collection<? extends LivingEntity> livingEntities = zoneBlueprint.getFilter() != null ? switch (zoneBlueprint.getFilter()) {
-                case PLAYER -> filterByPlayer(shape.getCenter());
-                case ELITE -> filterByElite(shape.getCenter());
-                case LIVING -> filterByLiving(shape.getCenter());
-            } : filterByLiving(shape.getCenter());
+                case PLAYER -> filterByPlayer(world, boundingBox);
+                case ELITE -> filterByElite(world, boundingBox);
+                case LIVING -> filterByLiving(world, boundingBox);
+            } : filterByLiving(world, boundingBox);
+            zoneCandidates.add(livingEntities.size());
 
             for (LivingEntity livingEntity : livingEntities) {
                 boolean contains = targetType.equals(TargetType.ZONE_FULL) ? shape.contains(livingEntity) : shape.borderContains(livingEntity.getLocation());
                 if (contains) {
                     validatedEntities.add(livingEntity);
+                    zoneHits.increment();
                 }
             }
         }
         return validatedEntities;
     }
 
+    public static long getZoneCandidates() {
+        return zoneCandidates.sum();
+    }
+
+    public static long getZoneHits() {
+        return zoneHits.sum();
+    }
+
     /**
-     * Filters players in the world at the given location.
+     * Filters players in the chunks overlapping the given bounding box.
      *
-     * @param center The center location.
+     * @param world       The world of the zone.
+     * @param boundingBox The bounding box of the shape.
      * @return A collection of players.
      */
-    private Collection<LivingEntity> filterByPlayer(Location center) {
-        World world = center.getWorld();
-        if (world != null) {
-            return new ArrayList<>(world.getPlayers());
-        } else {
-            Logger.warn("World is null in filterByPlayer.");
-            return Collections.emptyList();
-        }
+    private Collection<LivingEntity> filterByPlayer(World world, BoundingBox boundingBox) {
+        //The index buckets by feet position, so pad by a player's hitbox and then check the actual hitboxes
+        BoundingBox searchBox = boundingBox.clone().expand(PLAYER_MARGIN);
+        List<LivingEntity> players = new ArrayList<>();
+        for (Player player : PlayerScanner.getPlayerIndex().getInBox(world,
+                searchBox.getMinX(), searchBox.getMinY(), searchBox.getMinZ(),
+                searchBox.getMaxX(), searchBox.getMaxY(), searchBox.getMaxZ(), null))
+            if (player.getBoundingBox().overlaps(boundingBox)) players.add(player);
+        return players;
     }
 
     /**
-     * Filters elite entities in the world at the given location.
+     * Filters elite entities in the chunks overlapping the given bounding box.
      *
-     * @param center The center location.
+     * @param world       The world of the zone.
+     * @param boundingBox The bounding box of the shape.
      * @return A collection of elite entities.
      */
-    private Collection<LivingEntity> filterByElite(Location center) {
-        World world = center.getWorld();
-        if (world != null) {
-            return world.getEntities().stream()
-                    .filter(entity -> entity instanceof LivingEntity)
-                    .filter(entity -> EntityTracker.getEliteMobEntity(entity) != null)
-                    .map(entity -> (LivingEntity) entity)
-                    .collect(Collectors.toList());
-        } else {
-            Logger.warn("World is null in filterByElite.");
-            return Collections.emptyList();
-        }
+    private Collection<LivingEntity> filterByElite(World world, BoundingBox boundingBox) {
+        //The index buckets by feet position, so pad by the biggest elite hitbox and then check the actual hitboxes
+        BoundingBox searchBox = boundingBox.clone().expand(EntityTracker.getLargestEliteHitbox());
+        return EntityTracker.getEliteSpatialIndex().getInBox(world,
+                        searchBox.getMinX(), searchBox.getMinY(), searchBox.getMinZ(),
+                        searchBox.getMaxX(), searchBox.getMaxY(), searchBox.getMaxZ(), null)
+                .stream()
+                .map(EliteEntity::getLivingEntity)
+                .filter(livingEntity -> livingEntity != null && livingEntity.getBoundingBox().overlaps(boundingBox))
+                .collect(Collectors.toList());
     }
 
     /**
-     * Filters all living entities in the world at the given location.
+     * Filters living entities in the chunks overlapping the given bounding box.
      *
-     * @param center The center location.
+     * @param world       The world of the zone.
+     * @param boundingBox The bounding box of the shape.
      * @return A collection of living entities.
      */
-    private Collection<LivingEntity> filterByLiving(Location center) {
-        World world = center.getWorld();
-        if (world != null) {
-            return world.getLivingEntities();
-        } else {
-            Logger.warn("World is null in filterByLiving.");
-            return Collections.emptyList();
-        }
+    private Collection<LivingEntity> filterByLiving(World world, BoundingBox boundingBox) {
+        List<LivingEntity> livingEntities = new ArrayList<>();
+        for (Entity entity : world.getNearbyEntities(boundingBox, entity -> entity instanceof LivingEntity))
+            livingEntities.add((LivingEntity) entity);
+        return livingEntities;
     }
 
     /**
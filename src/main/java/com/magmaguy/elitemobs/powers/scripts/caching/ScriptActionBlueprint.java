@@ -1,11 +1,14 @@
 package com.magmaguy.elitemobs.powers.scripts.caching;
 
+import com.magmaguy.elitemobs.powers.scripts.ScriptAction;
+import com.magmaguy.elitemobs.powers.scripts.ScriptActionData;
 import com.magmaguy.elitemobs.powers.scripts.enums.ActionType;
 import com.magmaguy.elitemobs.powers.scripts.enums.WeatherType;
 import com.magmaguy.elitemobs.powers.scripts.primitives.ScriptFloat;
 import com.magmaguy.elitemobs.powers.scripts.primitives.ScriptInteger;
 import com.magmaguy.elitemobs.powers.scripts.primitives.ScriptVector;
 import com.magmaguy.elitemobs.utils.PotionEffectTypeUtil;
+import com.magmaguy.magmacore.util.ChatColorConverter;
 import com.magmaguy.magmacore.util.Logger;
 import lombok.Getter;
 import org.bukkit.Color;
@@ -14,6 +17,7 @@ import org.bukkit.Material;
 import org.bukkit.boss.BarColor;
 import org.bukkit.boss.BarStyle;
 import org.bukkit.configuration.MemorySection;
+import org.bukkit.entity.EntityType;
 import org.bukkit.potion.PotionEffectType;
 import org.bukkit.util.Vector;
 
@@ -21,6 +25,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.function.BiConsumer;
 
 import static com.magmaguy.elitemobs.utils.MapListInterpreter.*;
 
@@ -116,7 +121,17 @@ public class ScriptActionBlueprint {
     private ScriptFloat scale = new ScriptFloat(1f);
     @Getter
     private boolean debug = false;
-
+    //Resolved once when the config loads, every action made from this blueprint shares them
+    @Getter
+    private final BiConsumer<ScriptAction, ScriptActionData> handler;
+    @Getter
+    private final String chatMessage;
+    @Getter
+    private final EntityType summonedEntityType;
+    @Getter
+    private final List<List<Color>> fireworkColors;
+    @Getter
+    private final List<FireworkEffect.Type> fireworkTypes;
 
     public ScriptActionBlueprint(Map<?, ?> entry, String scriptName, String scriptFilename) {
         this.scriptName = scriptName;
@@ -129,6 +144,28 @@ public class ScriptActionBlueprint {
                 scriptTargets.getCoverage().getValue() == 1D &&
                 !scriptTargets.isCustomCoverage())
             scriptTargets.setCoverage(.3f);
+        handler = ScriptAction.compileHandler(actionType, scriptName, scriptFilename);
+        chatMessage = actionType == ActionType.MESSAGE ? ChatColorConverter.convert(sValue) : null;
+        summonedEntityType = actionType == ActionType.SUMMON_ENTITY ? parseEntityType() : null;
+        if (actionType == ActionType.SPAWN_FIREWORKS) {
+            List<List<Color>> colors = new ArrayList<>(fireworkEffects.size());
+            for (List<FireworkColor> fireworkEffect : fireworkEffects)
+                colors.add(fireworkEffect.stream().map(FireworkColor::getColor).toList());
+            fireworkColors = List.copyOf(colors);
+            fireworkTypes = fireworkEffectTypes == null || fireworkEffectTypes.isEmpty() ? List.of(fireworkEffectType) : List.copyOf(fireworkEffectTypes);
+        } else {
+            fireworkColors = null;
+            fireworkTypes = null;
+        }
+    }
+
+    private EntityType parseEntityType() {
+        try {
+            return EntityType.valueOf(sValue.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            Logger.warn("Invalid entity type '" + sValue + "' in script '" + scriptName + "' in file '" + scriptFilename + "'");
+            return null;
+        }
     }
 
     private void processMapList(Map<?, ?> entry) {
@@ -1,5 +1,6 @@
 package com.magmaguy.elitemobs.powers.scripts.caching;
 
+import com.magmaguy.elitemobs.powers.scripts.ScriptTargets;
 import com.magmaguy.elitemobs.powers.scripts.enums.TargetType;
 import com.magmaguy.elitemobs.powers.scripts.primitives.ScriptFloat;
 import com.magmaguy.elitemobs.powers.scripts.primitives.ScriptVector;
@@ -38,6 +39,9 @@ public class ScriptTargetsBlueprint {
     private boolean isCustomCoverage = false;
     @Getter
     private ScriptRelativeVectorBlueprint scriptRelativeVectorBlueprint = null;
+    //Bound once when the config loads, shared by every action made from this blueprint
+    @Getter
+    private final ScriptTargets.EntityResolver entityResolver;
 
     public ScriptTargetsBlueprint(Map<?, ?> entry, String scriptName, String filename) {
         this.scriptName = scriptName;
@@ -47,6 +51,7 @@ public class ScriptTargetsBlueprint {
             Logger.warn("Coverage for script " + scriptName + " in file " + filename + " was less than 1.0 but the targetType is neither ZONE_FULL nor ZONE_BORDER! Coverage should only be used for ZONE_FULL or ZONE_BORDER");
             coverage = new ScriptFloat(1.0f);
         }
+        entityResolver = ScriptTargets.compileEntityResolver(targetType);
     }
 
     public void setCoverage(float coverage){
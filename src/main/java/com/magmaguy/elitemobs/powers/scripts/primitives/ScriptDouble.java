@@ -2,24 +2,40 @@ package com.magmaguy.elitemobs.powers.scripts.primitives;
 
 import java.util.concurrent.ThreadLocalRandom;
 
+/**
+ * Either a fixed value or a range to roll from. Values are kept unboxed, and fixed values are returned without any
+ * work at all.
+ */
 public class ScriptDouble {
-    private Double value = null;
-    private Double lowestRange = null;
-    private Double highestRange = null;
+    private final boolean random;
+    private final double value;
+    private final double lowestRange;
+    private final double highestRange;
+
     public ScriptDouble(double lowestRange, double highestRange) {
+        this.random = true;
+        this.value = 0;
         this.lowestRange = lowestRange;
         this.highestRange = highestRange;
     }
+
     public ScriptDouble(double value) {
+        this.random = false;
         this.value = value;
+        this.lowestRange = value;
+        this.highestRange = value;
     }
 
     public boolean isRandom() {
-        return value == null;
+        return random;
     }
 
     public Double getValue() {
-        if (value != null) return value;
-        return ThreadLocalRandom.current().nextDouble(lowestRange, highestRange+1);
+        return getDouble();
+    }
+
+    public double getDouble() {
+        if (!random) return value;
+        return ThreadLocalRandom.current().nextDouble(lowestRange, highestRange + 1);
     }
 }
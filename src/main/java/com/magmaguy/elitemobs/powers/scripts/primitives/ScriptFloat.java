@@ -2,27 +2,40 @@ package com.magmaguy.elitemobs.powers.scripts.primitives;
 
 import java.util.concurrent.ThreadLocalRandom;
 
+/**
+ * Either a fixed value or a range to roll from. Values are kept unboxed, and fixed values are returned without any
+ * work at all.
+ */
 public class ScriptFloat {
-    private Float value = null;
-    private Float lowestRange = null;
-    private Float highestRange = null;
+    private final boolean random;
+    private final float value;
+    private final float lowestRange;
+    private final float highestRange;
 
     public ScriptFloat(float lowestRange, float highestRange) {
+        this.random = true;
+        this.value = 0;
         this.lowestRange = lowestRange;
         this.highestRange = highestRange;
     }
 
     public ScriptFloat(float value) {
+        this.random = false;
         this.value = value;
+        this.lowestRange = value;
+        this.highestRange = value;
     }
 
     public boolean isRandom() {
-        return value == null;
+        return random;
     }
 
     public Float getValue() {
-        if (value != null) return value;
-        return ThreadLocalRandom.current().nextFloat(lowestRange, highestRange+1);
+        return getFloat();
     }
 
+    public float getFloat() {
+        if (!random) return value;
+        return ThreadLocalRandom.current().nextFloat(lowestRange, highestRange + 1);
+    }
 }
@@ -2,24 +2,40 @@ package com.magmaguy.elitemobs.powers.scripts.primitives;
 
 import java.util.concurrent.ThreadLocalRandom;
 
+/**
+ * Either a fixed value or a range to roll from. Values are kept unboxed, and fixed values are returned without any
+ * work at all.
+ */
 public class ScriptInteger {
-    private Integer value = null;
-    private Integer lowestRange = null;
-    private Integer highestRange = null;
+    private final boolean random;
+    private final int value;
+    private final int lowestRange;
+    private final int highestRange;
+
     public ScriptInteger(int lowestRange, int highestRange) {
+        this.random = true;
+        this.value = 0;
         this.lowestRange = lowestRange;
         this.highestRange = highestRange;
     }
+
     public ScriptInteger(int value) {
+        this.random = false;
         this.value = value;
+        this.lowestRange = value;
+        this.highestRange = value;
     }
 
     public boolean isRandom() {
-        return value == null;
+        return random;
     }
 
     public Integer getValue() {
-        if (value != null) return value;
-        return ThreadLocalRandom.current().nextInt(lowestRange, highestRange+1);
+        return getInt();
+    }
+
+    public int getInt() {
+        if (!random) return value;
+        return ThreadLocalRandom.current().nextInt(lowestRange, highestRange + 1);
     }
 }
@@ -112,6 +112,9 @@ public class MinorPowerPowerStance implements Listener {
 
     private Object addEffect(Material material) {
 
+        if (MobCombatSettingsConfig.isUseDisplayEntityPowerStances())
+            return VisualItemInitializer.initializeDisplay(new ItemStack(material), eliteEntity.getLivingEntity());
+
         Item item = eliteEntity.getLivingEntity().getWorld().dropItem(eliteEntity.getLivingEntity().getLocation(),
                 new ItemStack(material));
         item.setPickupDelay(Integer.MAX_VALUE);
@@ -4,6 +4,8 @@ import com.magmaguy.elitemobs.MetadataHandler;
 import com.magmaguy.elitemobs.entitytracker.EntityTracker;
 import org.bukkit.Location;
 import org.bukkit.entity.Item;
+import org.bukkit.entity.ItemDisplay;
+import org.bukkit.entity.LivingEntity;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.metadata.FixedMetadataValue;
 
@@ -21,4 +23,21 @@ public class VisualItemInitializer {
         return item;
     }
 
+    /**
+     * Spawns an item display at the center of an entity's orbit. Displays don't ride the entity or a shared vehicle, since
+     * vehicles can't be teleported, so they stay on an anchor near the entity and orbit it through their transformation.
+     */
+    public static ItemDisplay initializeDisplay(ItemStack itemStack, LivingEntity livingEntity) {
+        ItemDisplay itemDisplay = livingEntity.getWorld().spawn(livingEntity.getLocation().add(0, 1, 0), ItemDisplay.class, display -> {
+            display.setItemStack(itemStack);
+            display.setItemDisplayTransform(ItemDisplay.ItemDisplayTransform.GROUND);
+            display.setPersistent(false);
+            display.setInterpolationDelay(0);
+            display.setInterpolationDuration(VisualItemProcessor.ROTATION_INTERVAL_TICKS);
+            display.setTeleportDuration(VisualItemProcessor.ROTATION_INTERVAL_TICKS);
+        });
+        EntityTracker.registerVisualEffects(itemDisplay);
+        return itemDisplay;
+    }
+
 }
@@ -2,17 +2,30 @@ package com.magmaguy.elitemobs.powerstances;
 
 import com.magmaguy.elitemobs.MetadataHandler;
 import com.magmaguy.elitemobs.mobconstructor.EliteEntity;
+import com.magmaguy.elitemobs.utils.VisualEffectBudget;
+import me.MinhTaz.FoliaLib.TaskScheduler;
 import org.bukkit.Location;
 import org.bukkit.Particle;
 import org.bukkit.entity.Item;
+import org.bukkit.entity.ItemDisplay;
 import org.bukkit.scheduler.BukkitRunnable;
+import org.bukkit.util.Transformation;
 import org.bukkit.util.Vector;
+import org.joml.Vector3f;
 
-import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.List;
 
 public class VisualItemProcessor {
 
-    private boolean hasValidEffect;
+    //Item displays interpolate between updates over the same amount of ticks
+    public static final int ROTATION_INTERVAL_TICKS = 5;
+    //How far the elite can get from where its displays are before they get moved over
+    private static final double REANCHOR_DISTANCE_SQUARED = 8 * 8;
+    //Also cleared from the elite's thread when moving displays
+    private volatile boolean hasValidEffect;
+    //Where all of the elite's displays are, their place in the orbit is only ever set through their transformation
+    private volatile Location anchor = null;
 
     public VisualItemProcessor(Object[][] multiDimensionalTrailTracker, Vector[][] cachedVectorPositions,
                                boolean visualEffectBoolean, int pointsPerRotation, EliteEntity eliteEntity) {
@@ -42,7 +55,13 @@ public class VisualItemProcessor {
         new BukkitRunnable() {
 
             final boolean isObfuscated = eliteEntity.isVisualEffectObfuscated();
+            final boolean isMinorStance = cachedVectorPositions == MinorPowerStanceMath.cachedVectors;
+            final int itemCount = countItems(multiDimensionalTrailTracker);
+            final VisualEffectBudget.EffectType itemEffectType = hasDisplays(multiDimensionalTrailTracker) ?
+                    VisualEffectBudget.EffectType.POWER_STANCE_DISPLAY : VisualEffectBudget.EffectType.POWER_STANCE_ITEM;
             int counter = 0;
+            //Counter wraps around with the rotation, frames keep counting so thinning stays even
+            int frame = 0;
 
             @Override
             public void run() {
@@ -53,6 +72,12 @@ public class VisualItemProcessor {
                     return;
                 }
 
+                Location center = eliteEntity.getLivingEntity().getLocation().add(0, 1, 0);
+                //Items are real entities everyone nearby sees, particles get sent to each player on their own
+                boolean moveItems = itemCount > 0 && VisualEffectBudget.tryEntityEffect(itemEffectType, center, frame, itemCount);
+                List<ItemDisplay> displays = new ArrayList<>();
+                List<Vector> displayOffsets = new ArrayList<>();
+
                 for (int i = 0; i < multiDimensionalTrailTracker.length; i++) {
                     int sectionCounter = 0;
                     for (int j = 0; j < multiDimensionalTrailTracker[i].length; j++) {
@@ -65,11 +90,16 @@ public class VisualItemProcessor {
 
                         Vector vector = cachedVectorPositions[i][adjustedEffectPositionInRotation];
 
-                        if (multiDimensionalTrailTracker[i][j] instanceof Item)
-                            rotateItem(multiDimensionalTrailTracker[i][j], vector, eliteEntity);
+                        if (moveItems && multiDimensionalTrailTracker[i][j] instanceof Item)
+                            rotateItem(multiDimensionalTrailTracker[i][j], vector, center);
+
+                        if (moveItems && multiDimensionalTrailTracker[i][j] instanceof ItemDisplay itemDisplay) {
+                            displays.add(itemDisplay);
+                            displayOffsets.add(vector);
+                        }
 
                         if (multiDimensionalTrailTracker[i][j] instanceof Particle)
-                            rotateParticle(multiDimensionalTrailTracker[i][j], vector, eliteEntity);
+                            rotateParticle(multiDimensionalTrailTracker[i][j], vector, center, frame);
 
                         sectionCounter++;
                         if (sectionCounter >= pointsPerRotation)
@@ -80,9 +110,12 @@ public class VisualItemProcessor {
 
                 }
 
+                if (!displays.isEmpty()) moveDisplays(displays, displayOffsets, center);
+
                 counter++;
                 if (counter >= pointsPerRotation)
                     counter = 0;
+                frame++;
 
                 /*
                 Check if the effect has ceased being obfuscated
@@ -94,11 +127,10 @@ public class VisualItemProcessor {
                         @Override
                         public void run() {
                             eliteEntity.setVisualEffectObfuscated(false);
-                            if (Arrays.deepEquals(cachedVectorPositions, MinorPowerStanceMath.cachedVectors)) {
+                            if (isMinorStance) {
                                 eliteEntity.setMinorVisualEffect(false);
                                 new MinorPowerPowerStance(eliteEntity);
-                            }
-                            if (Arrays.deepEquals(cachedVectorPositions, MajorPowerStanceMath.cachedVectors)) {
+                            } else {
                                 eliteEntity.setMajorVisualEffect(false);
                                 new MajorPowerPowerStance(eliteEntity);
                             }
@@ -109,11 +141,26 @@ public class VisualItemProcessor {
 
             }
 
-        }.runTaskTimerAsynchronously(MetadataHandler.PLUGIN, 0, 5);
+        }.runTaskTimerAsynchronously(MetadataHandler.PLUGIN, 0, ROTATION_INTERVAL_TICKS);
+
+    }
+
+    private static int countItems(Object[][] multiDimensionalTrailTracker) {
+        int itemCount = 0;
+        for (Object[] track : multiDimensionalTrailTracker)
+            for (Object effect : track)
+                if (effect instanceof Item || effect instanceof ItemDisplay) itemCount++;
+        return itemCount;
+    }
 
+    private static boolean hasDisplays(Object[][] multiDimensionalTrailTracker) {
+        for (Object[] track : multiDimensionalTrailTracker)
+            for (Object effect : track)
+                if (effect instanceof ItemDisplay) return true;
+        return false;
     }
 
-    private void rotateItem(Object itemObject, Vector vector, EliteEntity eliteEntity) {
+    private void rotateItem(Object itemObject, Vector vector, Location center) {
 
         Item item = (Item) itemObject;
 
@@ -121,7 +168,7 @@ public class VisualItemProcessor {
 //            return;
 
         Location currentLocation = item.getLocation().clone();
-        Location newLocation = eliteEntity.getLivingEntity().getLocation().clone().add(new Vector(0, 1, 0)).add(vector);
+        Location newLocation = center.clone().add(vector);
 
 //        if (currentLocation.distanceSquared(newLocation) > Math.pow(3, 2)) {
 //            item.teleport(newLocation);
@@ -146,12 +193,49 @@ public class VisualItemProcessor {
 
     }
 
-    private void rotateParticle(Object particleObject, Vector vector, EliteEntity eliteEntity) {
+    /**
+     * All of an elite's item displays sit on one shared anchor and their place in the orbit is the offset of their
+     * transformation from it, so each step only sends one metadata update per display. The displays only get teleported
+     * when the elite gets too far from the anchor for the offsets to stay small. The client slides them to the new
+     * offset, and position when they get moved, over {@link #ROTATION_INTERVAL_TICKS}. Runs on the thread that owns the
+     * elite's location, since it writes to entities.
+     */
+    private void moveDisplays(List<ItemDisplay> displays, List<Vector> offsets, Location center) {
+        TaskScheduler.get(MetadataHandler.PLUGIN).runRegion(center, () -> {
+            Location currentAnchor = anchor;
+            boolean reanchor = currentAnchor == null || currentAnchor.getWorld() != center.getWorld() ||
+                    currentAnchor.distanceSquared(center) > REANCHOR_DISTANCE_SQUARED;
+            if (reanchor) {
+                currentAnchor = center.clone();
+                anchor = currentAnchor;
+            }
+            for (int i = 0; i < displays.size(); i++) {
+                ItemDisplay itemDisplay = displays.get(i);
+                //Got removed with its chunk, or the elite went to another world
+                if (!itemDisplay.isValid() || itemDisplay.getWorld() != center.getWorld()) {
+                    hasValidEffect = false;
+                    return;
+                }
+                if (reanchor) itemDisplay.teleport(currentAnchor);
+                Vector offset = offsets.get(i);
+                Transformation transformation = itemDisplay.getTransformation();
+                itemDisplay.setInterpolationDelay(0);
+                itemDisplay.setTransformation(new Transformation(
+                        new Vector3f(
+                                (float) (center.getX() - currentAnchor.getX() + offset.getX()),
+                                (float) (center.getY() - currentAnchor.getY() + offset.getY()),
+                                (float) (center.getZ() - currentAnchor.getZ() + offset.getZ())),
+                        transformation.getLeftRotation(),
+                        transformation.getScale(),
+                        transformation.getRightRotation()));
+            }
+        });
+    }
+
+    private void rotateParticle(Object particleObject, Vector vector, Location center, int frame) {
         Particle particle = (Particle) particleObject;
-        if (eliteEntity.isValid())
-            eliteEntity.getLivingEntity().getWorld().spawnParticle(
-                    particle, eliteEntity.getLivingEntity().getLocation().add(0, 1, 0).add(vector),
-                    1, 0, 0, 0, 0.01);
+        VisualEffectBudget.spawnParticle(VisualEffectBudget.EffectType.POWER_STANCE_PARTICLE,
+                center.clone().add(vector), frame, particle, 1, 0, 0, 0, 0.01);
     }
 
 }
@@ -3,7 +3,7 @@ package com.magmaguy.elitemobs.powerstances;
 import com.magmaguy.elitemobs.MetadataHandler;
 import com.magmaguy.elitemobs.api.internal.RemovalReason;
 import com.magmaguy.elitemobs.entitytracker.EntityTracker;
-import org.bukkit.entity.Item;
+import org.bukkit.entity.Entity;
 import org.bukkit.scheduler.BukkitRunnable;
 
 public class VisualItemRemover {
@@ -14,12 +14,13 @@ public class VisualItemRemover {
     public static void removeItems(Object[][] multiDimensionalTrailTracker) {
         for (Object[] objects : multiDimensionalTrailTracker)
             for (Object object : objects) {
-                if (!(object instanceof Item item)) continue;
+                //Items and item displays alike
+                if (!(object instanceof Entity entity)) continue;
                 new BukkitRunnable() {
                     @Override
                     public void run() {
-                        item.remove();
-                        EntityTracker.unregister(item, RemovalReason.EFFECT_TIMEOUT);
+                        entity.remove();
+                        EntityTracker.unregister(entity, RemovalReason.EFFECT_TIMEOUT);
                     }
                 }.runTask(MetadataHandler.PLUGIN);
             }
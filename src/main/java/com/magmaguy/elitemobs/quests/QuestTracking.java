@@ -98,7 +98,7 @@ public class QuestTracking {
 
     private void startLocationGetter() {
         // Convert to Folia-compatible timer task
-        TaskScheduler taskScheduler = new TaskScheduler(MetadataHandler.PLUGIN);
+        TaskScheduler taskScheduler = TaskScheduler.get(MetadataHandler.PLUGIN);
         taskScheduler.runTimerAsync(() -> {
             if (!player.isValid()) {
                 stop();
@@ -121,7 +121,7 @@ public class QuestTracking {
                     else if (objective instanceof CustomFetchObjective)
                         destinations.addAll(getFetchLocations((CustomFetchObjective) objective));
             // Convert to Folia-compatible task
-            TaskScheduler taskScheduler = new TaskScheduler(MetadataHandler.PLUGIN);
+            TaskScheduler taskScheduler = TaskScheduler.get(MetadataHandler.PLUGIN);
             taskScheduler.runAsync(() -> objectiveDestinations = destinations);
         } else {
             questIsDone = true;
@@ -185,7 +185,7 @@ public class QuestTracking {
     public void stop() {
         playerTrackingQuests.remove(player.getUniqueId());
         // Convert to Folia-compatible task
-        TaskScheduler taskScheduler = new TaskScheduler(MetadataHandler.PLUGIN);
+        TaskScheduler taskScheduler = TaskScheduler.get(MetadataHandler.PLUGIN);
         taskScheduler.runAsync(() -> {
             player.setScoreboard(Bukkit.getScoreboardManager().getNewScoreboard());
         });
@@ -197,7 +197,7 @@ public class QuestTracking {
     private void startCompass() {
         compassBar = Bukkit.createBossBar("", BarColor.GREEN, BarStyle.SOLID, BarFlag.PLAY_BOSS_MUSIC);
         // Convert to Folia-compatible timer task
-        TaskScheduler taskScheduler = new TaskScheduler(MetadataHandler.PLUGIN);
+        TaskScheduler taskScheduler = TaskScheduler.get(MetadataHandler.PLUGIN);
         taskScheduler.runTimerAsync(() -> {
             if (!player.isOnline()) {
                 stop();
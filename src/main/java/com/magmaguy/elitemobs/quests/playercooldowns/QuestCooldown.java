@@ -16,6 +16,7 @@ import java.util.UUID;
 public class QuestCooldown implements Serializable {
     @Getter
     private final String permission;
+    @Getter
     private final boolean permanent;
     @Getter
     private long targetUnixTime = 0;
@@ -30,6 +31,19 @@ public class QuestCooldown implements Serializable {
         startCooldown(player);
     }
 
+    private QuestCooldown(String permission, boolean permanent, long targetUnixTime) {
+        this.permission = permission;
+        this.permanent = permanent;
+        this.targetUnixTime = targetUnixTime;
+    }
+
+    /**
+     * Recreates a stored cooldown without starting it, see {@link PlayerQuestCooldowns#startCooldowns(UUID)}
+     */
+    public static QuestCooldown restore(String permission, boolean permanent, long targetUnixTime) {
+        return new QuestCooldown(permission, permanent, targetUnixTime);
+    }
+
     public void startCooldown(UUID player) {
         long delay = Math.max((targetUnixTime - System.currentTimeMillis()) / 1000L * 20L, 0L);
         PermissionAttachment permissionAttachment = Objects.requireNonNull(Bukkit.getPlayer(player)).addAttachment(MetadataHandler.PLUGIN);
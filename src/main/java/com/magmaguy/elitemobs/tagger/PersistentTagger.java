@@ -12,7 +12,9 @@ import org.bukkit.persistence.PersistentDataType;
 import org.jetbrains.annotations.NotNull;
 
 import javax.annotation.Nullable;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class PersistentTagger {
     @Getter
@@ -26,77 +28,154 @@ public class PersistentTagger {
     @Getter
     private static final String ELITE_PROJECTILE = "EliteProjectile";
 
+    private static final NamespacedKey ELITE_ENTITY_KEY = new NamespacedKey(MetadataHandler.PLUGIN, ELITE_ENTITY);
+    private static final NamespacedKey NPC_ENTITY_KEY = new NamespacedKey(MetadataHandler.PLUGIN, NPC_ENTITY);
+    private static final NamespacedKey SUPER_MOB_KEY = new NamespacedKey(MetadataHandler.PLUGIN, SUPER_MOB);
+    private static final NamespacedKey VISUAL_EFFECT_KEY = new NamespacedKey(MetadataHandler.PLUGIN, VISUAL_EFFECT);
+    private static final NamespacedKey ELITE_PROJECTILE_KEY = new NamespacedKey(MetadataHandler.PLUGIN, ELITE_PROJECTILE);
+
+    //Entity UUID to tracked object, kept in sync by the EntityTracker. Lets the damage path skip PDC reads and UUID parsing
+    private static final Map<UUID, EliteEntity> eliteEntitiesByEntity = new ConcurrentHashMap<>();
+    private static final Map<UUID, NPCEntity> npcEntitiesByEntity = new ConcurrentHashMap<>();
+
     private PersistentTagger() {
     }
 
     public static void tag(@NotNull Entity entity, String key, String value) {
         if (entity == null) return;
-        entity.getPersistentDataContainer().set(new NamespacedKey(MetadataHandler.PLUGIN, key), PersistentDataType.STRING, value);
+        tag(entity, getKey(key), value);
+    }
+
+    private static void tag(@NotNull Entity entity, NamespacedKey namespacedKey, String value) {
+        if (entity == null) return;
+        entity.getPersistentDataContainer().set(namespacedKey, PersistentDataType.STRING, value);
     }
 
     public static void tagElite(Entity entity, @NotNull UUID eliteUUID) {
-        tag(entity, ELITE_ENTITY, eliteUUID.toString());
+        tag(entity, ELITE_ENTITY_KEY, eliteUUID.toString());
+    }
+
+    /**
+     * Maps the entity to the elite in memory so that lookups don't have to go through the PDC. Tagging still has to
+     * happen as the tag is what survives restarts.
+     *
+     * @param entity      Entity of the elite
+     * @param eliteEntity Elite the entity belongs to
+     */
+    public static void cacheElite(Entity entity, @NotNull EliteEntity eliteEntity) {
+        if (entity == null) return;
+        eliteEntitiesByEntity.put(entity.getUniqueId(), eliteEntity);
+    }
+
+    public static void uncacheElite(@NotNull EliteEntity eliteEntity) {
+        if (eliteEntity.getLivingEntity() != null)
+            eliteEntitiesByEntity.remove(eliteEntity.getLivingEntity().getUniqueId(), eliteEntity);
+        if (eliteEntity.getUnsyncedLivingEntity() != null)
+            eliteEntitiesByEntity.remove(eliteEntity.getUnsyncedLivingEntity().getUniqueId(), eliteEntity);
+    }
+
+    public static void uncacheEntity(Entity entity) {
+        if (entity == null) return;
+        eliteEntitiesByEntity.remove(entity.getUniqueId());
+        npcEntitiesByEntity.remove(entity.getUniqueId());
+    }
+
+    public static void clearCache() {
+        eliteEntitiesByEntity.clear();
+        npcEntitiesByEntity.clear();
     }
 
     public static boolean isEliteEntity(Entity entity) {
         if (entity == null) return false;
-        return entity.getPersistentDataContainer().has(new NamespacedKey(MetadataHandler.PLUGIN, ELITE_ENTITY), PersistentDataType.STRING);
+        if (eliteEntitiesByEntity.containsKey(entity.getUniqueId())) return true;
+        return entity.getPersistentDataContainer().has(ELITE_ENTITY_KEY, PersistentDataType.STRING);
     }
 
     public static EliteEntity getEliteEntity(Entity entity) {
-        UUID uuid = getUUID(entity, ELITE_ENTITY);
+        if (entity == null) return null;
+        EliteEntity eliteEntity = eliteEntitiesByEntity.get(entity.getUniqueId());
+        //Only trust the cache while the elite is still tracked, otherwise defer to the tag like before
+        if (eliteEntity != null && EntityTracker.getEliteMobEntities().get(eliteEntity.getEliteUUID()) == eliteEntity)
+            return eliteEntity;
+        UUID uuid = getUUID(entity, ELITE_ENTITY_KEY);
         if (uuid == null) return null;
         return EntityTracker.getEliteMobEntities().get(uuid);
     }
 
     public static void tagNPC(Entity entity, @NotNull UUID npcUUID) {
-        tag(entity, NPC_ENTITY, npcUUID.toString());
+        tag(entity, NPC_ENTITY_KEY, npcUUID.toString());
+    }
+
+    public static void cacheNPC(Entity entity, @NotNull NPCEntity npcEntity) {
+        if (entity == null) return;
+        npcEntitiesByEntity.put(entity.getUniqueId(), npcEntity);
     }
 
     public static boolean isNPC(Entity entity) {
         if (entity == null) return false;
-        return entity.getPersistentDataContainer().has(new NamespacedKey(MetadataHandler.PLUGIN, NPC_ENTITY), PersistentDataType.STRING);
+        if (npcEntitiesByEntity.containsKey(entity.getUniqueId())) return true;
+        return entity.getPersistentDataContainer().has(NPC_ENTITY_KEY, PersistentDataType.STRING);
     }
 
     public static NPCEntity getNPC(Entity entity) {
-        UUID uuid = getUUID(entity, NPC_ENTITY);
+        if (entity == null) return null;
+        NPCEntity npcEntity = npcEntitiesByEntity.get(entity.getUniqueId());
+        if (npcEntity != null && EntityTracker.getNpcEntities().get(npcEntity.getUuid()) == npcEntity)
+            return npcEntity;
+        UUID uuid = getUUID(entity, NPC_ENTITY_KEY);
         if (uuid == null) return null;
         return EntityTracker.getNpcEntities().get(uuid);
     }
 
     public static void tagSuperMob(Entity entity) {
-        tag(entity, SUPER_MOB, entity.getType().toString());
+        tag(entity, SUPER_MOB_KEY, entity.getType().toString());
     }
 
     public static boolean isSuperMob(Entity entity) {
         if (entity == null) return false;
-        return entity.getPersistentDataContainer().has(new NamespacedKey(MetadataHandler.PLUGIN, SUPER_MOB), PersistentDataType.STRING);
+        return entity.getPersistentDataContainer().has(SUPER_MOB_KEY, PersistentDataType.STRING);
     }
 
     public static void tagVisualEffect(Entity entity) {
-        tag(entity, VISUAL_EFFECT, entity.getType().toString());
+        tag(entity, VISUAL_EFFECT_KEY, entity.getType().toString());
     }
 
     public static boolean isVisualEffect(Entity entity) {
         if (entity == null) return false;
-        return entity.getPersistentDataContainer().has(new NamespacedKey(MetadataHandler.PLUGIN, VISUAL_EFFECT), PersistentDataType.STRING);
+        return entity.getPersistentDataContainer().has(VISUAL_EFFECT_KEY, PersistentDataType.STRING);
     }
 
     public static void tagEliteProjectile(Projectile projectile) {
-        tag(projectile, ELITE_PROJECTILE, "");
+        tag(projectile, ELITE_PROJECTILE_KEY, "");
     }
 
     public static boolean isEliteProjectile(Entity entity) {
         if (entity == null) return false;
-        return entity.getPersistentDataContainer().has(new NamespacedKey(MetadataHandler.PLUGIN, ELITE_PROJECTILE), PersistentDataType.STRING);
+        return entity.getPersistentDataContainer().has(ELITE_PROJECTILE_KEY, PersistentDataType.STRING);
     }
 
     @Nullable
     public static UUID getUUID(Entity entity, String key) {
+        return getUUID(entity, getKey(key));
+    }
+
+    @Nullable
+    private static UUID getUUID(Entity entity, NamespacedKey namespacedKey) {
         if (entity == null) return null;
-        String uuidString = entity.getPersistentDataContainer().get(new NamespacedKey(MetadataHandler.PLUGIN, key), PersistentDataType.STRING);
+        String uuidString = entity.getPersistentDataContainer().get(namespacedKey, PersistentDataType.STRING);
         if (uuidString == null) return null;
         return UUID.fromString(uuidString);
     }
 
+    private static NamespacedKey getKey(String key) {
+        return switch (key) {
+            case ELITE_ENTITY -> ELITE_ENTITY_KEY;
+            case NPC_ENTITY -> NPC_ENTITY_KEY;
+            case SUPER_MOB -> SUPER_MOB_KEY;
+            case VISUAL_EFFECT -> VISUAL_EFFECT_KEY;
+            case ELITE_PROJECTILE -> ELITE_PROJECTILE_KEY;
+            default -> new NamespacedKey(MetadataHandler.PLUGIN, key);
+        };
+    }
+
 }
@@ -91,7 +91,7 @@ public class DisguiseEntity {
 
     private static void scheduleDisguise(Disguise disguise, Entity entity) {
         applyDisguise(disguise, entity);
-        TaskScheduler scheduler = new TaskScheduler(MetadataHandler.PLUGIN);
+        TaskScheduler scheduler = TaskScheduler.get(MetadataHandler.PLUGIN);
         scheduler.runDelayedAsync(() -> applyDisguise(disguise, entity), 20);
     }
 
@@ -108,7 +108,7 @@ public class TreasureChest implements PersistentObject {
             if (time < 0)
                 generateChest();
             else {
-                TaskScheduler scheduler = new TaskScheduler(MetadataHandler.PLUGIN);
+                TaskScheduler scheduler = TaskScheduler.get(MetadataHandler.PLUGIN);
                 scheduler.runDelayedAsync(this::generateChest, time);
             }
         }
@@ -159,7 +159,7 @@ public class TreasureChest implements PersistentObject {
                     Logger.warn("Failed to save restock timers for treasure chest " + customTreasureChestConfigFields.getFilename());
                 }
 
-                TaskScheduler scheduler = new TaskScheduler(MetadataHandler.PLUGIN);
+                TaskScheduler scheduler = TaskScheduler.get(MetadataHandler.PLUGIN);
                 scheduler.runDelayedAsync(() -> {
                     customTreasureChestConfigFields.getRestockTimers().removeIf(restockTime -> restockTime.split(":")[0].equals(player.getUniqueId().toString()));
 
@@ -189,7 +189,7 @@ public class TreasureChest implements PersistentObject {
         customTreasureChestConfigFields.setRestockTime(location, restockTime);
 
         if (!customTreasureChestConfigFields.isInstanced()) {
-            TaskScheduler scheduler = new TaskScheduler(MetadataHandler.PLUGIN);
+            TaskScheduler scheduler = TaskScheduler.get(MetadataHandler.PLUGIN);
             scheduler.runDelayedAsync(this::generateChest, 20L * 60 * customTreasureChestConfigFields.getRestockTimer());
         }
 
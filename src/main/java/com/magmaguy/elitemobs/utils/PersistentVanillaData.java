@@ -1,6 +1,7 @@
 package com.magmaguy.elitemobs.utils;
 
 import com.magmaguy.elitemobs.MetadataHandler;
+import com.magmaguy.elitemobs.items.ItemTagger;
 import org.bukkit.NamespacedKey;
 import org.bukkit.entity.Entity;
 import org.bukkit.inventory.ItemStack;
@@ -18,6 +19,7 @@ public class PersistentVanillaData {
     public static void write(ItemStack itemStack, String key, double value) {
         ItemMeta itemMeta = itemStack.getItemMeta();
         itemMeta.getPersistentDataContainer().set(getKey(key), PersistentDataType.DOUBLE, value);
+        ItemTagger.updateFingerprint(itemMeta);
         itemStack.setItemMeta(itemMeta);
     }
 
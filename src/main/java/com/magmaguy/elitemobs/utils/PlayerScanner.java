@@ -1,23 +1,232 @@
 package com.magmaguy.elitemobs.utils;
 
+import com.magmaguy.elitemobs.adventurersguild.GuildRank;
+import com.magmaguy.elitemobs.entitytracker.ChunkSpatialIndex;
+import com.magmaguy.elitemobs.items.customenchantments.HunterEnchantment;
 import com.magmaguy.elitemobs.playerdata.ElitePlayerInventory;
+import com.magmaguy.elitemobs.playerdata.database.PlayerData;
+import lombok.Getter;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
+import org.bukkit.World;
 import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.*;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
-public class PlayerScanner {
+/**
+ * Keeps a per world grid of which players are near each chunk, so natural spawns don't have to go over every online
+ * player for every spawn event.
+ * <p>
+ * Each chunk's roster is built the first time something spawns in it and is reused until a player within range of it
+ * moves to another chunk, changes worlds, joins or leaves. Rosters also expire after a second so that gear and guild rank
+ * changes get picked up, and expired rosters get swept out every few seconds so chunks nothing spawns in anymore don't
+ * keep theirs around.
+ * <p>
+ * Rosters are stored in cells at least as wide as a player's reach, so a player changing chunks only has to look at the
+ * rosters in the cells around it.
+ * <p>
+ * The same events keep a chunk index of the players themselves, for lookups that need the players in an area.
+ */
+public class PlayerScanner implements Listener {
     private static final int range = Math.max(Bukkit.getServer().getViewDistance() * 16, 5 * 16);
+    private static final long ROSTER_LIFETIME_NANOS = 1_000_000_000L;
+    private static final long SWEEP_INTERVAL_NANOS = 5_000_000_000L;
+    //A chunk's far corner is a little over 11 blocks from its center, so 12 covers anywhere in a player's chunk
+    private static final int reach = range + 12;
+    private static final int CELL_CHUNKS = reach / 16 + 1;
+    //World to cell to chunk to roster
+    private static final Map<UUID, Map<Long, Map<Long, NearbyPlayerRoster>>> rosters = new ConcurrentHashMap<>();
+    private static final AtomicLong lastSweep = new AtomicLong(System.nanoTime());
+    private static final Map<UUID, Long> playerChunks = new ConcurrentHashMap<>();
+    @Getter
+    private static final ChunkSpatialIndex<Player> playerIndex = new ChunkSpatialIndex<>(Player::getLocation);
 
-    public static List<Player> getNearbyPlayers(Location location) {
-        List<Player> nearbyPlayers = new ArrayList<>();
+    public PlayerScanner() {
+        //Players already online when the plugin loads don't get a join event
         for (Player player : Bukkit.getOnlinePlayers())
-            if (player.getWorld().equals(location.getWorld()) &&
-                    player.getLocation().distanceSquared(location) <= range * range &&
-                    ElitePlayerInventory.playerInventories.get(player.getUniqueId()) != null)
-                nearbyPlayers.add(player);
-        return nearbyPlayers;
+            playerIndex.update(player, player.getLocation());
+    }
+
+    public static List<Player> getNearbyPlayers(Location location) {
+        return getRoster(location).getPlayers();
+    }
+
+    /**
+     * Gets the players near the chunk of a location, along with the values natural spawning needs from them.
+     *
+     * @param location Location to get the roster of
+     * @return Roster of the players in range of the location's chunk
+     */
+    public static NearbyPlayerRoster getRoster(Location location) {
+        World world = location.getWorld();
+        if (world == null) return NearbyPlayerRoster.EMPTY;
+        int chunkX = location.getBlockX() >> 4;
+        int chunkZ = location.getBlockZ() >> 4;
+        long now = System.nanoTime();
+        sweep(now);
+        Map<Long, NearbyPlayerRoster> cellRosters = rosters
+                .computeIfAbsent(world.getUID(), key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(cellKey(chunkX, chunkZ), key -> new ConcurrentHashMap<>());
+        long chunkKey = ChunkSpatialIndex.chunkKey(chunkX, chunkZ);
+        NearbyPlayerRoster roster = cellRosters.get(chunkKey);
+        if (roster != null && now - roster.createdAt < ROSTER_LIFETIME_NANOS) return roster;
+        roster = buildRoster(world, chunkX, chunkZ);
+        cellRosters.put(chunkKey, roster);
+        return roster;
+    }
+
+    private static long cellKey(int chunkX, int chunkZ) {
+        return ChunkSpatialIndex.chunkKey(Math.floorDiv(chunkX, CELL_CHUNKS), Math.floorDiv(chunkZ, CELL_CHUNKS));
+    }
+
+    //Expired rosters would get rebuilt on their next use anyway, so anything past its lifetime is only taking up memory
+    private static void sweep(long now) {
+        long previousSweep = lastSweep.get();
+        if (now - previousSweep < SWEEP_INTERVAL_NANOS || !lastSweep.compareAndSet(previousSweep, now)) return;
+        for (Map<Long, Map<Long, NearbyPlayerRoster>> worldRosters : rosters.values())
+            worldRosters.values().removeIf(cellRosters -> {
+                cellRosters.values().removeIf(roster -> now - roster.createdAt >= ROSTER_LIFETIME_NANOS);
+                return cellRosters.isEmpty();
+            });
+    }
+
+    public static void shutdown() {
+        rosters.clear();
+        playerChunks.clear();
+        playerIndex.clear();
+    }
+
+    //Players are considered in range if they are in range of the center of the chunk
+    private static NearbyPlayerRoster buildRoster(World world, int chunkX, int chunkZ) {
+        double centerX = (chunkX << 4) + 8;
+        double centerZ = (chunkZ << 4) + 8;
+        List<Player> players = new ArrayList<>();
+        for (Player player : world.getPlayers()) {
+            if (ElitePlayerInventory.playerInventories.get(player.getUniqueId()) == null) continue;
+            Location playerLocation = player.getLocation();
+            double distanceX = playerLocation.getX() - centerX;
+            double distanceZ = playerLocation.getZ() - centerZ;
+            if (distanceX * distanceX + distanceZ * distanceZ <= range * range) players.add(player);
+        }
+        if (players.isEmpty()) return new NearbyPlayerRoster(players, 0, 0, 0);
+
+        int peacefulPlayers = 0;
+        int highestThreat = 0;
+        for (Player player : players) {
+            //Handles situations where fake players got caught in the detection
+            if (PlayerData.getPlayerData(player.getUniqueId()) != null && GuildRank.getActiveGuildRank(player) == 0)
+                peacefulPlayers++;
+            highestThreat = Math.max(highestThreat, ElitePlayerInventory.playerInventories.get(player.getUniqueId()).getNaturalMobSpawnLevel(true));
+        }
+        return new NearbyPlayerRoster(players, HunterEnchantment.getHuntingGearBonus(players), peacefulPlayers, highestThreat);
+    }
+
+    private static void invalidate(World world) {
+        Map<Long, Map<Long, NearbyPlayerRoster>> worldRosters = rosters.get(world.getUID());
+        if (worldRosters != null) worldRosters.clear();
+    }
+
+    /**
+     * Drops the rosters a player in the given chunk could be part of, which are the ones whose chunk center is within
+     * reach of somewhere in that chunk. Cells are wider than the reach, so those can only be in the cells around the
+     * chunk's own.
+     */
+    private static void invalidate(World world, long chunkKey) {
+        Map<Long, Map<Long, NearbyPlayerRoster>> worldRosters = rosters.get(world.getUID());
+        if (worldRosters == null || worldRosters.isEmpty()) return;
+        int chunkX = (int) (chunkKey >> 32);
+        int chunkZ = (int) chunkKey;
+        int cellX = Math.floorDiv(chunkX, CELL_CHUNKS);
+        int cellZ = Math.floorDiv(chunkZ, CELL_CHUNKS);
+        double reachSquared = (double) reach * reach;
+        for (int x = cellX - 1; x <= cellX + 1; x++)
+            for (int z = cellZ - 1; z <= cellZ + 1; z++) {
+                Map<Long, NearbyPlayerRoster> cellRosters = worldRosters.get(ChunkSpatialIndex.chunkKey(x, z));
+                if (cellRosters == null || cellRosters.isEmpty()) continue;
+                cellRosters.keySet().removeIf(rosterKey -> {
+                    double distanceX = (double) (((int) (rosterKey >> 32)) - chunkX) * 16;
+                    double distanceZ = (double) (((int) (long) rosterKey) - chunkZ) * 16;
+                    return distanceX * distanceX + distanceZ * distanceZ <= reachSquared;
+                });
+            }
+    }
+
+    private static void updatePlayer(Player player, Location location) {
+        playerIndex.update(player, location);
+        long chunkKey = ChunkSpatialIndex.chunkKey(location.getBlockX() >> 4, location.getBlockZ() >> 4);
+        Long previousChunkKey = playerChunks.put(player.getUniqueId(), chunkKey);
+        if (previousChunkKey != null && previousChunkKey == chunkKey) return;
+        if (previousChunkKey != null) invalidate(location.getWorld(), previousChunkKey);
+        invalidate(location.getWorld(), chunkKey);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPlayerMove(PlayerMoveEvent event) {
+        Location to = event.getTo();
+        if (to == null) return;
+        Location from = event.getFrom();
+        //Cheap way out for the vast majority of move events, which don't leave the chunk
+        if (from.getBlockX() >> 4 == to.getBlockX() >> 4 && from.getBlockZ() >> 4 == to.getBlockZ() >> 4 &&
+                from.getWorld() == to.getWorld()) return;
+        if (from.getWorld() != null && from.getWorld() != to.getWorld()) invalidate(from.getWorld());
+        updatePlayer(event.getPlayer(), to);
+    }
+
+    //Teleports have their own handler list, so move listeners never see them
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPlayerTeleport(PlayerTeleportEvent event) {
+        onPlayerMove(event);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerChangedWorld(PlayerChangedWorldEvent event) {
+        invalidate(event.getFrom());
+        updatePlayer(event.getPlayer(), event.getPlayer().getLocation());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerJoin(PlayerJoinEvent event) {
+        updatePlayer(event.getPlayer(), event.getPlayer().getLocation());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        Long chunkKey = playerChunks.remove(event.getPlayer().getUniqueId());
+        playerIndex.remove(event.getPlayer());
+        VisualEffectBudget.forget(event.getPlayer());
+        if (chunkKey != null) invalidate(event.getPlayer().getWorld(), chunkKey);
+        else invalidate(event.getPlayer().getWorld());
+    }
+
+    /**
+     * Players near a chunk and the totals natural spawning uses from them.
+     */
+    public static class NearbyPlayerRoster {
+        private static final NearbyPlayerRoster EMPTY = new NearbyPlayerRoster(List.of(), 0, 0, 0);
+        @Getter
+        private final List<Player> players;
+        @Getter
+        private final double huntingGearBonus;
+        @Getter
+        private final int peacefulPlayers;
+        @Getter
+        private final int highestThreat;
+        private final long createdAt = System.nanoTime();
+
+        private NearbyPlayerRoster(List<Player> players, double huntingGearBonus, int peacefulPlayers, int highestThreat) {
+            this.players = List.copyOf(players);
+            this.huntingGearBonus = huntingGearBonus;
+            this.peacefulPlayers = peacefulPlayers;
+            this.highestThreat = highestThreat;
+        }
     }
 }
@@ -0,0 +1,171 @@
+package com.magmaguy.elitemobs.utils;
+
+import com.magmaguy.elitemobs.MetadataHandler;
+import com.magmaguy.elitemobs.entitytracker.ChunkSpatialIndex;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Keeps track of which players are near things like bosses, NPCs and wormholes, and tells them when players come close
+ * or go away, so that each of them doesn't have to look for nearby players on its own.
+ * <p>
+ * Every few ticks the online players get sorted into a per world grid of chunks, and each subject only looks at the
+ * players in the chunks its radius covers. Subjects keep the players that are near them between updates, so they only
+ * get told about the players that changed.
+ */
+public class ProximityService {
+    private static final int UPDATE_INTERVAL_TICKS = 5;
+    private static final Set<Subject> subjects = ConcurrentHashMap.newKeySet();
+    private static final Map<UUID, Map<Long, List<Player>>> playerGrid = new HashMap<>();
+    private static final Map<UUID, List<Player>> worldPlayers = new HashMap<>();
+    private static BukkitTask task = null;
+
+    private ProximityService() {
+    }
+
+    /**
+     * Starts tracking the players near something.
+     *
+     * @param locationSupplier Where the subject currently is, or null while it isn't around, in which case every player
+     *                         near it leaves
+     * @param radius           Distance at which players count as near
+     * @param onEnter          Runs when a player comes near, can be null
+     * @param onLeave          Runs when a player that was near goes away or logs off, can be null
+     * @return Subject to get the nearby players from, and to remove once it isn't needed anymore
+     */
+    public static Subject register(Supplier<Location> locationSupplier, double radius, Consumer<Player> onEnter, Consumer<Player> onLeave) {
+        Subject subject = new Subject(locationSupplier, radius, onEnter, onLeave);
+        subjects.add(subject);
+        start();
+        return subject;
+    }
+
+    public static int getSubjectCount() {
+        return subjects.size();
+    }
+
+    private static synchronized void start() {
+        if (task != null || !MetadataHandler.PLUGIN.isEnabled()) return;
+        task = Bukkit.getScheduler().runTaskTimer(MetadataHandler.PLUGIN, ProximityService::update, 0, UPDATE_INTERVAL_TICKS);
+    }
+
+    public static synchronized void shutdown() {
+        if (task != null) task.cancel();
+        task = null;
+        subjects.forEach(subject -> subject.removed = true);
+        subjects.clear();
+        playerGrid.clear();
+        worldPlayers.clear();
+    }
+
+    private static void update() {
+        if (subjects.isEmpty()) return;
+        playerGrid.clear();
+        worldPlayers.clear();
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            Location location = player.getLocation();
+            UUID worldUUID = location.getWorld().getUID();
+            worldPlayers.computeIfAbsent(worldUUID, key -> new ArrayList<>()).add(player);
+            playerGrid.computeIfAbsent(worldUUID, key -> new HashMap<>())
+                    .computeIfAbsent(ChunkSpatialIndex.chunkKey(location.getBlockX() >> 4, location.getBlockZ() >> 4), key -> new ArrayList<>(2))
+                    .add(player);
+        }
+        for (Subject subject : subjects) subject.update();
+    }
+
+    private static void findPlayers(Location location, double radius, Set<Player> found) {
+        World world = location.getWorld();
+        if (world == null) return;
+        List<Player> players = worldPlayers.get(world.getUID());
+        if (players == null) return;
+        double radiusSquared = radius * radius;
+        int minChunkX = (int) Math.floor(location.getX() - radius) >> 4;
+        int maxChunkX = (int) Math.floor(location.getX() + radius) >> 4;
+        int minChunkZ = (int) Math.floor(location.getZ() - radius) >> 4;
+        int maxChunkZ = (int) Math.floor(location.getZ() + radius) >> 4;
+        //Big radiuses cover more chunks than there are players in the world, at which point going over them is cheaper
+        if ((long) (maxChunkX - minChunkX + 1) * (maxChunkZ - minChunkZ + 1) > players.size()) {
+            for (Player player : players)
+                if (player.getLocation().distanceSquared(location) <= radiusSquared) found.add(player);
+            return;
+        }
+        Map<Long, List<Player>> worldGrid = playerGrid.get(world.getUID());
+        for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++)
+            for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                List<Player> chunkPlayers = worldGrid.get(ChunkSpatialIndex.chunkKey(chunkX, chunkZ));
+                if (chunkPlayers == null) continue;
+                for (Player player : chunkPlayers)
+                    if (player.getLocation().distanceSquared(location) <= radiusSquared) found.add(player);
+            }
+    }
+
+    public static class Subject {
+        private final Supplier<Location> locationSupplier;
+        private final double radius;
+        private final Consumer<Player> onEnter;
+        private final Consumer<Player> onLeave;
+        //Only ever touched by the update task
+        private Set<Player> nearbyPlayers = new HashSet<>();
+        private volatile List<Player> nearbyPlayerList = List.of();
+        private volatile boolean removed = false;
+
+        private Subject(Supplier<Location> locationSupplier, double radius, Consumer<Player> onEnter, Consumer<Player> onLeave) {
+            this.locationSupplier = locationSupplier;
+            this.radius = radius;
+            this.onEnter = onEnter;
+            this.onLeave = onLeave;
+        }
+
+        /**
+         * @return Players that were near the subject as of the last update
+         */
+        public List<Player> getPlayers() {
+            return nearbyPlayerList;
+        }
+
+        public boolean isNear(Player player) {
+            return nearbyPlayerList.contains(player);
+        }
+
+        /**
+         * Stops tracking the subject. Players near it don't get told that they left, whatever owns the subject is
+         * expected to clean up after them itself. Safe to call from any thread, the subject's own state is left for the
+         * update task to drop.
+         */
+        public void remove() {
+            removed = true;
+            subjects.remove(this);
+            nearbyPlayerList = List.of();
+        }
+
+        private void update() {
+            //Can still come up once if it got removed while the update was already going over the subjects
+            if (removed) {
+                nearbyPlayers = new HashSet<>();
+                return;
+            }
+            Set<Player> currentPlayers = new HashSet<>();
+            Location location = locationSupplier.get();
+            if (location != null) findPlayers(location, radius, currentPlayers);
+            if (currentPlayers.equals(nearbyPlayers)) return;
+            Set<Player> previousPlayers = nearbyPlayers;
+            nearbyPlayers = currentPlayers;
+            nearbyPlayerList = List.copyOf(currentPlayers);
+            //Removed in between, so the list that just got set shouldn't stick around
+            if (removed) nearbyPlayerList = List.of();
+            //Callbacks can remove the subject, at which point nobody cares about the rest
+            for (Player player : previousPlayers)
+                if (!currentPlayers.contains(player) && onLeave != null && !removed) onLeave.accept(player);
+            for (Player player : currentPlayers)
+                if (!previousPlayers.contains(player) && onEnter != null && !removed) onEnter.accept(player);
+        }
+    }
+}
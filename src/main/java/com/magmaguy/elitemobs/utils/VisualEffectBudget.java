@@ -0,0 +1,214 @@
+package com.magmaguy.elitemobs.utils;
+
+import com.magmaguy.elitemobs.config.MobCombatSettingsConfig;
+import org.bukkit.Location;
+import org.bukkit.Particle;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Decides who gets to see the ambient visual effects of elites, such as boss trails and power stances.
+ * <p>
+ * Effects only go to the players near the elite, and get thinned out the further away those players are: players close
+ * by see every frame, players further out every second or fourth frame and players beyond that nothing at all. Clients
+ * don't draw particles more than 32 blocks away, so particles stop there, while effects made of entities reach further.
+ * On top of that every player has a budget of particles and visual entities per tick, so a crowd of elites can't flood
+ * anyone.
+ */
+public class VisualEffectBudget {
+    private static final double NEAR_RANGE_SQUARED = 24 * 24;
+    private static final double PARTICLE_RANGE_SQUARED = 32 * 32;
+    private static final double MID_RANGE_SQUARED = 48 * 48;
+    private static final double FAR_RANGE_SQUARED = 96 * 96;
+    private static final long TICK_NANOS = 50_000_000L;
+    private static final Map<UUID, PlayerBudget> playerBudgets = new ConcurrentHashMap<>();
+    private static final Map<EffectType, EffectCounters> counters = new EnumMap<>(EffectType.class);
+
+    static {
+        for (EffectType effectType : EffectType.values()) counters.put(effectType, new EffectCounters());
+    }
+
+    private VisualEffectBudget() {
+    }
+
+    /**
+     * Sends a particle effect to each nearby player that should see this frame and still has particles left this tick.
+     *
+     * @param frame Frame of the effect, counting up every time the effect runs
+     */
+    public static void spawnParticle(EffectType effectType, Location location, int frame, Particle particle,
+                                     int count, double offsetX, double offsetY, double offsetZ, double extra) {
+        World world = location.getWorld();
+        if (world == null) return;
+        EffectCounters effectCounters = counters.get(effectType);
+        int particleBudget = MobCombatSettingsConfig.getVisualEffectParticlesPerPlayerPerTick();
+        long tick = currentTick();
+        boolean seen = false;
+        for (Player player : world.getPlayers()) {
+            int interval = particleFrameInterval(player, location);
+            if (interval < 0) continue;
+            seen = true;
+            if (frame % interval != 0) {
+                effectCounters.thinned.increment();
+            } else if (!getBudget(player).spend(tick, count, 0, particleBudget, Integer.MAX_VALUE)) {
+                effectCounters.overBudget.increment();
+            } else {
+                player.spawnParticle(particle, location, count, offsetX, offsetY, offsetZ, extra);
+                effectCounters.shown.increment();
+            }
+        }
+        if (!seen) effectCounters.hidden.increment();
+    }
+
+    /**
+     * Checks if an effect made of real entities, such as dropped items, should run this frame. Everyone can see those
+     * entities, so the frame runs at the rate the closest player needs and only if every nearby player still has room for
+     * them in their budget, in which case it gets taken out of all their budgets.
+     *
+     * @param frame Frame of the effect, counting up every time the effect runs
+     * @param cost  Amount of entities the effect spawns or moves
+     * @return Whether the effect should run
+     */
+    public static boolean tryEntityEffect(EffectType effectType, Location location, int frame, int cost) {
+        World world = location.getWorld();
+        if (world == null) return false;
+        EffectCounters effectCounters = counters.get(effectType);
+        //Only the players that can see the effect matter from here on
+        List<Player> players = new ArrayList<>();
+        int closestInterval = -1;
+        for (Player player : world.getPlayers()) {
+            int interval = entityFrameInterval(player, location);
+            if (interval < 0) continue;
+            players.add(player);
+            if (closestInterval < 0 || interval < closestInterval) closestInterval = interval;
+        }
+        if (closestInterval < 0) {
+            effectCounters.hidden.increment();
+            return false;
+        }
+        if (frame % closestInterval != 0) {
+            effectCounters.thinned.increment();
+            return false;
+        }
+        int entityBudget = MobCombatSettingsConfig.getVisualEffectEntitiesPerPlayerPerTick();
+        long tick = currentTick();
+        for (Player player : players)
+            if (!getBudget(player).canSpend(tick, 0, cost, Integer.MAX_VALUE, entityBudget)) {
+                effectCounters.overBudget.increment();
+                return false;
+            }
+        //Checked for everyone first so that nobody pays for a frame that doesn't run
+        for (Player player : players)
+            getBudget(player).spend(tick, 0, cost, Integer.MAX_VALUE, Integer.MAX_VALUE);
+        effectCounters.shown.increment();
+        return true;
+    }
+
+    /**
+     * @return How often a player gets frames of a particle effect at a location, or -1 if they are too far away to see it
+     */
+    private static int particleFrameInterval(Player player, Location location) {
+        double distanceSquared = player.getLocation().distanceSquared(location);
+        if (distanceSquared <= NEAR_RANGE_SQUARED) return 1;
+        if (distanceSquared <= PARTICLE_RANGE_SQUARED) return 2;
+        return -1;
+    }
+
+    /**
+     * @return How often a player gets frames of an entity effect at a location, or -1 if they are too far away to see it
+     */
+    private static int entityFrameInterval(Player player, Location location) {
+        double distanceSquared = player.getLocation().distanceSquared(location);
+        if (distanceSquared <= NEAR_RANGE_SQUARED) return 1;
+        if (distanceSquared <= MID_RANGE_SQUARED) return 2;
+        if (distanceSquared <= FAR_RANGE_SQUARED) return 4;
+        return -1;
+    }
+
+    private static PlayerBudget getBudget(Player player) {
+        return playerBudgets.computeIfAbsent(player.getUniqueId(), key -> new PlayerBudget());
+    }
+
+    //Effects run both on and off the main thread, so ticks are counted off the clock rather than by a task
+    private static long currentTick() {
+        return System.nanoTime() / TICK_NANOS;
+    }
+
+    public static String getSummary() {
+        StringBuilder summary = new StringBuilder();
+        for (Map.Entry<EffectType, EffectCounters> entry : counters.entrySet()) {
+            if (summary.length() > 0) summary.append(", ");
+            EffectCounters effectCounters = entry.getValue();
+            summary.append(entry.getKey().name().toLowerCase().replace("_", " ")).append(" ")
+                    .append(effectCounters.shown.sum()).append(" shown/")
+                    .append(effectCounters.thinned.sum()).append(" thinned/")
+                    .append(effectCounters.hidden.sum()).append(" hidden/")
+                    .append(effectCounters.overBudget.sum()).append(" over budget");
+        }
+        return summary.toString();
+    }
+
+    public static void forget(Player player) {
+        playerBudgets.remove(player.getUniqueId());
+    }
+
+    public static void shutdown() {
+        playerBudgets.clear();
+        for (EffectCounters effectCounters : counters.values()) effectCounters.reset();
+    }
+
+    public enum EffectType {
+        BOSS_PARTICLE_TRAIL,
+        BOSS_ITEM_TRAIL,
+        POWER_STANCE_PARTICLE,
+        POWER_STANCE_ITEM,
+        POWER_STANCE_DISPLAY
+    }
+
+    private static class EffectCounters {
+        private final LongAdder shown = new LongAdder();
+        private final LongAdder thinned = new LongAdder();
+        private final LongAdder hidden = new LongAdder();
+        private final LongAdder overBudget = new LongAdder();
+
+        private void reset() {
+            shown.reset();
+            thinned.reset();
+            hidden.reset();
+            overBudget.reset();
+        }
+    }
+
+    /**
+     * What a player has been sent this tick. It starts over on its own the first time it gets used in a new tick.
+     */
+    private static class PlayerBudget {
+        private long tick = -1;
+        private int particles = 0;
+        private int entities = 0;
+
+        private synchronized boolean canSpend(long currentTick, int particleCost, int entityCost, int particleBudget, int entityBudget) {
+            if (tick != currentTick) {
+                tick = currentTick;
+                particles = 0;
+                entities = 0;
+            }
+            return particles + particleCost <= particleBudget && entities + entityCost <= entityBudget;
+        }
+
+        private synchronized boolean spend(long currentTick, int particleCost, int entityCost, int particleBudget, int entityBudget) {
+            if (!canSpend(currentTick, particleCost, entityCost, particleBudget, entityBudget)) return false;
+            particles += particleCost;
+            entities += entityCost;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.magmaguy.elitemobs.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Immutable weighted random picker built with Vose's alias method.
+ * <p>
+ * Building the table goes over the weights once, after which every pick is one random number and two array reads no
+ * matter how many values there are. Samplers are meant to be built when the weights get loaded and reused for every
+ * roll until the weights change.
+ *
+ * @param <T> Type of the values being picked
+ */
+public class WeightedSampler<T> {
+    private static final WeightedSampler<?> EMPTY = new WeightedSampler<>(new Object[0], new double[0], new int[0], 0);
+
+    private final Object[] values;
+    private final double[] probabilities;
+    private final int[] aliases;
+    private final double totalWeight;
+
+    private WeightedSampler(Object[] values, double[] probabilities, int[] aliases, double totalWeight) {
+        this.values = values;
+        this.probabilities = probabilities;
+        this.aliases = aliases;
+        this.totalWeight = totalWeight;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> WeightedSampler<T> empty() {
+        return (WeightedSampler<T>) EMPTY;
+    }
+
+    /**
+     * Builds a sampler from a map of values to weights. Values with null, negative or zero weights can never be picked
+     * and are left out.
+     *
+     * @param weighedValues Values and their weights
+     * @return Sampler for the values
+     */
+    public static <T> WeightedSampler<T> of(Map<T, Double> weighedValues) {
+        List<T> values = new ArrayList<>(weighedValues.size());
+        double[] weights = new double[weighedValues.size()];
+        double totalWeight = 0;
+        for (Map.Entry<T, Double> entry : weighedValues.entrySet()) {
+            Double weight = entry.getValue();
+            if (weight == null || !(weight > 0) || Double.isInfinite(weight)) continue;
+            weights[values.size()] = weight;
+            values.add(entry.getKey());
+            totalWeight += weight;
+        }
+        if (values.isEmpty()) return empty();
+
+        int size = values.size();
+        double[] probabilities = new double[size];
+        int[] aliases = new int[size];
+        //Weights get scaled so the average column is exactly 1, then short columns get topped up by tall ones
+        double[] scaled = new double[size];
+        int[] small = new int[size];
+        int[] large = new int[size];
+        int smallCount = 0;
+        int largeCount = 0;
+        for (int i = 0; i < size; i++) {
+            scaled[i] = weights[i] * size / totalWeight;
+            if (scaled[i] < 1) small[smallCount++] = i;
+            else large[largeCount++] = i;
+        }
+        while (smallCount > 0 && largeCount > 0) {
+            int less = small[--smallCount];
+            int more = large[--largeCount];
+            probabilities[less] = scaled[less];
+            aliases[less] = more;
+            scaled[more] = scaled[more] + scaled[less] - 1;
+            if (scaled[more] < 1) small[smallCount++] = more;
+            else large[largeCount++] = more;
+        }
+        //Whatever is left over is only off from 1 because of rounding errors
+        while (largeCount > 0) probabilities[large[--largeCount]] = 1;
+        while (smallCount > 0) probabilities[small[--smallCount]] = 1;
+
+        return new WeightedSampler<>(values.toArray(), probabilities, aliases, totalWeight);
+    }
+
+    /**
+     * @return A random value picked based on the weights, or null if there is nothing that can be picked
+     */
+    @SuppressWarnings("unchecked")
+    public T sample() {
+        if (values.length == 0) return null;
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int column = random.nextInt(values.length);
+        return (T) (random.nextDouble() < probabilities[column] ? values[column] : values[aliases[column]]);
+    }
+
+    public boolean isEmpty() {
+        return values.length == 0;
+    }
+
+    public int size() {
+        return values.length;
+    }
+
+    public double getTotalWeight() {
+        return totalWeight;
+    }
+}
@@ -5,15 +5,29 @@ import com.magmaguy.magmacore.util.Logger;
 import org.bukkit.Bukkit;
 
 import java.io.File;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
-import java.util.ArrayList;
-import java.util.List;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class WorldInstantiator {
 
+    //Region files are large and few, so a handful of threads is enough to keep the disk busy
+    private static final int COPY_THREADS = Math.max(2, Math.min(4, Runtime.getRuntime().availableProcessors() / 2));
+    //Names handed out for worlds whose folders might not exist yet, so parallel clones can't pick the same name
+    private static final Set<String> reservedWorldNames = new HashSet<>();
+    private static final Queue<File> pendingDeletions = new ConcurrentLinkedQueue<>();
+    private static final AtomicBoolean deletionScheduled = new AtomicBoolean(false);
+    private static final int REGION_HEADER_BYTES = 4096;
+    //Only tried where cp supports --reflink, and turned off for good the first time it fails
+    private static volatile boolean reflinkSupported = !System.getProperty("os.name", "").toLowerCase(Locale.ROOT).contains("win");
+    private static ExecutorService copyExecutor = null;
+
     public static File cloneWorld(String worldName, String targetWorldName, String dungeonConfigurationFolderName) {
         File blueprintWorld = new File(MetadataHandler.PLUGIN.getDataFolder().getAbsolutePath() + File.separatorChar +
                 "world_blueprints" + File.separatorChar + dungeonConfigurationFolderName + File.separatorChar + worldName);
@@ -30,47 +44,214 @@ public class WorldInstantiator {
         if (destinationWorld.exists())
             recursivelyDelete(destinationWorld);
 
-        copyAll(blueprintWorld, destinationWorld);
+        if (!copyAll(blueprintWorld, destinationWorld)) {
+            //Half a world is worse than none, whoever asked for it treats this like any other failed copy
+            Logger.warn("Copying blueprint world " + worldName + " got cut short, discarding " + targetWorldName);
+            if (destinationWorld.exists()) recursivelyDelete(destinationWorld);
+            releaseWorldName(targetWorldName);
+            return null;
+        }
 
         return destinationWorld;
     }
 
-    private static void copyAll(File directoryToClone, File targetDirectory) {
-        for (File child : directoryToClone.listFiles())
-            copy(child, Paths.get(targetDirectory.getPath() + File.separatorChar + child.getName()));
+    /**
+     * Recreates the directory tree right away and copies the files in parallel. Hard links would be faster but the
+     * instance writes to its region files in place, which would write straight into the blueprint, so region files get
+     * copy-on-write clones instead where the filesystem allows it.
+     *
+     * @return False if the copy got cut short because the copy threads were shut down or the thread got interrupted
+     */
+    private static boolean copyAll(File directoryToClone, File targetDirectory) {
+        Path source = directoryToClone.toPath();
+        Path target = targetDirectory.toPath();
+        List<Future<?>> copies = new ArrayList<>();
+        ExecutorService executor = getCopyExecutor();
+        AtomicBoolean rejected = new AtomicBoolean(false);
+        try {
+            Files.walkFileTree(source, new SimpleFileVisitor<>() {
+                @Override
+                public FileVisitResult preVisitDirectory(Path directory, BasicFileAttributes attributes) throws IOException {
+                    Files.createDirectories(target.resolve(source.relativize(directory)));
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
+                    Path targetPath = target.resolve(source.relativize(file));
+                    try {
+                        copies.add(executor.submit(() -> copy(file, targetPath)));
+                    } catch (RejectedExecutionException ex) {
+                        //The plugin is shutting down
+                        rejected.set(true);
+                        return FileVisitResult.TERMINATE;
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch (IOException ex) {
+            Logger.warn("Failed to read blueprint world " + directoryToClone);
+            ex.printStackTrace();
+        }
+        //Copies already handed out still run after a shutdown, so they get waited on before the folder can be deleted
+        boolean interrupted = false;
+        for (Future<?> copy : copies)
+            try {
+                copy.get();
+            } catch (InterruptedException ex) {
+                interrupted = true;
+            } catch (CancellationException ex) {
+                rejected.set(true);
+            } catch (ExecutionException ex) {
+                Logger.warn("Failed to copy a file of " + directoryToClone);
+                ex.getCause().printStackTrace();
+            }
+        if (interrupted) Thread.currentThread().interrupt();
+        return !interrupted && !rejected.get();
     }
 
-    private static void copy(File file, Path targetPath) {
-        try {
-            if (!targetPath.getParent().toFile().exists()) targetPath.getParent().toFile().mkdirs();
-
-            if (file.isDirectory()) {
-                if (!targetPath.toFile().exists())
-                    targetPath.toFile().mkdirs();
-                for (File child : file.listFiles())
-                    copy(child, Paths.get(targetPath.toString() + File.separatorChar + child.getName()));
-            } else
-                Files.copy(file.toPath(), targetPath, StandardCopyOption.REPLACE_EXISTING);
+    private static void copy(Path file, Path targetPath) {
+        if (file.getFileName().toString().endsWith(".mca")) {
+            //Instances use a void generator, so a region file without chunks is the same as no region file at all
+            if (isEmptyRegionFile(file)) return;
+            if (reflinkSupported && reflink(file, targetPath)) return;
+        }
+        try (FileChannel in = FileChannel.open(file, StandardOpenOption.READ);
+             FileChannel out = FileChannel.open(targetPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            long size = in.size();
+            long position = 0;
+            //transferTo can stop early, so it has to be called until everything is through
+            while (position < size)
+                position += in.transferTo(position, size - position, out);
         } catch (Exception ex) {
             Logger.warn("Failed to copy file " + file.toString() + " to " + targetPath.toString());
             ex.printStackTrace();
         }
     }
 
+    /**
+     * Region files start with a table of where each of their 1024 chunks is stored, which is all zeroes for chunks that
+     * were never saved.
+     */
+    private static boolean isEmptyRegionFile(Path file) {
+        try (FileChannel in = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (in.size() < REGION_HEADER_BYTES) return true;
+            ByteBuffer header = ByteBuffer.allocate(REGION_HEADER_BYTES);
+            while (header.hasRemaining())
+                if (in.read(header) < 0) break;
+            header.flip();
+            while (header.remaining() >= Long.BYTES)
+                if (header.getLong() != 0) return false;
+            return true;
+        } catch (IOException ex) {
+            //Copying it is the safe option
+            return false;
+        }
+    }
+
+    /**
+     * Copies region files as copy-on-write clones on filesystems that support it, such as btrfs and XFS. The instance
+     * then shares the blueprint's data on disk and only the parts of the region files that get written to take up new
+     * space.
+     *
+     * @return Whether the clone worked
+     */
+    private static boolean reflink(Path file, Path targetPath) {
+        try {
+            Process process = new ProcessBuilder("cp", "--reflink=always", file.toString(), targetPath.toString())
+                    .redirectErrorStream(true)
+                    .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                    .start();
+            if (process.waitFor() == 0) return true;
+        } catch (IOException ex) {
+            //No cp to run, fall through
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+        if (reflinkSupported) {
+            reflinkSupported = false;
+            Logger.info("The server's filesystem doesn't support copy-on-write clones, dungeon worlds will be fully copied instead.");
+        }
+        return false;
+    }
+
+    private static synchronized ExecutorService getCopyExecutor() {
+        if (copyExecutor == null) {
+            AtomicInteger threadCount = new AtomicInteger();
+            copyExecutor = Executors.newFixedThreadPool(COPY_THREADS, runnable -> {
+                Thread thread = new Thread(runnable, "EliteMobs-WorldCopy-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return copyExecutor;
+    }
+
     public static void recursivelyDelete(File file) {
         if (!file.exists()) {
             Logger.info("Attempted to recursively file " + file.getAbsolutePath() + " which doesn't exist.");
             return;
         }
-        if (file.isDirectory()) {
-            for (File subFile : file.listFiles())
-                recursivelyDelete(subFile);
-            file.delete();
-        } else file.delete();
+        try {
+            Files.walkFileTree(file.toPath(), new SimpleFileVisitor<>() {
+                @Override
+                public FileVisitResult visitFile(Path path, BasicFileAttributes attributes) throws IOException {
+                    Files.deleteIfExists(path);
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult postVisitDirectory(Path directory, IOException exception) throws IOException {
+                    Files.deleteIfExists(directory);
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch (IOException ex) {
+            Logger.warn("Failed to delete " + file.getAbsolutePath());
+            ex.printStackTrace();
+        }
+    }
+
+    /**
+     * Deletes a world folder off the main thread. Deletions requested close together get done by the same task.
+     *
+     * @param file World folder to delete
+     */
+    public static void queueDeletion(File file) {
+        //Nothing can be scheduled while the plugin is disabled
+        if (!MetadataHandler.PLUGIN.isEnabled()) {
+            if (file.exists()) recursivelyDelete(file);
+            return;
+        }
+        pendingDeletions.add(file);
+        if (!deletionScheduled.compareAndSet(false, true)) return;
+        Bukkit.getScheduler().runTaskLaterAsynchronously(MetadataHandler.PLUGIN, WorldInstantiator::processDeletions, 20L);
+    }
+
+    private static void processDeletions() {
+        deletionScheduled.set(false);
+        File file;
+        while ((file = pendingDeletions.poll()) != null) {
+            if (file.exists()) recursivelyDelete(file);
+            releaseWorldName(file.getName());
+        }
     }
 
-    public static String getNewWorldName(String blueprintWorldName) {
-        List<String> worldNames = new ArrayList<>();
+    public static void shutdown() {
+        //The plugin is going down, so whatever is left gets deleted right away
+        processDeletions();
+        synchronized (WorldInstantiator.class) {
+            if (copyExecutor != null) copyExecutor.shutdown();
+            copyExecutor = null;
+            reservedWorldNames.clear();
+        }
+    }
+
+    public static synchronized String getNewWorldName(String blueprintWorldName) {
+        //Once the folder exists it shows up in the world container on its own
+        reservedWorldNames.removeIf(reservedName -> new File(Bukkit.getWorldContainer(), reservedName).exists());
+        List<String> worldNames = new ArrayList<>(reservedWorldNames);
         Bukkit.getWorlds().forEach(world -> worldNames.add(world.getName()));
         for (File file : Bukkit.getWorldContainer().listFiles()) worldNames.add(file.getName());
         int highestNumber = 0;
@@ -86,6 +267,12 @@ public class WorldInstantiator {
             }
         }
         highestNumber++;
-        return blueprintWorldName + "_" + highestNumber;
+        String worldName = blueprintWorldName + "_" + highestNumber;
+        reservedWorldNames.add(worldName);
+        return worldName;
+    }
+
+    private static synchronized void releaseWorldName(String worldName) {
+        reservedWorldNames.remove(worldName);
     }
 }
@@ -3,9 +3,9 @@ package com.magmaguy.elitemobs.utils.shapes;
 import org.bukkit.Location;
 import org.bukkit.Particle;
 import org.bukkit.entity.LivingEntity;
+import org.bukkit.util.BoundingBox;
 import org.bukkit.util.Vector;
 
-import java.util.ArrayList;
 import java.util.List;
 
 public class Cone extends Shape {
@@ -33,13 +33,6 @@ public class Cone extends Shape {
         this.borderRadius = borderRadius;
     }
 
-    /**
-     * Returns the axis vector from the top (apex) to the bottom (base center).
-     */
-    private Vector getAxis() {
-        return bottom.toVector().subtract(top.toVector());
-    }
-
     /**
      * Checks whether a given location is inside the cone.
      *
@@ -55,22 +48,29 @@ public class Cone extends Shape {
         if (!position.getWorld().equals(top.getWorld()))
             return false;
 
-        Vector apex = top.toVector();
-        Vector axis = getAxis();
-        Vector p = position.toVector().subtract(apex);
-        double axisLengthSquared = axis.lengthSquared();
+        return contains(position.getX() - top.getX(), position.getY() - top.getY(), position.getZ() - top.getZ(),
+                bottom.getX() - top.getX(), bottom.getY() - top.getY(), bottom.getZ() - top.getZ(), baseRadius);
+    }
+
+    /**
+     * Same check as {@link #contains(Location)} on plain coordinates, the position being relative to the apex and the
+     * axis going from the apex to the center of the base.
+     */
+    static boolean contains(double x, double y, double z, double axisX, double axisY, double axisZ, double baseRadius) {
+        double axisLengthSquared = axisX * axisX + axisY * axisY + axisZ * axisZ;
 
         // Determine how far along the axis the point lies.
-        double t = p.dot(axis) / axisLengthSquared;
+        double t = (x * axisX + y * axisY + z * axisZ) / axisLengthSquared;
         if (t < 0 || t > 1) {
             return false; // Outside the cone’s height range.
         }
 
-        // Find the point on the axis that is closest to our position.
-        Vector projection = axis.clone().multiply(t);
-        double distanceSquared = p.subtract(projection).lengthSquared();
+        // Distance to the point on the axis that is closest to our position.
+        double dX = x - axisX * t;
+        double dY = y - axisY * t;
+        double dZ = z - axisZ * t;
         double allowedRadius = t * baseRadius;
-        return distanceSquared <= allowedRadius * allowedRadius;
+        return dX * dX + dY * dY + dZ * dZ <= allowedRadius * allowedRadius;
     }
 
     /**
@@ -87,9 +87,10 @@ public class Cone extends Shape {
      */
     @Override
     public boolean borderContains(Location position) {
-        // Create an inner cone with a smaller base radius.
-        Cone innerCone = new Cone(top, bottom, borderRadius, borderRadius);
-        return contains(position) && !innerCone.contains(position);
+        // Inside the cone but not inside the inner cone with a smaller base radius.
+        return contains(position) &&
+                !contains(position.getX() - top.getX(), position.getY() - top.getY(), position.getZ() - top.getZ(),
+                        bottom.getX() - top.getX(), bottom.getY() - top.getY(), bottom.getZ() - top.getZ(), borderRadius);
     }
 
     /**
@@ -116,43 +117,29 @@ public class Cone extends Shape {
     @Override
     public List<Location> getEdgeLocations() {
         if (edgeLocations != null) return edgeLocations;
-        edgeLocations = new ArrayList<>();
-        for (Location loc : getLocations()) {
-            if (borderContains(loc)) {
-                edgeLocations.add(loc);
-            }
-        }
+        edgeLocations = getGeometry().toEdgeLocations(top.getWorld(), Math.floor(top.getX()), Math.floor(top.getY()), Math.floor(top.getZ()));
         return edgeLocations;
     }
 
     /**
      * Returns all the locations inside the cone.
-     * We calculate a bounding box that conservatively contains the cone, then test each point.
+     * The block offsets are shared by every cone with the same orientation, see {@link ShapeGeometryCache}.
      */
     @Override
     public List<Location> getLocations() {
         if (locationList != null) return locationList;
-        locationList = new ArrayList<>();
-
-        // Correctly calculate the bounding box by expanding all coordinates with baseRadius
-        double minX = Math.min(top.getX(), bottom.getX()) - baseRadius;
-        double maxX = Math.max(top.getX(), bottom.getX()) + baseRadius;
-        double minY = Math.min(top.getY(), bottom.getY()) - baseRadius;
-        double maxY = Math.max(top.getY(), bottom.getY()) + baseRadius;
-        double minZ = Math.min(top.getZ(), bottom.getZ()) - baseRadius;
-        double maxZ = Math.max(top.getZ(), bottom.getZ()) + baseRadius;
-
-        // Iterate through the corrected bounding box
-        for (double x = Math.floor(minX); x <= Math.ceil(maxX); x++) {
-            for (double y = Math.floor(minY); y <= Math.ceil(maxY); y++) {
-                for (double z = Math.floor(minZ); z <= Math.ceil(maxZ); z++) {
-                    Location testLoc = new Location(top.getWorld(), x, y, z);
-                    if (contains(testLoc)) {
-                        locationList.add(testLoc);
-                    }
-                }
-            }
-        }
+        locationList = getGeometry().toLocations(top.getWorld(), Math.floor(top.getX()), Math.floor(top.getY()), Math.floor(top.getZ()));
         return locationList;
     }
+
+    @Override
+    public BoundingBox getBoundingBox() {
+        return new BoundingBox(top.getX(), top.getY(), top.getZ(), bottom.getX(), bottom.getY(), bottom.getZ()).expand(baseRadius);
+    }
+
+    private ShapeGeometryCache.Geometry getGeometry() {
+        return ShapeGeometryCache.getCone(top.getX(), top.getY(), top.getZ(),
+                bottom.getX() - top.getX(), bottom.getY() - top.getY(), bottom.getZ() - top.getZ(),
+                baseRadius, borderRadius);
+    }
 }
@@ -4,11 +4,8 @@ import org.bukkit.Location;
 import org.bukkit.Particle;
 import org.bukkit.entity.LivingEntity;
 import org.bukkit.util.BoundingBox;
-import org.bukkit.util.Vector;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 public class Cuboid extends Shape {
     private final Float x;
@@ -16,8 +13,6 @@ public class Cuboid extends Shape {
     private final Float xBorder;
     private final Float yBorder;
     private Location centerLocation = null;
-    private List<Vector> locationVectors = null;
-    private List<Vector> edgeVectors = null;
     private Float z;
     private Float zBorder;
 
@@ -35,10 +30,9 @@ public class Cuboid extends Shape {
 
     @Override
     public boolean contains(Location position) {
-        Vector localVector = position.clone().subtract(centerLocation).toVector();
-        if (Math.abs(localVector.getX()) > x) return false;
-        if (Math.abs(localVector.getY()) > y) return false;
-        return !(Math.abs(localVector.getZ()) > z);
+        if (Math.abs(position.getX() - centerLocation.getX()) > x) return false;
+        if (Math.abs(position.getY() - centerLocation.getY()) > y) return false;
+        return !(Math.abs(position.getZ() - centerLocation.getZ()) > z);
     }
 
     @Override
@@ -51,10 +45,12 @@ public class Cuboid extends Shape {
 
     @Override
     public boolean borderContains(Location position) {
-        Vector localVector = position.clone().subtract(centerLocation).toVector();
-        if (!(Math.abs(localVector.getX()) <= x / 2D && Math.abs(localVector.getX()) >= xBorder / 2D ||
-                Math.abs(localVector.getZ()) <= z / 2D && Math.abs(localVector.getZ()) >= zBorder / 2D)) return false;
-        return !(y > 0) || !(Math.abs(localVector.getY()) <= y) || !(Math.abs(localVector.getY()) >= yBorder);
+        double localX = Math.abs(position.getX() - centerLocation.getX());
+        double localY = Math.abs(position.getY() - centerLocation.getY());
+        double localZ = Math.abs(position.getZ() - centerLocation.getZ());
+        if (!(localX <= x / 2D && localX >= xBorder / 2D ||
+                localZ <= z / 2D && localZ >= zBorder / 2D)) return false;
+        return !(y > 0) || !(localY <= y) || !(localY >= yBorder);
     }
 
     @Override
@@ -69,39 +65,24 @@ public class Cuboid extends Shape {
 
     @Override
     public List<Location> getEdgeLocations() {
-        return convert(getEdgeVectors());
+        return getGeometry().toEdgeLocations(centerLocation);
     }
 
-    public List<Vector> getEdgeVectors() {
-        if (edgeVectors != null) return edgeVectors;
-        edgeVectors = new ArrayList<>();
-        for (Vector vector : getLocationVectors())
-            if (vector.getY() <= yBorder &&
-                    (Math.abs(vector.getX()) >= Math.floor(xBorder / 2d) || Math.abs(vector.getZ()) >= Math.floor(zBorder / 2d)))
-                edgeVectors.add(vector);
-        return edgeVectors;
-    }
-
-    private List<Vector> getLocationVectors() {
-        if (locationVectors != null) return locationVectors;
-        locationVectors = new ArrayList<>();
-        Float xHalf = (float) Math.floor(x / 2f);
-        Float zHalf = (float) Math.floor(z / 2f);
-        for (int localX = 0; localX < x; localX++)
-            for (int localZ = 0; localZ < z; localZ++)
-                for (int localY = 0; localY < y; localY++)
-                    locationVectors.add(new Vector(localX - xHalf, localY, localZ - zHalf));
-
-        return locationVectors;
+    private ShapeGeometryCache.Geometry getGeometry() {
+        return ShapeGeometryCache.getCuboid(x, y, z, xBorder, yBorder, zBorder);
     }
 
     @Override
     public List<Location> getLocations() {
-        return convert(getLocationVectors());
+        return getGeometry().toLocations(centerLocation);
     }
 
-    private List<Location> convert(List<Vector> vectors) {
-        return vectors.stream().map(edge -> centerLocation.clone().add(edge)).collect(Collectors.toList());
+    //Covers both the location check, which uses the full sizes as half-sizes, and the block-snapped entity check
+    @Override
+    public BoundingBox getBoundingBox() {
+        double halfX = x + 1, halfY = y + 1, halfZ = z + 1;
+        return new BoundingBox(centerLocation.getX() - halfX, centerLocation.getY() - halfY, centerLocation.getZ() - halfZ,
+                centerLocation.getX() + halfX, centerLocation.getY() + halfY, centerLocation.getZ() + halfZ);
     }
 
 }
@@ -6,19 +6,15 @@ import org.bukkit.entity.LivingEntity;
 import org.bukkit.util.BoundingBox;
 import org.bukkit.util.Vector;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 public class Cylinder extends Shape {
 
     private final Vector center;
     private final double radius;
     private final double height;
-    private final List<Vector> edgeVectors = null;
     private double borderRadius = 1;
     private Location centerLocation = null;
-    private List<Vector> locationVectors = null;
 
     public Cylinder(Location centerLocation, double radius, double height, double borderRadius) {
         this.centerLocation = centerLocation.clone();
@@ -41,8 +37,10 @@ public class Cylinder extends Shape {
     }
 
     public boolean borderContains(Location position) {
-        Cylinder innerCylinder = new Cylinder(centerLocation, borderRadius, height, borderRadius);
-        return contains(position) && !innerCylinder.contains(position);
+        //Inside the cylinder but outside the inner cylinder of the border radius
+        double dX = position.getX() - center.getX();
+        double dZ = position.getZ() - center.getZ();
+        return contains(position) && dX * dX + dZ * dZ >= borderRadius * borderRadius;
     }
 
     public boolean contains(Location position) {
@@ -81,37 +79,18 @@ public class Cylinder extends Shape {
 
     @Override
     public List<Location> getEdgeLocations() {
-        if (edgeVectors != null) return convert(edgeVectors);
-        List<Location> edgeLocations = new ArrayList<>();
-        getLocations().forEach(iteratedLocation -> {
-            if (borderContains(iteratedLocation))
-                edgeLocations.add(iteratedLocation);
-        });
-        return edgeLocations;
-    }
-
-    private List<Vector> getLocationVectors() {
-        if (locationVectors != null) return locationVectors;
-        locationVectors = new ArrayList<>();
-        for (int x = (int) -radius; x < (int) radius; x++)
-            for (int z = (int) -radius; z < (int) radius; z++)
-                for (int y = 0; y < height; y++) {
-                    Vector newVector = new Vector(x, y, z);
-                    Location newLocation = centerLocation.clone().add(newVector);
-                    if (contains(newLocation)) locationVectors.add(newVector);
-                }
-        return locationVectors;
+        return ShapeGeometryCache.getCylinder(radius, height, borderRadius).toEdgeLocations(centerLocation);
     }
 
     @Override
     public List<Location> getLocations() {
-        if (locationVectors != null) return convert(locationVectors);
-        return convert(getLocationVectors());
+        return ShapeGeometryCache.getCylinder(radius, height, borderRadius).toLocations(centerLocation);
     }
 
-    private List<Location> convert(List<Vector> vectors) {
-        return vectors.stream().map(edge -> centerLocation.clone().add(edge)).collect(Collectors.toList());
+    @Override
+    public BoundingBox getBoundingBox() {
+        return new BoundingBox(center.getX() - radius, center.getY(), center.getZ() - radius,
+                center.getX() + radius, center.getY() + height, center.getZ() + radius);
     }
 
 }
-
@@ -1,10 +1,7 @@
 package com.magmaguy.elitemobs.utils.shapes;
 
 import org.bukkit.Location;
-import org.bukkit.util.Vector;
-
-import java.util.ArrayList;
-import java.util.List;
+import org.bukkit.util.BoundingBox;
 
 public class Dome extends Sphere {
     public Dome(double radius, Location centerLocation, double borderRadius) {
@@ -22,16 +19,13 @@ public class Dome extends Sphere {
     }
 
     @Override
-    protected List<Vector> getLocationVectors() {
-        if (locationVectors != null) return locationVectors;
-        locationVectors = new ArrayList<>();
-        for (int x = (int) -radius; x < (int) radius; x++)
-            for (int z = (int) -radius; z < (int) radius; z++)
-                for (int y = 0; y < radius; y++) {
-                    Vector newVector = new Vector(x, y, z);
-                    Location newLocation = centerLocation.clone().add(newVector);
-                    if (contains(newLocation)) locationVectors.add(newVector);
-                }
-        return locationVectors;
+    public BoundingBox getBoundingBox() {
+        return new BoundingBox(centerLocation.getX() - radius, centerLocation.getY() - 1, centerLocation.getZ() - radius,
+                centerLocation.getX() + radius, centerLocation.getY() + radius, centerLocation.getZ() + radius);
+    }
+
+    @Override
+    protected ShapeGeometryCache.Geometry getGeometry() {
+        return ShapeGeometryCache.getDome(radius, borderRadius);
     }
 }
@@ -2,8 +2,9 @@ package com.magmaguy.elitemobs.utils.shapes;
 
 import org.bukkit.Location;
 import org.bukkit.Particle;
+import org.bukkit.World;
 import org.bukkit.entity.LivingEntity;
-import org.bukkit.util.Vector;
+import org.bukkit.util.BoundingBox;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -14,9 +15,12 @@ public class Ray extends Shape {
     protected double thickness;
     protected Location centerLocation;
     protected Location initialTargetLocation;
-    protected List<Location> locations = new ArrayList<>();
+    //Points of the ray as x, y, z triplets, replaced as a whole whenever the ray gets redrawn
+    protected double[] points = new double[0];
+    protected World world;
     protected Location currentSource;
     protected Location currentTarget;
+    private List<Location> locations = null;
 
     public Ray(boolean ignoresSolidBlocks, double pointRadius, Location centerLocation, Location initialTargetLocation) {
         this.ignoresSolidBlocks = ignoresSolidBlocks;
@@ -25,46 +29,70 @@ public class Ray extends Shape {
         this.initialTargetLocation = initialTargetLocation;
         this.currentSource = centerLocation;
         this.currentTarget = initialTargetLocation;
+        this.world = centerLocation.getWorld();
     }
 
-    protected List<Location> drawLine(Location location1, Location location2) {
+    protected void drawLine(Location location1, Location location2) {
         currentSource = location1;
         currentTarget = location2;
-        List<Location> locations = new ArrayList<>();
-        Vector raySegment = location2.clone().subtract(location1).toVector().normalize().multiply(thickness);
-        Location currentLocation = location1.clone();
-        locations.add(location1);
+        double stepX = location2.getX() - location1.getX();
+        double stepY = location2.getY() - location1.getY();
+        double stepZ = location2.getZ() - location1.getZ();
+        double stepScale = thickness / Math.sqrt(stepX * stepX + stepY * stepY + stepZ * stepZ);
+        stepX *= stepScale;
+        stepY *= stepScale;
+        stepZ *= stepScale;
+        double thicknessSquared = thickness * thickness;
+        double x = location1.getX(), y = location1.getY(), z = location1.getZ();
+        PointBuffer pointBuffer = new PointBuffer();
+        pointBuffer.add(x, y, z);
         for (int i = 0; i < maxDistance; i++) {
-            if (currentLocation.distanceSquared(location2) < Math.pow(thickness, 2)) break;
-            currentLocation.add(raySegment);
-            if (!ignoresSolidBlocks && currentLocation.getBlock().getType().isSolid()) break;
-            locations.add(currentLocation.clone());
-            //currentLocation.getWorld().spawnParticle(Particle.SOUL_FIRE_FLAME, currentLocation, 1, 0,0,0,0);
+            double dX = location2.getX() - x, dY = location2.getY() - y, dZ = location2.getZ() - z;
+            if (dX * dX + dY * dY + dZ * dZ < thicknessSquared) break;
+            x += stepX;
+            y += stepY;
+            z += stepZ;
+            if (!ignoresSolidBlocks && isSolid(x, y, z)) break;
+            pointBuffer.add(x, y, z);
         }
-        return locations;
+        setPoints(pointBuffer.toArray());
+    }
+
+    protected boolean isSolid(double x, double y, double z) {
+        return world.getBlockAt((int) Math.floor(x), (int) Math.floor(y), (int) Math.floor(z)).getType().isSolid();
+    }
+
+    protected void setPoints(double[] points) {
+        this.points = points;
+        this.locations = null;
     }
 
     //Children override this
     @Override
     public boolean contains(Location position) {
-        for (Location location : locations)
-            if (location.distanceSquared(position) < Math.pow(thickness, 2)) return true;
+        double[] points = this.points;
+        double thicknessSquared = thickness * thickness;
+        double x = position.getX(), y = position.getY(), z = position.getZ();
+        for (int i = 0; i < points.length; i += 3) {
+            double dX = points[i] - x, dY = points[i + 1] - y, dZ = points[i + 2] - z;
+            if (dX * dX + dY * dY + dZ * dZ < thicknessSquared) return true;
+        }
         return false;
     }
 
     @Override
     public boolean contains(LivingEntity livingEntity) {
-        for (Location location : locations){
+        double[] points = this.points;
+        BoundingBox boundingBox = livingEntity.getBoundingBox();
+        double thicknessSquared = thickness * thickness;
+        for (int i = 0; i < points.length; i += 3) {
             // Find the closest point on the AABB to the sphere center
-            double closestX = clamp(location.getX(), livingEntity.getBoundingBox().getMinX(), livingEntity.getBoundingBox().getMaxX());
-            double closestY = clamp(location.getY(), livingEntity.getBoundingBox().getMinY(), livingEntity.getBoundingBox().getMaxY());
-            double closestZ = clamp(location.getZ(), livingEntity.getBoundingBox().getMinZ(), livingEntity.getBoundingBox().getMaxZ());
+            double dX = points[i] - clamp(points[i], boundingBox.getMinX(), boundingBox.getMaxX());
+            double dY = points[i + 1] - clamp(points[i + 1], boundingBox.getMinY(), boundingBox.getMaxY());
+            double dZ = points[i + 2] - clamp(points[i + 2], boundingBox.getMinZ(), boundingBox.getMaxZ());
 
-            // Compute the distance from the sphere center to this closest point
-            double distanceSquared = location.distanceSquared(new Location(location.getWorld(),closestX, closestY, closestZ));
-
-            // Check if the distance is less than or equal to the radius squared
-            if  (distanceSquared <= (thickness * thickness)) return true;
+            // Check if the distance from the sphere center to this closest point is less than or equal to the radius
+            if (dX * dX + dY * dY + dZ * dZ <= thicknessSquared) return true;
         }
         return false;
     }
@@ -102,7 +130,54 @@ public class Ray extends Shape {
     //Children override this
     @Override
     public List<Location> getLocations() {
+        List<Location> locations = this.locations;
+        if (locations != null) return locations;
+        double[] points = this.points;
+        locations = new ArrayList<>(points.length / 3);
+        for (int i = 0; i < points.length; i += 3)
+            locations.add(new Location(world, points[i], points[i + 1], points[i + 2]));
+        this.locations = locations;
         return locations;
     }
 
+    @Override
+    public BoundingBox getBoundingBox() {
+        double[] points = this.points;
+        if (points.length == 0) return new BoundingBox(centerLocation.getX(), centerLocation.getY(), centerLocation.getZ(),
+                centerLocation.getX(), centerLocation.getY(), centerLocation.getZ());
+        double minX = points[0], minY = points[1], minZ = points[2];
+        double maxX = minX, maxY = minY, maxZ = minZ;
+        for (int i = 3; i < points.length; i += 3) {
+            minX = Math.min(minX, points[i]);
+            minY = Math.min(minY, points[i + 1]);
+            minZ = Math.min(minZ, points[i + 2]);
+            maxX = Math.max(maxX, points[i]);
+            maxY = Math.max(maxY, points[i + 1]);
+            maxZ = Math.max(maxZ, points[i + 2]);
+        }
+        return new BoundingBox(minX, minY, minZ, maxX, maxY, maxZ).expand(thickness);
+    }
+
+    protected static class PointBuffer {
+        private double[] values = new double[96];
+        private int size = 0;
+
+        protected void add(double x, double y, double z) {
+            if (size + 3 > values.length) {
+                double[] grown = new double[values.length * 2];
+                System.arraycopy(values, 0, grown, 0, size);
+                values = grown;
+            }
+            values[size++] = x;
+            values[size++] = y;
+            values[size++] = z;
+        }
+
+        protected double[] toArray() {
+            double[] array = new double[size];
+            System.arraycopy(values, 0, array, 0, size);
+            return array;
+        }
+    }
+
 }
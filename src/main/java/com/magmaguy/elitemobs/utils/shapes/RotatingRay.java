@@ -6,8 +6,6 @@ import org.bukkit.Location;
 import org.bukkit.scheduler.BukkitRunnable;
 import org.bukkit.util.Vector;
 
-import java.util.ArrayList;
-import java.util.List;
 
 public class RotatingRay extends Ray {
 
@@ -38,25 +36,29 @@ public class RotatingRay extends Ray {
             Vector perpendicularVector = raySegment.clone().rotateAroundY(Math.toRadians(90));
             raySegment.rotateAroundAxis(perpendicularVector, Math.toRadians(pitchPreRotation));
         }
-        locations = drawLine(originalCenterLocation, target2);
+        drawLine(originalCenterLocation, target2);
         distanceSquared = target.distanceSquared(target2);
         if (animationDuration > 0) startRotating(animationDuration, pitchRotation, yawRotation);
     }
 
     @Override
-    protected List<Location> drawLine(Location location1, Location location2) {
+    protected void drawLine(Location location1, Location location2) {
         currentSource = location1;
         currentTarget = location2;
-        List<Location> locations = new ArrayList<>();
-        Location currentLocation = originalCenterLocation.clone();
-        locations.add(originalCenterLocation);
+        double originX = originalCenterLocation.getX(), originY = originalCenterLocation.getY(), originZ = originalCenterLocation.getZ();
+        double x = originX, y = originY, z = originZ;
+        PointBuffer pointBuffer = new PointBuffer();
+        pointBuffer.add(x, y, z);
         for (int i = 0; i < maxDistance; i++) {
-            currentLocation.add(raySegment);
-            if (originalCenterLocation.distanceSquared(currentLocation) > distanceSquared) break;
-            if (!ignoresSolidBlocks && currentLocation.getBlock().getType().isSolid()) break;
-            locations.add(currentLocation.clone());
+            x += raySegment.getX();
+            y += raySegment.getY();
+            z += raySegment.getZ();
+            double dX = x - originX, dY = y - originY, dZ = z - originZ;
+            if (dX * dX + dY * dY + dZ * dZ > distanceSquared) break;
+            if (!ignoresSolidBlocks && isSolid(x, y, z)) break;
+            pointBuffer.add(x, y, z);
         }
-        return locations;
+        setPoints(pointBuffer.toArray());
     }
 
 
@@ -82,7 +84,7 @@ public class RotatingRay extends Ray {
                     raySegment.rotateAroundAxis(perpendicularVector, Math.toRadians(singleTickPitchRotation));
                 if (singleTickYawRotation > 0)
                     raySegment.rotateAroundY(Math.toRadians(singleTickYawRotation));
-                locations = drawLine(centerLocation,target2);
+                drawLine(centerLocation, target2);
             }
         }.runTaskTimer(MetadataHandler.PLUGIN, 1L, 1L);
     }
@@ -3,6 +3,7 @@ package com.magmaguy.elitemobs.utils.shapes;
 import org.bukkit.Location;
 import org.bukkit.Particle;
 import org.bukkit.entity.LivingEntity;
+import org.bukkit.util.BoundingBox;
 
 import java.util.List;
 
@@ -20,4 +21,10 @@ public abstract class Shape {
     public abstract List<Location> getEdgeLocations();
 
     public abstract List<Location> getLocations();
+
+    /**
+     * Axis-aligned box around the shape, used to only look for entities near the shape before running the exact
+     * contains checks.
+     */
+    public abstract BoundingBox getBoundingBox();
 }
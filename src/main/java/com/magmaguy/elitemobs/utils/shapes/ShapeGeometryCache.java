@@ -0,0 +1,211 @@
+package com.magmaguy.elitemobs.utils.shapes;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Block offsets of shapes, computed once per shape type and dimensions and shared by every shape with the same
+ * dimensions. Offsets are stored as flat x, y, z int triplets relative to the shape's anchor and only become
+ * {@link Location}s when a shape is asked for its locations.
+ */
+public class ShapeGeometryCache {
+    //Cones can still come in a lot of orientations, so the cache gets reset instead of growing forever
+    private static final int MAX_CACHED_GEOMETRIES = 1024;
+    private static final Map<Key, Geometry> geometries = new ConcurrentHashMap<>();
+
+    private ShapeGeometryCache() {
+    }
+
+    public static Geometry getSphere(double radius, double borderRadius) {
+        return get(new Key(Kind.SPHERE, radius, borderRadius, 0, 0, 0, 0, 0, 0), () -> buildSphere(radius, borderRadius, false));
+    }
+
+    public static Geometry getDome(double radius, double borderRadius) {
+        return get(new Key(Kind.DOME, radius, borderRadius, 0, 0, 0, 0, 0, 0), () -> buildSphere(radius, borderRadius, true));
+    }
+
+    public static Geometry getCylinder(double radius, double height, double borderRadius) {
+        return get(new Key(Kind.CYLINDER, radius, borderRadius, height, 0, 0, 0, 0, 0), () -> buildCylinder(radius, height, borderRadius));
+    }
+
+    public static Geometry getCuboid(float x, float y, float z, float xBorder, float yBorder, float zBorder) {
+        return get(new Key(Kind.CUBOID, x, y, z, xBorder, yBorder, zBorder, 0, 0), () -> buildCuboid(x, y, z, xBorder, yBorder, zBorder));
+    }
+
+    /**
+     * Cone offsets are relative to the block the apex is in, since the cone is sampled on the world's block grid. The
+     * key is the apex's exact place in its block and the exact axis, so a cached cone always covers the same blocks
+     * {@link Cone#contains} would. Cones cast from the same spot in the same direction, like most boss attacks, share
+     * their offsets.
+     */
+    public static Geometry getCone(double apexX, double apexY, double apexZ,
+                                   double axisX, double axisY, double axisZ,
+                                   double baseRadius, double borderRadius) {
+        double fractionX = apexX - Math.floor(apexX);
+        double fractionY = apexY - Math.floor(apexY);
+        double fractionZ = apexZ - Math.floor(apexZ);
+        return get(new Key(Kind.CONE, baseRadius, borderRadius, axisX, axisY, axisZ, fractionX, fractionY, fractionZ),
+                () -> buildCone(fractionX, fractionY, fractionZ, axisX, axisY, axisZ, baseRadius, borderRadius));
+    }
+
+    public static void clear() {
+        geometries.clear();
+    }
+
+    private static Geometry get(Key key, Supplier<Geometry> builder) {
+        Geometry geometry = geometries.get(key);
+        if (geometry != null) return geometry;
+        if (geometries.size() >= MAX_CACHED_GEOMETRIES) geometries.clear();
+        return geometries.computeIfAbsent(key, k -> builder.get());
+    }
+
+    private static Geometry buildSphere(double radius, double borderRadius, boolean dome) {
+        OffsetBuffer full = new OffsetBuffer();
+        OffsetBuffer edge = new OffsetBuffer();
+        double radiusSquared = radius * radius;
+        double borderRadiusSquared = borderRadius * borderRadius;
+        for (int x = (int) -radius; x < (int) radius; x++)
+            for (int z = (int) -radius; z < (int) radius; z++)
+                for (int y = dome ? 0 : (int) -radius; y < radius; y++) {
+                    double distanceSquared = x * x + y * y + z * z;
+                    if (distanceSquared >= radiusSquared) continue;
+                    full.add(x, y, z);
+                    if (distanceSquared >= borderRadiusSquared) edge.add(x, y, z);
+                }
+        return new Geometry(full.toArray(), edge.toArray());
+    }
+
+    private static Geometry buildCylinder(double radius, double height, double borderRadius) {
+        OffsetBuffer full = new OffsetBuffer();
+        OffsetBuffer edge = new OffsetBuffer();
+        double radiusSquared = radius * radius;
+        double borderRadiusSquared = borderRadius * borderRadius;
+        for (int x = (int) -radius; x < (int) radius; x++)
+            for (int z = (int) -radius; z < (int) radius; z++) {
+                double distanceSquared = x * x + z * z;
+                if (distanceSquared >= radiusSquared) continue;
+                boolean isEdge = distanceSquared >= borderRadiusSquared;
+                for (int y = 0; y < height; y++) {
+                    full.add(x, y, z);
+                    if (isEdge) edge.add(x, y, z);
+                }
+            }
+        return new Geometry(full.toArray(), edge.toArray());
+    }
+
+    private static Geometry buildCuboid(float x, float y, float z, float xBorder, float yBorder, float zBorder) {
+        OffsetBuffer full = new OffsetBuffer();
+        OffsetBuffer edge = new OffsetBuffer();
+        int xHalf = (int) Math.floor(x / 2f);
+        int zHalf = (int) Math.floor(z / 2f);
+        double xEdge = Math.floor(xBorder / 2d);
+        double zEdge = Math.floor(zBorder / 2d);
+        for (int localX = 0; localX < x; localX++)
+            for (int localZ = 0; localZ < z; localZ++)
+                for (int localY = 0; localY < y; localY++) {
+                    int offsetX = localX - xHalf;
+                    int offsetZ = localZ - zHalf;
+                    full.add(offsetX, localY, offsetZ);
+                    if (localY <= yBorder && (Math.abs(offsetX) >= xEdge || Math.abs(offsetZ) >= zEdge))
+                        edge.add(offsetX, localY, offsetZ);
+                }
+        return new Geometry(full.toArray(), edge.toArray());
+    }
+
+    private static Geometry buildCone(double fractionX, double fractionY, double fractionZ,
+                                      double axisX, double axisY, double axisZ,
+                                      double baseRadius, double borderRadius) {
+        OffsetBuffer full = new OffsetBuffer();
+        OffsetBuffer edge = new OffsetBuffer();
+        //Same conservative bounds the cone always sampled, relative to the apex block
+        int minX = (int) Math.floor(fractionX + Math.min(0, axisX) - baseRadius);
+        int maxX = (int) Math.ceil(fractionX + Math.max(0, axisX) + baseRadius);
+        int minY = (int) Math.floor(fractionY + Math.min(0, axisY) - baseRadius);
+        int maxY = (int) Math.ceil(fractionY + Math.max(0, axisY) + baseRadius);
+        int minZ = (int) Math.floor(fractionZ + Math.min(0, axisZ) - baseRadius);
+        int maxZ = (int) Math.ceil(fractionZ + Math.max(0, axisZ) + baseRadius);
+        for (int x = minX; x <= maxX; x++)
+            for (int y = minY; y <= maxY; y++)
+                for (int z = minZ; z <= maxZ; z++) {
+                    double relativeX = x - fractionX, relativeY = y - fractionY, relativeZ = z - fractionZ;
+                    if (!Cone.contains(relativeX, relativeY, relativeZ, axisX, axisY, axisZ, baseRadius)) continue;
+                    full.add(x, y, z);
+                    if (!Cone.contains(relativeX, relativeY, relativeZ, axisX, axisY, axisZ, borderRadius)) edge.add(x, y, z);
+                }
+        return new Geometry(full.toArray(), edge.toArray());
+    }
+
+    private enum Kind {
+        SPHERE, DOME, CYLINDER, CUBOID, CONE
+    }
+
+    private record Key(Kind kind, double a, double b, double c, double d, double e, double f, double g, double h) {
+    }
+
+    /**
+     * Shared, read-only offsets of a shape.
+     *
+     * @param offsets     Every block of the shape, as x, y, z triplets
+     * @param edgeOffsets Blocks of the shape's border, as x, y, z triplets
+     */
+    public record Geometry(int[] offsets, int[] edgeOffsets) {
+        public int size() {
+            return offsets.length / 3;
+        }
+
+        public int edgeSize() {
+            return edgeOffsets.length / 3;
+        }
+
+        public List<Location> toLocations(Location anchor) {
+            return translate(offsets, anchor.getWorld(), anchor.getX(), anchor.getY(), anchor.getZ(), anchor.getYaw(), anchor.getPitch());
+        }
+
+        public List<Location> toEdgeLocations(Location anchor) {
+            return translate(edgeOffsets, anchor.getWorld(), anchor.getX(), anchor.getY(), anchor.getZ(), anchor.getYaw(), anchor.getPitch());
+        }
+
+        public List<Location> toLocations(World world, double x, double y, double z) {
+            return translate(offsets, world, x, y, z, 0, 0);
+        }
+
+        public List<Location> toEdgeLocations(World world, double x, double y, double z) {
+            return translate(edgeOffsets, world, x, y, z, 0, 0);
+        }
+
+        private static List<Location> translate(int[] offsets, World world, double x, double y, double z, float yaw, float pitch) {
+            List<Location> locations = new ArrayList<>(offsets.length / 3);
+            for (int i = 0; i < offsets.length; i += 3)
+                locations.add(new Location(world, x + offsets[i], y + offsets[i + 1], z + offsets[i + 2], yaw, pitch));
+            return locations;
+        }
+    }
+
+    private static class OffsetBuffer {
+        private int[] values = new int[96];
+        private int size = 0;
+
+        private void add(int x, int y, int z) {
+            if (size + 3 > values.length) {
+                int[] grown = new int[values.length * 2];
+                System.arraycopy(values, 0, grown, 0, size);
+                values = grown;
+            }
+            values[size++] = x;
+            values[size++] = y;
+            values[size++] = z;
+        }
+
+        private int[] toArray() {
+            int[] array = new int[size];
+            System.arraycopy(values, 0, array, 0, size);
+            return array;
+        }
+    }
+}
@@ -3,17 +3,13 @@ package com.magmaguy.elitemobs.utils.shapes;
 import org.bukkit.Location;
 import org.bukkit.Particle;
 import org.bukkit.entity.LivingEntity;
-import org.bukkit.util.Vector;
+import org.bukkit.util.BoundingBox;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 public class Sphere extends Shape {
 
     protected double radius;
-    protected List<Vector> locationVectors = null;
-    protected List<Vector> edgeVectors = null;
     protected double borderRadius = 1;
     protected Location centerLocation;
 
@@ -30,16 +26,20 @@ public class Sphere extends Shape {
 
     @Override
     public boolean contains(LivingEntity livingEntity) {
-        double entityRadius = (livingEntity.getEyeLocation().getY() - livingEntity.getLocation().getY()) / 2D;
-        Location EntityCenterLocation = livingEntity.getLocation().add(new Vector(0, entityRadius, 0));
+        Location entityLocation = livingEntity.getLocation();
+        double entityRadius = livingEntity.getEyeHeight() / 2D;
+        double dX = entityLocation.getX() - centerLocation.getX();
+        double dY = entityLocation.getY() + entityRadius - centerLocation.getY();
+        double dZ = entityLocation.getZ() - centerLocation.getZ();
         double radiusSum = radius + entityRadius;
-        return EntityCenterLocation.distanceSquared(centerLocation) <= Math.pow(radiusSum, 2);
+        return dX * dX + dY * dY + dZ * dZ <= radiusSum * radiusSum;
     }
 
     @Override
     public boolean borderContains(Location position) {
-        Sphere innerSphere = new Sphere(borderRadius, centerLocation, borderRadius);
-        return contains(position) && !innerSphere.contains(position);
+        //Inside the sphere but outside the inner sphere of the border radius
+        double distanceSquared = centerLocation.distanceSquared(position);
+        return contains(position) && distanceSquared >= borderRadius * borderRadius;
     }
 
     @Override
@@ -54,35 +54,21 @@ public class Sphere extends Shape {
 
     @Override
     public List<Location> getEdgeLocations() {
-        if (edgeVectors != null) return convert(edgeVectors);
-        List<Location> edgeLocations = new ArrayList<>();
-        getLocations().forEach(iteratedLocation -> {
-            if (borderContains(iteratedLocation))
-                edgeLocations.add(iteratedLocation);
-        });
-        return edgeLocations;
+        return getGeometry().toEdgeLocations(centerLocation);
     }
 
-    protected List<Vector> getLocationVectors() {
-        if (locationVectors != null) return locationVectors;
-        locationVectors = new ArrayList<>();
-        for (int x = (int) -radius; x < (int) radius; x++)
-            for (int z = (int) -radius; z < (int) radius; z++)
-                for (int y = (int) -radius; y < radius; y++) {
-                    Vector newVector = new Vector(x, y, z);
-                    Location newLocation = centerLocation.clone().add(newVector);
-                    if (contains(newLocation)) locationVectors.add(newVector);
-                }
-        return locationVectors;
+    protected ShapeGeometryCache.Geometry getGeometry() {
+        return ShapeGeometryCache.getSphere(radius, borderRadius);
     }
 
     @Override
     public List<Location> getLocations() {
-        if (locationVectors != null) return convert(locationVectors);
-        return convert(getLocationVectors());
+        return getGeometry().toLocations(centerLocation);
     }
 
-    private List<Location> convert(List<Vector> vectors) {
-        return vectors.stream().map(edge -> centerLocation.clone().add(edge)).collect(Collectors.toList());
+    @Override
+    public BoundingBox getBoundingBox() {
+        return new BoundingBox(centerLocation.getX() - radius, centerLocation.getY() - radius, centerLocation.getZ() - radius,
+                centerLocation.getX() + radius, centerLocation.getY() + radius, centerLocation.getZ() + radius);
     }
 }
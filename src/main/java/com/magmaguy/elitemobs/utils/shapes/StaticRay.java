@@ -5,6 +5,6 @@ import org.bukkit.Location;
 public class StaticRay extends Ray {
     public StaticRay(boolean ignoresSolidBlocks, double pointRadius, Location centerLocation, Location initialTargetLocation) {
         super(ignoresSolidBlocks, pointRadius, centerLocation, initialTargetLocation);
-        locations = drawLine(centerLocation, initialTargetLocation);
+        drawLine(centerLocation, initialTargetLocation);
     }
 }
@@ -17,7 +17,7 @@ public class TranslatingRay extends Ray {
                           int animationDuration) {
         super(ignoresSolidBlocks, pointRadius, target, finalTarget);
         this.finalCenterLocation = finalTarget == null ? target : finalTarget;
-        locations = drawLine(target, target2);
+        drawLine(target, target2);
         startAnimation(target.clone(), finalCenterLocation.clone(), target2.clone(), finalTarget2.clone(), animationDuration);
     }
 
@@ -36,7 +36,7 @@ public class TranslatingRay extends Ray {
                     return;
                 }
                 counter++;
-                locations = drawLine(
+                drawLine(
                         Lerp.lerpLocation(startLocation1, endLocation1, counter / (double) animationDuration),
                         Lerp.lerpLocation(startLocation2, endLocation2, counter / (double) animationDuration));
             }
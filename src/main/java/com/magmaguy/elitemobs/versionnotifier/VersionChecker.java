@@ -71,7 +71,7 @@ public class VersionChecker {
     }
 
     private static void checkPluginVersion() {
-        TaskScheduler scheduler = new TaskScheduler(MetadataHandler.PLUGIN);
+        TaskScheduler scheduler = TaskScheduler.get(MetadataHandler.PLUGIN);
         scheduler.runAsync(() -> {
             String currentVersion = MetadataHandler.PLUGIN.getDescription().getVersion();
             boolean snapshot = false;
@@ -120,7 +120,7 @@ public class VersionChecker {
     }
 
     private static void checkContentVersion() {
-        TaskScheduler scheduler = new TaskScheduler(MetadataHandler.PLUGIN);
+        TaskScheduler scheduler = TaskScheduler.get(MetadataHandler.PLUGIN);
         scheduler.runAsync(() -> {
             try {
                 String remoteVersions = readStringFromURL("https://www.magmaguy.com/api/elitemobs_content");
@@ -209,7 +209,7 @@ public class VersionChecker {
                         " seconds (Attempt " + connectionRetryCount + "/" + MAX_RETRY_ATTEMPTS + ")");
 
                 // Schedule a retry after delay
-                TaskScheduler scheduler = new TaskScheduler(MetadataHandler.PLUGIN);
+                TaskScheduler scheduler = TaskScheduler.get(MetadataHandler.PLUGIN);
                 scheduler.runDelayedAsync(VersionChecker::checkContentVersion, 20L * RETRY_DELAY_SECONDS);
             } else {
                 Logger.warn("Failed to connect for " + checkType + " after " + MAX_RETRY_ATTEMPTS +
@@ -248,7 +248,7 @@ public class VersionChecker {
 
             if (!event.getPlayer().hasPermission("elitemobs.versionnotification")) return;
 
-            TaskScheduler scheduler = new TaskScheduler(MetadataHandler.PLUGIN);
+            TaskScheduler scheduler = TaskScheduler.get(MetadataHandler.PLUGIN);
             scheduler.runDelayedAsync(() -> {
                 if (!event.getPlayer().isOnline()) return;
 
@@ -5,11 +5,11 @@ import com.magmaguy.elitemobs.adventurersguild.GuildRank;
 import com.magmaguy.elitemobs.config.WormholesConfig;
 import com.magmaguy.elitemobs.economy.EconomyHandler;
 import com.magmaguy.elitemobs.quests.playercooldowns.PlayerQuestCooldowns;
+import com.magmaguy.elitemobs.utils.ProximityService;
 import com.magmaguy.magmacore.util.ChatColorConverter;
 import com.magmaguy.magmacore.util.ChunkLocationChecker;
 import lombok.Getter;
 import lombok.NonNull;
-import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.Sound;
 import org.bukkit.entity.Player;
@@ -33,6 +33,7 @@ public class WormholeManager {
     // Map to track players in cooldown with expiration timestamps
     @Getter
     private final Map<UUID, PlayerWormholeData> playerTeleportData = new HashMap<>();
+    private final Map<WormholeEntry, ProximityService.Subject> nearbyPlayers = new HashMap<>();
     private BukkitTask wormholeTask;
     private static final int TELEPORT_CHECK_INTERVAL = 5; // Check teleports every 5 ticks
     private int tickCounter = 0;
@@ -57,30 +58,15 @@ public class WormholeManager {
     }
 
     /**
-     * Gets players that are near a specific wormhole (within 30 blocks).
-     * Uses optimized distanceSquared check to avoid sqrt calculation.
+     * Gets players that are near a specific wormhole (within 30 blocks). The first call for a wormhole starts tracking
+     * it in the {@link ProximityService}, which keeps the list up to date from then on.
      *
      * @param wormholeEntry The wormhole entry to check
      * @return List of players within render distance, empty list if none
      */
     private List<Player> getNearbyPlayers(WormholeEntry wormholeEntry) {
-        List<Player> nearbyPlayers = new ArrayList<>();
-        Location wormholeLocation = wormholeEntry.getLocation();
-
-        if (wormholeLocation == null || wormholeLocation.getWorld() == null) {
-            return nearbyPlayers;
-        }
-
-        double maxDistanceSquared = PARTICLE_RENDER_DISTANCE * PARTICLE_RENDER_DISTANCE;
-
-        for (Player player : Bukkit.getOnlinePlayers()) {
-            if (player.getWorld().equals(wormholeLocation.getWorld()) &&
-                    player.getLocation().distanceSquared(wormholeLocation) <= maxDistanceSquared) {
-                nearbyPlayers.add(player);
-            }
-        }
-
-        return nearbyPlayers;
+        return nearbyPlayers.computeIfAbsent(wormholeEntry, entry -> ProximityService.register(
+                entry::getLocation, PARTICLE_RENDER_DISTANCE, null, null)).getPlayers();
     }
 
     /**
@@ -214,6 +200,8 @@ public class WormholeManager {
 
         // Clear player teleport data
         playerTeleportData.clear();
+        nearbyPlayers.values().forEach(ProximityService.Subject::remove);
+        nearbyPlayers.clear();
 
         // Reset singleton to allow clean restart
         instance = null;
@@ -249,7 +249,7 @@ public class ChunkManager {
             } catch (Exception e) {
                 if (retryCount.incrementAndGet() < maxRetries) {
                     // Retry after a short delay
-                    new TaskScheduler(plugin).runDelayedAsync(() -> {
+                    TaskScheduler.get(plugin).runDelayedAsync(() -> {
                         loadChunkInternal(world, x, z, future, retryCount, maxRetries);
                     }, 20); // 1 second delay
                 } else {
@@ -262,7 +262,7 @@ public class ChunkManager {
     
     private void runWorldChunkOperation(World world, Runnable operation) {
         try {
-            TaskScheduler scheduler = new TaskScheduler(plugin);
+            TaskScheduler scheduler = TaskScheduler.get(plugin);
             scheduler.runWorld(world, operation);
         } catch (Exception e) {
             plugin.getLogger().warning("Failed to run chunk operation on world: " + e.getMessage());
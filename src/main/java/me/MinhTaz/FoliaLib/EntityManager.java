@@ -174,7 +174,7 @@ public class EntityManager {
     private TaskScheduler.TaskWrapper runEntityTask(Entity entity, Runnable operation) {
         try {
             if (entity.isValid()) {
-                TaskScheduler scheduler = new TaskScheduler(plugin);
+                TaskScheduler scheduler = TaskScheduler.get(plugin);
                 return scheduler.runEntity(entity, operation);
             }
         } catch (Exception e) {
@@ -186,7 +186,7 @@ public class EntityManager {
     private TaskScheduler.TaskWrapper runPlayerTask(Player player, Runnable operation) {
         try {
             if (player.isOnline()) {
-                TaskScheduler scheduler = new TaskScheduler(plugin);
+                TaskScheduler scheduler = TaskScheduler.get(plugin);
                 return scheduler.runPlayer(player, operation);
             }
         } catch (Exception e) {
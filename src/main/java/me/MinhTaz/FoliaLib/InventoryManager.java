@@ -191,7 +191,7 @@ public class InventoryManager {
     private void runPlayerInventoryTask(Player player, Runnable operation) {
         try {
             if (player.isOnline()) {
-                TaskScheduler scheduler = new TaskScheduler(plugin);
+                TaskScheduler scheduler = TaskScheduler.get(plugin);
                 scheduler.runPlayer(player, operation);
             }
         } catch (Exception e) {
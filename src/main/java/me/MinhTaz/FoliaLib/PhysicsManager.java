@@ -105,7 +105,7 @@ public class PhysicsManager {
             runFoliaPhysicsTick(world, physicsOperation);
         } else {
             // Run on main server thread
-            new TaskScheduler(plugin).runWorld(world, physicsOperation);
+            TaskScheduler.get(plugin).runWorld(world, physicsOperation);
         }
     }
     
@@ -136,7 +136,7 @@ public class PhysicsManager {
     
     private void runFoliaPhysics(org.bukkit.World world, int duration, CompletableFuture<Void> future) {
         try {
-            TaskScheduler scheduler = new TaskScheduler(plugin);
+            TaskScheduler scheduler = TaskScheduler.get(plugin);
             scheduler.runWorld(world, () -> {
                 try {
                     // Simulate physics for specified duration (simplified)
@@ -163,7 +163,7 @@ public class PhysicsManager {
     
     private void runFoliaBlockPhysics(org.bukkit.Chunk chunk, CompletableFuture<Void> future) {
         try {
-            TaskScheduler scheduler = new TaskScheduler(plugin);
+            TaskScheduler scheduler = TaskScheduler.get(plugin);
             scheduler.runWorld(chunk.getWorld(), () -> {
                 try {
                     // Update physics for blocks in chunk (simplified)
@@ -182,7 +182,7 @@ public class PhysicsManager {
     
     private void runFoliaPhysicsCheck(org.bukkit.Location location, CompletableFuture<Boolean> future) {
         try {
-            TaskScheduler scheduler = new TaskScheduler(plugin);
+            TaskScheduler scheduler = TaskScheduler.get(plugin);
             scheduler.runWorld(location.getWorld(), () -> {
                 try {
                     // Check if block has physics (simplified check)
@@ -202,7 +202,7 @@ public class PhysicsManager {
     
     private void runFoliaGravity(org.bukkit.World world, org.bukkit.entity.Entity[] entities, CompletableFuture<Void> future) {
         try {
-            TaskScheduler scheduler = new TaskScheduler(plugin);
+            TaskScheduler scheduler = TaskScheduler.get(plugin);
             scheduler.runWorld(world, () -> {
                 try {
                     for (org.bukkit.entity.Entity entity : entities) {
@@ -225,7 +225,7 @@ public class PhysicsManager {
     
     private void runFoliaPhysicsTick(org.bukkit.World world, Runnable physicsOperation) {
         try {
-            TaskScheduler scheduler = new TaskScheduler(plugin);
+            TaskScheduler scheduler = TaskScheduler.get(plugin);
             scheduler.runWorld(world, physicsOperation);
         } catch (Exception e) {
             plugin.getLogger().warning("Failed to sync physics with tick on Folia: " + e.getMessage());
@@ -235,7 +235,7 @@ public class PhysicsManager {
     
     private void runFoliaPhysicsRegion(org.bukkit.World world, org.bukkit.Location location, CompletableFuture<PhysicsRegion> future) {
         try {
-            TaskScheduler scheduler = new TaskScheduler(plugin);
+            TaskScheduler scheduler = TaskScheduler.get(plugin);
             scheduler.runWorld(world, () -> {
                 try {
                     PhysicsRegion region = new PhysicsRegion(location, 16);
@@ -162,7 +162,7 @@ public class SoundManager {
     
     private void runFoliaSoundPlay(Location location, Sound sound, float volume, float pitch) {
         try {
-            TaskScheduler scheduler = new TaskScheduler(plugin);
+            TaskScheduler scheduler = TaskScheduler.get(plugin);
             scheduler.runWorld(location.getWorld(), () -> {
                 try {
                     location.getWorld().playSound(location, sound, SoundCategory.PLAYERS, volume, pitch);
@@ -177,7 +177,7 @@ public class SoundManager {
     
     private void runFoliaEntitySound(Entity entity, Sound sound, float volume, float pitch) {
         try {
-            TaskScheduler scheduler = new TaskScheduler(plugin);
+            TaskScheduler scheduler = TaskScheduler.get(plugin);
             scheduler.runEntity(entity, () -> {
                 try {
                     entity.getWorld().playSound(entity.getLocation(), sound, SoundCategory.PLAYERS, volume, pitch);
@@ -193,7 +193,7 @@ public class SoundManager {
     private void runFoliaPlayerSound(Player player, Sound sound, float volume, float pitch) {
         try {
             if (player.isOnline()) {
-                TaskScheduler scheduler = new TaskScheduler(plugin);
+                TaskScheduler scheduler = TaskScheduler.get(plugin);
                 scheduler.runPlayer(player, () -> {
                     try {
                         player.playSound(player.getLocation(), sound, SoundCategory.PLAYERS, volume, pitch);
@@ -209,7 +209,7 @@ public class SoundManager {
     
     private void runFoliaWorldSound(World world, Sound sound, Location location, float volume, float pitch) {
         try {
-            TaskScheduler scheduler = new TaskScheduler(plugin);
+            TaskScheduler scheduler = TaskScheduler.get(plugin);
             scheduler.runWorld(world, () -> {
                 try {
                     world.playSound(location, sound, SoundCategory.PLAYERS, volume, pitch);
@@ -224,7 +224,7 @@ public class SoundManager {
     
     private void runFoliaCustomSound(Location location, String soundName, float volume, float pitch, CompletableFuture<Void> future) {
         try {
-            TaskScheduler scheduler = new TaskScheduler(plugin);
+            TaskScheduler scheduler = TaskScheduler.get(plugin);
             scheduler.runWorld(location.getWorld(), () -> {
                 try {
                     Sound sound = Sound.valueOf(soundName.toUpperCase());
@@ -247,7 +247,7 @@ public class SoundManager {
     private void runFoliaStopAllSounds(Player player) {
         try {
             if (player.isOnline()) {
-                TaskScheduler scheduler = new TaskScheduler(plugin);
+                TaskScheduler scheduler = TaskScheduler.get(plugin);
                 scheduler.runPlayer(player, () -> {
                     try {
                         player.stopSound(SoundCategory.PLAYERS);
@@ -264,7 +264,7 @@ public class SoundManager {
     private void runFoliaStopSpecificSound(Player player, Sound sound) {
         try {
             if (player.isOnline()) {
-                TaskScheduler scheduler = new TaskScheduler(plugin);
+                TaskScheduler scheduler = TaskScheduler.get(plugin);
                 scheduler.runPlayer(player, () -> {
                     try {
                         player.stopSound(sound, SoundCategory.PLAYERS);
@@ -280,7 +280,7 @@ public class SoundManager {
     
     private void runFoliaGetSounds(CompletableFuture<List<String>> future) {
         try {
-            TaskScheduler scheduler = new TaskScheduler(plugin);
+            TaskScheduler scheduler = TaskScheduler.get(plugin);
             scheduler.runAsync(() -> {
                 try {
                     List<String> sounds = new ArrayList<>();
@@ -311,7 +311,7 @@ public class SoundManager {
         playSoundAtLocation(soundSeq.getLocation(), soundSeq.getSound(), soundSeq.getVolume(), soundSeq.getPitch());
         
         // Schedule next sound after delay
-        new TaskScheduler(plugin).runDelayedAsync(() -> {
+        TaskScheduler.get(plugin).runDelayedAsync(() -> {
             playSoundSequenceRecursive(sequence, index + 1, future);
         }, soundSeq.getDelay());
     }
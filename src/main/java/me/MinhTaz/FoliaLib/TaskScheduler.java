@@ -1,203 +1,314 @@
 package me.MinhTaz.FoliaLib;
 
 import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Player;
 import org.bukkit.plugin.Plugin;
-import org.bukkit.scheduler.BukkitRunnable;
-import org.bukkit.scheduler.BukkitScheduler;
 import org.bukkit.scheduler.BukkitTask;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
 /**
  * TaskScheduler - Folia API compatible scheduler
  * Developer: MinhTaz
  * This class provides Folia-compatible task scheduling with fallback support
+ * <p>
+ * There is one scheduler per plugin, get it with {@link #get(Plugin)}. Server detection and the lookup of the Folia
+ * scheduler methods happen once per server; scheduling a task afterwards only costs a direct method handle call.
  */
 public class TaskScheduler {
-    
+
+    //The async scheduler works in wall clock time rather than ticks
+    private static final long MILLIS_PER_TICK = 50L;
+    private static final ConcurrentHashMap<Plugin, TaskScheduler> instances = new ConcurrentHashMap<>();
+    private static volatile FoliaBindings foliaBindings = null;
+    private static volatile boolean foliaChecked = false;
+
     private final Plugin plugin;
-    private final boolean isFolia;
-    
-    public TaskScheduler(Plugin plugin) {
+    private final FoliaBindings folia;
+
+    private TaskScheduler(Plugin plugin) {
         this.plugin = plugin;
-        this.isFolia = isFoliaServer();
+        this.folia = getFoliaBindings();
     }
-    
+
     /**
-     * Check if running on Folia server
+     * Get the shared scheduler of a plugin
      */
-    private boolean isFoliaServer() {
-        try {
-            Class.forName("io.papermc.paper.threadedregions.scheduler.ScheduledTask");
-            return true;
-        } catch (ClassNotFoundException e) {
-            return false;
-        }
+    public static TaskScheduler get(Plugin plugin) {
+        TaskScheduler taskScheduler = instances.get(plugin);
+        if (taskScheduler != null) return taskScheduler;
+        return instances.computeIfAbsent(plugin, TaskScheduler::new);
     }
-    
+
+    /**
+     * Drop the shared scheduler of a plugin, for when it gets disabled
+     */
+    public static void release(Plugin plugin) {
+        instances.remove(plugin);
+    }
+
+    public boolean isFolia() {
+        return folia != null;
+    }
+
     /**
-     * Run task asynchronously on global region
+     * Run task asynchronously
      */
     public TaskWrapper runAsync(Runnable task) {
-        if (isFolia) {
-            return runFoliaAsync(task);
-        } else {
-            return runBukkitAsync(task);
+        if (folia != null) {
+            try {
+                return folia.wrap((Object) folia.asyncRunNow.invokeExact(folia.asyncScheduler, plugin, consumer(task)));
+            } catch (Throwable e) {
+                plugin.getLogger().warning("Failed to run Folia async task, falling back to Bukkit: " + e.getMessage());
+            }
         }
+        return runBukkitAsync(task);
     }
-    
+
     /**
      * Run task on specific world region
+     * On Folia a world is not owned by a single region, so this runs on the global region
      */
-    public TaskWrapper runWorld(org.bukkit.World world, Runnable task) {
-        if (isFolia) {
-            return runFoliaWorld(world, task);
+    public TaskWrapper runWorld(World world, Runnable task) {
+        if (folia != null) {
+            return runGlobal(task);
         } else {
             // Fallback to async for non-Folia
             return runBukkitAsync(task);
         }
     }
-    
+
     /**
      * Run task on specific entity region
      */
-    public TaskWrapper runEntity(org.bukkit.entity.Entity entity, Runnable task) {
-        if (isFolia) {
-            return runFoliaEntity(entity, task);
-        } else {
-            // Fallback to async for non-Folia
-            return runBukkitAsync(task);
+    public TaskWrapper runEntity(Entity entity, Runnable task) {
+        if (folia != null) {
+            try {
+                Object entityScheduler = (Object) folia.entityGetScheduler.invokeExact(entity);
+                Object foliaTask = (Object) folia.entityRun.invokeExact(entityScheduler, plugin, consumer(task), (Runnable) null);
+                //Null when the entity was already removed
+                if (foliaTask != null) return folia.wrap(foliaTask);
+                return CancelledTaskWrapper.INSTANCE;
+            } catch (Throwable e) {
+                plugin.getLogger().warning("Failed to run Folia entity task, falling back to async: " + e.getMessage());
+            }
         }
+        // Fallback to async for non-Folia
+        return runBukkitAsync(task);
     }
-    
+
     /**
      * Run task on specific player region
      */
-    public TaskWrapper runPlayer(org.bukkit.entity.Player player, Runnable task) {
-        if (isFolia) {
-            return runFoliaPlayer(player, task);
-        } else {
-            // Fallback to async for non-Folia
-            return runBukkitAsync(task);
-        }
+    public TaskWrapper runPlayer(Player player, Runnable task) {
+        return runEntity(player, task);
     }
-    
+
     /**
-     * Run delayed task on global region
+     * Run task on the global region on Folia, or on the main thread otherwise
      */
-    public TaskWrapper runDelayedAsync(Runnable task, long delay) {
-        if (isFolia) {
-            return runFoliaDelayedAsync(task, delay);
-        } else {
-            return runBukkitDelayedAsync(task, delay);
+    public TaskWrapper runGlobal(Runnable task) {
+        if (folia != null) {
+            try {
+                return folia.wrap((Object) folia.globalRun.invokeExact(folia.globalScheduler, plugin, consumer(task)));
+            } catch (Throwable e) {
+                plugin.getLogger().warning("Failed to run Folia global task: " + e.getMessage());
+                return CancelledTaskWrapper.INSTANCE;
+            }
         }
+        return new BukkitTaskWrapper(Bukkit.getScheduler().runTask(plugin, task));
     }
-    
+
     /**
-     * Run timer task on global region
+     * Run task on the region that owns the location on Folia, or on the main thread otherwise
      */
-    public TaskWrapper runTimerAsync(Runnable task, long delay, long period) {
-        if (isFolia) {
-            return runFoliaTimerAsync(task, delay, period);
-        } else {
-            return runBukkitTimerAsync(task, delay, period);
-        }
-    }
-    
-    // Folia implementations
-    private TaskWrapper runFoliaAsync(Runnable task) {
-        try {
-            Object scheduler = getFoliaScheduler();
-            Object foliaTask = scheduler.getClass().getMethod("run", Plugin.class, Runnable.class)
-                    .invoke(scheduler, plugin, task);
-            return new FoliaTaskWrapper(foliaTask);
-        } catch (Exception e) {
-            plugin.getLogger().warning("Failed to run Folia async task, falling back to Bukkit: " + e.getMessage());
-            return runBukkitAsync(task);
-        }
-    }
-    
-    private TaskWrapper runFoliaWorld(org.bukkit.World world, Runnable task) {
-        try {
-            Object scheduler = getFoliaScheduler();
-            Object foliaTask = scheduler.getClass().getMethod("run", org.bukkit.World.class, Plugin.class, Runnable.class)
-                    .invoke(scheduler, world, plugin, task);
-            return new FoliaTaskWrapper(foliaTask);
-        } catch (Exception e) {
-            plugin.getLogger().warning("Failed to run Folia world task, falling back to async: " + e.getMessage());
-            return runBukkitAsync(task);
+    public TaskWrapper runRegion(Location location, Runnable task) {
+        if (folia != null) {
+            try {
+                return folia.wrap((Object) folia.regionRun.invokeExact(folia.regionScheduler, plugin, location, consumer(task)));
+            } catch (Throwable e) {
+                plugin.getLogger().warning("Failed to run Folia region task: " + e.getMessage());
+                return CancelledTaskWrapper.INSTANCE;
+            }
         }
+        return new BukkitTaskWrapper(Bukkit.getScheduler().runTask(plugin, task));
     }
-    
-    private TaskWrapper runFoliaEntity(org.bukkit.entity.Entity entity, Runnable task) {
-        try {
-            Object scheduler = getFoliaScheduler();
-            Object foliaTask = scheduler.getClass().getMethod("runEntity", org.bukkit.entity.Entity.class, Plugin.class, Runnable.class)
-                    .invoke(scheduler, entity, plugin, task);
-            return new FoliaTaskWrapper(foliaTask);
-        } catch (Exception e) {
-            plugin.getLogger().warning("Failed to run Folia entity task, falling back to async: " + e.getMessage());
-            return runBukkitAsync(task);
+
+    /**
+     * Run delayed task on the region that owns the location on Folia, or on the main thread otherwise
+     */
+    public TaskWrapper runRegionDelayed(Location location, Runnable task, long delay) {
+        if (folia != null) {
+            try {
+                return folia.wrap((Object) folia.regionRunDelayed.invokeExact(folia.regionScheduler, plugin, location, consumer(task), Math.max(1L, delay)));
+            } catch (Throwable e) {
+                plugin.getLogger().warning("Failed to run Folia delayed region task: " + e.getMessage());
+                return CancelledTaskWrapper.INSTANCE;
+            }
         }
+        return new BukkitTaskWrapper(Bukkit.getScheduler().runTaskLater(plugin, task, delay));
     }
-    
-    private TaskWrapper runFoliaPlayer(org.bukkit.entity.Player player, Runnable task) {
-        try {
-            Object scheduler = getFoliaScheduler();
-            Object foliaTask = scheduler.getClass().getMethod("runPlayer", org.bukkit.entity.Player.class, Plugin.class, Runnable.class)
-                    .invoke(scheduler, player, plugin, task);
-            return new FoliaTaskWrapper(foliaTask);
-        } catch (Exception e) {
-            plugin.getLogger().warning("Failed to run Folia player task, falling back to async: " + e.getMessage());
-            return runBukkitAsync(task);
+
+    /**
+     * Run timer task on the region that owns the location on Folia, or on the main thread otherwise, delay and period in
+     * ticks
+     */
+    public TaskWrapper runRegionTimer(Location location, Runnable task, long delay, long period) {
+        if (folia != null) {
+            try {
+                return folia.wrap((Object) folia.regionRunAtFixedRate.invokeExact(folia.regionScheduler, plugin, location, consumer(task),
+                        Math.max(1L, delay), Math.max(1L, period)));
+            } catch (Throwable e) {
+                plugin.getLogger().warning("Failed to run Folia region timer task: " + e.getMessage());
+                return CancelledTaskWrapper.INSTANCE;
+            }
         }
+        return new BukkitTaskWrapper(Bukkit.getScheduler().runTaskTimer(plugin, task, delay, period));
     }
-    
-    private TaskWrapper runFoliaDelayedAsync(Runnable task, long delay) {
-        try {
-            Object scheduler = getFoliaScheduler();
-            Object foliaTask = scheduler.getClass().getMethod("runDelayed", Plugin.class, Runnable.class, long.class)
-                    .invoke(scheduler, plugin, task, delay);
-            return new FoliaTaskWrapper(foliaTask);
-        } catch (Exception e) {
-            plugin.getLogger().warning("Failed to run Folia delayed task, falling back to Bukkit: " + e.getMessage());
-            return runBukkitDelayedAsync(task, delay);
+
+    /**
+     * Run delayed task asynchronously, delay in ticks
+     */
+    public TaskWrapper runDelayedAsync(Runnable task, long delay) {
+        if (folia != null) {
+            try {
+                return folia.wrap((Object) folia.asyncRunDelayed.invokeExact(folia.asyncScheduler, plugin, consumer(task),
+                        Math.max(1L, delay) * MILLIS_PER_TICK, TimeUnit.MILLISECONDS));
+            } catch (Throwable e) {
+                plugin.getLogger().warning("Failed to run Folia delayed task, falling back to Bukkit: " + e.getMessage());
+            }
         }
+        return runBukkitDelayedAsync(task, delay);
     }
-    
-    private TaskWrapper runFoliaTimerAsync(Runnable task, long delay, long period) {
-        try {
-            Object scheduler = getFoliaScheduler();
-            Object foliaTask = scheduler.getClass().getMethod("runAtFixedRate", Plugin.class, Runnable.class, long.class, long.class)
-                    .invoke(scheduler, plugin, task, delay, period);
-            return new FoliaTaskWrapper(foliaTask);
-        } catch (Exception e) {
-            plugin.getLogger().warning("Failed to run Folia timer task, falling back to Bukkit: " + e.getMessage());
-            return runBukkitTimerAsync(task, delay, period);
+
+    /**
+     * Run timer task asynchronously, delay and period in ticks
+     */
+    public TaskWrapper runTimerAsync(Runnable task, long delay, long period) {
+        if (folia != null) {
+            try {
+                return folia.wrap((Object) folia.asyncRunAtFixedRate.invokeExact(folia.asyncScheduler, plugin, consumer(task),
+                        Math.max(1L, delay) * MILLIS_PER_TICK, Math.max(1L, period) * MILLIS_PER_TICK, TimeUnit.MILLISECONDS));
+            } catch (Throwable e) {
+                plugin.getLogger().warning("Failed to run Folia timer task, falling back to Bukkit: " + e.getMessage());
+            }
         }
+        return runBukkitTimerAsync(task, delay, period);
     }
-    
+
     // Bukkit fallback implementations
     private TaskWrapper runBukkitAsync(Runnable task) {
         return new BukkitTaskWrapper(Bukkit.getScheduler().runTaskAsynchronously(plugin, task));
     }
-    
+
     private TaskWrapper runBukkitDelayedAsync(Runnable task, long delay) {
         return new BukkitTaskWrapper(Bukkit.getScheduler().runTaskLaterAsynchronously(plugin, task, delay));
     }
-    
+
     private TaskWrapper runBukkitTimerAsync(Runnable task, long delay, long period) {
         return new BukkitTaskWrapper(Bukkit.getScheduler().runTaskTimerAsynchronously(plugin, task, delay, period));
     }
-    
-    private Object getFoliaScheduler() {
-        try {
-            Class<?> clazz = Class.forName("io.papermc.paper.threadedregions.scheduler.FoliaScheduler");
-            java.lang.reflect.Method method = clazz.getMethod("getGlobalRegionScheduler");
-            return method.invoke(null);
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to get Folia scheduler", e);
+
+    private static Consumer<Object> consumer(Runnable task) {
+        return scheduledTask -> task.run();
+    }
+
+    private static FoliaBindings getFoliaBindings() {
+        if (foliaChecked) return foliaBindings;
+        synchronized (TaskScheduler.class) {
+            if (foliaChecked) return foliaBindings;
+            try {
+                Class.forName("io.papermc.paper.threadedregions.RegionizedServer");
+                foliaBindings = new FoliaBindings();
+            } catch (ClassNotFoundException e) {
+                foliaBindings = null;
+            } catch (Throwable e) {
+                Bukkit.getLogger().warning("Failed to bind the Folia schedulers, falling back to Bukkit: " + e.getMessage());
+                foliaBindings = null;
+            }
+            foliaChecked = true;
+            return foliaBindings;
         }
     }
-    
+
+    /**
+     * Folia scheduler methods, looked up once. Every handle is adapted to take and return plain Objects so it can be
+     * called with invokeExact without the Folia classes being present at compile time.
+     */
+    private static class FoliaBindings {
+        private final Object globalScheduler;
+        private final Object regionScheduler;
+        private final Object asyncScheduler;
+        private final MethodHandle globalRun;
+        private final MethodHandle asyncRunNow;
+        private final MethodHandle asyncRunDelayed;
+        private final MethodHandle asyncRunAtFixedRate;
+        private final MethodHandle regionRun;
+        private final MethodHandle regionRunDelayed;
+        private final MethodHandle regionRunAtFixedRate;
+        private final MethodHandle entityGetScheduler;
+        private final MethodHandle entityRun;
+        private final MethodHandle taskCancel;
+        private final MethodHandle taskIsCancelled;
+
+        private FoliaBindings() throws Throwable {
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            Class<?> scheduledTask = Class.forName("io.papermc.paper.threadedregions.scheduler.ScheduledTask");
+            Class<?> globalRegionScheduler = Class.forName("io.papermc.paper.threadedregions.scheduler.GlobalRegionScheduler");
+            Class<?> regionSchedulerClass = Class.forName("io.papermc.paper.threadedregions.scheduler.RegionScheduler");
+            Class<?> entitySchedulerClass = Class.forName("io.papermc.paper.threadedregions.scheduler.EntityScheduler");
+            Class<?> asyncSchedulerClass = Class.forName("io.papermc.paper.threadedregions.scheduler.AsyncScheduler");
+
+            globalScheduler = lookup.findStatic(Bukkit.class, "getGlobalRegionScheduler", MethodType.methodType(globalRegionScheduler)).invoke();
+            regionScheduler = lookup.findStatic(Bukkit.class, "getRegionScheduler", MethodType.methodType(regionSchedulerClass)).invoke();
+            asyncScheduler = lookup.findStatic(Bukkit.class, "getAsyncScheduler", MethodType.methodType(asyncSchedulerClass)).invoke();
+
+            globalRun = lookup.findVirtual(globalRegionScheduler, "run",
+                            MethodType.methodType(scheduledTask, Plugin.class, Consumer.class))
+                    .asType(MethodType.methodType(Object.class, Object.class, Plugin.class, Consumer.class));
+            asyncRunNow = lookup.findVirtual(asyncSchedulerClass, "runNow",
+                            MethodType.methodType(scheduledTask, Plugin.class, Consumer.class))
+                    .asType(MethodType.methodType(Object.class, Object.class, Plugin.class, Consumer.class));
+            asyncRunDelayed = lookup.findVirtual(asyncSchedulerClass, "runDelayed",
+                            MethodType.methodType(scheduledTask, Plugin.class, Consumer.class, long.class, TimeUnit.class))
+                    .asType(MethodType.methodType(Object.class, Object.class, Plugin.class, Consumer.class, long.class, TimeUnit.class));
+            asyncRunAtFixedRate = lookup.findVirtual(asyncSchedulerClass, "runAtFixedRate",
+                            MethodType.methodType(scheduledTask, Plugin.class, Consumer.class, long.class, long.class, TimeUnit.class))
+                    .asType(MethodType.methodType(Object.class, Object.class, Plugin.class, Consumer.class, long.class, long.class, TimeUnit.class));
+            regionRun = lookup.findVirtual(regionSchedulerClass, "run",
+                            MethodType.methodType(scheduledTask, Plugin.class, Location.class, Consumer.class))
+                    .asType(MethodType.methodType(Object.class, Object.class, Plugin.class, Location.class, Consumer.class));
+            regionRunDelayed = lookup.findVirtual(regionSchedulerClass, "runDelayed",
+                            MethodType.methodType(scheduledTask, Plugin.class, Location.class, Consumer.class, long.class))
+                    .asType(MethodType.methodType(Object.class, Object.class, Plugin.class, Location.class, Consumer.class, long.class));
+            regionRunAtFixedRate = lookup.findVirtual(regionSchedulerClass, "runAtFixedRate",
+                            MethodType.methodType(scheduledTask, Plugin.class, Location.class, Consumer.class, long.class, long.class))
+                    .asType(MethodType.methodType(Object.class, Object.class, Plugin.class, Location.class, Consumer.class, long.class, long.class));
+            entityGetScheduler = lookup.findVirtual(Entity.class, "getScheduler", MethodType.methodType(entitySchedulerClass))
+                    .asType(MethodType.methodType(Object.class, Entity.class));
+            entityRun = lookup.findVirtual(entitySchedulerClass, "run",
+                            MethodType.methodType(scheduledTask, Plugin.class, Consumer.class, Runnable.class))
+                    .asType(MethodType.methodType(Object.class, Object.class, Plugin.class, Consumer.class, Runnable.class));
+            taskCancel = lookup.findVirtual(scheduledTask, "cancel",
+                            MethodType.methodType(Class.forName("io.papermc.paper.threadedregions.scheduler.ScheduledTask$CancelledState")))
+                    .asType(MethodType.methodType(void.class, Object.class));
+            taskIsCancelled = lookup.findVirtual(scheduledTask, "isCancelled", MethodType.methodType(boolean.class))
+                    .asType(MethodType.methodType(boolean.class, Object.class));
+        }
+
+        private TaskWrapper wrap(Object foliaTask) {
+            return new FoliaTaskWrapper(this, foliaTask);
+        }
+    }
+
     /**
      * Generic task wrapper interface
      */
@@ -206,64 +317,87 @@ public class TaskScheduler {
         boolean isCancelled();
         boolean isRunning();
     }
-    
+
     /**
      * Folia task wrapper
      */
     private static class FoliaTaskWrapper implements TaskWrapper {
+        private final FoliaBindings bindings;
         private final Object foliaTask;
-        
-        public FoliaTaskWrapper(Object foliaTask) {
+
+        public FoliaTaskWrapper(FoliaBindings bindings, Object foliaTask) {
+            this.bindings = bindings;
             this.foliaTask = foliaTask;
         }
-        
+
         @Override
         public void cancel() {
             try {
-                foliaTask.getClass().getMethod("cancel").invoke(foliaTask);
-            } catch (Exception e) {
+                bindings.taskCancel.invokeExact(foliaTask);
+            } catch (Throwable e) {
                 // Ignore
             }
         }
-        
+
         @Override
         public boolean isCancelled() {
             try {
-                return (Boolean) foliaTask.getClass().getMethod("isCancelled").invoke(foliaTask);
-            } catch (Exception e) {
+                return (boolean) bindings.taskIsCancelled.invokeExact(foliaTask);
+            } catch (Throwable e) {
                 return true;
             }
         }
-        
+
         @Override
         public boolean isRunning() {
             return !isCancelled();
         }
     }
-    
+
+    /**
+     * Stands in for tasks that could not be scheduled, such as tasks for entities that were already removed
+     */
+    private static class CancelledTaskWrapper implements TaskWrapper {
+        private static final CancelledTaskWrapper INSTANCE = new CancelledTaskWrapper();
+
+        @Override
+        public void cancel() {
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return true;
+        }
+
+        @Override
+        public boolean isRunning() {
+            return false;
+        }
+    }
+
     /**
      * Bukkit task wrapper
      */
     private static class BukkitTaskWrapper implements TaskWrapper {
         private final BukkitTask task;
-        
+
         public BukkitTaskWrapper(BukkitTask task) {
             this.task = task;
         }
-        
+
         @Override
         public void cancel() {
             task.cancel();
         }
-        
+
         @Override
         public boolean isCancelled() {
             return task.isCancelled();
         }
-        
+
         @Override
         public boolean isRunning() {
             return !task.isCancelled();
         }
     }
-}
\ No newline at end of file
+}
@@ -164,7 +164,7 @@ public class WorldManager {
     
     private void runFoliaChunkLoad(World world, int x, int z, CompletableFuture<Chunk> future) {
         try {
-            TaskScheduler scheduler = new TaskScheduler(plugin);
+            TaskScheduler scheduler = TaskScheduler.get(plugin);
             scheduler.runWorld(world, () -> {
                 try {
                     Chunk chunk = world.getChunkAt(x, z);
@@ -183,7 +183,7 @@ public class WorldManager {
     private void runFoliaChunkUnload(Chunk chunk, CompletableFuture<Boolean> future) {
         try {
             World world = chunk.getWorld();
-            TaskScheduler scheduler = new TaskScheduler(plugin);
+            TaskScheduler scheduler = TaskScheduler.get(plugin);
             scheduler.runWorld(world, () -> {
                 try {
                     boolean result = chunk.unload();
@@ -207,7 +207,7 @@ public class WorldManager {
                 return;
             }
             
-            TaskScheduler scheduler = new TaskScheduler(plugin);
+            TaskScheduler scheduler = TaskScheduler.get(plugin);
             scheduler.runWorld(world, () -> {
                 try {
                     Block block = location.getBlock();
@@ -231,7 +231,7 @@ public class WorldManager {
                 return;
             }
             
-            TaskScheduler scheduler = new TaskScheduler(plugin);
+            TaskScheduler scheduler = TaskScheduler.get(plugin);
             scheduler.runWorld(world, () -> {
                 try {
                     Block block = location.getBlock();
@@ -250,7 +250,7 @@ public class WorldManager {
     
     private void runFoliaGetAllChunks(World world, CompletableFuture<List<Chunk>> future) {
         try {
-            TaskScheduler scheduler = new TaskScheduler(plugin);
+            TaskScheduler scheduler = TaskScheduler.get(plugin);
             scheduler.runWorld(world, () -> {
                 try {
                     List<Chunk> chunks = new ArrayList<>();
@@ -272,7 +272,7 @@ public class WorldManager {
     
     private TaskScheduler.TaskWrapper runFoliaWorldTask(World world, Runnable operation) {
         try {
-            TaskScheduler scheduler = new TaskScheduler(plugin);
+            TaskScheduler scheduler = TaskScheduler.get(plugin);
             return scheduler.runWorld(world, operation);
         } catch (Exception e) {
             plugin.getLogger().warning("Failed to run world task on Folia: " + e.getMessage());
@@ -284,7 +284,7 @@ public class WorldManager {
     
     private void runFoliaWorldAccess(World world, CompletableFuture<World> future) {
         try {
-            TaskScheduler scheduler = new TaskScheduler(plugin);
+            TaskScheduler scheduler = TaskScheduler.get(plugin);
             scheduler.runWorld(world, () -> {
                 future.complete(world);
             });